@@ -1,9 +1,25 @@
 package com.tripezzy.admin_service.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.RedisCacheManagerBuilderCustomizer;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+
+import java.time.Duration;
 
 @Configuration
 @EnableCaching
 public class CacheConfig {
+
+    @Bean
+    public RedisCacheManagerBuilderCustomizer suggestionCacheCustomizer(
+            @Value("${search.suggestions.cache-ttl-minutes:10}") long ttlMinutes) {
+        RedisCacheConfiguration suggestions = RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(Duration.ofMinutes(ttlMinutes));
+        return builder -> builder
+                .withCacheConfiguration("destinationSuggestions", suggestions)
+                .withCacheConfiguration("tourSuggestions", suggestions);
+    }
 }
@@ -0,0 +1,14 @@
+package com.tripezzy.admin_service.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class KafkaTopicConfig {
+
+    @Bean
+    public NewTopic tourInventoryTopic() {
+        return new NewTopic("tour-inventory", 3, (short) 1);
+    }
+}
@@ -2,9 +2,9 @@ package com.tripezzy.admin_service.controller;
 
 import com.tripezzy.admin_service.advices.ApiError;
 import com.tripezzy.admin_service.advices.ApiResponse;
-import com.tripezzy.admin_service.annotations.RoleRequired;
-import com.tripezzy.admin_service.dto.BlogResponseDto;
+import com.tripezzy.admin_service.dto.BlogSummaryDto;
 import com.tripezzy.admin_service.dto.BookingDto;
+import com.tripezzy.admin_service.dto.CursorPageDto;
 import com.tripezzy.admin_service.dto.PaymentsResponseDto;
 import com.tripezzy.admin_service.dto.ProductResponseDto;
 import com.tripezzy.admin_service.grpc.BlogGrpcClient;
@@ -36,19 +36,28 @@ public class AdminController {
     }
 
     @GetMapping("/blogs")
-    @RoleRequired("ADMIN")
     @RateLimiter(name = "adminBlogsLimiter", fallbackMethod = "blogsRateLimitFallback")
-    public ResponseEntity<List<BlogResponseDto>> getAllBlogs(@RequestParam(defaultValue = "0") int page,
-                                                             @RequestParam(defaultValue = "10") int size) {
+    public ResponseEntity<List<BlogSummaryDto>> getAllBlogs(@RequestParam(defaultValue = "0") int page,
+                                                            @RequestParam(defaultValue = "10") int size) {
         return ResponseEntity.ok(blogGrpcClient.getAllBlogs(page, size));
     }
 
-    public ResponseEntity<List<BlogResponseDto>> blogsRateLimitFallback(int page, int size, Throwable t) {
+    public ResponseEntity<List<BlogSummaryDto>> blogsRateLimitFallback(int page, int size, Throwable t) {
         return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(Collections.emptyList());
     }
 
+    @GetMapping("/blogs/scroll")
+    @RateLimiter(name = "adminBlogsLimiter", fallbackMethod = "blogsScrollRateLimitFallback")
+    public ResponseEntity<CursorPageDto<BlogSummaryDto>> scrollBlogs(@RequestParam(required = false) String cursor,
+                                                                     @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(blogGrpcClient.scrollAllBlogs(cursor, size));
+    }
+
+    public ResponseEntity<CursorPageDto<BlogSummaryDto>> blogsScrollRateLimitFallback(String cursor, int size, Throwable t) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(new CursorPageDto<>(Collections.emptyList(), null));
+    }
+
     @GetMapping("/bookings/paginated")
-    @RoleRequired("ADMIN")
     @RateLimiter(name = "adminBookingsLimiter", fallbackMethod = "bookingsRateLimitFallback")
     public ResponseEntity<List<BookingDto>> getAllBookings(@RequestParam(defaultValue = "0") int page,
                                                            @RequestParam(defaultValue = "10") int size) {
@@ -59,8 +68,18 @@ public class AdminController {
         return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(Collections.emptyList());
     }
 
+    @GetMapping("/bookings/scroll")
+    @RateLimiter(name = "adminBookingsLimiter", fallbackMethod = "bookingsScrollRateLimitFallback")
+    public ResponseEntity<CursorPageDto<BookingDto>> scrollBookings(@RequestParam(required = false) String cursor,
+                                                                    @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(bookingGrpcClient.scrollAllBookings(cursor, size));
+    }
+
+    public ResponseEntity<CursorPageDto<BookingDto>> bookingsScrollRateLimitFallback(String cursor, int size, Throwable t) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(new CursorPageDto<>(Collections.emptyList(), null));
+    }
+
     @GetMapping("/bookings/user/{userId}")
-    @RoleRequired("ADMIN")
     @RateLimiter(name = "adminBookingsByUserLimiter", fallbackMethod = "bookingsByUserRateLimitFallback")
     public ResponseEntity<List<BookingDto>> getBookingsByUserId(@PathVariable Long userId,
                                                                 @RequestParam(defaultValue = "0") int page,
@@ -73,7 +92,6 @@ public class AdminController {
     }
 
     @GetMapping("/bookings/destination/{destinationId}")
-    @RoleRequired("ADMIN")
     @RateLimiter(name = "adminBookingsByDestinationLimiter", fallbackMethod = "bookingsByDestinationRateLimitFallback")
     public ResponseEntity<List<BookingDto>> getBookingsByDestinationId(@PathVariable Long destinationId,
                                                                        @RequestParam(defaultValue = "0") int page,
@@ -86,7 +104,6 @@ public class AdminController {
     }
 
     @DeleteMapping("/bookings/soft-delete/{bookingId}")
-    @RoleRequired("ADMIN")
     @RateLimiter(name = "adminBookingDeleteLimiter", fallbackMethod = "bookingDeleteRateLimitFallback")
     public ResponseEntity<ApiResponse<String>> softDeleteBooking(@PathVariable Long bookingId) {
         boolean success = bookingGrpcClient.softDeleteBooking(bookingId);
@@ -107,7 +124,6 @@ public class AdminController {
     }
 
     @GetMapping("/bookings/payment-status")
-    @RoleRequired("ADMIN")
     @RateLimiter(name = "adminBookingsByPaymentStatusLimiter", fallbackMethod = "bookingsByPaymentStatusRateLimitFallback")
     public ResponseEntity<List<BookingDto>> getBookingsByPaymentStatus(@RequestParam String paymentStatus) {
         return ResponseEntity.ok(bookingGrpcClient.getBookingsByPaymentStatus(paymentStatus));
@@ -118,7 +134,6 @@ public class AdminController {
     }
 
     @PatchMapping("/bookings/{bookingId}/update/status")
-    @RoleRequired("ADMIN")
     @RateLimiter(name = "adminBookingUpdateStatusLimiter", fallbackMethod = "bookingUpdateStatusRateLimitFallback")
     public ResponseEntity<BookingDto> updateBookingStatus(@PathVariable Long bookingId, @RequestParam String status) {
         return ResponseEntity.ok(bookingGrpcClient.updateBookingStatus(bookingId, status));
@@ -129,7 +144,6 @@ public class AdminController {
     }
 
     @PatchMapping("/bookings/{bookingId}/update/payment-status")
-    @RoleRequired("ADMIN")
     @RateLimiter(name = "adminBookingUpdatePaymentStatusLimiter", fallbackMethod = "bookingUpdatePaymentStatusRateLimitFallback")
     public ResponseEntity<BookingDto> updateBookingPaymentStatus(@PathVariable Long bookingId, @RequestParam String paymentStatus) {
         return ResponseEntity.ok(bookingGrpcClient.updateBookingPaymentStatus(bookingId, paymentStatus));
@@ -140,7 +154,6 @@ public class AdminController {
     }
 
     @GetMapping("/bookings/status")
-    @RoleRequired("ADMIN")
     @RateLimiter(name = "adminBookingsByStatusLimiter", fallbackMethod = "bookingsByStatusRateLimitFallback")
     public ResponseEntity<List<BookingDto>> getBookingsByStatus(@RequestParam String status,
                                                                 @RequestParam(defaultValue = "0") int page,
@@ -153,7 +166,6 @@ public class AdminController {
     }
 
     @PatchMapping("/bookings/{bookingId}/confirm")
-    @RoleRequired("ADMIN")
     @RateLimiter(name = "adminBookingConfirmLimiter", fallbackMethod = "bookingConfirmRateLimitFallback")
     public ResponseEntity<BookingDto> confirmBooking(@PathVariable Long bookingId) {
         return ResponseEntity.ok(bookingGrpcClient.confirmBooking(bookingId));
@@ -164,7 +176,6 @@ public class AdminController {
     }
 
     @GetMapping("/products")
-    @RoleRequired("ADMIN")
     @RateLimiter(name = "adminProductsLimiter", fallbackMethod = "productsRateLimitFallback")
     public ResponseEntity<List<ProductResponseDto>> getAllProducts(@RequestParam(defaultValue = "0") int page,
                                                                    @RequestParam(defaultValue = "10") int size) {
@@ -175,8 +186,18 @@ public class AdminController {
         return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(Collections.emptyList());
     }
 
+    @GetMapping("/products/scroll")
+    @RateLimiter(name = "adminProductsLimiter", fallbackMethod = "productsScrollRateLimitFallback")
+    public ResponseEntity<CursorPageDto<ProductResponseDto>> scrollProducts(@RequestParam(required = false) String cursor,
+                                                                            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(productGrpcClient.scrollAllProducts(cursor, size));
+    }
+
+    public ResponseEntity<CursorPageDto<ProductResponseDto>> productsScrollRateLimitFallback(String cursor, int size, Throwable t) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(new CursorPageDto<>(Collections.emptyList(), null));
+    }
+
     @GetMapping("/payments")
-    @RoleRequired("ADMIN")
     @RateLimiter(name = "adminPaymentsLimiter", fallbackMethod = "paymentsRateLimitFallback")
     public ResponseEntity<List<PaymentsResponseDto>> getAllPayments() {
         return ResponseEntity.ok(paymentGrpcClient.getAllPayments());
@@ -187,7 +208,6 @@ public class AdminController {
     }
 
     @GetMapping("/payments/{userId}")
-    @RoleRequired("ADMIN")
     @RateLimiter(name = "adminPaymentsByUserLimiter", fallbackMethod = "paymentsByUserRateLimitFallback")
     public ResponseEntity<List<PaymentsResponseDto>> getAllPaymentsByUserId(@PathVariable Long userId) {
         return ResponseEntity.ok(paymentGrpcClient.getAllPaymentsByUserId(userId));
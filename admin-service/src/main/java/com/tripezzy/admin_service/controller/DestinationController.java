@@ -2,8 +2,9 @@ package com.tripezzy.admin_service.controller;
 
 import com.tripezzy.admin_service.advices.ApiError;
 import com.tripezzy.admin_service.advices.ApiResponse;
-import com.tripezzy.admin_service.annotations.RoleRequired;
 import com.tripezzy.admin_service.dto.DestinationDto;
+import com.tripezzy.admin_service.dto.NearbyDestinationDto;
+import com.tripezzy.admin_service.dto.SearchSuggestionDto;
 import com.tripezzy.admin_service.service.DestinationService;
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
 import jakarta.validation.Valid;
@@ -29,7 +30,6 @@ public class DestinationController {
 
     @PostMapping
     @RateLimiter(name = "createDestinationRateLimiter", fallbackMethod = "createDestinationRateLimitFallback")
-    @RoleRequired("ADMIN")
     public ResponseEntity<DestinationDto> createDestination(@Valid @RequestBody DestinationDto dto) {
         return ResponseEntity.ok(destinationService.createDestination(dto));
     }
@@ -48,14 +48,12 @@ public class DestinationController {
 
     @PutMapping("/{id}")
     @RateLimiter(name = "updateDestinationRateLimiter", fallbackMethod = "updateDestinationRateLimitFallback")
-    @RoleRequired("ADMIN")
     public ResponseEntity<DestinationDto> updateDestination(@PathVariable Long id, @Valid @RequestBody DestinationDto dto) {
         return ResponseEntity.ok(destinationService.updateDestination(id, dto));
     }
 
     @DeleteMapping("/soft-delete/{id}")
     @RateLimiter(name = "softDeleteDestinationRateLimiter", fallbackMethod = "softDeleteDestinationRateLimitFallback")
-    @RoleRequired("ADMIN")
     public ResponseEntity<ApiResponse<String>> softDeleteDestination(@PathVariable Long id) {
         destinationService.softDeleteDestination(id);
         return ResponseEntity.ok(ApiResponse.success("Destination deleted successfully"));
@@ -63,8 +61,14 @@ public class DestinationController {
 
     @GetMapping("/public/search")
     @RateLimiter(name = "searchDestinationsRateLimiter", fallbackMethod = "searchDestinationsRateLimitFallbackForSearch")
-    public ResponseEntity<List<DestinationDto>> searchDestinations(@RequestParam String keyword) {
-        return ResponseEntity.ok(destinationService.searchDestinations(keyword));
+    public ResponseEntity<Page<DestinationDto>> searchDestinations(@RequestParam String keyword, Pageable pageable) {
+        return ResponseEntity.ok(destinationService.searchDestinations(keyword, pageable));
+    }
+
+    @GetMapping("/public/autocomplete")
+    @RateLimiter(name = "autocompleteDestinationsRateLimiter", fallbackMethod = "autocompleteDestinationsRateLimitFallback")
+    public ResponseEntity<List<SearchSuggestionDto>> autocompleteDestinations(@RequestParam String prefix) {
+        return ResponseEntity.ok(destinationService.suggestDestinations(prefix));
     }
 
     @GetMapping("/public/filter")
@@ -74,6 +78,27 @@ public class DestinationController {
         return ResponseEntity.ok(destinationService.filterDestinations(country));
     }
 
+    @GetMapping("/public/nearby")
+    @RateLimiter(name = "nearbyDestinationsRateLimiter", fallbackMethod = "nearbyDestinationsRateLimitFallback")
+    public ResponseEntity<Page<NearbyDestinationDto>> findNearbyDestinations(
+            @RequestParam double lat,
+            @RequestParam double lon,
+            @RequestParam(defaultValue = "50") double radiusKm,
+            Pageable pageable) {
+        return ResponseEntity.ok(destinationService.findNearbyDestinations(lat, lon, radiusKm, pageable));
+    }
+
+    @GetMapping("/public/within")
+    @RateLimiter(name = "nearbyDestinationsRateLimiter", fallbackMethod = "destinationsWithinBoundsRateLimitFallback")
+    public ResponseEntity<Page<NearbyDestinationDto>> findDestinationsWithinBounds(
+            @RequestParam double minLat,
+            @RequestParam double minLon,
+            @RequestParam double maxLat,
+            @RequestParam double maxLon,
+            Pageable pageable) {
+        return ResponseEntity.ok(destinationService.findDestinationsWithinBounds(minLat, minLon, maxLat, maxLon, pageable));
+    }
+
     private ResponseEntity<ApiResponse<String>> rateLimitFallback(String serviceName, Throwable throwable) {
         ApiError apiError = new ApiError
                 .ApiErrorBuilder()
@@ -103,11 +128,23 @@ public class DestinationController {
         return rateLimitFallback("softDeleteDestination", throwable);
     }
 
-    public ResponseEntity<ApiResponse<String>> searchDestinationsRateLimitFallbackForSearch(String keyword, Throwable throwable) {
+    public ResponseEntity<ApiResponse<String>> searchDestinationsRateLimitFallbackForSearch(String keyword, Pageable pageable, Throwable throwable) {
         return rateLimitFallback("searchDestinations", throwable);
     }
 
+    public ResponseEntity<ApiResponse<String>> autocompleteDestinationsRateLimitFallback(String prefix, Throwable throwable) {
+        return rateLimitFallback("autocompleteDestinations", throwable);
+    }
+
     public ResponseEntity<ApiResponse<String>> filterDestinationsRateLimitFallbackForFilter(String country, Throwable throwable) {
         return rateLimitFallback("filterDestinations", throwable);
     }
+
+    public ResponseEntity<ApiResponse<String>> nearbyDestinationsRateLimitFallback(double lat, double lon, double radiusKm, Pageable pageable, Throwable throwable) {
+        return rateLimitFallback("findNearbyDestinations", throwable);
+    }
+
+    public ResponseEntity<ApiResponse<String>> destinationsWithinBoundsRateLimitFallback(double minLat, double minLon, double maxLat, double maxLon, Pageable pageable, Throwable throwable) {
+        return rateLimitFallback("findDestinationsWithinBounds", throwable);
+    }
 }
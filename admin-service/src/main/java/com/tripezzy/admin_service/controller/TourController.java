@@ -2,18 +2,23 @@ package com.tripezzy.admin_service.controller;
 
 import com.tripezzy.admin_service.advices.ApiError;
 import com.tripezzy.admin_service.advices.ApiResponse;
-import com.tripezzy.admin_service.annotations.RoleRequired;
+import com.tripezzy.admin_service.dto.AvailableTourDto;
+import com.tripezzy.admin_service.dto.CursorPageDto;
+import com.tripezzy.admin_service.dto.SearchSuggestionDto;
 import com.tripezzy.admin_service.dto.TourDto;
 import com.tripezzy.admin_service.service.TourService;
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -29,7 +34,6 @@ public class TourController {
 
     @PostMapping
     @RateLimiter(name = "createTourRateLimiter", fallbackMethod = "createTourRateLimitFallback")
-    @RoleRequired("ADMIN")
     public ResponseEntity<TourDto> createTour(@Valid @RequestBody TourDto dto) {
         return ResponseEntity.ok(tourService.createTour(dto));
     }
@@ -40,6 +44,20 @@ public class TourController {
         return ResponseEntity.ok(tourService.getAllTours(pageable));
     }
 
+    @GetMapping("/public/slice")
+    @RateLimiter(name = "getAllToursRateLimiter", fallbackMethod = "getAllToursSliceRateLimitFallback")
+    public ResponseEntity<Slice<TourDto>> getAllToursSlice(Pageable pageable) {
+        return ResponseEntity.ok(tourService.getAllToursSlice(pageable));
+    }
+
+    @GetMapping("/public/scroll")
+    @RateLimiter(name = "getAllToursRateLimiter", fallbackMethod = "scrollToursRateLimitFallback")
+    public ResponseEntity<CursorPageDto<TourDto>> scrollTours(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(tourService.scrollTours(cursor, size));
+    }
+
     @GetMapping("/public/{id}")
     @RateLimiter(name = "getTourByIdRateLimiter", fallbackMethod = "getTourByIdRateLimitFallback")
     public ResponseEntity<TourDto> getTourById(@PathVariable Long id) {
@@ -54,14 +72,12 @@ public class TourController {
 
     @PutMapping("/{id}")
     @RateLimiter(name = "updateTourRateLimiter", fallbackMethod = "updateTourRateLimitFallback")
-    @RoleRequired("ADMIN")
     public ResponseEntity<TourDto> updateTour(@PathVariable Long id, @Valid @RequestBody TourDto dto) {
         return ResponseEntity.ok(tourService.updateTour(id, dto));
     }
 
     @DeleteMapping("/soft-delete/{id}")
     @RateLimiter(name = "softDeleteTourRateLimiter", fallbackMethod = "softDeleteTourRateLimitFallback")
-    @RoleRequired("ADMIN")
     public ResponseEntity<ApiResponse<String>> softDeleteTour(@PathVariable Long id) {
         tourService.softDeleteTour(id);
         return ResponseEntity.ok(ApiResponse.success("Tour deleted successfully"));
@@ -69,8 +85,14 @@ public class TourController {
 
     @GetMapping("/public/search")
     @RateLimiter(name = "searchToursRateLimiter", fallbackMethod = "searchToursRateLimitFallback")
-    public ResponseEntity<List<TourDto>> searchTours(@RequestParam String keyword) {
-        return ResponseEntity.ok(tourService.searchTours(keyword));
+    public ResponseEntity<Page<TourDto>> searchTours(@RequestParam String keyword, Pageable pageable) {
+        return ResponseEntity.ok(tourService.searchTours(keyword, pageable));
+    }
+
+    @GetMapping("/public/autocomplete")
+    @RateLimiter(name = "autocompleteToursRateLimiter", fallbackMethod = "autocompleteToursRateLimitFallback")
+    public ResponseEntity<List<SearchSuggestionDto>> autocompleteTours(@RequestParam String prefix) {
+        return ResponseEntity.ok(tourService.suggestTours(prefix));
     }
 
     @GetMapping("/public/filter")
@@ -83,6 +105,15 @@ public class TourController {
         return ResponseEntity.ok(tourService.filterTours(destinationId,minPrice, maxPrice, capacity));
     }
 
+    @GetMapping("/public/available")
+    @RateLimiter(name = "availableToursRateLimiter", fallbackMethod = "availableToursRateLimitFallback")
+    public ResponseEntity<List<AvailableTourDto>> getAvailableTours(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "1") int seats) {
+        return ResponseEntity.ok(tourService.findAvailableTours(from, to, seats));
+    }
+
     private ResponseEntity<ApiResponse<String>> rateLimitFallback(String serviceName, Throwable throwable) {
         ApiError apiError = new ApiError
                 .ApiErrorBuilder()
@@ -100,6 +131,14 @@ public class TourController {
         return rateLimitFallback("getAllTours", throwable);
     }
 
+    public ResponseEntity<ApiResponse<String>> getAllToursSliceRateLimitFallback(Pageable pageable, Throwable throwable) {
+        return rateLimitFallback("getAllToursSlice", throwable);
+    }
+
+    public ResponseEntity<ApiResponse<String>> scrollToursRateLimitFallback(String cursor, int size, Throwable throwable) {
+        return rateLimitFallback("scrollTours", throwable);
+    }
+
     public ResponseEntity<ApiResponse<String>> getTourByIdRateLimitFallback(Long id, Throwable throwable) {
         return rateLimitFallback("getTourById", throwable);
     }
@@ -116,12 +155,19 @@ public class TourController {
         return rateLimitFallback("softDeleteTour", throwable);
     }
 
-    public ResponseEntity<ApiResponse<String>> searchToursRateLimitFallback(String keyword, Throwable throwable) {
+    public ResponseEntity<ApiResponse<String>> searchToursRateLimitFallback(String keyword, Pageable pageable, Throwable throwable) {
         return rateLimitFallback("searchTours", throwable);
     }
 
+    public ResponseEntity<ApiResponse<String>> autocompleteToursRateLimitFallback(String prefix, Throwable throwable) {
+        return rateLimitFallback("autocompleteTours", throwable);
+    }
+
     public ResponseEntity<ApiResponse<String>> filterToursRateLimitFallback(Long destinationId, Double minPrice, Double maxPrice, Integer capacity, Throwable throwable) {
         return rateLimitFallback("filterTours", throwable);
     }
 
+    public ResponseEntity<ApiResponse<String>> availableToursRateLimitFallback(LocalDate from, LocalDate to, int seats, Throwable throwable) {
+        return rateLimitFallback("availableTours", throwable);
+    }
 }
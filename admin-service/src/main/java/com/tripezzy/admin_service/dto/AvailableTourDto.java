@@ -0,0 +1,86 @@
+package com.tripezzy.admin_service.dto;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class AvailableTourDto implements Serializable {
+
+    private Long id;
+    private String name;
+    private BigDecimal price;
+    private Long destinationId;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    private int remainingSeats;
+
+    public AvailableTourDto() {
+    }
+
+    public AvailableTourDto(Long id, String name, BigDecimal price, Long destinationId,
+                            LocalDateTime startDate, LocalDateTime endDate, int remainingSeats) {
+        this.id = id;
+        this.name = name;
+        this.price = price;
+        this.destinationId = destinationId;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.remainingSeats = remainingSeats;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+
+    public Long getDestinationId() {
+        return destinationId;
+    }
+
+    public void setDestinationId(Long destinationId) {
+        this.destinationId = destinationId;
+    }
+
+    public LocalDateTime getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDateTime startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDateTime getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDateTime endDate) {
+        this.endDate = endDate;
+    }
+
+    public int getRemainingSeats() {
+        return remainingSeats;
+    }
+
+    public void setRemainingSeats(int remainingSeats) {
+        this.remainingSeats = remainingSeats;
+    }
+}
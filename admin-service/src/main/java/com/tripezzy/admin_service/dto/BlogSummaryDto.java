@@ -0,0 +1,114 @@
+package com.tripezzy.admin_service.dto;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+public class BlogSummaryDto implements Serializable {
+    private Long id;
+    private String title;
+    private String excerpt;
+    private Long authorId;
+    private String category;
+    private String tag;
+    private String status;
+    private LocalDateTime createdAt;
+    private long likeCount;
+    private long commentCount;
+
+    public BlogSummaryDto() {
+    }
+
+    public BlogSummaryDto(Long id, String title, String excerpt, Long authorId, String category, String tag,
+                          String status, LocalDateTime createdAt, long likeCount, long commentCount) {
+        this.id = id;
+        this.title = title;
+        this.excerpt = excerpt;
+        this.authorId = authorId;
+        this.category = category;
+        this.tag = tag;
+        this.status = status;
+        this.createdAt = createdAt;
+        this.likeCount = likeCount;
+        this.commentCount = commentCount;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getExcerpt() {
+        return excerpt;
+    }
+
+    public void setExcerpt(String excerpt) {
+        this.excerpt = excerpt;
+    }
+
+    public Long getAuthorId() {
+        return authorId;
+    }
+
+    public void setAuthorId(Long authorId) {
+        this.authorId = authorId;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+
+    public void setTag(String tag) {
+        this.tag = tag;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public long getLikeCount() {
+        return likeCount;
+    }
+
+    public void setLikeCount(long likeCount) {
+        this.likeCount = likeCount;
+    }
+
+    public long getCommentCount() {
+        return commentCount;
+    }
+
+    public void setCommentCount(long commentCount) {
+        this.commentCount = commentCount;
+    }
+}
@@ -1,5 +1,7 @@
 package com.tripezzy.admin_service.dto;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
@@ -18,6 +20,14 @@ public class DestinationDto implements Serializable {
     @Size(max = 1000, message = "Description must not exceed 1000 characters")
     private String description;
 
+    @DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90")
+    @DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90")
+    private Double latitude;
+
+    @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+    private Double longitude;
+
     public @NotBlank(message = "Destination name is required") @Size(max = 100, message = "Name must not exceed 100 characters") String getName() {
         return name;
     }
@@ -41,4 +51,20 @@ public class DestinationDto implements Serializable {
     public void setDescription(@NotBlank(message = "Description is required") @Size(max = 1000, message = "Description must not exceed 1000 characters") String description) {
         this.description = description;
     }
+
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
 }
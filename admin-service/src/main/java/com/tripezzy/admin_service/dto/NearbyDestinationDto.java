@@ -0,0 +1,72 @@
+package com.tripezzy.admin_service.dto;
+
+import java.io.Serializable;
+
+public class NearbyDestinationDto implements Serializable {
+    private Long id;
+    private String name;
+    private String country;
+    private Double latitude;
+    private Double longitude;
+    private Double distanceKm;
+
+    public NearbyDestinationDto() {
+    }
+
+    public NearbyDestinationDto(Long id, String name, String country, Double latitude, Double longitude, Double distanceKm) {
+        this.id = id;
+        this.name = name;
+        this.country = country;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.distanceKm = distanceKm;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getCountry() {
+        return country;
+    }
+
+    public void setCountry(String country) {
+        this.country = country;
+    }
+
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+
+    public Double getDistanceKm() {
+        return distanceKm;
+    }
+
+    public void setDistanceKm(Double distanceKm) {
+        this.distanceKm = distanceKm;
+    }
+}
@@ -0,0 +1,32 @@
+package com.tripezzy.admin_service.dto;
+
+import java.io.Serializable;
+
+public class SearchSuggestionDto implements Serializable {
+    private Long id;
+    private String name;
+
+    public SearchSuggestionDto() {
+    }
+
+    public SearchSuggestionDto(Long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+}
@@ -27,6 +27,12 @@ public class Destination extends Auditable{
     @Column(nullable = false, length = 1000)
     private String description;
 
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
     @OneToMany(mappedBy = "destination", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<TourPackage> tourPackages;
 
@@ -80,4 +86,20 @@ public class Destination extends Auditable{
     public void setTourPackages(Set<TourPackage> tourPackages) {
         this.tourPackages = tourPackages;
     }
+
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
 }
@@ -0,0 +1,109 @@
+package com.tripezzy.admin_service.events;
+
+import com.tripezzy.admin_service.entity.TourPackage;
+import com.tripezzy.admin_service.repository.TourRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+// Feeds booking-service's tour_inventory table. Events are upserts keyed by tour, so replaying them is
+// harmless: tours changed inside a transaction are sent once it commits, and every tour is re-sent on
+// startup so tours that existed before the inventory table (or whose event was lost) are covered.
+@Component
+public class TourInventoryPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(TourInventoryPublisher.class);
+    private static final String TOUR_INVENTORY_TOPIC = "tour-inventory";
+    private static final int BACKFILL_BATCH_SIZE = 200;
+
+    private final KafkaTemplate<Long, TourInventoryEvent> tourInventoryKafkaTemplate;
+    private final TourRepository tourRepository;
+    private final boolean backfillOnStartup;
+
+    public TourInventoryPublisher(KafkaTemplate<Long, TourInventoryEvent> tourInventoryKafkaTemplate,
+                                  TourRepository tourRepository,
+                                  @Value("${tour.inventory.backfill-on-startup:true}") boolean backfillOnStartup) {
+        this.tourInventoryKafkaTemplate = tourInventoryKafkaTemplate;
+        this.tourRepository = tourRepository;
+        this.backfillOnStartup = backfillOnStartup;
+    }
+
+    public void publishAfterCommit(TourPackage tour) {
+        TourInventoryEvent event = toEvent(tour);
+        if (event == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send(event);
+                }
+            });
+        } else {
+            send(event);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (!backfillOnStartup) {
+            return;
+        }
+        long lastId = 0L;
+        int published = 0;
+        try {
+            List<TourPackage> batch;
+            do {
+                batch = tourRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(BACKFILL_BATCH_SIZE));
+                for (TourPackage tour : batch) {
+                    TourInventoryEvent event = toEvent(tour);
+                    if (event != null && send(event)) {
+                        published++;
+                    }
+                    lastId = tour.getId();
+                }
+            } while (batch.size() == BACKFILL_BATCH_SIZE);
+            log.info("Backfilled tour inventory for {} tours", published);
+        } catch (DataAccessException ex) {
+            log.error("Tour inventory backfill stopped after tour ID {}", lastId, ex);
+        }
+    }
+
+    private boolean send(TourInventoryEvent event) {
+        try {
+            tourInventoryKafkaTemplate.send(TOUR_INVENTORY_TOPIC, event.getTour(), event);
+            log.debug("Tour inventory event sent for tour ID: {}", event.getTour());
+            return true;
+        } catch (KafkaException ex) {
+            log.error("Failed to send tour inventory event for tour ID {}, next startup backfill will resend it",
+                    event.getTour(), ex);
+            return false;
+        }
+    }
+
+    private static TourInventoryEvent toEvent(TourPackage tour) {
+        if (tour.getStartDate() == null || tour.getEndDate() == null) {
+            log.warn("Skipping tour inventory event for tour ID {} without dates", tour.getId());
+            return null;
+        }
+        TourInventoryEvent event = new TourInventoryEvent();
+        event.setTour(tour.getId());
+        event.setCapacity(tour.getCapacity());
+        event.setStartDate(tour.getStartDate().toLocalDate().toString());
+        event.setEndDate(tour.getEndDate().toLocalDate().toString());
+        event.setActive(!tour.isDeleted());
+        return event;
+    }
+}
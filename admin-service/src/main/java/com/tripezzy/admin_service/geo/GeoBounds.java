@@ -0,0 +1,115 @@
+package com.tripezzy.admin_service.geo;
+
+import com.tripezzy.admin_service.exceptions.BadRequestException;
+
+// Latitude/longitude rectangle used to prefilter spatial queries through the GiST index before
+// exact great-circle distances are computed. A rectangle that crosses the antimeridian is split
+// in two; when it does not, both halves are the same box.
+public final class GeoBounds {
+
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+
+    private final double minLatitude;
+    private final double maxLatitude;
+    private final double westMinLongitude;
+    private final double westMaxLongitude;
+    private final double eastMinLongitude;
+    private final double eastMaxLongitude;
+
+    private GeoBounds(double minLatitude, double maxLatitude,
+                      double westMinLongitude, double westMaxLongitude,
+                      double eastMinLongitude, double eastMaxLongitude) {
+        this.minLatitude = minLatitude;
+        this.maxLatitude = maxLatitude;
+        this.westMinLongitude = westMinLongitude;
+        this.westMaxLongitude = westMaxLongitude;
+        this.eastMinLongitude = eastMinLongitude;
+        this.eastMaxLongitude = eastMaxLongitude;
+    }
+
+    public static GeoBounds of(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude) {
+        validateLatitude(minLatitude);
+        validateLatitude(maxLatitude);
+        validateLongitude(minLongitude);
+        validateLongitude(maxLongitude);
+        if (minLatitude > maxLatitude) {
+            throw new BadRequestException("Minimum latitude cannot be greater than maximum latitude");
+        }
+        if (minLongitude <= maxLongitude) {
+            return new GeoBounds(minLatitude, maxLatitude, minLongitude, maxLongitude, minLongitude, maxLongitude);
+        }
+        return new GeoBounds(minLatitude, maxLatitude, minLongitude, 180.0, -180.0, maxLongitude);
+    }
+
+    public static GeoBounds around(double latitude, double longitude, double radiusKm) {
+        validateLatitude(latitude);
+        validateLongitude(longitude);
+        double latDelta = Math.toDegrees(radiusKm / EARTH_RADIUS_KM);
+        double minLat = latitude - latDelta;
+        double maxLat = latitude + latDelta;
+        if (minLat <= -90.0 || maxLat >= 90.0) {
+            // The circle contains a pole, so every longitude is in range.
+            return new GeoBounds(Math.max(minLat, -90.0), Math.min(maxLat, 90.0), -180.0, 180.0, -180.0, 180.0);
+        }
+        double lonDelta = Math.toDegrees(Math.asin(Math.sin(radiusKm / EARTH_RADIUS_KM) / Math.cos(Math.toRadians(latitude))));
+        double minLon = longitude - lonDelta;
+        double maxLon = longitude + lonDelta;
+        if (minLon < -180.0) {
+            return new GeoBounds(minLat, maxLat, minLon + 360.0, 180.0, -180.0, maxLon);
+        }
+        if (maxLon > 180.0) {
+            return new GeoBounds(minLat, maxLat, minLon, 180.0, -180.0, maxLon - 360.0);
+        }
+        return new GeoBounds(minLat, maxLat, minLon, maxLon, minLon, maxLon);
+    }
+
+    public double centerLatitude() {
+        return (minLatitude + maxLatitude) / 2;
+    }
+
+    public double centerLongitude() {
+        double west = westMinLongitude;
+        double east = eastMaxLongitude;
+        if (west > east) {
+            east += 360.0;
+        }
+        double center = (west + east) / 2;
+        return center > 180.0 ? center - 360.0 : center;
+    }
+
+    public double getMinLatitude() {
+        return minLatitude;
+    }
+
+    public double getMaxLatitude() {
+        return maxLatitude;
+    }
+
+    public double getWestMinLongitude() {
+        return westMinLongitude;
+    }
+
+    public double getWestMaxLongitude() {
+        return westMaxLongitude;
+    }
+
+    public double getEastMinLongitude() {
+        return eastMinLongitude;
+    }
+
+    public double getEastMaxLongitude() {
+        return eastMaxLongitude;
+    }
+
+    private static void validateLatitude(double latitude) {
+        if (latitude < -90.0 || latitude > 90.0 || Double.isNaN(latitude)) {
+            throw new BadRequestException("Latitude must be between -90 and 90");
+        }
+    }
+
+    private static void validateLongitude(double longitude) {
+        if (longitude < -180.0 || longitude > 180.0 || Double.isNaN(longitude)) {
+            throw new BadRequestException("Longitude must be between -180 and 180");
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.tripezzy.admin_service.geo;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// GiST expression index over the built-in point type, so radius and viewport queries are answered
+// by an R-tree style lookup without requiring the PostGIS extension.
+@Component
+public class GeoIndexInitializer implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(GeoIndexInitializer.class);
+    private static final String CREATE_INDEX =
+            "CREATE INDEX IF NOT EXISTS idx_destination_location_gist ON destinations " +
+            "USING gist (point(longitude, latitude)) " +
+            "WHERE deleted = false AND latitude IS NOT NULL AND longitude IS NOT NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public GeoIndexInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            jdbcTemplate.execute(CREATE_INDEX);
+            log.info("Destination location index is in place");
+        } catch (DataAccessException ex) {
+            log.warn("Unable to create destination location index", ex);
+        }
+    }
+}
@@ -1,27 +1,29 @@
 package com.tripezzy.admin_service.grpc;
 
-import blog.Blog;
 import blog.BlogRequest;
 import blog.BlogResponse;
 import blog.BlogServiceGrpc;
-import com.tripezzy.admin_service.dto.BlogResponseDto;
+import blog.BlogSummary;
+import com.tripezzy.admin_service.dto.BlogSummaryDto;
+import com.tripezzy.admin_service.dto.CursorPageDto;
 import com.tripezzy.admin_service.exceptions.*;
-import io.grpc.ManagedChannel;
-import io.grpc.ManagedChannelBuilder;
+import io.grpc.Channel;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
 import io.grpc.health.v1.HealthCheckRequest;
 import io.grpc.health.v1.HealthCheckResponse;
 import io.grpc.health.v1.HealthGrpc;
-import jakarta.annotation.PreDestroy;
+import net.devh.boot.grpc.client.channelfactory.GrpcChannelFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,14 +31,11 @@ public class BlogGrpcClient {
 
     private static final Logger log = LoggerFactory.getLogger(BlogGrpcClient.class);
     private final BlogServiceGrpc.BlogServiceBlockingStub blogStub;
-    private final ManagedChannel channel;
+    private final Channel channel;
 
-    public BlogGrpcClient() {
+    public BlogGrpcClient(GrpcChannelFactory channelFactory) {
         try {
-            this.channel = ManagedChannelBuilder
-                    .forAddress("blog-service", 9001)
-                    .usePlaintext()
-                    .build();
+            this.channel = channelFactory.createChannel("blog-service", List.of(new ForwardUserTokenInterceptor()));
 
             this.blogStub = BlogServiceGrpc.newBlockingStub(channel);
         } catch (Exception e) {
@@ -62,8 +61,8 @@ public class BlogGrpcClient {
         }
     }
 
-    @Cacheable(value = "blogs", key = "#page + '-' + #size")
-    public List<BlogResponseDto> getAllBlogs(int page, int size) {
+    @Cacheable(value = "blogSummaries", key = "#page + '-' + #size")
+    public List<BlogSummaryDto> getAllBlogs(int page, int size) {
         checkServiceHealth();
         validatePaginationParams(page, size);
         log.info("Fetching all blogs - page: {}, size: {}", page, size);
@@ -76,7 +75,7 @@ public class BlogGrpcClient {
 
             BlogResponse response = blogStub.getAllBlogs(request);
 
-            if (response == null || response.getBlogsList().isEmpty()) {
+            if (response == null || response.getSummariesList().isEmpty()) {
                 log.warn("No blogs found for page {} and size {}", page, size);
                 return Collections.emptyList();
             }
@@ -88,21 +87,48 @@ public class BlogGrpcClient {
         }
     }
 
-    private List<BlogResponseDto> mapBlogsResponse(BlogResponse response) {
-        return response.getBlogsList().stream()
+    // Cursor pages are not cached: each cursor is visited once while walking the list.
+    public CursorPageDto<BlogSummaryDto> scrollAllBlogs(String cursor, int size) {
+        checkServiceHealth();
+        validatePaginationParams(0, size);
+        log.info("Scrolling blogs - size: {}", size);
+
+        try {
+            BlogRequest.Builder request = BlogRequest.newBuilder()
+                    .setSize(size);
+            if (cursor != null && !cursor.isBlank()) {
+                request.setCursor(cursor);
+            }
+
+            BlogResponse response = blogStub.getAllBlogs(request.build());
+            return new CursorPageDto<>(mapBlogsResponse(response),
+                    response.getNextCursor().isEmpty() ? null : response.getNextCursor());
+        } catch (StatusRuntimeException e) {
+            handleGrpcException(e, "Failed to scroll blogs");
+            return new CursorPageDto<>(Collections.emptyList(), null);
+        }
+    }
+
+    private List<BlogSummaryDto> mapBlogsResponse(BlogResponse response) {
+        return response.getSummariesList().stream()
                 .map(this::mapBlog)
                 .collect(Collectors.toUnmodifiableList());
     }
 
-    private BlogResponseDto mapBlog(Blog blog) {
+    private BlogSummaryDto mapBlog(BlogSummary blog) {
         try {
-            return new BlogResponseDto(
+            return new BlogSummaryDto(
                     blog.getId(),
                     blog.getTitle(),
-                    blog.getContent(),
+                    blog.getExcerpt(),
                     blog.getAuthorId(),
                     blog.getCategory(),
-                    blog.getTag()
+                    blog.getTag(),
+                    blog.getStatus(),
+                    blog.getCreatedAt() == 0 ? null
+                            : LocalDateTime.ofInstant(Instant.ofEpochMilli(blog.getCreatedAt()), ZoneOffset.UTC),
+                    blog.getLikeCount(),
+                    blog.getCommentCount()
             );
         } catch (Exception e) {
             log.error("Failed to map blog data for ID: {}", blog.getId(), e);
@@ -140,16 +166,4 @@ public class BlogGrpcClient {
                 throw new ServiceUnavailable("Failed to process blog request");
         }
     }
-
-    @PreDestroy
-    public void shutdown() {
-        try {
-            if (channel != null && !channel.isShutdown()) {
-                channel.shutdown().awaitTermination(5, TimeUnit.SECONDS);
-            }
-        } catch (InterruptedException e) {
-            log.warn("Failed to shutdown gRPC channel properly", e);
-            Thread.currentThread().interrupt();
-        }
-    }
 }
@@ -1,25 +1,27 @@
 package com.tripezzy.admin_service.grpc;
 
 import com.tripezzy.admin_service.dto.BookingDto;
+import com.tripezzy.admin_service.dto.CursorPageDto;
 import com.tripezzy.admin_service.exceptions.*;
 import com.tripezzy.booking_service.grpc.*;
-import io.grpc.ManagedChannel;
-import io.grpc.ManagedChannelBuilder;
+import io.grpc.Channel;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
 import io.grpc.health.v1.HealthCheckRequest;
 import io.grpc.health.v1.HealthCheckResponse;
 import io.grpc.health.v1.HealthGrpc;
-import jakarta.annotation.PreDestroy;
+import net.devh.boot.grpc.client.channelfactory.GrpcChannelFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,14 +29,11 @@ public class BookingGrpcClient {
 
     private static final Logger log = LoggerFactory.getLogger(BookingGrpcClient.class);
     private final BookingServiceGrpc.BookingServiceBlockingStub bookingStub;
-    private final ManagedChannel channel;
+    private final Channel channel;
 
-    public BookingGrpcClient() {
+    public BookingGrpcClient(GrpcChannelFactory channelFactory) {
         try {
-            this.channel = ManagedChannelBuilder
-                    .forAddress("booking-service", 9011)
-                    .usePlaintext()
-                    .build();
+            this.channel = channelFactory.createChannel("booking-service", List.of(new ForwardUserTokenInterceptor()));
 
             this.bookingStub = BookingServiceGrpc.newBlockingStub(channel);
         } catch (Exception e) {
@@ -79,6 +78,27 @@ public class BookingGrpcClient {
         }
     }
 
+    // Cursor pages are not cached: each cursor is visited once while walking the list.
+    public CursorPageDto<BookingDto> scrollAllBookings(String cursor, int size) {
+        checkServiceHealth();
+        validatePaginationParams(0, size);
+
+        try {
+            BookingRequest.Builder request = BookingRequest.newBuilder()
+                    .setSize(size);
+            if (cursor != null && !cursor.isBlank()) {
+                request.setCursor(cursor);
+            }
+
+            BookingResponse response = bookingStub.getAllBookings(request.build());
+            return new CursorPageDto<>(mapBookingResponse(response),
+                    response.getNextCursor().isEmpty() ? null : response.getNextCursor());
+        } catch (StatusRuntimeException e) {
+            handleGrpcException(e, "Failed to scroll bookings");
+            return new CursorPageDto<>(Collections.emptyList(), null); // Fallback
+        }
+    }
+
     @Cacheable(value = "bookingsByUserId", key = "'bookingsByUserId-' + #userId + '-' + #page + '-' + #size")
     public List<BookingDto> getBookingsByUserId(Long userId, int page, int size) {
         checkServiceHealth();
@@ -257,6 +277,28 @@ public class BookingGrpcClient {
         }
     }
 
+    // Not cached: remaining seats change with every booking.
+    public Map<Long, Integer> getAvailableTourSeats(LocalDate from, LocalDate to, int seats, int limit) {
+        try {
+            AvailableToursRequest request = AvailableToursRequest.newBuilder()
+                    .setFromDate(from.toString())
+                    .setToDate(to.toString())
+                    .setSeats(seats)
+                    .setLimit(limit)
+                    .build();
+
+            AvailableToursResponse response = bookingStub.getAvailableTours(request);
+            Map<Long, Integer> remainingByTour = new LinkedHashMap<>();
+            for (TourAvailability tour : response.getToursList()) {
+                remainingByTour.put(tour.getTourId(), tour.getRemainingSeats());
+            }
+            return remainingByTour;
+        } catch (StatusRuntimeException e) {
+            handleGrpcException(e, "Failed to get available tours");
+            return Collections.emptyMap();
+        }
+    }
+
     private List<BookingDto> mapBookingResponse(BookingResponse response) {
         return response.getBookingsList().stream()
                 .map(this::mapBooking)
@@ -310,16 +352,4 @@ public class BookingGrpcClient {
                 throw new ServiceUnavailable("Failed to process booking request");
         }
     }
-
-    @PreDestroy
-    public void shutdown() {
-        try {
-            if (channel != null && !channel.isShutdown()) {
-                channel.shutdown().awaitTermination(5, TimeUnit.SECONDS);
-            }
-        } catch (InterruptedException e) {
-            log.warn("Failed to shutdown gRPC channel properly", e);
-            Thread.currentThread().interrupt();
-        }
-    }
 }
@@ -3,14 +3,13 @@ package com.tripezzy.admin_service.grpc;
 import com.tripezzy.admin_service.dto.PaymentsResponseDto;
 import com.tripezzy.admin_service.exceptions.*;
 import com.tripezzy.payment_service.grpc.*;
-import io.grpc.ManagedChannel;
-import io.grpc.ManagedChannelBuilder;
+import io.grpc.Channel;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
 import io.grpc.health.v1.HealthCheckRequest;
 import io.grpc.health.v1.HealthCheckResponse;
 import io.grpc.health.v1.HealthGrpc;
-import jakarta.annotation.PreDestroy;
+import net.devh.boot.grpc.client.channelfactory.GrpcChannelFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cache.annotation.Cacheable;
@@ -18,7 +17,6 @@ import org.springframework.stereotype.Service;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,14 +24,11 @@ public class PaymentGrpcClient {
 
     private static final Logger log = LoggerFactory.getLogger(PaymentGrpcClient.class);
     private final PaymentServiceGrpc.PaymentServiceBlockingStub paymentStub;
-    private final ManagedChannel channel;
+    private final Channel channel;
 
-    public PaymentGrpcClient() {
+    public PaymentGrpcClient(GrpcChannelFactory channelFactory) {
         try {
-            this.channel = ManagedChannelBuilder
-                    .forAddress("payment-service", 4001)
-                    .usePlaintext()
-                    .build();
+            this.channel = channelFactory.createChannel("payment-service", List.of(new ForwardUserTokenInterceptor()));
 
             this.paymentStub = PaymentServiceGrpc.newBlockingStub(channel);
         } catch (Exception e) {
@@ -152,16 +147,4 @@ public class PaymentGrpcClient {
                 throw new ServiceUnavailable("Failed to process payment request");
         }
     }
-
-    @PreDestroy
-    public void shutdown() {
-        try {
-            if (channel != null && !channel.isShutdown()) {
-                channel.shutdown().awaitTermination(5, TimeUnit.SECONDS);
-            }
-        } catch (InterruptedException e) {
-            log.warn("Failed to shutdown gRPC channel properly", e);
-            Thread.currentThread().interrupt();
-        }
-    }
 }
@@ -1,19 +1,19 @@
 package com.tripezzy.admin_service.grpc;
 
+import com.tripezzy.admin_service.dto.CursorPageDto;
 import com.tripezzy.admin_service.dto.ProductResponseDto;
 import com.tripezzy.admin_service.exceptions.*;
 import com.tripezzy.product_service.grpc.Product;
 import com.tripezzy.product_service.grpc.ProductRequest;
 import com.tripezzy.product_service.grpc.ProductResponse;
 import com.tripezzy.product_service.grpc.ProductServiceGrpc;
-import io.grpc.ManagedChannel;
-import io.grpc.ManagedChannelBuilder;
+import io.grpc.Channel;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
 import io.grpc.health.v1.HealthCheckRequest;
 import io.grpc.health.v1.HealthCheckResponse;
 import io.grpc.health.v1.HealthGrpc;
-import jakarta.annotation.PreDestroy;
+import net.devh.boot.grpc.client.channelfactory.GrpcChannelFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cache.annotation.Cacheable;
@@ -21,24 +21,18 @@ import org.springframework.stereotype.Service;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Service
 public class ProductGrpcClient {
 
-
     private static final Logger log = LoggerFactory.getLogger(ProductGrpcClient.class);
     private final ProductServiceGrpc.ProductServiceBlockingStub productStub;
-    private final ManagedChannel channel;
-
+    private final Channel channel;
 
-    public ProductGrpcClient() {
+    public ProductGrpcClient(GrpcChannelFactory channelFactory) {
         try{
-            this.channel = ManagedChannelBuilder
-                    .forAddress("eCommerce-service", 8001)
-                    .usePlaintext()
-                    .build();
+            this.channel = channelFactory.createChannel("eCommerce-service", List.of(new ForwardUserTokenInterceptor()));
             productStub = ProductServiceGrpc.newBlockingStub(channel);
         } catch (Exception e) {
             log.error("Failed to initialize gRPC product client", e);
@@ -89,6 +83,27 @@ public class ProductGrpcClient {
 
     }
 
+    // Cursor pages are not cached: each cursor is visited once while walking the list.
+    public CursorPageDto<ProductResponseDto> scrollAllProducts(String cursor, int size) {
+        checkServiceHealth();
+        validatePaginationParams(0, size);
+        log.info("Scrolling products - size: {}", size);
+        try {
+            ProductRequest.Builder request = ProductRequest.newBuilder()
+                    .setSize(size);
+            if (cursor != null && !cursor.isBlank()) {
+                request.setCursor(cursor);
+            }
+
+            ProductResponse response = productStub.getAllProducts(request.build());
+            return new CursorPageDto<>(mapProductResponse(response),
+                    response.getNextCursor().isEmpty() ? null : response.getNextCursor());
+        } catch (StatusRuntimeException e) {
+            handleGrpcException(e, "Failed to scroll products");
+            return new CursorPageDto<>(Collections.emptyList(), null);
+        }
+    }
+
     private List<ProductResponseDto> mapProductResponse(ProductResponse response) {
         return response.getProductsList().stream()
                 .map(this::mapProduct)
@@ -141,16 +156,4 @@ public class ProductGrpcClient {
                 throw new ServiceUnavailable("Failed to process Product request");
         }
     }
-
-    @PreDestroy
-    public void shutdown() {
-        try {
-            if (channel != null && !channel.isShutdown()) {
-                channel.shutdown().awaitTermination(5, TimeUnit.SECONDS);
-            }
-        } catch (InterruptedException e) {
-            log.warn("Failed to shutdown gRPC channel properly", e);
-            Thread.currentThread().interrupt();
-        }
-    }
 }
@@ -1,6 +1,7 @@
 package com.tripezzy.admin_service.repository;
 
 import com.tripezzy.admin_service.entity.Destination;
+import com.tripezzy.admin_service.geo.GeoBounds;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import org.springframework.cache.annotation.Cacheable;
@@ -8,6 +9,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -15,14 +18,87 @@ import java.util.Optional;
 
 @Repository
 public interface DestinationRepository extends JpaRepository<Destination, Long> , JpaSpecificationExecutor<Destination> {
+    String SEARCH_MATCH = "d.deleted = false AND (d.name % :keyword OR :keyword <% d.description)";
+
+    String DISTANCE_KM = "(" + GeoBounds.EARTH_RADIUS_KM + " * 2 * ASIN(SQRT(" +
+            "POWER(SIN(RADIANS(d.latitude - :latitude) / 2), 2) + " +
+            "COS(RADIANS(:latitude)) * COS(RADIANS(d.latitude)) * " +
+            "POWER(SIN(RADIANS(d.longitude - :longitude) / 2), 2))))";
+
+    // Matches the expression of the GiST index created by GeoIndexInitializer.
+    String WITHIN_BOUNDS = "d.deleted = false AND d.latitude IS NOT NULL AND d.longitude IS NOT NULL AND (" +
+            "point(d.longitude, d.latitude) <@ box(point(:westMinLon, :minLat), point(:westMaxLon, :maxLat)) OR " +
+            "point(d.longitude, d.latitude) <@ box(point(:eastMinLon, :minLat), point(:eastMaxLon, :maxLat)))";
+
+    String NEARBY_SELECT = "SELECT d.id AS id, d.name AS name, d.country AS country, " +
+            "d.latitude AS latitude, d.longitude AS longitude, " + DISTANCE_KM + " AS \"distanceKm\" " +
+            "FROM destinations d WHERE " + WITHIN_BOUNDS;
+
     @Cacheable(value = "destination", key = "#id", unless = "#result == null")
     Optional<Destination> findById(Long id);
 
     @Cacheable(value = "activeDestinations")
     Page<Destination> findByDeletedFalse(Pageable pageable);
 
-    @Cacheable(value = "searchDestinations", key = "#keyword")
-    List<Destination> findByNameContainingIgnoreCaseOrDescriptionContainingIgnoreCase(String keyword, String keyword1);
+    @Query(value = "SELECT d.* FROM destinations d WHERE " + SEARCH_MATCH + " " +
+            "ORDER BY GREATEST(similarity(d.name, :keyword), word_similarity(:keyword, d.description)) DESC, d.id",
+            countQuery = "SELECT COUNT(*) FROM destinations d WHERE " + SEARCH_MATCH,
+            nativeQuery = true)
+    Page<Destination> searchBySimilarity(@Param("keyword") String keyword, Pageable pageable);
+
+    @Query(value = "SELECT d.id AS id, d.name AS name FROM destinations d " +
+            "WHERE d.deleted = false AND (d.name ILIKE :prefixPattern OR :prefix <% d.name) " +
+            "ORDER BY word_similarity(:prefix, d.name) DESC, length(d.name), d.id " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<NameSuggestion> suggestByName(
+            @Param("prefix") String prefix,
+            @Param("prefixPattern") String prefixPattern,
+            @Param("limit") int limit);
 
     boolean existsByNameAndDeletedFalse(@NotBlank(message = "Destination name is required") @Size(max = 100, message = "Name must not exceed 100 characters") String name);
+
+    @Query(value = "SELECT * FROM (" + NEARBY_SELECT + ") n WHERE n.\"distanceKm\" <= :radiusKm " +
+            "ORDER BY n.\"distanceKm\", n.id",
+            countQuery = "SELECT COUNT(*) FROM (" + NEARBY_SELECT + ") n WHERE n.\"distanceKm\" <= :radiusKm",
+            nativeQuery = true)
+    Page<NearbyDestination> findWithinRadius(
+            @Param("latitude") double latitude,
+            @Param("longitude") double longitude,
+            @Param("radiusKm") double radiusKm,
+            @Param("minLat") double minLat,
+            @Param("maxLat") double maxLat,
+            @Param("westMinLon") double westMinLon,
+            @Param("westMaxLon") double westMaxLon,
+            @Param("eastMinLon") double eastMinLon,
+            @Param("eastMaxLon") double eastMaxLon,
+            Pageable pageable);
+
+    @Query(value = NEARBY_SELECT + " ORDER BY \"distanceKm\", d.id",
+            countQuery = "SELECT COUNT(*) FROM destinations d WHERE " + WITHIN_BOUNDS,
+            nativeQuery = true)
+    Page<NearbyDestination> findWithinBounds(
+            @Param("latitude") double latitude,
+            @Param("longitude") double longitude,
+            @Param("minLat") double minLat,
+            @Param("maxLat") double maxLat,
+            @Param("westMinLon") double westMinLon,
+            @Param("westMaxLon") double westMaxLon,
+            @Param("eastMinLon") double eastMinLon,
+            @Param("eastMaxLon") double eastMaxLon,
+            Pageable pageable);
+
+    interface NearbyDestination {
+        Long getId();
+        String getName();
+        String getCountry();
+        Double getLatitude();
+        Double getLongitude();
+        Double getDistanceKm();
+    }
+
+    interface NameSuggestion {
+        Long getId();
+        String getName();
+    }
 }
@@ -4,28 +4,64 @@ import com.tripezzy.admin_service.entity.TourPackage;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface TourRepository extends JpaRepository<TourPackage, Long> , JpaSpecificationExecutor<TourPackage> {
+    String SEARCH_MATCH = "t.deleted = false AND (t.name % :keyword OR :keyword <% t.description)";
+
     @Cacheable(value = "tour", key = "#id", unless = "#result == null")
     Optional<TourPackage> findById(Long id);
 
     @Cacheable(value = "activeTours")
     Page<TourPackage> findByDeletedFalse(Pageable pageable);
 
-    @Cacheable(value = "tours", key = "#keyword != null ? #keyword : 'default'")
-    List<TourPackage> findByNameContainingIgnoreCaseOrDescriptionContainingIgnoreCase(String name, String description);
+    Slice<TourPackage> findSliceByDeletedFalse(Pageable pageable);
+
+    List<TourPackage> findByDeletedFalseOrderByIdDesc(Limit limit);
+
+    List<TourPackage> findByDeletedFalseAndIdLessThanOrderByIdDesc(Long id, Limit limit);
+
+    // Includes deleted tours so their inventory is deactivated too.
+    List<TourPackage> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @Query(value = "SELECT t.* FROM tour_packages t WHERE " + SEARCH_MATCH + " " +
+            "ORDER BY GREATEST(similarity(t.name, :keyword), word_similarity(:keyword, t.description)) DESC, t.id",
+            countQuery = "SELECT COUNT(*) FROM tour_packages t WHERE " + SEARCH_MATCH,
+            nativeQuery = true)
+    Page<TourPackage> searchBySimilarity(@Param("keyword") String keyword, Pageable pageable);
+
+    @Query(value = "SELECT t.id AS id, t.name AS name FROM tour_packages t " +
+            "WHERE t.deleted = false AND (t.name ILIKE :prefixPattern OR :prefix <% t.name) " +
+            "ORDER BY word_similarity(:prefix, t.name) DESC, length(t.name), t.id " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<NameSuggestion> suggestByName(
+            @Param("prefix") String prefix,
+            @Param("prefixPattern") String prefixPattern,
+            @Param("limit") int limit);
 
     @Cacheable(value = "toursByDestination", key = "#destinationId")
     List<TourPackage> findByDestinationIdAndDeletedFalse(Long destinationId);
 
+    List<TourPackage> findByIdInAndDeletedFalse(Collection<Long> ids);
+
     boolean existsByNameAndDeletedFalse(@NotBlank(message = "Name is required") @Size(max = 100, message = "Name must not exceed 100 characters") String name);
+
+    interface NameSuggestion {
+        Long getId();
+        String getName();
+    }
 }
@@ -0,0 +1,44 @@
+package com.tripezzy.admin_service.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// Hibernate's schema generation cannot express trigram GIN indexes, so they are created here
+// once the tables exist. Every statement is idempotent. If pg_trgm cannot be installed (e.g. the
+// database user lacks the privilege), search still works but falls back to sequential scans.
+@Component
+public class SearchIndexInitializer implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchIndexInitializer.class);
+    private static final String[] STATEMENTS = {
+            "CREATE EXTENSION IF NOT EXISTS pg_trgm",
+            "CREATE INDEX IF NOT EXISTS idx_destination_name_trgm ON destinations USING gin (name gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_destination_description_trgm ON destinations USING gin (description gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_tour_package_name_trgm ON tour_packages USING gin (name gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_tour_package_description_trgm ON tour_packages USING gin (description gin_trgm_ops)"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SearchIndexInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        for (String statement : STATEMENTS) {
+            try {
+                jdbcTemplate.execute(statement);
+            } catch (DataAccessException ex) {
+                log.warn("Unable to initialize search index, statement skipped: {}", statement, ex);
+                return;
+            }
+        }
+        log.info("Trigram search indexes are in place");
+    }
+}
@@ -0,0 +1,39 @@
+package com.tripezzy.admin_service.search;
+
+import com.tripezzy.admin_service.exceptions.BadRequestException;
+
+import java.util.Locale;
+
+public final class SearchQueries {
+
+    public static final int MAX_KEYWORD_LENGTH = 100;
+    public static final int MAX_SUGGESTIONS = 10;
+    public static final int MIN_PREFIX_LENGTH = 2;
+
+    private SearchQueries() {
+    }
+
+    public static String normalize(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            throw new BadRequestException("Search keyword cannot be empty");
+        }
+        String normalized = keyword.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        if (normalized.length() > MAX_KEYWORD_LENGTH) {
+            throw new BadRequestException("Search keyword must not exceed " + MAX_KEYWORD_LENGTH + " characters");
+        }
+        return normalized;
+    }
+
+    public static String normalizePrefix(String prefix) {
+        String normalized = normalize(prefix);
+        if (normalized.length() < MIN_PREFIX_LENGTH) {
+            throw new BadRequestException("Prefix must be at least " + MIN_PREFIX_LENGTH + " characters");
+        }
+        return normalized;
+    }
+
+    // ILIKE pattern for a literal prefix, with the LIKE wildcards in user input escaped.
+    public static String prefixPattern(String normalized) {
+        return normalized.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    }
+}
@@ -1,6 +1,8 @@
 package com.tripezzy.admin_service.service;
 
 import com.tripezzy.admin_service.dto.DestinationDto;
+import com.tripezzy.admin_service.dto.NearbyDestinationDto;
+import com.tripezzy.admin_service.dto.SearchSuggestionDto;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -18,7 +20,15 @@ public interface DestinationService {
 
     void softDeleteDestination(Long id);
 
-    List<DestinationDto> searchDestinations(String keyword);
+    Page<DestinationDto> searchDestinations(String keyword, Pageable pageable);
+
+    List<SearchSuggestionDto> suggestDestinations(String prefix);
 
     List<DestinationDto> filterDestinations(String country);
+
+    Page<NearbyDestinationDto> findNearbyDestinations(double latitude, double longitude, double radiusKm, Pageable pageable);
+
+    Page<NearbyDestinationDto> findDestinationsWithinBounds(double minLatitude, double minLongitude,
+                                                            double maxLatitude, double maxLongitude,
+                                                            Pageable pageable);
 }
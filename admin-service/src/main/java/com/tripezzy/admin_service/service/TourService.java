@@ -1,10 +1,15 @@
 package com.tripezzy.admin_service.service;
 
+import com.tripezzy.admin_service.dto.AvailableTourDto;
+import com.tripezzy.admin_service.dto.CursorPageDto;
+import com.tripezzy.admin_service.dto.SearchSuggestionDto;
 import com.tripezzy.admin_service.dto.TourDto;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.time.LocalDate;
 import java.util.List;
 
 public interface TourService {
@@ -12,6 +17,10 @@ public interface TourService {
 
     Page<TourDto> getAllTours(Pageable pageable);
 
+    Slice<TourDto> getAllToursSlice(Pageable pageable);
+
+    CursorPageDto<TourDto> scrollTours(String cursor, int size);
+
     TourDto getTourById(Long id);
 
     List<TourDto> getToursByDestination(Long destinationId);
@@ -20,7 +29,11 @@ public interface TourService {
 
     void softDeleteTour(Long id);
 
-    List<TourDto> searchTours(String keyword);
+    Page<TourDto> searchTours(String keyword, Pageable pageable);
+
+    List<SearchSuggestionDto> suggestTours(String prefix);
 
     List<TourDto> filterTours(Long destinationId, Double minPrice, Double maxPrice, Integer capacity);
+
+    List<AvailableTourDto> findAvailableTours(LocalDate from, LocalDate to, int seats);
 }
@@ -1,10 +1,14 @@
 package com.tripezzy.admin_service.service.implementations;
 
 import com.tripezzy.admin_service.dto.DestinationDto;
+import com.tripezzy.admin_service.dto.NearbyDestinationDto;
+import com.tripezzy.admin_service.dto.SearchSuggestionDto;
 import com.tripezzy.admin_service.entity.Destination;
 import com.tripezzy.admin_service.exceptions.*;
+import com.tripezzy.admin_service.geo.GeoBounds;
 import com.tripezzy.admin_service.repository.DestinationRepository;
 import com.tripezzy.admin_service.repository.specifications.DestinationSpecification;
+import com.tripezzy.admin_service.search.SearchQueries;
 import com.tripezzy.admin_service.service.DestinationService;
 import org.modelmapper.MappingException;
 import org.modelmapper.ModelMapper;
@@ -12,8 +16,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,6 +31,7 @@ import java.util.stream.Collectors;
 public class DestinationServiceImpl implements DestinationService {
 
     private static final Logger log = LoggerFactory.getLogger(DestinationServiceImpl.class);
+    private static final double MAX_RADIUS_KM = 500.0;
     private final DestinationRepository destinationRepository;
     private final ModelMapper modelMapper;
 
@@ -34,7 +41,10 @@ public class DestinationServiceImpl implements DestinationService {
     }
 
     @Override
-    @CacheEvict(value = "destination", allEntries = true)
+    @Caching(evict = {
+            @CacheEvict(value = "destination", allEntries = true),
+            @CacheEvict(value = "destinationSuggestions", allEntries = true)
+    })
     @Transactional
     public DestinationDto createDestination(DestinationDto dto) {
         log.info("Creating new Destination: {}", dto.getName());
@@ -45,6 +55,7 @@ public class DestinationServiceImpl implements DestinationService {
             if (dto.getCountry() == null || dto.getCountry().isBlank()) {
                 throw new BadRequestException("Country is required");
             }
+            validateCoordinates(dto);
 
             if (destinationRepository.existsByNameAndDeletedFalse(dto.getName())) {
                 throw new RuntimeConflict("Destination with name '" + dto.getName() + "' already exists");
@@ -120,7 +131,10 @@ public class DestinationServiceImpl implements DestinationService {
     }
 
     @Override
-    @CacheEvict(value = "destination", key = "#id")
+    @Caching(evict = {
+            @CacheEvict(value = "destination", key = "#id"),
+            @CacheEvict(value = "destinationSuggestions", allEntries = true)
+    })
     @Transactional
     public DestinationDto updateDestination(Long id, DestinationDto dto) {
         log.info("Updating Destination ID: {}", id);
@@ -145,6 +159,7 @@ public class DestinationServiceImpl implements DestinationService {
             if (dto.getCountry() != null && dto.getCountry().isBlank()) {
                 throw new BadRequestException("Country name cannot be empty");
             }
+            validateCoordinates(dto);
 
             if (dto.getName() != null && !dto.getName().equals(destination.getName()) &&
                     destinationRepository.existsByNameAndDeletedFalse(dto.getName())) {
@@ -165,7 +180,10 @@ public class DestinationServiceImpl implements DestinationService {
     }
 
     @Override
-    @CacheEvict(value = "destination", key = "#id")
+    @Caching(evict = {
+            @CacheEvict(value = "destination", key = "#id"),
+            @CacheEvict(value = "destinationSuggestions", allEntries = true)
+    })
     @Transactional
     public void softDeleteDestination(Long id) {
         log.info("Soft deleting Destination ID: {}", id);
@@ -196,39 +214,92 @@ public class DestinationServiceImpl implements DestinationService {
     }
 
     @Override
-    @Cacheable(value = "searchDestinations", key = "#keyword")
-    public List<DestinationDto> searchDestinations(String keyword) {
+    public Page<DestinationDto> searchDestinations(String keyword, Pageable pageable) {
         log.info("Searching destinations with keyword: {}", keyword);
-        if (keyword == null || keyword.isBlank()) {
-            throw new BadRequestException("Search keyword cannot be empty");
-        }
+        String normalized = SearchQueries.normalize(keyword);
 
         try {
-            List<Destination> destinations = destinationRepository
-                    .findByNameContainingIgnoreCaseOrDescriptionContainingIgnoreCase(keyword, keyword);
+            // Results are ranked by similarity, so any client-supplied sort is ignored.
+            Page<Destination> destinations = destinationRepository.searchBySimilarity(
+                    normalized, PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
 
-            if (destinations.isEmpty()) {
-                log.warn("No destinations found for keyword: {}", keyword);
-                throw new ResourceNotFound("No matching destinations found");
-            }
+            return destinations.map(dest -> {
+                try {
+                    return modelMapper.map(dest, DestinationDto.class);
+                } catch (MappingException ex) {
+                    log.error("Mapping error for destination ID {}: {}", dest.getId(), ex.getMessage());
+                    throw new IllegalState("Failed to map destination data");
+                }
+            });
 
-            return destinations.stream()
-                    .map(dest -> {
-                        try {
-                            return modelMapper.map(dest, DestinationDto.class);
-                        } catch (MappingException ex) {
-                            log.error("Mapping error for destination ID {}: {}", dest.getId(), ex.getMessage());
-                            throw new IllegalState("Failed to map destination data");
-                        }
-                    })
+        } catch (DataAccessException ex) {
+            log.error("Database error while searching destinations: {}", ex.getMessage(), ex);
+            throw new ServiceUnavailable("Search service is currently unavailable");
+        }
+    }
+
+    @Override
+    @Cacheable(value = "destinationSuggestions", key = "#prefix.trim().toLowerCase()")
+    public List<SearchSuggestionDto> suggestDestinations(String prefix) {
+        String normalized = SearchQueries.normalizePrefix(prefix);
+
+        try {
+            return destinationRepository.suggestByName(
+                            normalized, SearchQueries.prefixPattern(normalized), SearchQueries.MAX_SUGGESTIONS)
+                    .stream()
+                    .map(suggestion -> new SearchSuggestionDto(suggestion.getId(), suggestion.getName()))
                     .collect(Collectors.toList());
 
         } catch (DataAccessException ex) {
-            log.error("Database error while searching destinations: {}", ex.getMessage(), ex);
+            log.error("Database error while suggesting destinations: {}", ex.getMessage(), ex);
             throw new ServiceUnavailable("Search service is currently unavailable");
         }
     }
 
+    @Override
+    public Page<NearbyDestinationDto> findNearbyDestinations(double latitude, double longitude, double radiusKm, Pageable pageable) {
+        log.info("Finding destinations within {} km of ({}, {})", radiusKm, latitude, longitude);
+        if (radiusKm <= 0 || radiusKm > MAX_RADIUS_KM) {
+            throw new BadRequestException("Radius must be greater than 0 and at most " + MAX_RADIUS_KM + " km");
+        }
+        GeoBounds bounds = GeoBounds.around(latitude, longitude, radiusKm);
+
+        try {
+            return destinationRepository.findWithinRadius(latitude, longitude, radiusKm,
+                            bounds.getMinLatitude(), bounds.getMaxLatitude(),
+                            bounds.getWestMinLongitude(), bounds.getWestMaxLongitude(),
+                            bounds.getEastMinLongitude(), bounds.getEastMaxLongitude(),
+                            PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()))
+                    .map(DestinationServiceImpl::toNearbyDto);
+
+        } catch (DataAccessException ex) {
+            log.error("Database error while finding nearby destinations: {}", ex.getMessage(), ex);
+            throw new ServiceUnavailable("Unable to retrieve destinations at this time");
+        }
+    }
+
+    @Override
+    public Page<NearbyDestinationDto> findDestinationsWithinBounds(double minLatitude, double minLongitude,
+                                                                   double maxLatitude, double maxLongitude,
+                                                                   Pageable pageable) {
+        log.info("Finding destinations within ({}, {}) - ({}, {})", minLatitude, minLongitude, maxLatitude, maxLongitude);
+        GeoBounds bounds = GeoBounds.of(minLatitude, minLongitude, maxLatitude, maxLongitude);
+
+        try {
+            // Results are ordered by distance from the centre of the viewport.
+            return destinationRepository.findWithinBounds(bounds.centerLatitude(), bounds.centerLongitude(),
+                            bounds.getMinLatitude(), bounds.getMaxLatitude(),
+                            bounds.getWestMinLongitude(), bounds.getWestMaxLongitude(),
+                            bounds.getEastMinLongitude(), bounds.getEastMaxLongitude(),
+                            PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()))
+                    .map(DestinationServiceImpl::toNearbyDto);
+
+        } catch (DataAccessException ex) {
+            log.error("Database error while finding destinations within bounds: {}", ex.getMessage(), ex);
+            throw new ServiceUnavailable("Unable to retrieve destinations at this time");
+        }
+    }
+
     @Override
     @Cacheable(value = "filteredDestinations", key = "#country")
     public List<DestinationDto> filterDestinations(String country) {
@@ -262,4 +333,15 @@ public class DestinationServiceImpl implements DestinationService {
             throw new ServiceUnavailable("Filter service is currently unavailable");
         }
     }
+
+    private static void validateCoordinates(DestinationDto dto) {
+        if ((dto.getLatitude() == null) != (dto.getLongitude() == null)) {
+            throw new BadRequestException("Latitude and longitude must be provided together");
+        }
+    }
+
+    private static NearbyDestinationDto toNearbyDto(DestinationRepository.NearbyDestination destination) {
+        return new NearbyDestinationDto(destination.getId(), destination.getName(), destination.getCountry(),
+                destination.getLatitude(), destination.getLongitude(), destination.getDistanceKm());
+    }
 }
@@ -1,12 +1,19 @@
 package com.tripezzy.admin_service.service.implementations;
 
+import com.tripezzy.admin_service.dto.AvailableTourDto;
+import com.tripezzy.admin_service.dto.CursorPageDto;
+import com.tripezzy.admin_service.dto.SearchSuggestionDto;
 import com.tripezzy.admin_service.dto.TourDto;
 import com.tripezzy.admin_service.entity.Destination;
 import com.tripezzy.admin_service.entity.TourPackage;
+import com.tripezzy.admin_service.events.TourInventoryPublisher;
 import com.tripezzy.admin_service.exceptions.*;
+import com.tripezzy.admin_service.grpc.BookingGrpcClient;
+import com.tripezzy.admin_service.pagination.KeysetCursor;
 import com.tripezzy.admin_service.repository.DestinationRepository;
 import com.tripezzy.admin_service.repository.TourRepository;
 import com.tripezzy.admin_service.repository.specifications.TourSpecification;
+import com.tripezzy.admin_service.search.SearchQueries;
 import com.tripezzy.admin_service.service.TourService;
 import org.modelmapper.MappingException;
 import org.modelmapper.ModelMapper;
@@ -14,15 +21,21 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -32,16 +45,26 @@ public class TourServiceImpl implements TourService {
     private final TourRepository tourRepository;
     private final DestinationRepository destinationRepository;
     private final ModelMapper modelMapper;
+    private final BookingGrpcClient bookingGrpcClient;
+    private final TourInventoryPublisher tourInventoryPublisher;
+
+    private static final int MAX_AVAILABLE_TOURS = 100;
 
     public TourServiceImpl(TourRepository tourRepository, ModelMapper modelMapper,
-                           DestinationRepository destinationRepository) {
+                           DestinationRepository destinationRepository, BookingGrpcClient bookingGrpcClient,
+                           TourInventoryPublisher tourInventoryPublisher) {
         this.tourRepository = tourRepository;
         this.modelMapper = modelMapper;
         this.destinationRepository = destinationRepository;
+        this.bookingGrpcClient = bookingGrpcClient;
+        this.tourInventoryPublisher = tourInventoryPublisher;
     }
 
     @Override
-    @CacheEvict(value = "destination", allEntries = true)
+    @Caching(evict = {
+            @CacheEvict(value = "destination", allEntries = true),
+            @CacheEvict(value = "tourSuggestions", allEntries = true)
+    })
     @Transactional
     public TourDto createTour(TourDto dto) {
         log.info("Creating new Tour: {}", dto.getName());
@@ -70,10 +93,13 @@ public class TourServiceImpl implements TourService {
             newTour.setId(null);
             newTour.setDestination(destination);
 
-            destination.getTourPackages().add(newTour);
+            // Persist the tour directly so its generated ID is available for the inventory event.
+            TourPackage savedTour = tourRepository.save(newTour);
+            destination.getTourPackages().add(savedTour);
             destinationRepository.save(destination);
+            tourInventoryPublisher.publishAfterCommit(savedTour);
 
-            return modelMapper.map(newTour, TourDto.class);
+            return modelMapper.map(savedTour, TourDto.class);
 
         } catch (DataAccessException ex) {
             log.error("Database error while creating tour: {}", ex.getMessage(), ex);
@@ -111,6 +137,50 @@ public class TourServiceImpl implements TourService {
         }
     }
 
+    @Override
+    public Slice<TourDto> getAllToursSlice(Pageable pageable) {
+        log.info("Fetching slice of tours - page: {}, size: {}", pageable.getPageNumber(), pageable.getPageSize());
+        try {
+            return tourRepository.findSliceByDeletedFalse(pageable).map(this::toDto);
+        } catch (DataAccessException ex) {
+            log.error("Database error while fetching tours slice: {}", ex.getMessage(), ex);
+            throw new ServiceUnavailable("Unable to retrieve tours at this time");
+        }
+    }
+
+    @Override
+    public CursorPageDto<TourDto> scrollTours(String cursor, int size) {
+        log.info("Scrolling tours with page size: {}", size);
+        KeysetCursor.validatePageSize(size);
+        try {
+            List<TourPackage> tours = cursor == null || cursor.isBlank()
+                    ? tourRepository.findByDeletedFalseOrderByIdDesc(Limit.of(size + 1))
+                    : tourRepository.findByDeletedFalseAndIdLessThanOrderByIdDesc(
+                            KeysetCursor.decode(cursor).getId(), Limit.of(size + 1));
+
+            String nextCursor = null;
+            if (tours.size() > size) {
+                tours = tours.subList(0, size);
+                Long lastId = tours.get(size - 1).getId();
+                nextCursor = KeysetCursor.encode(lastId, lastId);
+            }
+            return new CursorPageDto<>(tours.stream().map(this::toDto).collect(Collectors.toList()), nextCursor);
+
+        } catch (DataAccessException ex) {
+            log.error("Database error while scrolling tours: {}", ex.getMessage(), ex);
+            throw new ServiceUnavailable("Unable to retrieve tours at this time");
+        }
+    }
+
+    private TourDto toDto(TourPackage tour) {
+        try {
+            return modelMapper.map(tour, TourDto.class);
+        } catch (MappingException ex) {
+            log.error("Mapping error for tour ID {}: {}", tour.getId(), ex.getMessage());
+            throw new IllegalState("Failed to map tour data");
+        }
+    }
+
     @Override
     @Cacheable(value = "tour", key = "#id", unless = "#result == null")
     public TourDto getTourById(Long id) {
@@ -175,7 +245,10 @@ public class TourServiceImpl implements TourService {
     }
 
     @Override
-    @CacheEvict(value = "tour", key = "#id")
+    @Caching(evict = {
+            @CacheEvict(value = "tour", key = "#id"),
+            @CacheEvict(value = "tourSuggestions", allEntries = true)
+    })
     @Transactional
     public TourDto updateTour(Long id, TourDto dto) {
         log.info("Updating Tour ID: {}", id);
@@ -208,6 +281,7 @@ public class TourServiceImpl implements TourService {
 
             modelMapper.map(dto, tour);
             TourPackage updatedTour = tourRepository.save(tour);
+            tourInventoryPublisher.publishAfterCommit(updatedTour);
             return modelMapper.map(updatedTour, TourDto.class);
 
         } catch (DataAccessException ex) {
@@ -220,7 +294,10 @@ public class TourServiceImpl implements TourService {
     }
 
     @Override
-    @CacheEvict(value = "tour", key = "#id")
+    @Caching(evict = {
+            @CacheEvict(value = "tour", key = "#id"),
+            @CacheEvict(value = "tourSuggestions", allEntries = true)
+    })
     @Transactional
     public void softDeleteTour(Long id) {
         log.info("Soft deleting Tour ID: {}", id);
@@ -242,6 +319,7 @@ public class TourServiceImpl implements TourService {
 
             tour.setDeleted(true);
             tourRepository.save(tour);
+            tourInventoryPublisher.publishAfterCommit(tour);
             log.info("Tour ID {} marked as deleted", id);
 
         } catch (DataAccessException ex) {
@@ -251,35 +329,44 @@ public class TourServiceImpl implements TourService {
     }
 
     @Override
-    @Cacheable(value = "tours", key = "#keyword != null ? #keyword : 'default'")
-    public List<TourDto> searchTours(String keyword) {
+    public Page<TourDto> searchTours(String keyword, Pageable pageable) {
         log.info("Searching for tours with keyword: {}", keyword);
-        if (keyword == null || keyword.trim().isEmpty()) {
-            throw new BadRequestException("Search keyword cannot be empty");
-        }
+        String normalized = SearchQueries.normalize(keyword);
 
         try {
-            List<TourPackage> tours = tourRepository
-                    .findByNameContainingIgnoreCaseOrDescriptionContainingIgnoreCase(keyword, keyword);
+            // Results are ranked by similarity, so any client-supplied sort is ignored.
+            Page<TourPackage> tours = tourRepository.searchBySimilarity(
+                    normalized, PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
 
-            if (tours.isEmpty()) {
-                log.warn("No tours found for keyword: {}", keyword);
-                return Collections.emptyList();
-            }
+            return tours.map(tour -> {
+                try {
+                    return modelMapper.map(tour, TourDto.class);
+                } catch (MappingException ex) {
+                    log.error("Mapping error for tour ID {}: {}", tour.getId(), ex.getMessage());
+                    throw new IllegalState("Failed to map tour data");
+                }
+            });
 
-            return tours.stream()
-                    .map(tour -> {
-                        try {
-                            return modelMapper.map(tour, TourDto.class);
-                        } catch (MappingException ex) {
-                            log.error("Mapping error for tour ID {}: {}", tour.getId(), ex.getMessage());
-                            throw new IllegalState("Failed to map tour data");
-                        }
-                    })
+        } catch (DataAccessException ex) {
+            log.error("Database error while searching tours: {}", ex.getMessage(), ex);
+            throw new ServiceUnavailable("Search service is currently unavailable");
+        }
+    }
+
+    @Override
+    @Cacheable(value = "tourSuggestions", key = "#prefix.trim().toLowerCase()")
+    public List<SearchSuggestionDto> suggestTours(String prefix) {
+        String normalized = SearchQueries.normalizePrefix(prefix);
+
+        try {
+            return tourRepository.suggestByName(
+                            normalized, SearchQueries.prefixPattern(normalized), SearchQueries.MAX_SUGGESTIONS)
+                    .stream()
+                    .map(suggestion -> new SearchSuggestionDto(suggestion.getId(), suggestion.getName()))
                     .collect(Collectors.toList());
 
         } catch (DataAccessException ex) {
-            log.error("Database error while searching tours: {}", ex.getMessage(), ex);
+            log.error("Database error while suggesting tours: {}", ex.getMessage(), ex);
             throw new ServiceUnavailable("Search service is currently unavailable");
         }
     }
@@ -323,4 +410,34 @@ public class TourServiceImpl implements TourService {
             throw new ServiceUnavailable("Filter service is currently unavailable");
         }
     }
+
+    @Override
+    public List<AvailableTourDto> findAvailableTours(LocalDate from, LocalDate to, int seats) {
+        log.info("Finding tours departing between {} and {} with at least {} seats", from, to, seats);
+
+        // Seat counts live in booking-service next to the bookings that consume them.
+        Map<Long, Integer> remainingByTour = bookingGrpcClient.getAvailableTourSeats(from, to, seats, MAX_AVAILABLE_TOURS);
+        if (remainingByTour.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        try {
+            Map<Long, TourPackage> tours = tourRepository.findByIdInAndDeletedFalse(remainingByTour.keySet())
+                    .stream()
+                    .collect(Collectors.toMap(TourPackage::getId, tour -> tour));
+
+            return remainingByTour.entrySet().stream()
+                    .filter(entry -> tours.containsKey(entry.getKey()))
+                    .map(entry -> {
+                        TourPackage tour = tours.get(entry.getKey());
+                        return new AvailableTourDto(tour.getId(), tour.getName(), tour.getPrice(),
+                                tour.getDestination().getId(), tour.getStartDate(), tour.getEndDate(), entry.getValue());
+                    })
+                    .collect(Collectors.toList());
+
+        } catch (DataAccessException ex) {
+            log.error("Database error while loading available tours: {}", ex.getMessage(), ex);
+            throw new ServiceUnavailable("Unable to retrieve available tours at this time");
+        }
+    }
 }
@@ -0,0 +1,157 @@
+-- Destination radius and viewport queries at 100k rows.
+-- Runs against a scratch temp table, so any Postgres will do:
+--   psql -h localhost -U postgres -f destination_geo_queries.sql
+-- The queries are DestinationRepository.findWithinRadius / findWithinBounds (and their count queries)
+-- with the bounds GeoBounds would pass. Each plan should show a Bitmap Index Scan on
+-- idx_bench_destination_location_gist (one per box, under a BitmapOr) feeding a small sort, and
+-- should run in well under a millisecond per page. The last section disables index scans to show
+-- the sequential-scan cost the index avoids.
+
+\timing off
+SET client_min_messages = warning;
+SELECT setseed(0.42);
+
+CREATE TEMP TABLE bench_destinations (
+    id          bigserial PRIMARY KEY,
+    name        varchar(100)  NOT NULL UNIQUE,
+    country     varchar(50)   NOT NULL,
+    description varchar(1000) NOT NULL,
+    latitude    double precision,
+    longitude   double precision,
+    deleted     boolean       NOT NULL DEFAULT false
+);
+
+-- 200 clusters, the first one on Paris and one straddling the antimeridian near Fiji.
+CREATE TEMP TABLE bench_clusters AS
+SELECT c AS cluster_id,
+       CASE c WHEN 0 THEN 48.8566 WHEN 1 THEN -17.7 ELSE -55 + random() * 120 END AS latitude,
+       CASE c WHEN 0 THEN 2.3522 WHEN 1 THEN 179.5 ELSE -180 + random() * 360 END AS longitude
+FROM generate_series(0, 199) c;
+
+-- 70% of destinations sit around a cluster, the rest are spread out; 2% are soft-deleted and 1%
+-- have no coordinates, so the partial index predicate is exercised.
+INSERT INTO bench_destinations (name, country, description, latitude, longitude, deleted)
+SELECT 'destination ' || g,
+       'country ' || (g % 180),
+       repeat('d', 200),
+       CASE WHEN g % 100 = 0 THEN NULL ELSE lat END,
+       CASE WHEN g % 100 = 0 THEN NULL ELSE lon END,
+       g % 50 = 1
+FROM (
+    SELECT g,
+           LEAST(89.9, GREATEST(-89.9, CASE WHEN r < 0.7
+               THEN cl.latitude + (random() + random() + random() - 1.5) * 2
+               ELSE -60 + random() * 130 END)) AS lat,
+           CASE WHEN r < 0.7
+               THEN mod((cl.longitude + (random() + random() + random() - 1.5) * 3 + 540)::numeric, 360)::double precision - 180
+               ELSE -180 + random() * 360 END AS lon
+    FROM (SELECT g, random() AS r, (g % 200) AS cluster_id FROM generate_series(1, 100000) g) s
+    JOIN bench_clusters cl USING (cluster_id)
+) seeded;
+
+-- Same definition as GeoIndexInitializer.
+CREATE INDEX idx_bench_destination_location_gist ON bench_destinations
+    USING gist (point(longitude, latitude))
+    WHERE deleted = false AND latitude IS NOT NULL AND longitude IS NOT NULL;
+ANALYZE bench_destinations;
+
+-- Radius search: 50 km around Paris, bounds as GeoBounds.around computes them.
+\set lat 48.8566
+\set lon 2.3522
+\set radius 50
+SELECT :lat - degrees(:radius / 6371.0088) AS min_lat,
+       :lat + degrees(:radius / 6371.0088) AS max_lat,
+       :lon - degrees(asin(sin(:radius / 6371.0088) / cos(radians(:lat)))) AS min_lon,
+       :lon + degrees(asin(sin(:radius / 6371.0088) / cos(radians(:lat)))) AS max_lon \gset
+
+\echo '== radius 50 km, first page (findWithinRadius) =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT * FROM (
+    SELECT d.id AS id, d.name AS name, d.country AS country, d.latitude AS latitude, d.longitude AS longitude,
+           (6371.0088 * 2 * ASIN(SQRT(
+               POWER(SIN(RADIANS(d.latitude - :lat) / 2), 2) +
+               COS(RADIANS(:lat)) * COS(RADIANS(d.latitude)) *
+               POWER(SIN(RADIANS(d.longitude - :lon) / 2), 2)))) AS "distanceKm"
+    FROM bench_destinations d
+    WHERE d.deleted = false AND d.latitude IS NOT NULL AND d.longitude IS NOT NULL AND (
+        point(d.longitude, d.latitude) <@ box(point(:min_lon, :min_lat), point(:max_lon, :max_lat)) OR
+        point(d.longitude, d.latitude) <@ box(point(:min_lon, :min_lat), point(:max_lon, :max_lat)))
+) n WHERE n."distanceKm" <= :radius
+ORDER BY n."distanceKm", n.id
+LIMIT 20 OFFSET 0;
+
+\echo '== radius 50 km, count query =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT COUNT(*) FROM (
+    SELECT (6371.0088 * 2 * ASIN(SQRT(
+               POWER(SIN(RADIANS(d.latitude - :lat) / 2), 2) +
+               COS(RADIANS(:lat)) * COS(RADIANS(d.latitude)) *
+               POWER(SIN(RADIANS(d.longitude - :lon) / 2), 2)))) AS "distanceKm"
+    FROM bench_destinations d
+    WHERE d.deleted = false AND d.latitude IS NOT NULL AND d.longitude IS NOT NULL AND (
+        point(d.longitude, d.latitude) <@ box(point(:min_lon, :min_lat), point(:max_lon, :max_lat)) OR
+        point(d.longitude, d.latitude) <@ box(point(:min_lon, :min_lat), point(:max_lon, :max_lat)))
+) n WHERE n."distanceKm" <= :radius;
+
+-- Viewport over western Europe, ordered by distance from its centre (findWithinBounds).
+\echo '== viewport 43..52 N, 5 W..10 E, first page (findWithinBounds) =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT d.id AS id, d.name AS name, d.country AS country, d.latitude AS latitude, d.longitude AS longitude,
+       (6371.0088 * 2 * ASIN(SQRT(
+           POWER(SIN(RADIANS(d.latitude - 47.5) / 2), 2) +
+           COS(RADIANS(47.5)) * COS(RADIANS(d.latitude)) *
+           POWER(SIN(RADIANS(d.longitude - 2.5) / 2), 2)))) AS "distanceKm"
+FROM bench_destinations d
+WHERE d.deleted = false AND d.latitude IS NOT NULL AND d.longitude IS NOT NULL AND (
+    point(d.longitude, d.latitude) <@ box(point(-5, 43), point(10, 52)) OR
+    point(d.longitude, d.latitude) <@ box(point(-5, 43), point(10, 52)))
+ORDER BY "distanceKm", d.id
+LIMIT 20 OFFSET 0;
+
+\echo '== viewport 43..52 N, 5 W..10 E, count query =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT COUNT(*) FROM bench_destinations d
+WHERE d.deleted = false AND d.latitude IS NOT NULL AND d.longitude IS NOT NULL AND (
+    point(d.longitude, d.latitude) <@ box(point(-5, 43), point(10, 52)) OR
+    point(d.longitude, d.latitude) <@ box(point(-5, 43), point(10, 52)));
+
+-- Viewport across the antimeridian, split into two boxes as GeoBounds.of does.
+\echo '== viewport 25..10 S, 170 E..170 W, first page (two boxes) =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT d.id AS id, d.name AS name, d.country AS country, d.latitude AS latitude, d.longitude AS longitude,
+       (6371.0088 * 2 * ASIN(SQRT(
+           POWER(SIN(RADIANS(d.latitude - -17.5) / 2), 2) +
+           COS(RADIANS(-17.5)) * COS(RADIANS(d.latitude)) *
+           POWER(SIN(RADIANS(d.longitude - 180) / 2), 2)))) AS "distanceKm"
+FROM bench_destinations d
+WHERE d.deleted = false AND d.latitude IS NOT NULL AND d.longitude IS NOT NULL AND (
+    point(d.longitude, d.latitude) <@ box(point(170, -25), point(180, -10)) OR
+    point(d.longitude, d.latitude) <@ box(point(-180, -25), point(-170, -10)))
+ORDER BY "distanceKm", d.id
+LIMIT 20 OFFSET 0;
+
+-- Same radius page without the index, for comparison.
+SET enable_indexscan = off;
+SET enable_bitmapscan = off;
+
+\echo '== radius 50 km, first page, index disabled (for comparison) =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT * FROM (
+    SELECT d.id AS id, d.name AS name, d.country AS country, d.latitude AS latitude, d.longitude AS longitude,
+           (6371.0088 * 2 * ASIN(SQRT(
+               POWER(SIN(RADIANS(d.latitude - :lat) / 2), 2) +
+               COS(RADIANS(:lat)) * COS(RADIANS(d.latitude)) *
+               POWER(SIN(RADIANS(d.longitude - :lon) / 2), 2)))) AS "distanceKm"
+    FROM bench_destinations d
+    WHERE d.deleted = false AND d.latitude IS NOT NULL AND d.longitude IS NOT NULL AND (
+        point(d.longitude, d.latitude) <@ box(point(:min_lon, :min_lat), point(:max_lon, :max_lat)) OR
+        point(d.longitude, d.latitude) <@ box(point(:min_lon, :min_lat), point(:max_lon, :max_lat)))
+) n WHERE n."distanceKm" <= :radius
+ORDER BY n."distanceKm", n.id
+LIMIT 20 OFFSET 0;
+
+RESET enable_indexscan;
+RESET enable_bitmapscan;
+
+DROP TABLE bench_destinations;
+DROP TABLE bench_clusters;
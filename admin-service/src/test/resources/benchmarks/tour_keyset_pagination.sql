@@ -0,0 +1,70 @@
+-- Tour package paging: OFFSET vs keyset at offsets 0, 10k and 1M.
+-- Runs against scratch temp tables, so any Postgres will do:
+--   psql -h localhost -U postgres -f tour_keyset_pagination.sql
+-- getAllTours pages with OFFSET; scrollTours orders by id DESC and seeks with id < :cursor
+-- (findByDeletedFalseAndIdLessThanOrderByIdDesc). id is unique, so it is both the sort key and the
+-- tie-breaker and the row value (sort_key, id) < (?, ?) reduces to that single comparison.
+-- Keyset plans should show an Index Scan Backward on the primary key with id in its Index Cond,
+-- at roughly constant cost whatever the depth.
+
+\timing off
+SET client_min_messages = warning;
+
+CREATE TEMP TABLE bench_tour_packages (
+    id             bigserial PRIMARY KEY,
+    name           varchar(100)   NOT NULL UNIQUE,
+    description    varchar(1000)  NOT NULL,
+    price          numeric(38, 2) NOT NULL,
+    capacity       integer        NOT NULL,
+    start_date     timestamp      NOT NULL,
+    end_date       timestamp      NOT NULL,
+    destination_id bigint,
+    deleted        boolean        NOT NULL DEFAULT false
+);
+
+-- 1% soft-deleted so the deleted = false filter has something to skip.
+INSERT INTO bench_tour_packages (name, description, price, capacity, start_date, end_date,
+                                 destination_id, deleted)
+SELECT 'tour ' || g, repeat('t', 300), 100 + (g % 5000), 1 + g % 40,
+       timestamp '2030-01-01' + (g % 1000) * interval '1 day',
+       timestamp '2030-01-08' + (g % 1000) * interval '1 day',
+       1 + g % 500,
+       g % 100 = 0
+FROM generate_series(1, 1100000) g;
+
+-- Same definitions as TourPackage's @Table indexes.
+CREATE INDEX idx_bench_tour_package_name ON bench_tour_packages (name);
+CREATE INDEX idx_bench_tour_package_price ON bench_tour_packages (price);
+ANALYZE bench_tour_packages;
+
+\echo '== getAllTours, offset 0 =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT * FROM bench_tour_packages WHERE deleted = false ORDER BY id DESC OFFSET 0 LIMIT 20;
+
+\echo '== getAllTours, offset 10000 =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT * FROM bench_tour_packages WHERE deleted = false ORDER BY id DESC OFFSET 10000 LIMIT 20;
+
+\echo '== getAllTours, offset 1000000 =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT * FROM bench_tour_packages WHERE deleted = false ORDER BY id DESC OFFSET 1000000 LIMIT 20;
+
+-- Cursors for the last row before each offset, as scrollTours would have handed out.
+SELECT id AS a10k FROM bench_tour_packages WHERE deleted = false ORDER BY id DESC OFFSET 9999 LIMIT 1 \gset
+SELECT id AS a1m FROM bench_tour_packages WHERE deleted = false ORDER BY id DESC OFFSET 999999 LIMIT 1 \gset
+
+\echo '== scrollTours, first page =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT * FROM bench_tour_packages WHERE deleted = false ORDER BY id DESC LIMIT 21;
+
+\echo '== scrollTours after 10000 =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT * FROM bench_tour_packages WHERE deleted = false AND id < :a10k
+ORDER BY id DESC LIMIT 21;
+
+\echo '== scrollTours after 1000000 =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT * FROM bench_tour_packages WHERE deleted = false AND id < :a1m
+ORDER BY id DESC LIMIT 21;
+
+DROP TABLE bench_tour_packages;
@@ -0,0 +1,70 @@
+package com.tripezzy.api_gateway.accesslog;
+
+import com.tripezzy.api_gateway.filters.AuthenticationFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.net.URI;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// One structured record per routed request. Failures (4xx, 5xx, errors) and slow requests are always
+// logged; successful ones are sampled at success-sample-rate, and the decision is taken before any
+// record is built so unsampled requests cost only a clock read.
+@Component
+public class AccessLogFilter implements GlobalFilter, Ordered {
+
+    private final AccessLogWriter writer;
+    private final double successSampleRate;
+    private final long slowThresholdNanos;
+
+    public AccessLogFilter(AccessLogWriter writer,
+                           @Value("${gateway.access-log.success-sample-rate:0.01}") double successSampleRate,
+                           @Value("${gateway.access-log.slow-threshold-ms:1000}") long slowThresholdMs) {
+        this.writer = writer;
+        this.successSampleRate = successSampleRate;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMs);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        long start = System.nanoTime();
+        return chain.filter(exchange)
+                .doFinally(signal -> record(exchange, System.nanoTime() - start, signal == SignalType.ON_ERROR));
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    private void record(ServerWebExchange exchange, long latencyNanos, boolean error) {
+        HttpStatusCode statusCode = exchange.getResponse().getStatusCode();
+        int status = statusCode != null ? statusCode.value() : (error ? 500 : 200);
+        boolean alwaysLog = error || status >= 400 || latencyNanos >= slowThresholdNanos;
+        if (!alwaysLog && ThreadLocalRandom.current().nextDouble() >= successSampleRate) {
+            return;
+        }
+
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        URI upstream = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR);
+        writer.submit(new AccessLogRecord(
+                exchange.getRequest().getMethod().name(),
+                exchange.getRequest().getPath().value(),
+                route == null ? "-" : route.getId(),
+                status,
+                TimeUnit.NANOSECONDS.toMillis(latencyNanos),
+                upstream == null ? "-" : upstream.getScheme() + "://" + upstream.getAuthority(),
+                exchange.getAttributeOrDefault(AuthenticationFilter.USER_ID_ATTRIBUTE, "-"),
+                error));
+    }
+}
@@ -0,0 +1,5 @@
+package com.tripezzy.api_gateway.accesslog;
+
+public record AccessLogRecord(String method, String path, String routeId, int status, long latencyMs,
+                              String upstream, String userId, boolean error) {
+}
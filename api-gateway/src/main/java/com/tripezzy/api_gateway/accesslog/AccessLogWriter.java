@@ -0,0 +1,93 @@
+package com.tripezzy.api_gateway.accesslog;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+// Moves access log formatting and I/O off the event loop: filters hand records to a ring that a
+// single daemon thread drains into the ACCESS_LOG logger. Records are dropped, and counted, when
+// the ring is full.
+@Component
+public class AccessLogWriter {
+
+    private static final Logger accessLog = LoggerFactory.getLogger("ACCESS_LOG");
+    private static final Logger log = LoggerFactory.getLogger(AccessLogWriter.class);
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+    private final AccessLogRing<AccessLogRecord> ring;
+    private final Counter dropped;
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    public AccessLogWriter(@Value("${gateway.access-log.buffer-size:8192}") int bufferSize,
+                           MeterRegistry meterRegistry) {
+        this.ring = new AccessLogRing<>(bufferSize);
+        this.dropped = meterRegistry.counter("gateway.access.log.dropped");
+        this.worker = new Thread(this::drain, "access-log-writer");
+        this.worker.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        worker.start();
+    }
+
+    public void submit(AccessLogRecord record) {
+        if (!ring.offer(record)) {
+            dropped.increment();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        LockSupport.unpark(worker);
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(2));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drain() {
+        while (running) {
+            AccessLogRecord record = ring.poll();
+            if (record == null) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            write(record);
+        }
+        AccessLogRecord record;
+        while ((record = ring.poll()) != null) {
+            write(record);
+        }
+    }
+
+    private void write(AccessLogRecord record) {
+        try {
+            String line = "method=" + record.method() +
+                    " path=" + record.path() +
+                    " route=" + record.routeId() +
+                    " status=" + record.status() +
+                    " latencyMs=" + record.latencyMs() +
+                    " upstream=" + record.upstream() +
+                    " userId=" + record.userId();
+            if (record.error() || record.status() >= 500) {
+                accessLog.warn(line);
+            } else {
+                accessLog.info(line);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Unable to write access log record", e);
+        }
+    }
+}
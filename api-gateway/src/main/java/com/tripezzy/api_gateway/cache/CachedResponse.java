@@ -0,0 +1,23 @@
+package com.tripezzy.api_gateway.cache;
+
+import org.springframework.http.HttpHeaders;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+
+// A cached 200 response. The body is a read-only direct buffer shared by every hit; callers take a
+// duplicate so each write has its own position.
+public record CachedResponse(HttpHeaders headers, ByteBuffer body, String etag, Instant expiresAt) {
+
+    public int size() {
+        return body.capacity();
+    }
+
+    public ByteBuffer bodyView() {
+        return body.duplicate();
+    }
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
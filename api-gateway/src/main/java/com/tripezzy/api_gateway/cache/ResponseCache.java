@@ -0,0 +1,204 @@
+package com.tripezzy.api_gateway.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Response bodies of public GETs kept in direct memory, bounded by total bytes. Space is reserved
+// before an entry is published, so concurrent stores cannot overshoot the budget. When the budget is
+// reached the entries that have expired are evicted from the head of an expiry-ordered index, and if
+// it is still full the new response is simply not cached.
+// Misses are single-flighted: the first request for a key leads and the rest wait for its result.
+@Component
+public class ResponseCache {
+
+    private static final List<String> STORED_HEADERS = List.of(
+            HttpHeaders.CONTENT_TYPE,
+            HttpHeaders.CONTENT_LANGUAGE,
+            HttpHeaders.CONTENT_ENCODING,
+            HttpHeaders.CACHE_CONTROL,
+            HttpHeaders.LAST_MODIFIED,
+            HttpHeaders.VARY);
+
+    private final ConcurrentHashMap<String, Slot> entries = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Slot, String> byExpiry = new ConcurrentSkipListMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final ConcurrentHashMap<String, CompletableFuture<CachedResponse>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong totalBytes = new AtomicLong();
+    private final long maxBytes;
+    private final int maxBodyBytes;
+
+    public ResponseCache(@Value("${gateway.response-cache.max-bytes:67108864}") long maxBytes,
+                         @Value("${gateway.response-cache.max-body-bytes:262144}") int maxBodyBytes) {
+        this.maxBytes = maxBytes;
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    public CachedResponse get(String key) {
+        Slot slot = entries.get(key);
+        if (slot == null) {
+            return null;
+        }
+        if (slot.response().isExpired(Instant.now())) {
+            remove(key, slot);
+            return null;
+        }
+        return slot.response();
+    }
+
+    // Returns null when the caller becomes the leader for this key, otherwise the leader's pending result
+    public CompletableFuture<CachedResponse> joinInFlight(String key, CompletableFuture<CachedResponse> pending) {
+        return inFlight.putIfAbsent(key, pending);
+    }
+
+    public void leaveInFlight(String key, CompletableFuture<CachedResponse> pending) {
+        inFlight.remove(key, pending);
+        pending.complete(null);
+    }
+
+    public boolean isStorable(HttpHeaders headers) {
+        if (headers.containsKey(HttpHeaders.SET_COOKIE)) {
+            return false;
+        }
+        String vary = headers.getFirst(HttpHeaders.VARY);
+        if ("*".equals(vary)) {
+            return false;
+        }
+        String cacheControl = headers.getCacheControl();
+        return cacheControl == null || !(cacheControl.contains("no-store") || cacheControl.contains("private"));
+    }
+
+    public boolean fits(long bodyBytes) {
+        return bodyBytes <= maxBodyBytes;
+    }
+
+    // Copies the joined upstream body into a direct buffer once; the caller still owns and releases it
+    public CachedResponse store(ResponseCapture capture, HttpHeaders upstreamHeaders, DataBuffer body) {
+        int size = body.readableByteCount();
+        ByteBuffer direct = ByteBuffer.allocateDirect(size);
+        try (DataBuffer.ByteBufferIterator iterator = body.readableByteBuffers()) {
+            while (iterator.hasNext()) {
+                direct.put(iterator.next());
+            }
+        }
+        direct.flip();
+
+        HttpHeaders headers = new HttpHeaders();
+        for (String name : STORED_HEADERS) {
+            List<String> values = upstreamHeaders.get(name);
+            if (values != null) {
+                headers.put(name, values);
+            }
+        }
+        String etag = upstreamHeaders.getETag() != null ? upstreamHeaders.getETag() : etag(direct);
+        CachedResponse cached = new CachedResponse(HttpHeaders.readOnlyHttpHeaders(headers),
+                direct.asReadOnlyBuffer(), etag, Instant.now().plus(capture.ttl()));
+
+        if (!reserve(size)) {
+            evictExpired(Instant.now());
+            if (!reserve(size)) {
+                return cached;
+            }
+        }
+        Slot slot = new Slot(cached, sequence.incrementAndGet());
+        byExpiry.put(slot, capture.key());
+        Slot previous = entries.put(capture.key(), slot);
+        if (previous != null) {
+            byExpiry.remove(previous);
+            totalBytes.addAndGet(-previous.size());
+        }
+        return cached;
+    }
+
+    public static boolean matchesIfNoneMatch(List<String> ifNoneMatch, String etag) {
+        for (String value : ifNoneMatch) {
+            for (String candidate : value.split(",")) {
+                String trimmed = candidate.trim();
+                if (trimmed.equals("*") || trimmed.equals(etag) || trimmed.equals("W/" + etag)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean reserve(int size) {
+        long current;
+        do {
+            current = totalBytes.get();
+            if (current + size > maxBytes) {
+                return false;
+            }
+        } while (!totalBytes.compareAndSet(current, current + size));
+        return true;
+    }
+
+    // Only walks the entries that have actually expired, soonest first
+    private void evictExpired(Instant now) {
+        for (Map.Entry<Slot, String> oldest = byExpiry.firstEntry();
+             oldest != null && oldest.getKey().response().isExpired(now);
+             oldest = byExpiry.firstEntry()) {
+            remove(oldest.getValue(), oldest.getKey());
+        }
+    }
+
+    // The slot always leaves the index; its bytes are released by whoever takes it out of entries,
+    // here or in store() when it is replaced
+    private void remove(String key, Slot slot) {
+        byExpiry.remove(slot);
+        if (entries.remove(key, slot)) {
+            totalBytes.addAndGet(-slot.size());
+        }
+    }
+
+    private static String etag(ByteBuffer body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(body.duplicate());
+            byte[] hash = digest.digest();
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(hash).substring(0, 22) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    // Identity equality on purpose: CachedResponse.equals would compare whole bodies. The sequence
+    // keeps entries that expire at the same instant apart in the index.
+    private static final class Slot implements Comparable<Slot> {
+
+        private final CachedResponse response;
+        private final long sequence;
+
+        private Slot(CachedResponse response, long sequence) {
+            this.response = response;
+            this.sequence = sequence;
+        }
+
+        private CachedResponse response() {
+            return response;
+        }
+
+        private int size() {
+            return response.size();
+        }
+
+        @Override
+        public int compareTo(Slot other) {
+            int byTime = response.expiresAt().compareTo(other.response.expiresAt());
+            return byTime != 0 ? byTime : Long.compare(sequence, other.sequence);
+        }
+    }
+}
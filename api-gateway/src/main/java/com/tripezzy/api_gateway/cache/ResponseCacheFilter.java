@@ -0,0 +1,174 @@
+package com.tripezzy.api_gateway.cache;
+
+import com.tripezzy.api_gateway.filters.AuthenticationFilter;
+import com.tripezzy.api_gateway.policy.Access;
+import com.tripezzy.api_gateway.policy.RoutePolicy;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriUtils;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+
+// Caches GET responses of endpoints the route policy marks PUBLIC, declared after AuthenticationFilter.
+// Public responses never depend on the caller, since identity headers are stripped on those paths.
+// Entries are keyed by route, path, sorted query parameters and the configured vary headers.
+@Component
+public class ResponseCacheFilter extends AbstractGatewayFilterFactory<ResponseCacheFilter.Config> {
+
+    private static final String METRIC = "gateway.response.cache.requests";
+
+    private final ResponseCache responseCache;
+    private final MeterRegistry meterRegistry;
+
+    public ResponseCacheFilter(ResponseCache responseCache, MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.responseCache = responseCache;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        if (config.getTtl() == null || config.getTtl().isZero() || config.getTtl().isNegative()) {
+            throw new IllegalArgumentException("Response cache ttl must be positive");
+        }
+
+        return (exchange, chain) -> {
+            RoutePolicy policy = exchange.getAttribute(AuthenticationFilter.ROUTE_POLICY_ATTRIBUTE);
+            if (exchange.getRequest().getMethod() != HttpMethod.GET
+                    || policy == null || policy.access() != Access.PUBLIC) {
+                return chain.filter(exchange);
+            }
+
+            String routeId = routeId(exchange);
+            String key = key(routeId, exchange.getRequest(), config.getVaryHeaders());
+            CachedResponse cached = responseCache.get(key);
+            if (cached != null) {
+                return serve(exchange, cached, routeId, "hit");
+            }
+
+            CompletableFuture<CachedResponse> pending = new CompletableFuture<>();
+            CompletableFuture<CachedResponse> leader = responseCache.joinInFlight(key, pending);
+            if (leader == null) {
+                record(routeId, "miss");
+                exchange.getAttributes().put(ResponseCaptureFilter.CAPTURE_ATTRIBUTE,
+                        new ResponseCapture(key, config.getTtl(), pending));
+                return chain.filter(exchange)
+                        .doFinally(signal -> responseCache.leaveInFlight(key, pending));
+            }
+
+            // Wait for the leader instead of sending an identical request upstream; if it could not be
+            // cached or takes too long, go upstream as usual
+            return Mono.fromFuture(leader.thenApply(Optional::ofNullable))
+                    .timeout(config.getCoalesceTimeout())
+                    .onErrorReturn(Optional.empty())
+                    .flatMap(result -> {
+                        if (result.isPresent()) {
+                            return serve(exchange, result.get(), routeId, "coalesced");
+                        }
+                        record(routeId, "bypass");
+                        return chain.filter(exchange);
+                    });
+        };
+    }
+
+    private Mono<Void> serve(ServerWebExchange exchange, CachedResponse cached, String routeId, String outcome) {
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders headers = response.getHeaders();
+        headers.addAll(cached.headers());
+        headers.setETag(cached.etag());
+
+        if (ResponseCache.matchesIfNoneMatch(
+                exchange.getRequest().getHeaders().getOrEmpty(HttpHeaders.IF_NONE_MATCH), cached.etag())) {
+            record(routeId, "not_modified");
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+
+        record(routeId, outcome);
+        response.setStatusCode(HttpStatus.OK);
+        headers.setContentLength(cached.size());
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.bodyView())));
+    }
+
+    private void record(String routeId, String outcome) {
+        meterRegistry.counter(METRIC, "route", routeId, "outcome", outcome).increment();
+    }
+
+    private static String key(String routeId, ServerHttpRequest request, List<String> varyHeaders) {
+        StringBuilder key = new StringBuilder(routeId).append(' ').append(request.getPath().value());
+
+        MultiValueMap<String, String> queryParams = request.getQueryParams();
+        char separator = '?';
+        for (Map.Entry<String, List<String>> param : new TreeMap<>(queryParams).entrySet()) {
+            List<String> values = new ArrayList<>(param.getValue());
+            values.sort(null);
+            for (String value : values) {
+                key.append(separator)
+                        .append(UriUtils.encode(param.getKey(), StandardCharsets.UTF_8))
+                        .append('=')
+                        .append(value == null ? "" : UriUtils.encode(value, StandardCharsets.UTF_8));
+                separator = '&';
+            }
+        }
+
+        HttpHeaders headers = request.getHeaders();
+        for (String header : varyHeaders) {
+            key.append('|').append(String.join(",", headers.getOrEmpty(header)));
+        }
+        return key.toString();
+    }
+
+    private static String routeId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route == null ? "unknown" : route.getId();
+    }
+
+    public static class Config {
+        private Duration ttl = Duration.ofSeconds(30);
+        private Duration coalesceTimeout = Duration.ofSeconds(5);
+        private List<String> varyHeaders = new ArrayList<>(List.of(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING));
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        public Duration getCoalesceTimeout() {
+            return coalesceTimeout;
+        }
+
+        public void setCoalesceTimeout(Duration coalesceTimeout) {
+            this.coalesceTimeout = coalesceTimeout;
+        }
+
+        public List<String> getVaryHeaders() {
+            return varyHeaders;
+        }
+
+        public void setVaryHeaders(List<String> varyHeaders) {
+            this.varyHeaders = varyHeaders;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.tripezzy.api_gateway.cache;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+// Handed from ResponseCacheFilter to ResponseCaptureFilter through an exchange attribute when a
+// request leads a cache miss. Coalesced requests wait on the result, which completes with null when
+// the response could not be cached.
+public record ResponseCapture(String key, Duration ttl, CompletableFuture<CachedResponse> result) {
+}
@@ -0,0 +1,108 @@
+package com.tripezzy.api_gateway.cache;
+
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+// The upstream body is written by NettyWriteResponseFilter to the response it was handed, so the
+// capturing decorator has to be installed just before it rather than by the route filter. It only
+// buffers when ResponseCacheFilter has marked the exchange as the leader of a cache miss, and only up
+// to the per-entry limit: past it the buffered prefix and the rest of the body are streamed through.
+@Component
+public class ResponseCaptureFilter implements GlobalFilter, Ordered {
+
+    public static final String CAPTURE_ATTRIBUTE = "tripezzy.responseCapture";
+
+    private final ResponseCache responseCache;
+
+    public ResponseCaptureFilter(ResponseCache responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (exchange.getRequest().getMethod() != HttpMethod.GET) {
+            return chain.filter(exchange);
+        }
+        return chain.filter(exchange.mutate().response(new CapturingResponse(exchange)).build());
+    }
+
+    @Override
+    public int getOrder() {
+        return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+    }
+
+    private class CapturingResponse extends ServerHttpResponseDecorator {
+
+        private final ServerWebExchange exchange;
+
+        private CapturingResponse(ServerWebExchange exchange) {
+            super(exchange.getResponse());
+            this.exchange = exchange;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            ResponseCapture capture = exchange.getAttribute(CAPTURE_ATTRIBUTE);
+            if (capture == null || !HttpStatus.OK.equals(getStatusCode()) || !responseCache.isStorable(getHeaders())) {
+                return super.writeWith(body);
+            }
+
+            long declaredLength = getHeaders().getContentLength();
+            if (declaredLength >= 0 && !responseCache.fits(declaredLength)) {
+                return super.writeWith(body);
+            }
+
+            // Buffers are collected until the running total passes the limit; after that every buffer is
+            // emitted on its own, so an oversized body is never held in full
+            AtomicLong seen = new AtomicLong();
+            Flux<List<DataBuffer>> chunks = Flux.<DataBuffer>from(body)
+                    .bufferUntil(buffer -> !responseCache.fits(seen.addAndGet(buffer.readableByteCount())))
+                    .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+
+            return chunks.switchOnFirst((first, all) -> {
+                if (!first.hasValue() || !responseCache.fits(seen.get())) {
+                    return super.writeWith(all.concatMapIterable(buffers -> buffers));
+                }
+                return cacheAndWrite(capture, bufferFactory().join(first.get()));
+            }).then();
+        }
+
+        private Mono<Void> cacheAndWrite(ResponseCapture capture, DataBuffer joined) {
+            CachedResponse cached;
+            try {
+                cached = responseCache.store(capture, getHeaders(), joined);
+            } finally {
+                DataBufferUtils.release(joined);
+            }
+            capture.result().complete(cached);
+
+            HttpHeaders headers = getHeaders();
+            headers.setETag(cached.etag());
+            headers.remove(HttpHeaders.TRANSFER_ENCODING);
+            if (ResponseCache.matchesIfNoneMatch(
+                    exchange.getRequest().getHeaders().getOrEmpty(HttpHeaders.IF_NONE_MATCH), cached.etag())) {
+                headers.remove(HttpHeaders.CONTENT_LENGTH);
+                setStatusCode(HttpStatus.NOT_MODIFIED);
+                return setComplete();
+            }
+            headers.setContentLength(cached.size());
+            return super.writeWith(Mono.just(bufferFactory().wrap(cached.bodyView())));
+        }
+    }
+}
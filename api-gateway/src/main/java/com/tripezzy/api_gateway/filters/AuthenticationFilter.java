@@ -1,8 +1,11 @@
 package com.tripezzy.api_gateway.filters;
 
-import com.tripezzy.api_gateway.config.PublicEndpointConfig;
 import com.tripezzy.api_gateway.exceptions.TokenValidationException;
+import com.tripezzy.api_gateway.policy.Access;
+import com.tripezzy.api_gateway.policy.RoutePolicy;
+import com.tripezzy.api_gateway.policy.RoutePolicyMatcher;
 import com.tripezzy.api_gateway.security.JwtService;
+import com.tripezzy.api_gateway.security.VerifiedToken;
 import io.jsonwebtoken.JwtException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,37 +15,48 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 
-import java.util.Map;
-
 @Component
 public class AuthenticationFilter extends AbstractGatewayFilterFactory<AuthenticationFilter.Config> {
 
 
+    public static final String USER_ID_ATTRIBUTE = "tripezzy.verifiedUserId";
+    public static final String ROUTE_POLICY_ATTRIBUTE = "tripezzy.routePolicy";
+    private static final String USER_ID_HEADER = "X-User-Id";
+    private static final String USER_ROLE_HEADER = "X-User-Role";
+
     private static final Logger log = LoggerFactory.getLogger(AuthenticationFilter.class);
     private final JwtService jwtService;
-    private final PublicEndpointConfig publicEndpointConfig;
+    private final RoutePolicyMatcher routePolicyMatcher;
 
 
-    public AuthenticationFilter(JwtService jwtService, PublicEndpointConfig publicEndpointConfig) {
+    public AuthenticationFilter(JwtService jwtService, RoutePolicyMatcher routePolicyMatcher) {
         super(Config.class);
         this.jwtService = jwtService;
-        this.publicEndpointConfig = publicEndpointConfig;
+        this.routePolicyMatcher = routePolicyMatcher;
     }
 
     @Override
     public GatewayFilter apply(Config config) {
         return (exchange, chain) -> {
-            log.info("Incoming request: {}", exchange
-                    .getRequest());
-
             final String path = exchange
                     .getRequest()
                     .getURI()
                     .getPath();
-            log.info("Request path: {}", path);
-            if (publicEndpointConfig.isPublicEndpoint(path)) {
-                log.info("Skipping authentication for public endpoint: {}", path);
-                return chain.filter(exchange);
+
+            // Identity headers are only ever set here, never trusted from the client
+            ServerWebExchange strippedExchange = exchange.mutate()
+                    .request(req -> req.headers(headers -> {
+                        headers.remove(USER_ID_HEADER);
+                        headers.remove(USER_ROLE_HEADER);
+                    }))
+                    .build();
+
+            RoutePolicy policy = routePolicyMatcher.resolve(exchange.getRequest().getMethod(),
+                    exchange.getRequest().getPath().pathWithinApplication());
+            exchange.getAttributes().put(ROUTE_POLICY_ATTRIBUTE, policy);
+            if (policy.access() == Access.PUBLIC) {
+                log.debug("Skipping authentication for public endpoint: {}", path);
+                return chain.filter(strippedExchange);
             }
 
             final String tokenHeader = exchange
@@ -51,7 +65,7 @@ public class AuthenticationFilter extends AbstractGatewayFilterFactory<Authentic
                     .getFirst("Authorization");
 
             if(tokenHeader == null || !tokenHeader.startsWith("Bearer ")) {
-                log.error("Authorization header is missing or invalid");
+                log.debug("Authorization header is missing or invalid for {}", path);
                 exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
                 return exchange
                         .getResponse()
@@ -61,17 +75,28 @@ public class AuthenticationFilter extends AbstractGatewayFilterFactory<Authentic
             final String token = tokenHeader.split("Bearer ")[1];
 
             try {
-                Map<String, String> userDetails = jwtService.getUserDetails(token);
-
-                ServerWebExchange mutatedExchange = exchange.mutate()
+                VerifiedToken userDetails = jwtService.getUserDetails(token);
+                if (!policy.permits(userDetails.role())) {
+                    log.debug("Role {} is not allowed on {} {}", userDetails.role(),
+                            exchange.getRequest().getMethod(), path);
+                    exchange.getResponse().setStatusCode(HttpStatus.FORBIDDEN);
+                    return exchange
+                            .getResponse()
+                            .setComplete();
+                }
+                if (userDetails.userId() != null) {
+                    exchange.getAttributes().put(USER_ID_ATTRIBUTE, userDetails.userId());
+                }
+
+                ServerWebExchange mutatedExchange = strippedExchange.mutate()
                         .request(req -> req
-                                .header("X-User-Id", userDetails.get("id"))
-                                .header("X-User-Role", userDetails.get("role")))
+                                .header(USER_ID_HEADER, userDetails.userId())
+                                .header(USER_ROLE_HEADER, userDetails.role()))
                         .build();
 
                 return chain.filter(mutatedExchange);
             } catch (JwtException e) {
-                log.error("Token validation failed: {}", e.getMessage());
+                log.debug("Token validation failed: {}", e.getMessage());
                 throw new TokenValidationException("Token validation failed: " + e.getMessage());
             }
         };
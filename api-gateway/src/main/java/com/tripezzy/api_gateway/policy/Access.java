@@ -0,0 +1,7 @@
+package com.tripezzy.api_gateway.policy;
+
+public enum Access {
+    PUBLIC,
+    AUTHENTICATED,
+    ROLE
+}
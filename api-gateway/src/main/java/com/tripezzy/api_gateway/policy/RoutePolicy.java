@@ -0,0 +1,10 @@
+package com.tripezzy.api_gateway.policy;
+
+import java.util.Set;
+
+public record RoutePolicy(String pattern, Access access, Set<String> roles) {
+
+    public boolean permits(String role) {
+        return access != Access.ROLE || (role != null && roles.contains(role));
+    }
+}
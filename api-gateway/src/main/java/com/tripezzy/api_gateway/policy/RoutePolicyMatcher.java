@@ -0,0 +1,154 @@
+package com.tripezzy.api_gateway.policy;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Route policies compiled into a trie of path segments. A pattern segment is a literal, "*" for any
+// single segment, or a trailing "**" for any remainder including none. A request is resolved in one
+// walk over its segments: literals take precedence over "*" without backtracking, an exact match
+// beats any "**", and the deepest "**" seen on the way is the fallback.
+@Component
+public class RoutePolicyMatcher {
+
+    private static final String ANY_SEGMENT = "*";
+    private static final String ANY_REMAINDER = "**";
+
+    private final Node root = new Node();
+    private final RoutePolicy defaultPolicy;
+
+    public RoutePolicyMatcher(RoutePolicyProperties properties) {
+        this.defaultPolicy = new RoutePolicy("<default>", properties.getDefaultAccess(), Set.of());
+        for (RoutePolicyProperties.Rule rule : properties.getRules()) {
+            add(rule);
+        }
+    }
+
+    public RoutePolicy resolve(HttpMethod method, PathContainer path) {
+        Node node = root;
+        RoutePolicy fallback = node.remainder == null ? null : node.remainder.forMethod(method);
+
+        for (String segment : segmentsToMatch(path)) {
+            if (node == null) {
+                break;
+            }
+            Node next = node.literals.get(segment);
+            node = next != null ? next : node.wildcard;
+            if (node != null && node.remainder != null) {
+                RoutePolicy candidate = node.remainder.forMethod(method);
+                if (candidate != null) {
+                    fallback = candidate;
+                }
+            }
+        }
+
+        if (node != null && node.exact != null) {
+            RoutePolicy exact = node.exact.forMethod(method);
+            if (exact != null) {
+                return exact;
+            }
+        }
+        return fallback != null ? fallback : defaultPolicy;
+    }
+
+    // Segments as the downstream services will route them: decoded, with ";matrix" content dropped
+    // and "." / ".." resolved, so "core;x=1" or "x/../core" cannot slip past a "core" literal.
+    private static List<String> segmentsToMatch(PathContainer path) {
+        List<String> segments = new ArrayList<>();
+        for (PathContainer.Element element : path.elements()) {
+            if (!(element instanceof PathContainer.PathSegment pathSegment)) {
+                continue;
+            }
+            String segment = pathSegment.valueToMatch();
+            if (segment.isEmpty() || ".".equals(segment)) {
+                continue;
+            }
+            if ("..".equals(segment)) {
+                if (!segments.isEmpty()) {
+                    segments.remove(segments.size() - 1);
+                }
+                continue;
+            }
+            segments.add(segment);
+        }
+        return segments;
+    }
+
+    private void add(RoutePolicyProperties.Rule rule) {
+        if (rule.getPattern() == null || !rule.getPattern().startsWith("/") || rule.getAccess() == null) {
+            throw new IllegalArgumentException("Route policy needs a pattern starting with '/' and an access level");
+        }
+        if (rule.getAccess() == Access.ROLE && rule.getRoles().isEmpty()) {
+            throw new IllegalArgumentException("Route policy " + rule.getPattern() + " requires at least one role");
+        }
+
+        RoutePolicy policy = new RoutePolicy(rule.getPattern(), rule.getAccess(), Set.copyOf(rule.getRoles()));
+        String[] segments = rule.getPattern().substring(1).split("/");
+        Node node = root;
+        boolean remainder = false;
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            if (segment.isEmpty()) {
+                continue;
+            }
+            if (ANY_REMAINDER.equals(segment)) {
+                if (i != segments.length - 1) {
+                    throw new IllegalArgumentException("'**' must be the last segment in " + rule.getPattern());
+                }
+                remainder = true;
+            } else if (ANY_SEGMENT.equals(segment)) {
+                if (node.wildcard == null) {
+                    node.wildcard = new Node();
+                }
+                node = node.wildcard;
+            } else {
+                node = node.literals.computeIfAbsent(segment, s -> new Node());
+            }
+        }
+
+        if (remainder) {
+            if (node.remainder == null) {
+                node.remainder = new MethodPolicies();
+            }
+            node.remainder.put(rule, policy);
+        } else {
+            if (node.exact == null) {
+                node.exact = new MethodPolicies();
+            }
+            node.exact.put(rule, policy);
+        }
+    }
+
+    private static final class Node {
+        private final Map<String, Node> literals = new HashMap<>();
+        private Node wildcard;
+        private MethodPolicies exact;
+        private MethodPolicies remainder;
+    }
+
+    private static final class MethodPolicies {
+        private final Map<HttpMethod, RoutePolicy> byMethod = new HashMap<>();
+        private RoutePolicy anyMethod;
+
+        private void put(RoutePolicyProperties.Rule rule, RoutePolicy policy) {
+            if (rule.getMethods().isEmpty()) {
+                anyMethod = policy;
+                return;
+            }
+            for (String method : rule.getMethods()) {
+                byMethod.put(HttpMethod.valueOf(method.toUpperCase()), policy);
+            }
+        }
+
+        private RoutePolicy forMethod(HttpMethod method) {
+            RoutePolicy policy = byMethod.get(method);
+            return policy != null ? policy : anyMethod;
+        }
+    }
+}
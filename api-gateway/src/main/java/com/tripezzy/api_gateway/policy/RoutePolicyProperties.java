@@ -0,0 +1,70 @@
+package com.tripezzy.api_gateway.policy;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "gateway.route-policy")
+public class RoutePolicyProperties {
+
+    private Access defaultAccess = Access.AUTHENTICATED;
+    private List<Rule> rules = new ArrayList<>();
+
+    public Access getDefaultAccess() {
+        return defaultAccess;
+    }
+
+    public void setDefaultAccess(Access defaultAccess) {
+        this.defaultAccess = defaultAccess;
+    }
+
+    public List<Rule> getRules() {
+        return rules;
+    }
+
+    public void setRules(List<Rule> rules) {
+        this.rules = rules;
+    }
+
+    public static class Rule {
+        private String pattern;
+        private List<String> methods = new ArrayList<>();
+        private Access access;
+        private List<String> roles = new ArrayList<>();
+
+        public String getPattern() {
+            return pattern;
+        }
+
+        public void setPattern(String pattern) {
+            this.pattern = pattern;
+        }
+
+        public List<String> getMethods() {
+            return methods;
+        }
+
+        public void setMethods(List<String> methods) {
+            this.methods = methods;
+        }
+
+        public Access getAccess() {
+            return access;
+        }
+
+        public void setAccess(Access access) {
+            this.access = access;
+        }
+
+        public List<String> getRoles() {
+            return roles;
+        }
+
+        public void setRoles(List<String> roles) {
+            this.roles = roles;
+        }
+    }
+}
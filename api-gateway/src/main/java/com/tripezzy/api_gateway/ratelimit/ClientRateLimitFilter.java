@@ -0,0 +1,128 @@
+package com.tripezzy.api_gateway.ratelimit;
+
+import com.tripezzy.api_gateway.filters.AuthenticationFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+
+// Per-client token bucket for a route, declared as ClientRateLimitFilter after AuthenticationFilter.
+// Authenticated callers are limited by user ID and anonymous ones by remote IP, each per route.
+@Component
+public class ClientRateLimitFilter extends AbstractGatewayFilterFactory<ClientRateLimitFilter.Config> {
+
+    private static final Logger log = LoggerFactory.getLogger(ClientRateLimitFilter.class);
+    private static final String KEY_PREFIX = "rate-limit:";
+    private static final String METRIC = "gateway.rate.limit.requests";
+
+    private final RedisTokenBucket redisTokenBucket;
+    private final LocalTokenBucket localTokenBucket;
+    private final MeterRegistry meterRegistry;
+
+    public ClientRateLimitFilter(RedisTokenBucket redisTokenBucket, LocalTokenBucket localTokenBucket,
+                                 MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.redisTokenBucket = redisTokenBucket;
+        this.localTokenBucket = localTokenBucket;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        if (config.getCapacity() <= 0 || config.getRefillTokens() <= 0
+                || config.getRefillPeriod() == null || config.getRefillPeriod().isZero()) {
+            throw new IllegalArgumentException("Rate limit capacity, refillTokens and refillPeriod must be positive");
+        }
+        double tokensPerMilli = (double) config.getRefillTokens() / config.getRefillPeriod().toMillis();
+
+        return (exchange, chain) -> {
+            String routeId = routeId(exchange);
+            String key = KEY_PREFIX + routeId + ":" + clientKey(exchange);
+
+            return redisTokenBucket.tryConsume(key, config.getCapacity(), tokensPerMilli)
+                    .map(decision -> record(routeId, "redis", decision))
+                    .onErrorResume(e -> {
+                        log.debug("Redis rate limiter unavailable, using local buckets: {}", e.toString());
+                        return Mono.empty();
+                    })
+                    .switchIfEmpty(Mono.fromSupplier(() -> record(routeId, "local",
+                            localTokenBucket.tryConsume(key, config.getCapacity(), tokensPerMilli))))
+                    .flatMap(decision -> {
+                        ServerHttpResponse response = exchange.getResponse();
+                        response.getHeaders().set("X-RateLimit-Remaining", Long.toString(decision.remaining()));
+                        if (decision.allowed()) {
+                            return chain.filter(exchange);
+                        }
+                        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+                        response.getHeaders().set("Retry-After",
+                                Long.toString(Math.max(1, (long) Math.ceil(1 / tokensPerMilli / 1000))));
+                        return response.setComplete();
+                    });
+        };
+    }
+
+    private RateLimitDecision record(String routeId, String backend, RateLimitDecision decision) {
+        meterRegistry.counter(METRIC,
+                "route", routeId,
+                "backend", backend,
+                "outcome", decision.allowed() ? "allowed" : "rejected").increment();
+        return decision;
+    }
+
+    private static String routeId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route == null ? "unknown" : route.getId();
+    }
+
+    // The user ID is read from the attribute AuthenticationFilter sets after verifying the token, not
+    // from the X-User-Id request header, which a caller could send on public endpoints.
+    private static String clientKey(ServerWebExchange exchange) {
+        String userId = exchange.getAttribute(AuthenticationFilter.USER_ID_ATTRIBUTE);
+        if (userId != null) {
+            return "user:" + userId;
+        }
+        InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+        return "ip:" + (remoteAddress == null ? "unknown" : remoteAddress.getAddress().getHostAddress());
+    }
+
+    public static class Config {
+        private int capacity;
+        private int refillTokens;
+        private Duration refillPeriod = Duration.ofSeconds(1);
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(int capacity) {
+            this.capacity = capacity;
+        }
+
+        public int getRefillTokens() {
+            return refillTokens;
+        }
+
+        public void setRefillTokens(int refillTokens) {
+            this.refillTokens = refillTokens;
+        }
+
+        public Duration getRefillPeriod() {
+            return refillPeriod;
+        }
+
+        public void setRefillPeriod(Duration refillPeriod) {
+            this.refillPeriod = refillPeriod;
+        }
+    }
+}
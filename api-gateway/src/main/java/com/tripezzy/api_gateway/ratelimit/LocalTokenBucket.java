@@ -0,0 +1,53 @@
+package com.tripezzy.api_gateway.ratelimit;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+// In-memory buckets used while Redis is unreachable. Limits then apply per gateway instance, which
+// over-admits by the replica count but keeps one client from starving the others.
+@Component
+public class LocalTokenBucket {
+
+    private static final int SWEEP_THRESHOLD = 10_000;
+
+    private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    public RateLimitDecision tryConsume(String key, int capacity, double tokensPerMilli) {
+        long now = System.currentTimeMillis();
+        if (buckets.size() > SWEEP_THRESHOLD) {
+            buckets.values().removeIf(bucket -> bucket.isIdle(now));
+        }
+        return buckets.computeIfAbsent(key, k -> new Bucket(capacity, tokensPerMilli, now))
+                .tryConsume(now);
+    }
+
+    private static final class Bucket {
+        private final int capacity;
+        private final double tokensPerMilli;
+        private double tokens;
+        private long lastRefill;
+
+        private Bucket(int capacity, double tokensPerMilli, long now) {
+            this.capacity = capacity;
+            this.tokensPerMilli = tokensPerMilli;
+            this.tokens = capacity;
+            this.lastRefill = now;
+        }
+
+        private synchronized RateLimitDecision tryConsume(long now) {
+            tokens = Math.min(capacity, tokens + Math.max(0, now - lastRefill) * tokensPerMilli);
+            lastRefill = Math.max(lastRefill, now);
+            if (tokens >= 1) {
+                tokens -= 1;
+                return new RateLimitDecision(true, (long) tokens);
+            }
+            return new RateLimitDecision(false, 0);
+        }
+
+        // A bucket that would have refilled completely carries no state worth keeping.
+        private synchronized boolean isIdle(long now) {
+            return tokens + (now - lastRefill) * tokensPerMilli >= capacity;
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package com.tripezzy.api_gateway.ratelimit;
+
+public record RateLimitDecision(boolean allowed, long remaining) {
+}
@@ -0,0 +1,44 @@
+package com.tripezzy.api_gateway.ratelimit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+// Shared bucket state in Redis, so limits hold across gateway replicas. The Lua script refills and
+// takes tokens in one atomic step, reading the time from Redis rather than from this replica.
+@Component
+public class RedisTokenBucket {
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final RedisScript<List<Long>> SCRIPT =
+            (RedisScript) RedisScript.of(new ClassPathResource("scripts/token_bucket.lua"), List.class);
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final Duration timeout;
+
+    public RedisTokenBucket(ReactiveStringRedisTemplate redisTemplate,
+                            @Value("${gateway.rate-limit.redis-timeout-ms:100}") long timeoutMs) {
+        this.redisTemplate = redisTemplate;
+        this.timeout = Duration.ofMillis(timeoutMs);
+    }
+
+    public Mono<RateLimitDecision> tryConsume(String key, int capacity, double tokensPerMilli) {
+        long ttlMillis = (long) Math.ceil(capacity / tokensPerMilli) * 2;
+        List<String> args = List.of(
+                Integer.toString(capacity),
+                Double.toString(tokensPerMilli),
+                "1",
+                Long.toString(Math.max(ttlMillis, 1000)));
+
+        return redisTemplate.execute(SCRIPT, List.of(key), args)
+                .next()
+                .timeout(timeout)
+                .map(result -> new RateLimitDecision(result.get(0) == 1L, result.get(1)));
+    }
+}
@@ -0,0 +1,18 @@
+package com.tripezzy.api_gateway.security;
+
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+
+// The JWKS is fetched through the service registry, like the lb:// routes, so it reaches a live
+// user-service instance on its registered port.
+@Configuration
+public class JwksClientConfig {
+
+    @Bean
+    @LoadBalanced
+    public WebClient.Builder loadBalancedWebClientBuilder() {
+        return WebClient.builder();
+    }
+}
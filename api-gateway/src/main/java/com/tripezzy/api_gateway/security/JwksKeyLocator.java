@@ -0,0 +1,126 @@
+package com.tripezzy.api_gateway.security;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.LocatorAdapter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Public keys from user-service's JWKS, by key ID. Keys are refreshed in the background and never
+// fetched on the verification path, since that runs on the event loop: a token with an unknown kid
+// fails and schedules a refresh, throttled so a flood of bad tokens cannot hammer the endpoint.
+@Component
+public class JwksKeyLocator extends LocatorAdapter<Key> {
+
+    private static final Logger log = LoggerFactory.getLogger(JwksKeyLocator.class);
+    private static final ParameterizedTypeReference<Map<String, Object>> JWKS_TYPE = new ParameterizedTypeReference<>() {
+    };
+
+    private final WebClient webClient;
+    private final String jwksUri;
+    private final Duration refreshInterval;
+    private final long minRefreshGapMillis;
+    private final AtomicLong lastRefreshRequest = new AtomicLong();
+    private volatile Map<String, PublicKey> keys = Map.of();
+    private Disposable refresher;
+
+    public JwksKeyLocator(@LoadBalanced WebClient.Builder webClientBuilder,
+                          @Value("${jwt.jwks.uri}") String jwksUri,
+                          @Value("${jwt.jwks.refresh-interval-ms:300000}") long refreshIntervalMillis,
+                          @Value("${jwt.jwks.min-refresh-gap-ms:10000}") long minRefreshGapMillis) {
+        this.webClient = webClientBuilder.build();
+        this.jwksUri = jwksUri;
+        this.refreshInterval = Duration.ofMillis(refreshIntervalMillis);
+        this.minRefreshGapMillis = minRefreshGapMillis;
+    }
+
+    @PostConstruct
+    public void start() {
+        refresher = Flux.interval(Duration.ZERO, refreshInterval)
+                .concatMap(tick -> refresh())
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (refresher != null) {
+            refresher.dispose();
+        }
+    }
+
+    @Override
+    protected Key locate(JwsHeader header) {
+        String keyId = header.getKeyId();
+        PublicKey key = keyId == null ? null : keys.get(keyId);
+        if (key == null) {
+            long now = System.currentTimeMillis();
+            long last = lastRefreshRequest.get();
+            if (now - last >= minRefreshGapMillis && lastRefreshRequest.compareAndSet(last, now)) {
+                refresh().subscribe();
+            }
+            throw new JwtException("Unknown signing key");
+        }
+        return key;
+    }
+
+    private Mono<Void> refresh() {
+        return webClient.get()
+                .uri(jwksUri)
+                .retrieve()
+                .bodyToMono(JWKS_TYPE)
+                .timeout(Duration.ofSeconds(5))
+                .map(JwksKeyLocator::parseKeys)
+                .doOnNext(parsed -> {
+                    if (!parsed.isEmpty()) {
+                        keys = parsed;
+                    }
+                })
+                .onErrorResume(e -> {
+                    log.warn("Unable to refresh JWKS from {}: {}", jwksUri, e.toString());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private static Map<String, PublicKey> parseKeys(Map<String, Object> jwks) {
+        Map<String, PublicKey> parsed = new HashMap<>();
+        if (!(jwks.get("keys") instanceof List<?> entries)) {
+            return parsed;
+        }
+        for (Object entry : entries) {
+            if (entry instanceof Map<?, ?> jwk && "RSA".equals(jwk.get("kty")) && jwk.get("kid") instanceof String kid) {
+                try {
+                    BigInteger modulus = new BigInteger(1, Base64.getUrlDecoder().decode((String) jwk.get("n")));
+                    BigInteger exponent = new BigInteger(1, Base64.getUrlDecoder().decode((String) jwk.get("e")));
+                    parsed.put(kid, KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(modulus, exponent)));
+                } catch (GeneralSecurityException | RuntimeException e) {
+                    log.warn("Skipping invalid JWK {}: {}", kid, e.toString());
+                }
+            }
+        }
+        return Map.copyOf(parsed);
+    }
+}
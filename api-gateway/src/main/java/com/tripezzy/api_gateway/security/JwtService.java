@@ -1,42 +1,51 @@
 package com.tripezzy.api_gateway.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
-import java.util.HashMap;
-import java.util.Map;
+import java.time.Instant;
 
 @Service
 public class JwtService {
 
-    @Value("${jwt.secretKey}")
-    private String secretKey;
+    private final JwtParser parser;
+    private final VerifiedTokenCache tokenCache;
+    private final RevocationList revocationList;
+
+    // Tokens are RS256-signed by user-service; the parser picks the public key by the token's kid.
+    public JwtService(JwksKeyLocator keyLocator, VerifiedTokenCache tokenCache, RevocationList revocationList) {
+        this.parser = Jwts.parser()
+                .keyLocator(keyLocator)
+                .build();
+        this.tokenCache = tokenCache;
+        this.revocationList = revocationList;
+    }
 
-    private SecretKey getSecretKey() {
-        if (secretKey == null || secretKey.length() < 32) {
-            throw new IllegalStateException("Secret key must be at least 32 characters long for HS256:"+secretKey.length()+secretKey);
+    // Revocation is checked on every call, including cache hits, so a revoked token stops working at once
+    public VerifiedToken getUserDetails(String token) {
+        VerifiedToken verified = tokenCache.get(token);
+        if (verified == null) {
+            verified = verify(token);
+        }
+        if (revocationList.isRevoked(verified.userId(), verified.issuedAt())) {
+            throw new JwtException("Token has been revoked");
         }
-        return Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        return verified;
     }
 
-    public Map<String, String> getUserDetails(String token){
-        Claims claims = Jwts
-                .parser()
-                .verifyWith(getSecretKey())
-                .build()
+    private VerifiedToken verify(String token) {
+        Claims claims = parser
                 .parseSignedClaims(token)
                 .getPayload();
 
-        Map<String, String> userDetails = new HashMap<>();
-
-        userDetails.put("id", claims.getSubject());
-        userDetails.put("role", claims.get("role", String.class));
-
-        return userDetails;
+        Instant issuedAt = claims.getIssuedAt() == null ? null : claims.getIssuedAt().toInstant();
+        Instant expiresAt = claims.getExpiration() == null ? null : claims.getExpiration().toInstant();
+        VerifiedToken verified = new VerifiedToken(claims.getSubject(), claims.get("role", String.class),
+                issuedAt, expiresAt);
+        tokenCache.put(token, verified);
+        return verified;
     }
 }
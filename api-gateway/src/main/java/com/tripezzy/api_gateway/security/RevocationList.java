@@ -0,0 +1,99 @@
+package com.tripezzy.api_gateway.security;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+
+// In-memory copy of user-service's revocations: user ID -> epoch second before which that user's
+// tokens are rejected. Changes arrive over Redis pub/sub, and a periodic resync from the Redis hash
+// covers messages missed while disconnected, so a check is a map lookup with no network hop.
+// Entries older than the access token lifetime are dropped since nothing they cover is still valid.
+@Component
+public class RevocationList {
+
+    private static final Logger log = LoggerFactory.getLogger(RevocationList.class);
+    private static final String REVOCATIONS_KEY = "auth:revoked-before";
+    private static final String REVOCATIONS_CHANNEL = "auth:revocations";
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final ConcurrentHashMap<String, Long> revokedBefore = new ConcurrentHashMap<>();
+    private final Duration resyncInterval;
+    private final Duration retention;
+    private final Disposable.Composite subscriptions = Disposables.composite();
+
+    public RevocationList(ReactiveStringRedisTemplate redisTemplate,
+                          @Value("${jwt.revocation.resync-interval-ms:60000}") long resyncIntervalMillis,
+                          @Value("${jwt.access-token-ttl-minutes:15}") long accessTokenTtlMinutes) {
+        this.redisTemplate = redisTemplate;
+        this.resyncInterval = Duration.ofMillis(resyncIntervalMillis);
+        this.retention = Duration.ofMinutes(accessTokenTtlMinutes);
+    }
+
+    @PostConstruct
+    public void start() {
+        subscriptions.add(redisTemplate.listenToChannel(REVOCATIONS_CHANNEL)
+                .doOnNext(message -> apply(message.getMessage()))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+                .subscribe());
+
+        subscriptions.add(Flux.interval(Duration.ZERO, resyncInterval)
+                .concatMap(tick -> resync())
+                .subscribe());
+    }
+
+    @PreDestroy
+    public void stop() {
+        subscriptions.dispose();
+    }
+
+    public boolean isRevoked(String userId, Instant issuedAt) {
+        if (userId == null) {
+            return false;
+        }
+        Long before = revokedBefore.get(userId);
+        return before != null && (issuedAt == null || issuedAt.getEpochSecond() < before);
+    }
+
+    private Mono<Void> resync() {
+        long cutoff = Instant.now().minus(retention).getEpochSecond();
+        return redisTemplate.<String, String>opsForHash()
+                .entries(REVOCATIONS_KEY)
+                .doOnNext(entry -> record(entry.getKey(), entry.getValue()))
+                .then(Mono.fromRunnable(() -> revokedBefore.values().removeIf(before -> before < cutoff)))
+                .onErrorResume(e -> {
+                    log.warn("Unable to resync token revocations: {}", e.toString());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private void apply(String message) {
+        int separator = message.lastIndexOf(':');
+        if (separator <= 0) {
+            log.warn("Ignoring malformed token revocation message");
+            return;
+        }
+        record(message.substring(0, separator), message.substring(separator + 1));
+    }
+
+    private void record(String userId, String epochSecond) {
+        try {
+            revokedBefore.merge(userId, Long.parseLong(epochSecond), Math::max);
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring token revocation with invalid timestamp for user ID: {}", userId);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.tripezzy.api_gateway.security;
+
+import java.time.Instant;
+
+public record VerifiedToken(String userId, String role, Instant issuedAt, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
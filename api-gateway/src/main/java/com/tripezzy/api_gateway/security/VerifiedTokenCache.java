@@ -0,0 +1,111 @@
+package com.tripezzy.api_gateway.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Claims of tokens whose signature was already verified, keyed by a SHA-256 of the token so raw
+// tokens are not held in memory. An entry lives until the token expires, capped by max-ttl so a
+// cached token is re-verified periodically.
+//
+// Entries are kept in two generations of at most max-entries / 2 each. Writes go to the current
+// generation; once it is full or older than max-ttl it becomes the previous one and the old previous
+// generation is dropped whole, so bounding the size never scans entries. A hit in the previous
+// generation is copied forward, which keeps tokens in active use across rotations.
+@Component
+public class VerifiedTokenCache {
+
+    private final int generationCapacity;
+    private final Duration maxTtl;
+    private volatile Generation current;
+    private volatile Generation previous;
+
+    public VerifiedTokenCache(@Value("${jwt.cache.max-entries:10000}") int maxEntries,
+                              @Value("${jwt.cache.max-ttl-seconds:300}") long maxTtlSeconds) {
+        this.generationCapacity = Math.max(1, maxEntries / 2);
+        this.maxTtl = Duration.ofSeconds(maxTtlSeconds);
+        this.current = new Generation(Instant.now());
+        this.previous = new Generation(Instant.now());
+    }
+
+    public VerifiedToken get(String token) {
+        String key = hash(token);
+        Instant now = Instant.now();
+
+        Generation generation = current;
+        VerifiedToken cached = generation.entries.get(key);
+        if (cached == null) {
+            cached = previous.entries.get(key);
+            if (cached == null || cached.isExpired(now)) {
+                return null;
+            }
+            store(key, cached, now);
+            return cached;
+        }
+        if (cached.isExpired(now)) {
+            generation.entries.remove(key, cached);
+            return null;
+        }
+        return cached;
+    }
+
+    public void put(String token, VerifiedToken verified) {
+        Instant now = Instant.now();
+        Instant cap = now.plus(maxTtl);
+        Instant expiresAt = verified.expiresAt() == null || verified.expiresAt().isAfter(cap)
+                ? cap
+                : verified.expiresAt();
+        if (!expiresAt.isAfter(now)) {
+            return;
+        }
+        store(hash(token), new VerifiedToken(verified.userId(), verified.role(), verified.issuedAt(), expiresAt), now);
+    }
+
+    public void invalidate(String token) {
+        String key = hash(token);
+        current.entries.remove(key);
+        previous.entries.remove(key);
+    }
+
+    private void store(String key, VerifiedToken verified, Instant now) {
+        Generation generation = current;
+        if (generation.entries.size() >= generationCapacity || !generation.startedAt.plus(maxTtl).isAfter(now)) {
+            generation = rotate(generation, now);
+        }
+        generation.entries.put(key, verified);
+    }
+
+    private synchronized Generation rotate(Generation full, Instant now) {
+        if (current == full) {
+            previous = full;
+            current = new Generation(now);
+        }
+        return current;
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static final class Generation {
+
+        private final ConcurrentHashMap<String, VerifiedToken> entries = new ConcurrentHashMap<>();
+        private final Instant startedAt;
+
+        private Generation(Instant startedAt) {
+            this.startedAt = startedAt;
+        }
+    }
+}
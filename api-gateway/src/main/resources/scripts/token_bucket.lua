@@ -0,0 +1,31 @@
+-- Token bucket for one client on one route, refilled lazily from the elapsed time.
+-- KEYS[1] bucket hash; ARGV: capacity, refill rate (tokens per ms), requested, ttl (ms)
+-- The clock is Redis' own, so every gateway replica refills against the same time however far their
+-- clocks drift. Needs effects replication (the default since Redis 5) to write after calling TIME.
+local capacity = tonumber(ARGV[1])
+local rate = tonumber(ARGV[2])
+local requested = tonumber(ARGV[3])
+local ttl = tonumber(ARGV[4])
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+local tokens = tonumber(bucket[1])
+local ts = tonumber(bucket[2])
+if tokens == nil or ts == nil then
+    tokens = capacity
+    ts = now
+end
+
+tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate)
+
+local allowed = 0
+if tokens >= requested then
+    tokens = tokens - requested
+    allowed = 1
+end
+
+redis.call('HSET', KEYS[1], 'tokens', tokens, 'ts', math.max(now, ts))
+redis.call('PEXPIRE', KEYS[1], ttl)
+return { allowed, math.floor(tokens) }
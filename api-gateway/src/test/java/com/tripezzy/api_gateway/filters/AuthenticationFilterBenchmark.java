@@ -0,0 +1,164 @@
+package com.tripezzy.api_gateway.filters;
+
+import com.tripezzy.api_gateway.policy.Access;
+import com.tripezzy.api_gateway.policy.RoutePolicyMatcher;
+import com.tripezzy.api_gateway.policy.RoutePolicyProperties;
+import com.tripezzy.api_gateway.security.JwksKeyLocator;
+import com.tripezzy.api_gateway.security.JwtService;
+import com.tripezzy.api_gateway.security.RevocationList;
+import com.tripezzy.api_gateway.security.VerifiedToken;
+import com.tripezzy.api_gateway.security.VerifiedTokenCache;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Per-request cost of AuthenticationFilter: a public route, a token served from VerifiedTokenCache,
+// a token that needs its RS256 signature verified, and a cache write once the cache is full.
+// Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+//           -Dexec.mainClass=com.tripezzy.api_gateway.filters.AuthenticationFilterBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthenticationFilterBenchmark {
+
+    private static final int CACHE_ENTRIES = 10_000;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final GatewayFilterChain chain = exchange -> Mono.empty();
+
+    private GatewayFilter filter;
+    private VerifiedTokenCache tokenCache;
+    private String token;
+    private VerifiedToken verified;
+
+    @Setup(Level.Trial)
+    public void setUp() throws NoSuchAlgorithmException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+
+        Instant now = Instant.now();
+        token = Jwts.builder()
+                .header().keyId("bench").and()
+                .subject("42")
+                .claim("role", "USER")
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plus(15, ChronoUnit.MINUTES)))
+                .signWith(keyPair.getPrivate())
+                .compact();
+        verified = new VerifiedToken("42", "USER", now, now.plus(15, ChronoUnit.MINUTES));
+
+        tokenCache = new VerifiedTokenCache(CACHE_ENTRIES, 300);
+        for (int i = 0; i < CACHE_ENTRIES; i++) {
+            tokenCache.put("filler-" + i, verified);
+        }
+
+        // Revocations are never loaded from Redis here, so every check is a miss on an empty map.
+        RevocationList revocationList = new RevocationList(null, 60_000, 15);
+        JwtService jwtService = new JwtService(new FixedKeyLocator(keyPair.getPublic()), tokenCache, revocationList);
+        filter = new AuthenticationFilter(jwtService, new RoutePolicyMatcher(policies()))
+                .apply(new AuthenticationFilter.Config());
+    }
+
+    @Benchmark
+    public Object publicRoute() {
+        return filter.filter(exchange("/payments/core/public/success", null), chain).block();
+    }
+
+    @Benchmark
+    public Object cachedToken() {
+        return filter.filter(exchange("/bookings/core/user/42", token), chain).block();
+    }
+
+    @Benchmark
+    public Object verifiedToken() {
+        tokenCache.invalidate(token);
+        return filter.filter(exchange("/bookings/core/user/42", token), chain).block();
+    }
+
+    @Benchmark
+    public void cachePutWhenFull() {
+        tokenCache.put("token-" + sequence.incrementAndGet(), verified);
+    }
+
+    private static MockServerWebExchange exchange(String path, String token) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get(path);
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        return MockServerWebExchange.from(request);
+    }
+
+    private static RoutePolicyProperties policies() {
+        RoutePolicyProperties.Rule publicRule = new RoutePolicyProperties.Rule();
+        publicRule.setPattern("/payments/core/public/**");
+        publicRule.setAccess(Access.PUBLIC);
+
+        RoutePolicyProperties.Rule adminRule = new RoutePolicyProperties.Rule();
+        adminRule.setPattern("/payments/core");
+        adminRule.setMethods(List.of("GET"));
+        adminRule.setAccess(Access.ROLE);
+        adminRule.setRoles(List.of("ADMIN"));
+
+        RoutePolicyProperties properties = new RoutePolicyProperties();
+        properties.setDefaultAccess(Access.AUTHENTICATED);
+        properties.setRules(List.of(publicRule, adminRule));
+        return properties;
+    }
+
+    // Serves the benchmark key without fetching a JWKS document.
+    private static final class FixedKeyLocator extends JwksKeyLocator {
+
+        private final PublicKey publicKey;
+
+        private FixedKeyLocator(PublicKey publicKey) {
+            super(WebClient.builder(), "http://localhost/unused", 300_000, 10_000);
+            this.publicKey = publicKey;
+        }
+
+        @Override
+        protected Key locate(JwsHeader header) {
+            return publicKey;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AuthenticationFilterBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
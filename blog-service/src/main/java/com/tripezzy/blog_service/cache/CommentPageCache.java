@@ -0,0 +1,145 @@
+package com.tripezzy.blog_service.cache;
+
+import com.tripezzy.blog_service.dto.CommentPageDto;
+import com.tripezzy.blog_service.dto.CommentResponseDto;
+import com.tripezzy.blog_service.pagination.CommentCursor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// Caches top-level comment pages per (blog, cursor, size). Every cached page also records the
+// keyset range it covers in a per-blog Redis hash, so a change to one comment evicts only the
+// pages whose range contains it (or the trailing open page for a new comment).
+@Component
+public class CommentPageCache {
+
+    public static final String CACHE_NAME = "commentPages";
+
+    private static final Logger log = LoggerFactory.getLogger(CommentPageCache.class);
+    private static final String INDEX_PREFIX = "blog:comment-pages:";
+    private static final String UNBOUNDED = "-";
+
+    private final CacheManager cacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+
+    public CommentPageCache(CacheManager cacheManager,
+                            StringRedisTemplate redisTemplate,
+                            @Value("${blog.comments.page-cache-ttl-minutes:10}") long ttlMinutes) {
+        this.cacheManager = cacheManager;
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+    }
+
+    public CommentPageDto get(Long blogId, String cursor, int size) {
+        try {
+            return cache().get(key(blogId, cursor, size), CommentPageDto.class);
+        } catch (RuntimeException e) {
+            log.warn("Unable to read comment page cache for blog ID: {}", blogId, e);
+            return null;
+        }
+    }
+
+    public void put(Long blogId, String cursor, int size, CommentPageDto page) {
+        try {
+            String key = key(blogId, cursor, size);
+            String index = INDEX_PREFIX + blogId;
+            redisTemplate.opsForHash().put(index, key, range(cursor, page));
+            redisTemplate.expire(index, ttl);
+            cache().put(key, page);
+        } catch (RuntimeException e) {
+            log.warn("Unable to write comment page cache for blog ID: {}", blogId, e);
+        }
+    }
+
+    public void invalidate(Long blogId, LocalDateTime createdAt, Long commentId) {
+        CommentCursor changed = CommentCursor.of(createdAt, commentId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictCovering(blogId, changed);
+                }
+            });
+        } else {
+            evictCovering(blogId, changed);
+        }
+    }
+
+    private void evictCovering(Long blogId, CommentCursor changed) {
+        try {
+            String index = INDEX_PREFIX + blogId;
+            Map<Object, Object> pages = redisTemplate.opsForHash().entries(index);
+            List<Object> evicted = new ArrayList<>();
+            Cache cache = cache();
+            for (Map.Entry<Object, Object> page : pages.entrySet()) {
+                if (covers(page.getValue().toString(), changed)) {
+                    cache.evict(page.getKey());
+                    evicted.add(page.getKey());
+                }
+            }
+            if (!evicted.isEmpty()) {
+                redisTemplate.opsForHash().delete(index, evicted.toArray());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Unable to invalidate comment pages for blog ID: {}", blogId, e);
+        }
+    }
+
+    // Range format: "<from>|<to>|<open>" where from/to are "micros:id" or "-" when unbounded.
+    private static String range(String cursor, CommentPageDto page) {
+        String from = UNBOUNDED;
+        if (cursor != null) {
+            CommentCursor start = CommentCursor.decode(cursor);
+            from = start.getCreatedAtMicros() + ":" + start.getId();
+        }
+        String to = UNBOUNDED;
+        List<CommentResponseDto> comments = page.getComments();
+        if (!comments.isEmpty()) {
+            CommentResponseDto last = comments.get(comments.size() - 1);
+            CommentCursor end = CommentCursor.of(last.getCreatedAt(), last.getId());
+            to = end.getCreatedAtMicros() + ":" + end.getId();
+        }
+        return from + "|" + to + "|" + (page.getNextCursor() == null ? "1" : "0");
+    }
+
+    private static boolean covers(String range, CommentCursor changed) {
+        String[] parts = range.split("\\|");
+        if (parts.length != 3) {
+            return true;
+        }
+        boolean afterStart = UNBOUNDED.equals(parts[0]) || compare(changed, parts[0]) > 0;
+        boolean beforeEnd = "1".equals(parts[2]) || (!UNBOUNDED.equals(parts[1]) && compare(changed, parts[1]) <= 0);
+        return afterStart && beforeEnd;
+    }
+
+    private static int compare(CommentCursor changed, String bound) {
+        int separator = bound.indexOf(':');
+        return changed.compareTo(Long.parseLong(bound.substring(0, separator)),
+                Long.parseLong(bound.substring(separator + 1)));
+    }
+
+    private Cache cache() {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            throw new IllegalStateException("Cache not configured: " + CACHE_NAME);
+        }
+        return cache;
+    }
+
+    private static String key(Long blogId, String cursor, int size) {
+        return blogId + ":" + (cursor == null ? "" : cursor) + ":" + size;
+    }
+}
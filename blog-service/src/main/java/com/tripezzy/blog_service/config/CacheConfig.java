@@ -1,9 +1,23 @@
 package com.tripezzy.blog_service.config;
 
+import com.tripezzy.blog_service.cache.CommentPageCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.RedisCacheManagerBuilderCustomizer;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+
+import java.time.Duration;
 
 @Configuration
 @EnableCaching
 public class CacheConfig {
+
+    @Bean
+    public RedisCacheManagerBuilderCustomizer commentPageCacheCustomizer(
+            @Value("${blog.comments.page-cache-ttl-minutes:10}") long ttlMinutes) {
+        return builder -> builder.withCacheConfiguration(CommentPageCache.CACHE_NAME,
+                RedisCacheConfiguration.defaultCacheConfig().entryTtl(Duration.ofMinutes(ttlMinutes)));
+    }
 }
@@ -21,4 +21,9 @@ public class KafkaConfig {
     public NewTopic blogCommentedTopic(){
         return new NewTopic("blog-commented", 3, (short) 1);
     }
+
+    @Bean
+    public NewTopic blogFollowersTopic(){
+        return new NewTopic("blog-followers", 3, (short) 1);
+    }
 }
@@ -2,22 +2,24 @@ package com.tripezzy.blog_service.controller;
 
 import com.tripezzy.blog_service.advices.ApiError;
 import com.tripezzy.blog_service.advices.ApiResponse;
-import com.tripezzy.blog_service.annotations.RoleRequired;
 import com.tripezzy.blog_service.auth.UserContext;
 import com.tripezzy.blog_service.auth.UserContextHolder;
 import com.tripezzy.blog_service.dto.BlogDto;
+import com.tripezzy.blog_service.dto.BlogPageDto;
 import com.tripezzy.blog_service.dto.BlogResponseDto;
+import com.tripezzy.blog_service.dto.BlogSummaryDto;
 import com.tripezzy.blog_service.dto.CommentDto;
+import com.tripezzy.blog_service.dto.CommentPageDto;
+import com.tripezzy.blog_service.dto.CommentResponseDto;
 import com.tripezzy.blog_service.service.BlogService;
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping(path = "/core")
 public class BlogController {
@@ -44,56 +46,77 @@ public class BlogController {
 
     @GetMapping
     @RateLimiter(name = "blogRateLimiter", fallbackMethod = "getAllBlogsRateLimitFallback")
-    @RoleRequired("ADMIN")
-    public ResponseEntity<Page<BlogResponseDto>> getAllBlogs(Pageable pageable) {
-        Page<BlogResponseDto> blogs = blogService.getAllBlogs(pageable);
+    public ResponseEntity<Page<BlogSummaryDto>> getAllBlogs(Pageable pageable) {
+        Page<BlogSummaryDto> blogs = blogService.getAllBlogs(pageable);
+        return ResponseEntity.ok(blogs);
+    }
+
+    @GetMapping("/slice")
+    @RateLimiter(name = "blogRateLimiter", fallbackMethod = "getAllBlogsSliceRateLimitFallback")
+    public ResponseEntity<Slice<BlogSummaryDto>> getAllBlogsSlice(Pageable pageable) {
+        Slice<BlogSummaryDto> blogs = blogService.getAllBlogsSlice(pageable);
+        return ResponseEntity.ok(blogs);
+    }
+
+    @GetMapping("/scroll")
+    @RateLimiter(name = "blogRateLimiter", fallbackMethod = "scrollBlogsRateLimitFallback")
+    public ResponseEntity<BlogPageDto> scrollBlogs(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        BlogPageDto blogs = blogService.scrollBlogs(cursor, size);
         return ResponseEntity.ok(blogs);
     }
 
     @GetMapping("/author/{authorId}")
     @RateLimiter(name = "blogRateLimiter", fallbackMethod = "getBlogsByAuthorIdRateLimitFallback")
-    @RoleRequired("ADMIN")
-    public ResponseEntity<Page<BlogResponseDto>> getBlogsByAuthorId(
+    public ResponseEntity<Page<BlogSummaryDto>> getBlogsByAuthorId(
             @PathVariable Long authorId,
             Pageable pageable) {
-        Page<BlogResponseDto> blogs = blogService.getBlogsByAuthorId(authorId, pageable);
+        Page<BlogSummaryDto> blogs = blogService.getBlogsByAuthorId(authorId, pageable);
         return ResponseEntity.ok(blogs);
     }
 
     @GetMapping("/public/tags")
     @RateLimiter(name = "blogRateLimiter", fallbackMethod = "getBlogsByTagsRateLimitFallback")
-    public ResponseEntity<Page<BlogResponseDto>> getBlogsByTags(
+    public ResponseEntity<Page<BlogSummaryDto>> getBlogsByTags(
             @RequestParam String tags,
             Pageable pageable
     ){
-        Page<BlogResponseDto> blogs = blogService.getBlogsByTag(tags, pageable);
+        Page<BlogSummaryDto> blogs = blogService.getBlogsByTag(tags, pageable);
         return ResponseEntity.ok(blogs);
     }
 
     @GetMapping("/public/category")
     @RateLimiter(name = "blogRateLimiter", fallbackMethod = "getBlogsByCategoryRateLimitFallback")
-    public ResponseEntity<Page<BlogResponseDto>> getBlogsByCategory(
+    public ResponseEntity<Page<BlogSummaryDto>> getBlogsByCategory(
             @RequestParam String category,
             Pageable pageable
     ){
-        Page<BlogResponseDto> blogs = blogService.getBlogsByCategory(category, pageable);
+        Page<BlogSummaryDto> blogs = blogService.getBlogsByCategory(category, pageable);
         return ResponseEntity.ok(blogs);
     }
 
     @GetMapping("/public/published")
     @RateLimiter(name = "blogRateLimiter", fallbackMethod = "getPublishedBlogsRateLimitFallback")
-    public ResponseEntity<Page<BlogResponseDto>> getPublishedBlogs(Pageable pageable) {
-        Page<BlogResponseDto> blogs = blogService.getPublishedBlogs(pageable);
+    public ResponseEntity<Page<BlogSummaryDto>> getPublishedBlogs(Pageable pageable) {
+        Page<BlogSummaryDto> blogs = blogService.getPublishedBlogs(pageable);
+        return ResponseEntity.ok(blogs);
+    }
+
+    @GetMapping("/public/trending")
+    @RateLimiter(name = "blogRateLimiter", fallbackMethod = "getTrendingBlogsRateLimitFallback")
+    public ResponseEntity<Page<BlogSummaryDto>> getTrendingBlogs(Pageable pageable) {
+        Page<BlogSummaryDto> blogs = blogService.getTrendingBlogs(pageable);
         return ResponseEntity.ok(blogs);
     }
 
     @GetMapping("/me")
     @RateLimiter(name = "blogRateLimiter", fallbackMethod = "getMyBlogsRateLimitFallback")
-    public ResponseEntity<Page<BlogResponseDto>> getMyBlogs(
+    public ResponseEntity<Page<BlogSummaryDto>> getMyBlogs(
             Pageable pageable) {
         UserContext userContext = UserContextHolder.getUserDetails();
         Long authorId = userContext.getUserId();
-        Page<BlogResponseDto> blogs = blogService.getBlogsByAuthorId(authorId, pageable);
+        Page<BlogSummaryDto> blogs = blogService.getBlogsByAuthorId(authorId, pageable);
         return ResponseEntity.ok(blogs);
     }
 
@@ -141,10 +164,10 @@ public class BlogController {
 
     @PostMapping("/{blogId}/comments")
 //    @RateLimiter(name = "blogRateLimiter", fallbackMethod = "addCommentToBlogRateLimitFallback")
-    public ResponseEntity<CommentDto> addCommentToBlog(
+    public ResponseEntity<CommentResponseDto> addCommentToBlog(
             @PathVariable Long blogId,
             @RequestBody CommentDto commentDto) {
-        CommentDto savedComment = blogService.addCommentToBlog(blogId, commentDto);
+        CommentResponseDto savedComment = blogService.addCommentToBlog(blogId, commentDto);
         return new ResponseEntity<>(savedComment, HttpStatus.CREATED);
     }
 
@@ -176,33 +199,46 @@ public class BlogController {
 
     @GetMapping("/public/{blogId}/comments")
     @RateLimiter(name = "blogRateLimiter", fallbackMethod = "getCommentsForBlogRateLimitFallback")
-    public ResponseEntity<List<CommentDto>> getCommentsForBlog(@PathVariable Long blogId) {
-        List<CommentDto> comments = blogService.getCommentsForBlog(blogId);
+    public ResponseEntity<CommentPageDto> getCommentsForBlog(
+            @PathVariable Long blogId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CommentPageDto comments = blogService.getCommentsForBlog(blogId, cursor, size);
         return ResponseEntity.ok(comments);
     }
 
+    @GetMapping("/public/{blogId}/comments/{commentId}/thread")
+    @RateLimiter(name = "blogRateLimiter", fallbackMethod = "getCommentThreadRateLimitFallback")
+    public ResponseEntity<CommentPageDto> getCommentThread(
+            @PathVariable Long blogId,
+            @PathVariable Long commentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CommentPageDto replies = blogService.getCommentThread(blogId, commentId, cursor, size);
+        return ResponseEntity.ok(replies);
+    }
+
     @GetMapping("/public/search")
     @RateLimiter(name = "blogRateLimiter", fallbackMethod = "searchBlogsRateLimitFallback")
-    public ResponseEntity<Page<BlogResponseDto>> searchBlogs(
+    public ResponseEntity<Page<BlogSummaryDto>> searchBlogs(
             @RequestParam String query,
             Pageable pageable) {
-        Page<BlogResponseDto> blogs = blogService.searchBlogs(query, pageable);
+        Page<BlogSummaryDto> blogs = blogService.searchBlogs(query, pageable);
         return ResponseEntity.ok(blogs);
     }
 
     @GetMapping("/public/filter")
     @RateLimiter(name = "blogRateLimiter", fallbackMethod = "filterBlogsRateLimitFallback")
-    public ResponseEntity<Page<BlogResponseDto>> filterBlogs(
+    public ResponseEntity<Page<BlogSummaryDto>> filterBlogs(
             @RequestParam(required = false) String category,
             @RequestParam(required = false) String tags,
             Pageable pageable) {
-        Page<BlogResponseDto> blogs = blogService.filterBlogs(category, tags, pageable);
+        Page<BlogSummaryDto> blogs = blogService.filterBlogs(category, tags, pageable);
         return ResponseEntity.ok(blogs);
     }
 
     @DeleteMapping("/soft-delete/{blogId}")
     @RateLimiter(name = "blogRateLimiter", fallbackMethod = "softDeleteBlogRateLimitFallback")
-    @RoleRequired("ADMIN")
     public ResponseEntity<ApiResponse<String>> softDeleteBlog(@PathVariable Long blogId) {
         blogService.softDeleteBlog(blogId);
         return ResponseEntity.ok(ApiResponse.success("Blog soft deleted successfully"));
@@ -210,12 +246,12 @@ public class BlogController {
 
     @GetMapping("/public/filter/advanced")
     @RateLimiter(name = "blogRateLimiter", fallbackMethod = "advanceFilterBlogsRateLimitFallback")
-    public ResponseEntity<Page<BlogResponseDto>> advanceFilterBlogs(
+    public ResponseEntity<Page<BlogSummaryDto>> advanceFilterBlogs(
             @RequestParam(required = false) Long authorId,
             @RequestParam(required = false) String category,
             @RequestParam(required = false) String tags,
             Pageable pageable) {
-        Page<BlogResponseDto> blogs = blogService.advanceFilterBlogs(authorId,category, tags, pageable);
+        Page<BlogSummaryDto> blogs = blogService.advanceFilterBlogs(authorId,category, tags, pageable);
         return ResponseEntity.ok(blogs);
     }
 
@@ -240,6 +276,14 @@ public class BlogController {
         return rateLimitFallback("getAllBlogs", throwable);
     }
 
+    public ResponseEntity<ApiResponse<String>> getAllBlogsSliceRateLimitFallback(Pageable pageable, Throwable throwable) {
+        return rateLimitFallback("getAllBlogsSlice", throwable);
+    }
+
+    public ResponseEntity<ApiResponse<String>> scrollBlogsRateLimitFallback(String cursor, int size, Throwable throwable) {
+        return rateLimitFallback("scrollBlogs", throwable);
+    }
+
     public ResponseEntity<ApiResponse<String>> getBlogsByAuthorIdRateLimitFallback(Long authorId, Pageable pageable, Throwable throwable) {
         return rateLimitFallback("getBlogsByAuthorId", throwable);
     }
@@ -256,6 +300,10 @@ public class BlogController {
         return rateLimitFallback("getPublishedBlogs", throwable);
     }
 
+    public ResponseEntity<ApiResponse<String>> getTrendingBlogsRateLimitFallback(Pageable pageable, Throwable throwable) {
+        return rateLimitFallback("getTrendingBlogs", throwable);
+    }
+
     public ResponseEntity<ApiResponse<String>> getMyBlogsRateLimitFallback(Pageable pageable, Throwable throwable) {
         return rateLimitFallback("getMyBlogs", throwable);
     }
@@ -296,10 +344,14 @@ public class BlogController {
         return rateLimitFallback("deleteComment", throwable);
     }
 
-    public ResponseEntity<ApiResponse<String>> getCommentsForBlogRateLimitFallback(Long blogId, Throwable throwable) {
+    public ResponseEntity<ApiResponse<String>> getCommentsForBlogRateLimitFallback(Long blogId, String cursor, int size, Throwable throwable) {
         return rateLimitFallback("getCommentsForBlog", throwable);
     }
 
+    public ResponseEntity<ApiResponse<String>> getCommentThreadRateLimitFallback(Long blogId, Long commentId, String cursor, int size, Throwable throwable) {
+        return rateLimitFallback("getCommentThread", throwable);
+    }
+
     public ResponseEntity<ApiResponse<String>> searchBlogsRateLimitFallback(String query, Pageable pageable, Throwable throwable) {
         return rateLimitFallback("searchBlogs", throwable);
     }
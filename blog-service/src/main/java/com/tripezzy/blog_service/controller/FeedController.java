@@ -0,0 +1,65 @@
+package com.tripezzy.blog_service.controller;
+
+import com.tripezzy.blog_service.advices.ApiError;
+import com.tripezzy.blog_service.advices.ApiResponse;
+import com.tripezzy.blog_service.dto.FeedPageDto;
+import com.tripezzy.blog_service.service.FeedService;
+import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping(path = "/core")
+public class FeedController {
+
+    private final FeedService feedService;
+
+    public FeedController(FeedService feedService) {
+        this.feedService = feedService;
+    }
+
+    @PostMapping("/authors/{authorId}/follow")
+    @RateLimiter(name = "blogRateLimiter", fallbackMethod = "followAuthorRateLimitFallback")
+    public ResponseEntity<ApiResponse<String>> followAuthor(@PathVariable Long authorId) {
+        feedService.followAuthor(authorId);
+        return new ResponseEntity<>(ApiResponse.success("Author followed successfully"), HttpStatus.CREATED);
+    }
+
+    @DeleteMapping("/authors/{authorId}/follow")
+    @RateLimiter(name = "blogRateLimiter", fallbackMethod = "unfollowAuthorRateLimitFallback")
+    public ResponseEntity<ApiResponse<String>> unfollowAuthor(@PathVariable Long authorId) {
+        feedService.unfollowAuthor(authorId);
+        return ResponseEntity.ok(ApiResponse.success("Author unfollowed successfully"));
+    }
+
+    @GetMapping("/feed")
+    @RateLimiter(name = "blogRateLimiter", fallbackMethod = "getFeedRateLimitFallback")
+    public ResponseEntity<FeedPageDto> getFeed(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        FeedPageDto feed = feedService.getFeed(cursor, size);
+        return ResponseEntity.ok(feed);
+    }
+
+    public ResponseEntity<ApiResponse<String>> rateLimitFallback(String serviceName, Throwable throwable) {
+        ApiError apiError = new ApiError.ApiErrorBuilder()
+                .setMessage("Too many requests to " + serviceName + ". Please try again later.")
+                .setStatus(HttpStatus.TOO_MANY_REQUESTS)
+                .build();
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .body(ApiResponse.error(apiError));
+    }
+
+    public ResponseEntity<ApiResponse<String>> followAuthorRateLimitFallback(Long authorId, Throwable throwable) {
+        return rateLimitFallback("followAuthor", throwable);
+    }
+
+    public ResponseEntity<ApiResponse<String>> unfollowAuthorRateLimitFallback(Long authorId, Throwable throwable) {
+        return rateLimitFallback("unfollowAuthor", throwable);
+    }
+
+    public ResponseEntity<ApiResponse<String>> getFeedRateLimitFallback(Long cursor, int size, Throwable throwable) {
+        return rateLimitFallback("getFeed", throwable);
+    }
+}
@@ -0,0 +1,59 @@
+package com.tripezzy.blog_service.counter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// Per-blog Redis set of user IDs that already liked the blog. Integer members keep small sets in
+// Redis' compact intset encoding. The likes table stays the source of truth, so a miss or a Redis
+// outage only means the duplicate is caught by the unique constraint instead.
+@Component
+public class BlogLikers {
+
+    private static final Logger log = LoggerFactory.getLogger(BlogLikers.class);
+    private static final String KEY_PREFIX = "blog:likers:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+
+    public BlogLikers(StringRedisTemplate redisTemplate,
+                      @Value("${blog.likes.likers-ttl-hours:168}") long ttlHours) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofHours(ttlHours);
+    }
+
+    public boolean contains(Long blogId, Long userId) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(key(blogId), userId.toString()));
+        } catch (RuntimeException e) {
+            log.warn("Unable to check likers for blog ID: {}", blogId, e);
+            return false;
+        }
+    }
+
+    public void add(Long blogId, Long userId) {
+        try {
+            String key = key(blogId);
+            redisTemplate.opsForSet().add(key, userId.toString());
+            redisTemplate.expire(key, ttl);
+        } catch (RuntimeException e) {
+            log.warn("Unable to record liker for blog ID: {}", blogId, e);
+        }
+    }
+
+    public void remove(Long blogId, Long userId) {
+        try {
+            redisTemplate.opsForSet().remove(key(blogId), userId.toString());
+        } catch (RuntimeException e) {
+            log.warn("Unable to remove liker for blog ID: {}", blogId, e);
+        }
+    }
+
+    private static String key(Long blogId) {
+        return KEY_PREFIX + blogId;
+    }
+}
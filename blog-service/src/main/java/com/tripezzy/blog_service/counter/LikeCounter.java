@@ -0,0 +1,98 @@
+package com.tripezzy.blog_service.counter;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class LikeCounter {
+
+    private static final Logger log = LoggerFactory.getLogger(LikeCounter.class);
+    private static final String FLUSH_SQL = "UPDATE blogs SET like_count = GREATEST(like_count + ?, 0) WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public LikeCounter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Deltas are only recorded once the like row change has committed, so a rolled back like never
+    // reaches the counter.
+    public void increment(Long blogId) {
+        afterCommit(blogId, 1L);
+    }
+
+    public void decrement(Long blogId) {
+        afterCommit(blogId, -1L);
+    }
+
+    public long pendingDelta(Long blogId) {
+        LongAdder adder = pending.get(blogId);
+        return adder == null ? 0L : adder.sum();
+    }
+
+    @Scheduled(fixedDelayString = "${blog.likes.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        List<Object[]> batch = new ArrayList<>();
+        for (Long blogId : pending.keySet()) {
+            // Removing the entry keeps the map to blogs liked since the last flush. Writers only touch
+            // an adder inside compute(), so none can land on one that has already been removed.
+            LongAdder adder = pending.remove(blogId);
+            long delta = adder == null ? 0L : adder.sum();
+            if (delta != 0) {
+                batch.add(new Object[]{delta, blogId});
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+            log.debug("Flushed like counts for {} blogs", batch.size());
+        } catch (DataAccessException e) {
+            log.error("Failed to flush like counts for {} blogs, will retry", batch.size(), e);
+            for (Object[] row : batch) {
+                add((Long) row[1], (Long) row[0]);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void afterCommit(Long blogId, long delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    add(blogId, delta);
+                }
+            });
+        } else {
+            add(blogId, delta);
+        }
+    }
+
+    private void add(Long blogId, long delta) {
+        pending.compute(blogId, (id, adder) -> {
+            LongAdder target = adder == null ? new LongAdder() : adder;
+            target.add(delta);
+            return target;
+        });
+    }
+}
@@ -0,0 +1,33 @@
+package com.tripezzy.blog_service.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+public class BlogPageDto implements Serializable {
+    private List<BlogSummaryDto> blogs;
+    private String nextCursor;
+
+    public BlogPageDto() {
+    }
+
+    public BlogPageDto(List<BlogSummaryDto> blogs, String nextCursor) {
+        this.blogs = blogs;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<BlogSummaryDto> getBlogs() {
+        return blogs;
+    }
+
+    public void setBlogs(List<BlogSummaryDto> blogs) {
+        this.blogs = blogs;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
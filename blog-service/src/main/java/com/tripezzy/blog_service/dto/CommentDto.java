@@ -11,6 +11,8 @@ public class CommentDto implements Serializable {
     @Size(max = 500, message = "Content must be less than 500 characters")
     private String content;
 
+    private Long parentId;
+
     public CommentDto() {}
 
     public CommentDto(String content) {
@@ -25,4 +27,11 @@ public class CommentDto implements Serializable {
         this.content = content;
     }
 
+    public Long getParentId() {
+        return parentId;
+    }
+
+    public void setParentId(Long parentId) {
+        this.parentId = parentId;
+    }
 }
@@ -0,0 +1,33 @@
+package com.tripezzy.blog_service.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+public class CommentPageDto implements Serializable {
+    private List<CommentResponseDto> comments;
+    private String nextCursor;
+
+    public CommentPageDto() {
+    }
+
+    public CommentPageDto(List<CommentResponseDto> comments, String nextCursor) {
+        this.comments = comments;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<CommentResponseDto> getComments() {
+        return comments;
+    }
+
+    public void setComments(List<CommentResponseDto> comments) {
+        this.comments = comments;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,84 @@
+package com.tripezzy.blog_service.dto;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+public class CommentResponseDto implements Serializable {
+    private Long id;
+    private Long parentId;
+    private Long userId;
+    private String content;
+    private int depth;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public CommentResponseDto() {
+    }
+
+    public CommentResponseDto(Long id, Long parentId, Long userId, String content, int depth,
+                              LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.parentId = parentId;
+        this.userId = userId;
+        this.content = content;
+        this.depth = depth;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getParentId() {
+        return parentId;
+    }
+
+    public void setParentId(Long parentId) {
+        this.parentId = parentId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public void setDepth(int depth) {
+        this.depth = depth;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,33 @@
+package com.tripezzy.blog_service.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+public class FeedPageDto implements Serializable {
+    private List<BlogSummaryDto> blogs;
+    private Long nextCursor;
+
+    public FeedPageDto() {
+    }
+
+    public FeedPageDto(List<BlogSummaryDto> blogs, Long nextCursor) {
+        this.blogs = blogs;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<BlogSummaryDto> getBlogs() {
+        return blogs;
+    }
+
+    public void setBlogs(List<BlogSummaryDto> blogs) {
+        this.blogs = blogs;
+    }
+
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(Long nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -17,7 +17,8 @@ import java.util.List;
         @Index(name = "idx_blog_author_id", columnList = "author_id"),
         @Index(name = "idx_blog_status", columnList = "status"),
         @Index(name = "idx_blog_category", columnList = "category"),
-        @Index(name = "idx_blog_tags", columnList = "tag")
+        @Index(name = "idx_blog_tags", columnList = "tag"),
+        @Index(name = "idx_blog_created_at_id", columnList = "created_at, id")
 })
 @EntityListeners(AuditingEntityListener.class)
 public class Blog {
@@ -65,6 +66,14 @@ public class Blog {
     @Column(name = "deleted", columnDefinition = "BOOLEAN DEFAULT FALSE")
     private boolean deleted = false;
 
+    @Column(name = "like_count", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "BIGINT DEFAULT 0")
+    private long likeCount = 0;
+
+    @Column(name = "comment_count", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "BIGINT DEFAULT 0")
+    private long commentCount = 0;
+
     public Blog() {
     }
 
@@ -178,4 +187,20 @@ public class Blog {
     public void setTag(@NotBlank(message = "Tags cannot be blank") String tag) {
         this.tag = tag;
     }
+
+    public long getLikeCount() {
+        return likeCount;
+    }
+
+    public void setLikeCount(long likeCount) {
+        this.likeCount = likeCount;
+    }
+
+    public long getCommentCount() {
+        return commentCount;
+    }
+
+    public void setCommentCount(long commentCount) {
+        this.commentCount = commentCount;
+    }
 }
@@ -13,7 +13,8 @@ import java.time.LocalDateTime;
 @Entity
 @EntityListeners(AuditingEntityListener.class)
 @Table(name = "comments", indexes = {
-        @Index(name = "idx_comment_blog_id", columnList = "blog_id"),
+        @Index(name = "idx_comment_blog_created_id", columnList = "blog_id, created_at, id"),
+        @Index(name = "idx_comment_blog_path", columnList = "blog_id, path"),
         @Index(name = "idx_comment_user_id", columnList = "user_id")
 })
 public class Comment {
@@ -35,6 +36,16 @@ public class Comment {
     @JoinColumn(name = "blog_id", nullable = false)
     private Blog blog;
 
+    @Column(name = "parent_id", updatable = false)
+    private Long parentId;
+
+    // Byte-wise collation so a subtree is one contiguous idx_comment_blog_path range.
+    @Column(name = "path", length = 255, columnDefinition = "varchar(255) COLLATE \"C\"")
+    private String path;
+
+    @Column(name = "depth", nullable = false, updatable = false, columnDefinition = "INTEGER DEFAULT 0")
+    private int depth = 0;
+
     @CreatedDate
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -102,4 +113,28 @@ public class Comment {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    public Long getParentId() {
+        return parentId;
+    }
+
+    public void setParentId(Long parentId) {
+        this.parentId = parentId;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public void setDepth(int depth) {
+        this.depth = depth;
+    }
 }
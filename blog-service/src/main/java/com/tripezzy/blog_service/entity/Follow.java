@@ -0,0 +1,76 @@
+package com.tripezzy.blog_service.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+@Entity
+@EntityListeners(AuditingEntityListener.class)
+@Table(name = "follows", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_follow_author_follower", columnNames = {"author_id", "follower_id"})
+}, indexes = {
+        @Index(name = "idx_follow_follower_author", columnList = "follower_id, author_id")
+})
+public class Follow {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull(message = "Follower ID cannot be null")
+    @Column(name = "follower_id", nullable = false)
+    private Long followerId;
+
+    @NotNull(message = "Author ID cannot be null")
+    @Column(name = "author_id", nullable = false)
+    private Long authorId;
+
+    @CreatedDate
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    public Follow() {
+    }
+
+    public Follow(Long id, Long followerId, Long authorId, LocalDateTime createdAt) {
+        this.id = id;
+        this.followerId = followerId;
+        this.authorId = authorId;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getFollowerId() {
+        return followerId;
+    }
+
+    public void setFollowerId(Long followerId) {
+        this.followerId = followerId;
+    }
+
+    public Long getAuthorId() {
+        return authorId;
+    }
+
+    public void setAuthorId(Long authorId) {
+        this.authorId = authorId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
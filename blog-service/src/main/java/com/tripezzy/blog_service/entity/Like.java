@@ -9,7 +9,9 @@ import java.time.LocalDateTime;
 
 @Entity
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "likes", indexes = {
+@Table(name = "likes", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_like_blog_user", columnNames = {"blog_id", "user_id"})
+}, indexes = {
         @Index(name = "idx_like_blog_id", columnList = "blog_id"),
         @Index(name = "idx_like_user_id", columnList = "user_id")
 })
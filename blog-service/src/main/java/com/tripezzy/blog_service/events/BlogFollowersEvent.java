@@ -1,6 +1,8 @@
 package com.tripezzy.blog_service.events;
 
-public class BlogCreatedEvent {
+import java.util.List;
+
+public class BlogFollowersEvent {
 
     private Long blog;
 
@@ -8,13 +10,16 @@ public class BlogCreatedEvent {
 
     private Long author;
 
-    public BlogCreatedEvent() {
+    private List<Long> followers;
+
+    public BlogFollowersEvent() {
     }
 
-    public BlogCreatedEvent(Long blog, String title, Long author) {
+    public BlogFollowersEvent(Long blog, String title, Long author, List<Long> followers) {
         this.blog = blog;
         this.title = title;
         this.author = author;
+        this.followers = followers;
     }
 
     public Long getBlog() {
@@ -40,4 +45,12 @@ public class BlogCreatedEvent {
     public void setAuthor(Long author) {
         this.author = author;
     }
+
+    public List<Long> getFollowers() {
+        return followers;
+    }
+
+    public void setFollowers(List<Long> followers) {
+        this.followers = followers;
+    }
 }
@@ -0,0 +1,75 @@
+package com.tripezzy.blog_service.feed;
+
+import com.tripezzy.blog_service.events.BlogCreatedEvent;
+import com.tripezzy.blog_service.events.BlogFollowersEvent;
+import com.tripezzy.blog_service.repository.FollowRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+// Hybrid fan-out for new blogs. Followers are walked in ID order in fixed-size batches. Each batch
+// gets the blog pushed onto their feeds (unless the author has too many followers to push to) and
+// is handed to notification-service, so only followers are notified instead of every user.
+@Service
+public class FeedFanoutConsumer {
+
+    private static final Logger log = LoggerFactory.getLogger(FeedFanoutConsumer.class);
+    private static final String NEW_BLOG_TOPIC = "new-blog";
+    private static final String BLOG_FOLLOWERS_TOPIC = "blog-followers";
+    private static final String GROUP_ID = "blog-feed";
+
+    private final FollowRepository followRepository;
+    private final FeedStore feedStore;
+    private final KafkaTemplate<Long, BlogFollowersEvent> kafkaBlogFollowersTemplate;
+    private final long pushFollowerLimit;
+    private final int batchSize;
+
+    public FeedFanoutConsumer(FollowRepository followRepository,
+                              FeedStore feedStore,
+                              KafkaTemplate<Long, BlogFollowersEvent> kafkaBlogFollowersTemplate,
+                              @Value("${blog.feed.push-follower-limit:10000}") long pushFollowerLimit,
+                              @Value("${blog.feed.fanout-batch-size:1000}") int batchSize) {
+        this.followRepository = followRepository;
+        this.feedStore = feedStore;
+        this.kafkaBlogFollowersTemplate = kafkaBlogFollowersTemplate;
+        this.pushFollowerLimit = pushFollowerLimit;
+        this.batchSize = batchSize;
+    }
+
+    @KafkaListener(topics = NEW_BLOG_TOPIC, groupId = GROUP_ID)
+    public void handleNewBlog(BlogCreatedEvent event) {
+        Long blogId = event.getBlog();
+        Long authorId = event.getAuthor();
+        log.info("Fanning out blog ID: {} by author ID: {}", blogId, authorId);
+
+        feedStore.recordAuthorPost(authorId, blogId);
+        boolean pull = followRepository.countByAuthorId(authorId) > pushFollowerLimit;
+        feedStore.markPullAuthor(authorId, pull);
+
+        long delivered = 0;
+        Long afterFollowerId = 0L;
+        while (true) {
+            List<Long> followers = followRepository.findFollowerIdsAfter(authorId, afterFollowerId, Limit.of(batchSize));
+            if (followers.isEmpty()) {
+                break;
+            }
+            if (!pull) {
+                feedStore.pushToFollowers(followers, blogId);
+            }
+            kafkaBlogFollowersTemplate.send(BLOG_FOLLOWERS_TOPIC, blogId,
+                    new BlogFollowersEvent(blogId, event.getTitle(), authorId, followers));
+            delivered += followers.size();
+            afterFollowerId = followers.get(followers.size() - 1);
+            if (followers.size() < batchSize) {
+                break;
+            }
+        }
+        log.info("Blog ID: {} fanned out to {} followers ({})", blogId, delivered, pull ? "pull" : "push");
+    }
+}
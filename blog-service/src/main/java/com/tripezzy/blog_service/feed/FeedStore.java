@@ -0,0 +1,132 @@
+package com.tripezzy.blog_service.feed;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+// Redis layout for personalized feeds. Every follower of a normal author gets the blog ID added to
+// a capped sorted set. Authors with very large followings are "pull" authors: their recent posts
+// live only in a capped per-author sorted set that readers merge in at read time.
+//
+// Members are scored by blog ID, which grows with creation time and is the order getFeed pages in.
+// Trimming by rank therefore always drops the oldest posts, whatever order they were added in: a
+// follow backfill of older posts, or new-blog events arriving out of order across partitions,
+// cannot push newer posts out of a full feed.
+@Component
+public class FeedStore {
+
+    private static final String FEED_PREFIX = "blog:timeline:";
+    private static final String AUTHOR_POSTS_PREFIX = "blog:author-timeline:";
+    private static final String PULL_AUTHORS_KEY = "blog:feed:pull-authors";
+
+    private final StringRedisTemplate redisTemplate;
+    private final int feedSize;
+    private final int authorPostsSize;
+    private final long feedTtlSeconds;
+
+    public FeedStore(StringRedisTemplate redisTemplate,
+                     @Value("${blog.feed.max-size:500}") int feedSize,
+                     @Value("${blog.feed.author-posts-size:100}") int authorPostsSize,
+                     @Value("${blog.feed.ttl-days:30}") long feedTtlDays) {
+        this.redisTemplate = redisTemplate;
+        this.feedSize = feedSize;
+        this.authorPostsSize = authorPostsSize;
+        this.feedTtlSeconds = feedTtlDays * 86_400L;
+    }
+
+    public void recordAuthorPost(Long authorId, Long blogId) {
+        String key = AUTHOR_POSTS_PREFIX + authorId;
+        redisTemplate.opsForZSet().add(key, blogId.toString(), blogId);
+        redisTemplate.opsForZSet().removeRange(key, 0, -authorPostsSize - 1);
+    }
+
+    public void pushToFollowers(Collection<Long> followerIds, Long blogId) {
+        String member = blogId.toString();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection commands = (StringRedisConnection) connection;
+            for (Long followerId : followerIds) {
+                String key = FEED_PREFIX + followerId;
+                commands.zAdd(key, blogId, member);
+                commands.zRemRange(key, 0, -feedSize - 1);
+                commands.expire(key, feedTtlSeconds);
+            }
+            return null;
+        });
+    }
+
+    public void backfill(Long followerId, Long authorId, int count) {
+        Set<String> posts = redisTemplate.opsForZSet().reverseRange(AUTHOR_POSTS_PREFIX + authorId, 0, count - 1);
+        if (posts == null || posts.isEmpty()) {
+            return;
+        }
+        String key = FEED_PREFIX + followerId;
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection commands = (StringRedisConnection) connection;
+            for (String post : posts) {
+                commands.zAdd(key, Long.parseLong(post), post);
+            }
+            commands.zRemRange(key, 0, -feedSize - 1);
+            commands.expire(key, feedTtlSeconds);
+            return null;
+        });
+    }
+
+    public void removeAuthorPosts(Long followerId, Long authorId) {
+        Set<String> posts = redisTemplate.opsForZSet().range(AUTHOR_POSTS_PREFIX + authorId, 0, -1);
+        if (posts == null || posts.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForZSet().remove(FEED_PREFIX + followerId, posts.toArray());
+    }
+
+    public List<Long> readFeed(Long userId) {
+        return toIds(redisTemplate.opsForZSet().reverseRange(FEED_PREFIX + userId, 0, feedSize - 1));
+    }
+
+    public List<List<Long>> readAuthorPosts(List<Long> authorIds) {
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection commands = (StringRedisConnection) connection;
+            for (Long authorId : authorIds) {
+                commands.zRevRange(AUTHOR_POSTS_PREFIX + authorId, 0, authorPostsSize - 1);
+            }
+            return null;
+        });
+        List<List<Long>> posts = new ArrayList<>(results.size());
+        for (Object result : results) {
+            @SuppressWarnings("unchecked")
+            Collection<String> ids = (Collection<String>) result;
+            posts.add(toIds(ids));
+        }
+        return posts;
+    }
+
+    public void markPullAuthor(Long authorId, boolean pull) {
+        if (pull) {
+            redisTemplate.opsForSet().add(PULL_AUTHORS_KEY, authorId.toString());
+        } else {
+            redisTemplate.opsForSet().remove(PULL_AUTHORS_KEY, authorId.toString());
+        }
+    }
+
+    public List<Long> pullAuthors() {
+        Set<String> members = redisTemplate.opsForSet().members(PULL_AUTHORS_KEY);
+        return members == null ? List.of() : toIds(members);
+    }
+
+    private static List<Long> toIds(Collection<String> values) {
+        List<Long> ids = new ArrayList<>();
+        if (values != null) {
+            for (String value : values) {
+                ids.add(Long.valueOf(value));
+            }
+        }
+        return ids;
+    }
+}
@@ -1,9 +1,12 @@
 package com.tripezzy.blog_service.grpc;
 
-import blog.Blog;
 import blog.BlogRequest;
 import blog.BlogResponse;
-import com.tripezzy.blog_service.dto.BlogResponseDto;
+import blog.BlogSummary;
+import com.tripezzy.blog_service.dto.BlogPageDto;
+import com.tripezzy.blog_service.dto.BlogSummaryDto;
+import com.tripezzy.blog_service.exceptions.BadRequestException;
+import com.tripezzy.blog_service.pagination.CommentCursor;
 import com.tripezzy.blog_service.service.BlogService;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
@@ -11,9 +14,11 @@ import io.grpc.stub.StreamObserver;
 import net.devh.boot.grpc.server.service.GrpcService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -31,7 +36,8 @@ public class BlogGrpcService extends blog.BlogServiceGrpc.BlogServiceImplBase {
     @Override
     public void getAllBlogs(BlogRequest request, StreamObserver<BlogResponse> responseObserver) {
         try {
-            log.info("Processing gRPC request for getAllBlogs - page: {}, size: {}", request.getPage(), request.getSize());
+            log.debug("Processing gRPC request for getAllBlogs - page: {}, size: {}", request.getPage(), request.getSize());
+            GrpcAuthInterceptor.requireAdmin();
 
             if (request.getPage() < 0) {
                 throw Status.INVALID_ARGUMENT
@@ -44,22 +50,43 @@ public class BlogGrpcService extends blog.BlogServiceGrpc.BlogServiceImplBase {
                         .asRuntimeException();
             }
 
-            Page<BlogResponseDto> blogPage = blogService.getAllBlogs(
-                    PageRequest.of(request.getPage(), request.getSize()));
+            // A cursor seeks past the last blog already seen; without one, a count-free slice is enough
+            // since the response carries no totals.
+            List<BlogSummaryDto> blogs;
+            String nextCursor = null;
+            if (!request.getCursor().isEmpty()) {
+                BlogPageDto blogPage = blogService.scrollBlogs(request.getCursor(), request.getSize());
+                blogs = blogPage.getBlogs();
+                nextCursor = blogPage.getNextCursor();
+            } else {
+                Slice<BlogSummaryDto> blogSlice = blogService.getAllBlogsSlice(PageRequest.of(
+                        request.getPage(), request.getSize(), Sort.by(Sort.Direction.DESC, "createdAt", "id")));
+                blogs = blogSlice.getContent();
+                if (blogSlice.hasNext() && !blogs.isEmpty()) {
+                    BlogSummaryDto last = blogs.get(blogs.size() - 1);
+                    nextCursor = CommentCursor.encode(last.getCreatedAt(), last.getId());
+                }
+            }
 
-            List<Blog> grpcBlogs = blogPage.getContent()
+            List<BlogSummary> grpcBlogs = blogs
                     .stream()
                     .map(this::mapToGrpcBlog)
                     .collect(Collectors.toList());
 
-            BlogResponse response = BlogResponse.newBuilder()
-                    .addAllBlogs(grpcBlogs)
-                    .build();
+            BlogResponse.Builder response = BlogResponse.newBuilder()
+                    .addAllSummaries(grpcBlogs);
+            if (nextCursor != null) {
+                response.setNextCursor(nextCursor);
+            }
 
-            responseObserver.onNext(response);
+            responseObserver.onNext(response.build());
             responseObserver.onCompleted();
-            log.info("Successfully processed getAllBlogs request");
+            log.debug("Successfully processed getAllBlogs request");
 
+        } catch (BadRequestException e) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription(e.getReason())
+                    .asRuntimeException());
         } catch (StatusRuntimeException e) {
             log.error("gRPC error in getAllBlogs: {}", e.getStatus().getDescription(), e);
             responseObserver.onError(e);
@@ -72,16 +99,24 @@ public class BlogGrpcService extends blog.BlogServiceGrpc.BlogServiceImplBase {
         }
     }
 
-    private Blog mapToGrpcBlog(BlogResponseDto dto) {
+    private BlogSummary mapToGrpcBlog(BlogSummaryDto dto) {
         try {
-            return Blog.newBuilder()
+            BlogSummary.Builder builder = BlogSummary.newBuilder()
                     .setId(dto.getId())
                     .setTitle(dto.getTitle())
-                    .setContent(dto.getContent())
+                    .setExcerpt(dto.getExcerpt() == null ? "" : dto.getExcerpt())
                     .setAuthorId(dto.getAuthorId())
                     .setCategory(dto.getCategory())
                     .setTag(dto.getTag())
-                    .build();
+                    .setLikeCount(dto.getLikeCount())
+                    .setCommentCount(dto.getCommentCount());
+            if (dto.getStatus() != null) {
+                builder.setStatus(dto.getStatus().name());
+            }
+            if (dto.getCreatedAt() != null) {
+                builder.setCreatedAt(dto.getCreatedAt().toInstant(ZoneOffset.UTC).toEpochMilli());
+            }
+            return builder.build();
         } catch (Exception e) {
             log.error("Mapping error for blog ID: {}", dto.getId(), e);
             throw Status.INTERNAL
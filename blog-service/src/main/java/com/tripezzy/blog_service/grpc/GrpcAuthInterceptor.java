@@ -0,0 +1,76 @@
+package com.tripezzy.blog_service.grpc;
+
+import com.tripezzy.blog_service.auth.UserContext;
+import com.tripezzy.blog_service.security.JwtVerifier;
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import io.jsonwebtoken.JwtException;
+import net.devh.boot.grpc.server.interceptor.GrpcGlobalServerInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+
+// Callers may forward the end user's access token as "authorization: Bearer ..." metadata. It is
+// verified locally and the user is exposed to service methods through USER_CONTEXT. An invalid
+// token is rejected; a missing one is allowed unless grpc.auth.required is set.
+@GrpcGlobalServerInterceptor
+public class GrpcAuthInterceptor implements ServerInterceptor {
+
+    public static final Context.Key<UserContext> USER_CONTEXT = Context.key("tripezzy-user");
+
+    private static final Metadata.Key<String> AUTHORIZATION =
+            Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER);
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String ADMIN_ROLE = "ADMIN";
+
+    private final JwtVerifier jwtVerifier;
+    private final boolean required;
+
+    public GrpcAuthInterceptor(JwtVerifier jwtVerifier,
+                               @Value("${grpc.auth.required:false}") boolean required) {
+        this.jwtVerifier = jwtVerifier;
+        this.required = required;
+    }
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+                                                                 ServerCallHandler<ReqT, RespT> next) {
+        String authorization = headers.get(AUTHORIZATION);
+        if (authorization == null) {
+            if (required) {
+                return reject(call, "Missing access token");
+            }
+            return next.startCall(call, headers);
+        }
+        if (!authorization.startsWith(BEARER_PREFIX)) {
+            return reject(call, "Malformed authorization metadata");
+        }
+
+        UserContext user;
+        try {
+            user = jwtVerifier.verify(authorization.substring(BEARER_PREFIX.length()));
+        } catch (JwtException | IllegalArgumentException e) {
+            return reject(call, "Invalid access token");
+        }
+        Context context = Context.current().withValue(USER_CONTEXT, user);
+        return Contexts.interceptCall(context, call, headers, next);
+    }
+
+    // For admin-only handlers. A call on behalf of a non-admin user is PERMISSION_DENIED; calls
+    // without a user (service-originated) are governed by grpc.auth.required alone.
+    public static void requireAdmin() {
+        UserContext user = USER_CONTEXT.get();
+        if (user != null && !ADMIN_ROLE.equals(user.getRole())) {
+            throw Status.PERMISSION_DENIED.withDescription("Admin role required").asRuntimeException();
+        }
+    }
+
+    private static <ReqT, RespT> ServerCall.Listener<ReqT> reject(ServerCall<ReqT, RespT> call, String reason) {
+        call.close(Status.UNAUTHENTICATED.withDescription(reason), new Metadata());
+        return new ServerCall.Listener<>() {
+        };
+    }
+}
@@ -0,0 +1,95 @@
+package com.tripezzy.blog_service.pagination;
+
+import com.tripezzy.blog_service.exceptions.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+// Opaque keyset cursor. Top-level pages resume after (createdAt, id); thread pages resume after
+// the materialized path of the last reply returned, which is looked up from its ID.
+public final class CommentCursor {
+
+    private static final String KEY_PREFIX = "k:";
+    private static final String REPLY_PREFIX = "r:";
+
+    private final long createdAtMicros;
+    private final long id;
+
+    private CommentCursor(long createdAtMicros, long id) {
+        this.createdAtMicros = createdAtMicros;
+        this.id = id;
+    }
+
+    public static CommentCursor of(LocalDateTime createdAt, Long id) {
+        return new CommentCursor(toMicros(createdAt), id);
+    }
+
+    public static String encode(LocalDateTime createdAt, Long id) {
+        return encodeRaw(KEY_PREFIX + toMicros(createdAt) + ":" + id);
+    }
+
+    public static CommentCursor decode(String cursor) {
+        String raw = decodeRaw(cursor, KEY_PREFIX);
+        int separator = raw.indexOf(':');
+        try {
+            return new CommentCursor(Long.parseLong(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (NumberFormatException | IndexOutOfBoundsException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    public static String encodeReply(Long replyId) {
+        return encodeRaw(REPLY_PREFIX + replyId);
+    }
+
+    public static long decodeReply(String cursor) {
+        try {
+            return Long.parseLong(decodeRaw(cursor, REPLY_PREFIX));
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    public LocalDateTime getCreatedAt() {
+        long seconds = Math.floorDiv(createdAtMicros, 1_000_000L);
+        int nanos = (int) Math.floorMod(createdAtMicros, 1_000_000L) * 1_000;
+        return LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+    }
+
+    public long getCreatedAtMicros() {
+        return createdAtMicros;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public int compareTo(long otherMicros, long otherId) {
+        int byTime = Long.compare(createdAtMicros, otherMicros);
+        return byTime != 0 ? byTime : Long.compare(id, otherId);
+    }
+
+    private static long toMicros(LocalDateTime createdAt) {
+        return createdAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + createdAt.getNano() / 1_000;
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeRaw(String cursor, String prefix) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+        if (!raw.startsWith(prefix)) {
+            throw new BadRequestException("Invalid cursor");
+        }
+        return raw.substring(prefix.length());
+    }
+}
@@ -1,66 +1,121 @@
 package com.tripezzy.blog_service.repository;
 
+import com.tripezzy.blog_service.dto.BlogSummaryDto;
 import com.tripezzy.blog_service.entity.Blog;
 import com.tripezzy.blog_service.entity.enums.BlogStatus;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface BlogRepository extends JpaRepository<Blog, Long> {
 
+    int EXCERPT_LENGTH = 200;
+
+    String SUMMARY_SELECT = "SELECT new com.tripezzy.blog_service.dto.BlogSummaryDto(" +
+            "b.id, b.title, SUBSTRING(b.content, 1, " + EXCERPT_LENGTH + "), b.authorId, b.category, b.tag, " +
+            "b.status, b.createdAt, b.likeCount, b.commentCount) " +
+            "FROM Blog b ";
+
     @Query("SELECT b FROM Blog b WHERE b.deleted = false AND b.id = :blogId")
     @Cacheable(value = "blog", key = "#blogId")
     Optional<Blog> findById(@Param("blogId") Long blogId);
 
-    @Query("SELECT b FROM Blog b WHERE b.deleted = false AND b.authorId = :authorId")
-    @Cacheable(value = "blogsByAuthor", key = "#authorId + '-' + #pageable.pageNumber + '-' + #pageable.pageSize")
-    Page<Blog> findByAuthorId(@Param("authorId") Long authorId, Pageable pageable);
+    @Query("SELECT b.likeCount FROM Blog b WHERE b.deleted = false AND b.id = :blogId")
+    Optional<Long> findLikeCountById(@Param("blogId") Long blogId);
+
+    boolean existsByIdAndDeletedFalse(Long blogId);
+
+    @Modifying
+    @Query("UPDATE Blog b SET b.commentCount = b.commentCount + :delta WHERE b.id = :blogId")
+    int adjustCommentCount(@Param("blogId") Long blogId, @Param("delta") long delta);
+
+    @Query(value = SUMMARY_SELECT,
+            countQuery = "SELECT COUNT(b) FROM Blog b")
+    Page<BlogSummaryDto> findAllSummaries(Pageable pageable);
 
-    @Query("SELECT b FROM Blog b WHERE b.deleted = false AND b.tag = :tag AND b.status = 'PUBLISHED'")
-    @Cacheable(value = "blogsByTag", key = "#tag + '-' + #pageable.pageNumber + '-' + #pageable.pageSize")
-    Page<Blog> findByTag(@Param("tag") String tag, Pageable pageable);
+    @Query(SUMMARY_SELECT)
+    Slice<BlogSummaryDto> findSummarySlice(Pageable pageable);
 
-    @Cacheable(value = "searchBlogs", key = "#query + '-' + #pageable.pageNumber + '-' + #pageable.pageSize")
-    @Query("SELECT b FROM Blog b WHERE " +
-            "LOWER(b.title) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
-            "LOWER(b.content) LIKE LOWER(CONCAT('%', :query, '%')) AND " +
-            "b.deleted = false AND b.status = 'PUBLISHED'")
-    Page<Blog> searchBlogs(@Param("query") String query, Pageable pageable);
+    @Query(SUMMARY_SELECT + "WHERE b.deleted = false ORDER BY b.createdAt DESC, b.id DESC")
+    List<BlogSummaryDto> findSummaryPage(Limit limit);
 
-    @Cacheable(value = "filterBlogs", key = "#category + '-' + #tag + '-' + #pageable.pageNumber + '-' + #pageable.pageSize")
-    @Query("SELECT b FROM Blog b WHERE " +
+    // Row-value comparison so Postgres can start the idx_blog_created_at_id scan at the cursor.
+    @Query(SUMMARY_SELECT + "WHERE b.deleted = false AND " +
+            "(b.createdAt, b.id) < (:createdAt, :blogId) " +
+            "ORDER BY b.createdAt DESC, b.id DESC")
+    List<BlogSummaryDto> findSummaryPageAfter(
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("blogId") Long blogId,
+            Limit limit);
+
+    @Query(value = SUMMARY_SELECT + "WHERE b.deleted = false AND b.authorId = :authorId",
+            countQuery = "SELECT COUNT(b) FROM Blog b WHERE b.deleted = false AND b.authorId = :authorId")
+    Page<BlogSummaryDto> findSummariesByAuthorId(@Param("authorId") Long authorId, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE b.deleted = false AND b.tag = :tag AND b.status = 'PUBLISHED'",
+            countQuery = "SELECT COUNT(b) FROM Blog b WHERE b.deleted = false AND b.tag = :tag AND b.status = 'PUBLISHED'")
+    Page<BlogSummaryDto> findSummariesByTag(@Param("tag") String tag, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE " +
+            "(LOWER(b.title) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
+            "LOWER(b.content) LIKE LOWER(CONCAT('%', :query, '%'))) AND " +
+            "b.deleted = false AND b.status = 'PUBLISHED'",
+            countQuery = "SELECT COUNT(b) FROM Blog b WHERE " +
+                    "(LOWER(b.title) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
+                    "LOWER(b.content) LIKE LOWER(CONCAT('%', :query, '%'))) AND " +
+                    "b.deleted = false AND b.status = 'PUBLISHED'")
+    Page<BlogSummaryDto> searchSummaries(@Param("query") String query, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE " +
             "(:category IS NULL OR b.category = :category) AND " +
             "(:tag IS NULL OR b.tag LIKE CONCAT('%', :tag, '%')) AND " +
-            "b.deleted = false AND b.status = 'PUBLISHED'")
-    Page<Blog> filterBlogs(
+            "b.deleted = false AND b.status = 'PUBLISHED'",
+            countQuery = "SELECT COUNT(b) FROM Blog b WHERE " +
+                    "(:category IS NULL OR b.category = :category) AND " +
+                    "(:tag IS NULL OR b.tag LIKE CONCAT('%', :tag, '%')) AND " +
+                    "b.deleted = false AND b.status = 'PUBLISHED'")
+    Page<BlogSummaryDto> filterSummaries(
             @Param("category") String category,
             @Param("tag") String tag,
             Pageable pageable);
 
-    @Query("SELECT b FROM Blog b WHERE " +
+    @Query(value = SUMMARY_SELECT + "WHERE " +
             "(:authorId IS NULL OR b.authorId = :authorId) AND " +
             "(:category IS NULL OR b.category = :category) AND " +
             "(:tag IS NULL OR b.tag LIKE CONCAT('%', :tag, '%')) AND " +
-            "b.deleted = false AND b.status = 'PUBLISHED'")
-    @Cacheable(value = "filterBlogs", key = "#authorId + '-' + #status + '-' + #category + '-' + #tag + '-' + #pageable.pageNumber + '-' + #pageable.pageSize")
-    Page<Blog> advanceFilterBlogs(
+            "b.deleted = false AND b.status = 'PUBLISHED'",
+            countQuery = "SELECT COUNT(b) FROM Blog b WHERE " +
+                    "(:authorId IS NULL OR b.authorId = :authorId) AND " +
+                    "(:category IS NULL OR b.category = :category) AND " +
+                    "(:tag IS NULL OR b.tag LIKE CONCAT('%', :tag, '%')) AND " +
+                    "b.deleted = false AND b.status = 'PUBLISHED'")
+    Page<BlogSummaryDto> advanceFilterSummaries(
             @Param("authorId") Long authorId,
             @Param("category") String category,
             @Param("tag") String tag,
             Pageable pageable);
 
-    @Query("SELECT b FROM Blog b WHERE b.deleted = false AND b.category = :category AND b.status = 'PUBLISHED'")
-    @Cacheable(value = "blogsByCategory", key = "#category + '-' + #pageable.pageNumber + '-' + #pageable.pageSize")
-    Page<Blog> findByCategory(@Param("category") String category, Pageable pageable);
+    @Query(value = SUMMARY_SELECT + "WHERE b.deleted = false AND b.category = :category AND b.status = 'PUBLISHED'",
+            countQuery = "SELECT COUNT(b) FROM Blog b WHERE b.deleted = false AND b.category = :category AND b.status = 'PUBLISHED'")
+    Page<BlogSummaryDto> findSummariesByCategory(@Param("category") String category, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE b.id IN :blogIds AND b.deleted = false AND b.status = 'PUBLISHED'")
+    List<BlogSummaryDto> findPublishedSummariesByIdIn(@Param("blogIds") Collection<Long> blogIds);
 
-    @Query("SELECT b FROM Blog b WHERE b.deleted = false AND b.status = :status")
-    @Cacheable(value = "blogsByStatus", key = "#status + '-' + #pageable.pageNumber + '-' + #pageable.pageSize")
-    Page<Blog> findByStatus(@Param("status") BlogStatus status, Pageable pageable);
+    @Query(value = SUMMARY_SELECT + "WHERE b.deleted = false AND b.status = :status",
+            countQuery = "SELECT COUNT(b) FROM Blog b WHERE b.deleted = false AND b.status = :status")
+    Page<BlogSummaryDto> findSummariesByStatus(@Param("status") BlogStatus status, Pageable pageable);
 }
@@ -1,22 +1,56 @@
 package com.tripezzy.blog_service.repository;
 
+import com.tripezzy.blog_service.dto.CommentResponseDto;
 import com.tripezzy.blog_service.entity.Comment;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-    List<Comment> findByBlogId(Long blogId);
+
+    String RESPONSE_SELECT = "SELECT new com.tripezzy.blog_service.dto.CommentResponseDto(" +
+            "c.id, c.parentId, c.userId, c.content, c.depth, c.createdAt, c.updatedAt) " +
+            "FROM Comment c ";
 
     Optional<Comment> findByBlogIdAndId(Long blogId, Long commentId);
 
+    @Query("SELECT c.path FROM Comment c WHERE c.blog.id = :blogId AND c.id = :commentId")
+    Optional<String> findPathByBlogIdAndId(@Param("blogId") Long blogId, @Param("commentId") Long commentId);
+
+    @Query(RESPONSE_SELECT + "WHERE c.blog.id = :blogId AND c.parentId IS NULL " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentResponseDto> findTopLevelPage(@Param("blogId") Long blogId, Limit limit);
+
+    @Query(RESPONSE_SELECT + "WHERE c.blog.id = :blogId AND c.parentId IS NULL AND " +
+            "(c.createdAt, c.id) > (:createdAt, :commentId) " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentResponseDto> findTopLevelPageAfter(
+            @Param("blogId") Long blogId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("commentId") Long commentId,
+            Limit limit);
+
+    // A subtree is the path range [path, pathUpperBound), which bounds the idx_comment_blog_path scan on
+    // both ends; a LIKE prefix match could not.
+    @Query(RESPONSE_SELECT + "WHERE c.blog.id = :blogId AND c.path > :afterPath AND c.path < :pathUpperBound " +
+            "ORDER BY c.path ASC")
+    List<CommentResponseDto> findSubtreePage(
+            @Param("blogId") Long blogId,
+            @Param("afterPath") String afterPath,
+            @Param("pathUpperBound") String pathUpperBound,
+            Limit limit);
+
     @Modifying
-    @Query("UPDATE Comment c SET c.content = :content, c.updatedAt = CURRENT_TIMESTAMP WHERE c.id = :commentId AND c.blog.id = :blogId")
-    int updateCommentContent(@Param("blogId") Long blogId, @Param("commentId") Long commentId, @Param("content") String content);
+    @Query("DELETE FROM Comment c WHERE c.blog.id = :blogId AND c.path >= :path AND c.path < :pathUpperBound")
+    int deleteSubtree(@Param("blogId") Long blogId, @Param("path") String path,
+                      @Param("pathUpperBound") String pathUpperBound);
+
 }
@@ -0,0 +1,40 @@
+package com.tripezzy.blog_service.repository;
+
+import com.tripezzy.blog_service.entity.Follow;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface FollowRepository extends JpaRepository<Follow, Long> {
+
+    long countByAuthorId(Long authorId);
+
+    @Modifying
+    @Query(value = "INSERT INTO follows (follower_id, author_id, created_at) " +
+            "VALUES (:followerId, :authorId, CURRENT_TIMESTAMP) " +
+            "ON CONFLICT (author_id, follower_id) DO NOTHING", nativeQuery = true)
+    int insertIgnoringDuplicate(@Param("followerId") Long followerId, @Param("authorId") Long authorId);
+
+    @Modifying
+    @Query("DELETE FROM Follow f WHERE f.followerId = :followerId AND f.authorId = :authorId")
+    int deleteByFollowerIdAndAuthorId(@Param("followerId") Long followerId, @Param("authorId") Long authorId);
+
+    @Query("SELECT f.followerId FROM Follow f WHERE f.authorId = :authorId AND f.followerId > :afterFollowerId " +
+            "ORDER BY f.followerId ASC")
+    List<Long> findFollowerIdsAfter(
+            @Param("authorId") Long authorId,
+            @Param("afterFollowerId") Long afterFollowerId,
+            Limit limit);
+
+    @Query("SELECT f.authorId FROM Follow f WHERE f.followerId = :followerId AND f.authorId IN :authorIds")
+    List<Long> findFollowedAuthorIdsIn(
+            @Param("followerId") Long followerId,
+            @Param("authorIds") Collection<Long> authorIds);
+}
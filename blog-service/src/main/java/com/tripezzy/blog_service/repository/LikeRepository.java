@@ -2,6 +2,7 @@ package com.tripezzy.blog_service.repository;
 
 import com.tripezzy.blog_service.entity.Like;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -9,8 +10,16 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface LikeRepository extends JpaRepository<Like, Long> {
 
-    @Query("SELECT COUNT(l) FROM Like l WHERE l.blog.id = :blogId")
-    int countByBlogId(@Param("blogId") Long blogId);
-
     boolean existsByBlogIdAndUser(Long blogId, Long userId);
+
+    @Modifying
+    @Query(value = "INSERT INTO likes (blog_id, user_id, created_at) " +
+            "SELECT b.id, :userId, CURRENT_TIMESTAMP FROM blogs b " +
+            "WHERE b.id = :blogId AND b.deleted = false " +
+            "ON CONFLICT (blog_id, user_id) DO NOTHING", nativeQuery = true)
+    int insertIgnoringDuplicate(@Param("blogId") Long blogId, @Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM Like l WHERE l.id = :likeId AND l.blog.id = :blogId AND l.user = :userId")
+    int deleteByIdAndBlogIdAndUser(@Param("likeId") Long likeId, @Param("blogId") Long blogId, @Param("userId") Long userId);
 }
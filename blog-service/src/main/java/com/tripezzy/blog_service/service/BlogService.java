@@ -1,25 +1,32 @@
 package com.tripezzy.blog_service.service;
 
 import com.tripezzy.blog_service.dto.BlogDto;
+import com.tripezzy.blog_service.dto.BlogPageDto;
 import com.tripezzy.blog_service.dto.BlogResponseDto;
+import com.tripezzy.blog_service.dto.BlogSummaryDto;
 import com.tripezzy.blog_service.dto.CommentDto;
+import com.tripezzy.blog_service.dto.CommentPageDto;
+import com.tripezzy.blog_service.dto.CommentResponseDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-
-import java.util.List;
+import org.springframework.data.domain.Slice;
 
 public interface BlogService {
     BlogResponseDto createBlog(BlogDto blogDto);
 
     BlogResponseDto getBlogById(Long blogId);
 
-    Page<BlogResponseDto> getAllBlogs(Pageable pageable);
+    Page<BlogSummaryDto> getAllBlogs(Pageable pageable);
+
+    Slice<BlogSummaryDto> getAllBlogsSlice(Pageable pageable);
+
+    BlogPageDto scrollBlogs(String cursor, int size);
 
-    Page<BlogResponseDto> getBlogsByAuthorId(Long authorId, Pageable pageable);
+    Page<BlogSummaryDto> getBlogsByAuthorId(Long authorId, Pageable pageable);
 
-    Page<BlogResponseDto> getBlogsByTag(String tag, Pageable pageable);
+    Page<BlogSummaryDto> getBlogsByTag(String tag, Pageable pageable);
 
-    Page<BlogResponseDto> getBlogsByCategory(String category, Pageable pageable);
+    Page<BlogSummaryDto> getBlogsByCategory(String category, Pageable pageable);
 
     BlogResponseDto updateBlog(Long blogId, BlogDto blogDto);
 
@@ -29,7 +36,7 @@ public interface BlogService {
 
     void removeLikeFromBlog(Long blogId, Long likeId);
 
-    CommentDto addCommentToBlog(Long blogId, CommentDto commentDto);
+    CommentResponseDto addCommentToBlog(Long blogId, CommentDto commentDto);
 
     void updateComment(Long blogId, Long commentId, String content);
 
@@ -37,21 +44,25 @@ public interface BlogService {
 
     Integer getLikesCountForBlog(Long blogId);
 
-    List<CommentDto> getCommentsForBlog(Long blogId);
+    CommentPageDto getCommentsForBlog(Long blogId, String cursor, int size);
 
-    Page<BlogResponseDto> searchBlogs(String query, Pageable pageable);
+    CommentPageDto getCommentThread(Long blogId, Long commentId, String cursor, int size);
 
-    Page<BlogResponseDto> filterBlogs(String category, String tags, Pageable pageable);
+    Page<BlogSummaryDto> searchBlogs(String query, Pageable pageable);
+
+    Page<BlogSummaryDto> filterBlogs(String category, String tags, Pageable pageable);
 
     BlogResponseDto updateBlogStatus(Long blogId, String status);
 
     void softDeleteBlog(Long blogId);
 
-    Page<BlogResponseDto> advanceFilterBlogs(
+    Page<BlogSummaryDto> advanceFilterBlogs(
             Long authorId,
             String category,
             String tags,
             Pageable pageable);
 
-    Page<BlogResponseDto> getPublishedBlogs(Pageable pageable);
+    Page<BlogSummaryDto> getPublishedBlogs(Pageable pageable);
+
+    Page<BlogSummaryDto> getTrendingBlogs(Pageable pageable);
 }
@@ -0,0 +1,11 @@
+package com.tripezzy.blog_service.service;
+
+import com.tripezzy.blog_service.dto.FeedPageDto;
+
+public interface FeedService {
+    void followAuthor(Long authorId);
+
+    void unfollowAuthor(Long authorId);
+
+    FeedPageDto getFeed(Long cursor, int size);
+}
@@ -2,9 +2,16 @@ package com.tripezzy.blog_service.service.implementation;
 
 import com.tripezzy.blog_service.auth.UserContext;
 import com.tripezzy.blog_service.auth.UserContextHolder;
+import com.tripezzy.blog_service.cache.CommentPageCache;
+import com.tripezzy.blog_service.counter.BlogLikers;
+import com.tripezzy.blog_service.counter.LikeCounter;
 import com.tripezzy.blog_service.dto.BlogDto;
+import com.tripezzy.blog_service.dto.BlogPageDto;
 import com.tripezzy.blog_service.dto.BlogResponseDto;
+import com.tripezzy.blog_service.dto.BlogSummaryDto;
 import com.tripezzy.blog_service.dto.CommentDto;
+import com.tripezzy.blog_service.dto.CommentPageDto;
+import com.tripezzy.blog_service.dto.CommentResponseDto;
 import com.tripezzy.blog_service.entity.Blog;
 import com.tripezzy.blog_service.entity.Comment;
 import com.tripezzy.blog_service.entity.Like;
@@ -13,10 +20,12 @@ import com.tripezzy.blog_service.events.BlogCommentedEvent;
 import com.tripezzy.blog_service.events.BlogCreatedEvent;
 import com.tripezzy.blog_service.events.BlogLikedEvent;
 import com.tripezzy.blog_service.exceptions.*;
+import com.tripezzy.blog_service.pagination.CommentCursor;
 import com.tripezzy.blog_service.repository.BlogRepository;
 import com.tripezzy.blog_service.repository.CommentRepository;
 import com.tripezzy.blog_service.repository.LikeRepository;
 import com.tripezzy.blog_service.service.BlogService;
+import com.tripezzy.blog_service.trending.TrendingFeed;
 import org.modelmapper.MappingException;
 import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
@@ -24,24 +33,37 @@ import org.slf4j.LoggerFactory;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.kafka.KafkaException;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Service
 public class BlogServiceImpl implements BlogService {
 
     private static final Logger log = LoggerFactory.getLogger(BlogServiceImpl.class);
+    private static final int MAX_COMMENT_PAGE_SIZE = 100;
+    private static final int MAX_BLOG_PAGE_SIZE = 100;
+    // Each path segment is 20 characters, so 12 levels fit the 255-character path column.
+    private static final int MAX_COMMENT_DEPTH = 12;
     private final BlogRepository blogRepository;
     private final LikeRepository likeRepository;
     private final CommentRepository commentRepository;
     private final ModelMapper modelMapper;
+    private final LikeCounter likeCounter;
+    private final BlogLikers blogLikers;
+    private final CommentPageCache commentPageCache;
+    private final TrendingFeed trendingFeed;
 
     private final KafkaTemplate<Long, BlogCreatedEvent> kafkaBlogCreatedTemplate;
     private final KafkaTemplate<Long, BlogLikedEvent> kafkaBlogLikedTemplate;
@@ -51,6 +73,10 @@ public class BlogServiceImpl implements BlogService {
                            LikeRepository likeRepository,
                            CommentRepository commentRepository,
                            ModelMapper modelMapper,
+                           LikeCounter likeCounter,
+                           BlogLikers blogLikers,
+                           CommentPageCache commentPageCache,
+                           TrendingFeed trendingFeed,
                            KafkaTemplate<Long, BlogCreatedEvent> kafkaBlogCreatedTemplate,
                            KafkaTemplate<Long, BlogLikedEvent> kafkaBlogLikedTemplate,
                            KafkaTemplate<Long, BlogCommentedEvent> kafkaBlogCommentedTemplate) {
@@ -58,6 +84,10 @@ public class BlogServiceImpl implements BlogService {
         this.likeRepository = likeRepository;
         this.commentRepository = commentRepository;
         this.modelMapper = modelMapper;
+        this.likeCounter = likeCounter;
+        this.blogLikers = blogLikers;
+        this.commentPageCache = commentPageCache;
+        this.trendingFeed = trendingFeed;
         this.kafkaBlogCreatedTemplate = kafkaBlogCreatedTemplate;
         this.kafkaBlogLikedTemplate = kafkaBlogLikedTemplate;
         this.kafkaBlogCommentedTemplate = kafkaBlogCommentedTemplate;
@@ -129,8 +159,8 @@ public class BlogServiceImpl implements BlogService {
     }
 
     @Override
-    @Cacheable(value = "blogs", key = "#pageable.pageNumber + '-' + #pageable.pageSize")
-    public Page<BlogResponseDto> getAllBlogs(Pageable pageable) {
+    @Cacheable(value = "blogSummaries", key = "#pageable.pageNumber + '-' + #pageable.pageSize")
+    public Page<BlogSummaryDto> getAllBlogs(Pageable pageable) {
         try {
             log.info("Fetching all blogs (paginated)");
 
@@ -138,15 +168,7 @@ public class BlogServiceImpl implements BlogService {
                 throw new BadRequestException("Pageable cannot be null");
             }
 
-            return blogRepository.findAll(pageable)
-                    .map(blog -> {
-                        try {
-                            return modelMapper.map(blog, BlogResponseDto.class);
-                        } catch (MappingException ex) {
-                            log.error("Mapping error for blog ID {}", blog.getId(), ex);
-                            throw new IllegalState("Failed to map blog data");
-                        }
-                    });
+            return blogRepository.findAllSummaries(pageable);
 
         } catch (DataAccessException ex) {
             log.error("Database error while fetching all blogs", ex);
@@ -154,6 +176,50 @@ public class BlogServiceImpl implements BlogService {
         }
     }
 
+    @Override
+    public Slice<BlogSummaryDto> getAllBlogsSlice(Pageable pageable) {
+        try {
+            log.info("Fetching slice of blogs - page: {}, size: {}", pageable.getPageNumber(), pageable.getPageSize());
+            return blogRepository.findSummarySlice(pageable);
+
+        } catch (DataAccessException ex) {
+            log.error("Database error while fetching blogs slice", ex);
+            throw new ServiceUnavailable("Unable to retrieve blogs at this time");
+        }
+    }
+
+    @Override
+    public BlogPageDto scrollBlogs(String cursor, int size) {
+        try {
+            log.info("Scrolling blogs with page size: {}", size);
+
+            if (size < 1 || size > MAX_BLOG_PAGE_SIZE) {
+                throw new BadRequestException("Page size must be between 1 and " + MAX_BLOG_PAGE_SIZE);
+            }
+
+            // Blogs resume after (createdAt, id) like top-level comments, so the cursor encoding is shared.
+            List<BlogSummaryDto> blogs;
+            if (cursor == null || cursor.isBlank()) {
+                blogs = blogRepository.findSummaryPage(Limit.of(size + 1));
+            } else {
+                CommentCursor after = CommentCursor.decode(cursor);
+                blogs = blogRepository.findSummaryPageAfter(after.getCreatedAt(), after.getId(), Limit.of(size + 1));
+            }
+
+            String nextCursor = null;
+            if (blogs.size() > size) {
+                blogs = new ArrayList<>(blogs.subList(0, size));
+                BlogSummaryDto last = blogs.get(size - 1);
+                nextCursor = CommentCursor.encode(last.getCreatedAt(), last.getId());
+            }
+            return new BlogPageDto(blogs, nextCursor);
+
+        } catch (DataAccessException ex) {
+            log.error("Database error while scrolling blogs", ex);
+            throw new ServiceUnavailable("Unable to retrieve blogs at this time");
+        }
+    }
+
     @Override
     @Transactional
     @CacheEvict(value = "blog", key = "#blogId")
@@ -222,6 +288,7 @@ public class BlogServiceImpl implements BlogService {
             }
 
             blogRepository.delete(blog);
+            trendingFeed.remove(blogId);
             log.info("Blog deleted successfully with ID: {}", blogId);
 
         } catch (DataAccessException ex) {
@@ -245,27 +312,28 @@ public class BlogServiceImpl implements BlogService {
                 throw new AccessForbidden("Authentication required");
             }
 
-            Blog blog = blogRepository.findById(blogId)
-                    .orElseThrow(() -> new ResourceNotFound("Blog not found with ID: " + blogId));
-
             Long userId = userContext.getUserId();
-            boolean alreadyLiked = likeRepository.existsByBlogIdAndUser(blogId, userId);
-            if (alreadyLiked) {
+            if (blogLikers.contains(blogId, userId)) {
                 throw new IllegalState("User has already liked this blog");
             }
 
-            Like like = new Like();
-            like.setBlog(blog);
-            like.setUserId(userId);
-
-            Like savedLike = likeRepository.save(like);
-            log.info("Like added successfully with ID: {}", savedLike.getId());
+            if (likeRepository.insertIgnoringDuplicate(blogId, userId) == 0) {
+                if (!blogRepository.existsByIdAndDeletedFalse(blogId)) {
+                    throw new ResourceNotFound("Blog not found with ID: " + blogId);
+                }
+                blogLikers.add(blogId, userId);
+                throw new IllegalState("User has already liked this blog");
+            }
+            log.info("Like added successfully to blog ID: {} by user ID: {}", blogId, userId);
 
             log.info("Sending blog liked event");
             BlogLikedEvent blogLikedEvent = new BlogLikedEvent(blogId, userId);
             kafkaBlogLikedTemplate.send("blog-liked", blogId, blogLikedEvent);
             log.info("Blog liked event sent");
 
+            likeCounter.increment(blogId);
+            blogLikers.add(blogId, userId);
+
         } catch (DataAccessException ex) {
             log.error("Database error while adding like to blog ID {}", blogId, ex);
             throw new DataIntegrityViolation("Failed to add like due to database error");
@@ -276,26 +344,42 @@ public class BlogServiceImpl implements BlogService {
     }
 
     @Override
-    @Cacheable(value = "commentsForBlog", key = "#blogId")
-    public List<CommentDto> getCommentsForBlog(Long blogId) {
+    @Transactional(readOnly = true)
+    public CommentPageDto getCommentsForBlog(Long blogId, String cursor, int size) {
         try {
             log.info("Fetching comments for blog with ID: {}", blogId);
 
             if (blogId == null || blogId <= 0) {
                 throw new BadRequestException("Invalid blog ID");
             }
+            if (size < 1 || size > MAX_COMMENT_PAGE_SIZE) {
+                throw new BadRequestException("Page size must be between 1 and " + MAX_COMMENT_PAGE_SIZE);
+            }
 
-            List<Comment> comments = commentRepository.findByBlogId(blogId);
-            return comments.stream()
-                    .map(comment -> {
-                        try {
-                            return modelMapper.map(comment, CommentDto.class);
-                        } catch (MappingException ex) {
-                            log.error("Mapping error for comment ID {}", comment.getId(), ex);
-                            throw new IllegalState("Failed to map comment data");
-                        }
-                    })
-                    .collect(Collectors.toList());
+            CommentPageDto cached = commentPageCache.get(blogId, cursor, size);
+            if (cached != null) {
+                return cached;
+            }
+
+            List<CommentResponseDto> comments;
+            if (cursor == null) {
+                comments = commentRepository.findTopLevelPage(blogId, Limit.of(size + 1));
+            } else {
+                CommentCursor after = CommentCursor.decode(cursor);
+                comments = commentRepository.findTopLevelPageAfter(
+                        blogId, after.getCreatedAt(), after.getId(), Limit.of(size + 1));
+            }
+
+            String nextCursor = null;
+            if (comments.size() > size) {
+                comments = new ArrayList<>(comments.subList(0, size));
+                CommentResponseDto last = comments.get(size - 1);
+                nextCursor = CommentCursor.encode(last.getCreatedAt(), last.getId());
+            }
+
+            CommentPageDto page = new CommentPageDto(comments, nextCursor);
+            commentPageCache.put(blogId, cursor, size, page);
+            return page;
 
         } catch (DataAccessException ex) {
             log.error("Database error while fetching comments for blog ID {}", blogId, ex);
@@ -303,6 +387,51 @@ public class BlogServiceImpl implements BlogService {
         }
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CommentPageDto getCommentThread(Long blogId, Long commentId, String cursor, int size) {
+        try {
+            log.info("Fetching replies for comment ID: {} on blog ID: {}", commentId, blogId);
+
+            if (blogId == null || blogId <= 0) {
+                throw new BadRequestException("Invalid blog ID");
+            }
+            if (commentId == null || commentId <= 0) {
+                throw new BadRequestException("Invalid comment ID");
+            }
+            if (size < 1 || size > MAX_COMMENT_PAGE_SIZE) {
+                throw new BadRequestException("Page size must be between 1 and " + MAX_COMMENT_PAGE_SIZE);
+            }
+
+            Comment root = commentRepository.findByBlogIdAndId(blogId, commentId)
+                    .orElseThrow(() -> new ResourceNotFound("Comment not found with ID: " + commentId));
+            if (root.getPath() == null) {
+                throw new IllegalState("Comment thread is not indexed yet");
+            }
+
+            String afterPath = root.getPath();
+            if (cursor != null) {
+                afterPath = commentRepository.findPathByBlogIdAndId(blogId, CommentCursor.decodeReply(cursor))
+                        .filter(path -> path.startsWith(root.getPath()))
+                        .orElseThrow(() -> new BadRequestException("Invalid cursor"));
+            }
+
+            List<CommentResponseDto> replies = commentRepository.findSubtreePage(
+                    blogId, afterPath, pathUpperBound(root.getPath()), Limit.of(size + 1));
+
+            String nextCursor = null;
+            if (replies.size() > size) {
+                replies = new ArrayList<>(replies.subList(0, size));
+                nextCursor = CommentCursor.encodeReply(replies.get(size - 1).getId());
+            }
+            return new CommentPageDto(replies, nextCursor);
+
+        } catch (DataAccessException ex) {
+            log.error("Database error while fetching replies for comment ID {}", commentId, ex);
+            throw new ServiceUnavailable("Unable to retrieve comments at this time");
+        }
+    }
+
     @Override
     @Transactional
     @CacheEvict(value = "blog", key = "#blogId")
@@ -329,6 +458,9 @@ public class BlogServiceImpl implements BlogService {
 
             blog.setStatus(blogStatus);
             Blog updatedBlog = blogRepository.save(blog);
+            if (blogStatus != BlogStatus.PUBLISHED) {
+                trendingFeed.remove(blogId);
+            }
             log.info("Blog status updated successfully with ID: {}", blogId);
 
             return modelMapper.map(updatedBlog, BlogResponseDto.class);
@@ -340,8 +472,8 @@ public class BlogServiceImpl implements BlogService {
     }
 
     @Override
-    @Cacheable(value = "blogsByAuthor", key = "#authorId + '-' + #pageable.pageNumber + '-' + #pageable.pageSize")
-    public Page<BlogResponseDto> getBlogsByAuthorId(Long authorId, Pageable pageable) {
+    @Cacheable(value = "blogSummariesByAuthor", key = "#authorId + '-' + #pageable.pageNumber + '-' + #pageable.pageSize")
+    public Page<BlogSummaryDto> getBlogsByAuthorId(Long authorId, Pageable pageable) {
         try {
             log.info("Fetching blogs by author ID: {}", authorId);
 
@@ -352,15 +484,7 @@ public class BlogServiceImpl implements BlogService {
                 throw new BadRequestException("Pageable cannot be null");
             }
 
-            return blogRepository.findByAuthorId(authorId, pageable)
-                    .map(blog -> {
-                        try {
-                            return modelMapper.map(blog, BlogResponseDto.class);
-                        } catch (MappingException ex) {
-                            log.error("Mapping error for blog ID {}", blog.getId(), ex);
-                            throw new IllegalState("Failed to map blog data");
-                        }
-                    });
+            return blogRepository.findSummariesByAuthorId(authorId, pageable);
 
         } catch (DataAccessException ex) {
             log.error("Database error while fetching blogs by author ID {}", authorId, ex);
@@ -369,8 +493,8 @@ public class BlogServiceImpl implements BlogService {
     }
 
     @Override
-    @Cacheable(value = "blogsByTags", key = "#tag + '-' + #pageable.pageNumber + '-' + #pageable.pageSize")
-    public Page<BlogResponseDto> getBlogsByTag(String tag, Pageable pageable) {
+    @Cacheable(value = "blogSummariesByTag", key = "#tag + '-' + #pageable.pageNumber + '-' + #pageable.pageSize")
+    public Page<BlogSummaryDto> getBlogsByTag(String tag, Pageable pageable) {
         try {
             log.info("Fetching blogs by tag: {}", tag);
 
@@ -381,15 +505,7 @@ public class BlogServiceImpl implements BlogService {
                 throw new BadRequestException("Pageable cannot be null");
             }
 
-            return blogRepository.findByTag(tag, pageable)
-                    .map(blog -> {
-                        try {
-                            return modelMapper.map(blog, BlogResponseDto.class);
-                        } catch (MappingException ex) {
-                            log.error("Mapping error for blog ID {}", blog.getId(), ex);
-                            throw new IllegalState("Failed to map blog data");
-                        }
-                    });
+            return blogRepository.findSummariesByTag(tag, pageable);
 
         } catch (DataAccessException ex) {
             log.error("Database error while fetching blogs by tag {}", tag, ex);
@@ -398,8 +514,8 @@ public class BlogServiceImpl implements BlogService {
     }
 
     @Override
-    @Cacheable(value = "blogsByCategory", key = "#category + '-' + #pageable.pageNumber + '-' + #pageable.pageSize")
-    public Page<BlogResponseDto> getBlogsByCategory(String category, Pageable pageable) {
+    @Cacheable(value = "blogSummariesByCategory", key = "#category + '-' + #pageable.pageNumber + '-' + #pageable.pageSize")
+    public Page<BlogSummaryDto> getBlogsByCategory(String category, Pageable pageable) {
         try {
             log.info("Fetching blogs by category: {}", category);
 
@@ -410,15 +526,7 @@ public class BlogServiceImpl implements BlogService {
                 throw new BadRequestException("Pageable cannot be null");
             }
 
-            return blogRepository.findByCategory(category, pageable)
-                    .map(blog -> {
-                        try {
-                            return modelMapper.map(blog, BlogResponseDto.class);
-                        } catch (MappingException ex) {
-                            log.error("Mapping error for blog ID {}", blog.getId(), ex);
-                            throw new IllegalState("Failed to map blog data");
-                        }
-                    });
+            return blogRepository.findSummariesByCategory(category, pageable);
 
         } catch (DataAccessException ex) {
             log.error("Database error while fetching blogs by category {}", category, ex);
@@ -427,8 +535,8 @@ public class BlogServiceImpl implements BlogService {
     }
 
     @Override
-    @Cacheable(value = "publishedBlogs", key = "#pageable.pageNumber + '-' + #pageable.pageSize")
-    public Page<BlogResponseDto> getPublishedBlogs(Pageable pageable) {
+    @Cacheable(value = "publishedBlogSummaries", key = "#pageable.pageNumber + '-' + #pageable.pageSize")
+    public Page<BlogSummaryDto> getPublishedBlogs(Pageable pageable) {
         try {
             log.info("Fetching published blogs");
 
@@ -436,15 +544,7 @@ public class BlogServiceImpl implements BlogService {
                 throw new BadRequestException("Pageable cannot be null");
             }
 
-            return blogRepository.findByStatus(BlogStatus.PUBLISHED, pageable)
-                    .map(blog -> {
-                        try {
-                            return modelMapper.map(blog, BlogResponseDto.class);
-                        } catch (MappingException ex) {
-                            log.error("Mapping error for blog ID {}", blog.getId(), ex);
-                            throw new IllegalState("Failed to map blog data");
-                        }
-                    });
+            return blogRepository.findSummariesByStatus(BlogStatus.PUBLISHED, pageable);
 
         } catch (DataAccessException ex) {
             log.error("Database error while fetching published blogs", ex);
@@ -452,6 +552,41 @@ public class BlogServiceImpl implements BlogService {
         }
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Page<BlogSummaryDto> getTrendingBlogs(Pageable pageable) {
+        try {
+            log.info("Fetching trending blogs");
+
+            if (pageable == null) {
+                throw new BadRequestException("Pageable cannot be null");
+            }
+
+            List<Long> rankedIds = trendingFeed.top(pageable.getOffset(), pageable.getPageSize());
+            if (rankedIds.isEmpty()) {
+                return new PageImpl<>(List.of(), pageable, trendingFeed.size());
+            }
+
+            Map<Long, BlogSummaryDto> summaries = new HashMap<>();
+            for (BlogSummaryDto summary : blogRepository.findPublishedSummariesByIdIn(rankedIds)) {
+                summaries.put(summary.getId(), summary);
+            }
+            List<BlogSummaryDto> ranked = new ArrayList<>(rankedIds.size());
+            for (Long blogId : rankedIds) {
+                BlogSummaryDto summary = summaries.get(blogId);
+                if (summary != null) {
+                    ranked.add(summary);
+                }
+            }
+            return new PageImpl<>(ranked, pageable, trendingFeed.size());
+
+        } catch (DataAccessException ex) {
+            // Covers both Redis and database failures.
+            log.error("Data access error while fetching trending blogs", ex);
+            throw new ServiceUnavailable("Unable to retrieve trending blogs at this time");
+        }
+    }
+
     @Override
     @Transactional
     public void removeLikeFromBlog(Long blogId, Long likeId) {
@@ -470,15 +605,19 @@ public class BlogServiceImpl implements BlogService {
                 throw new AccessForbidden("Authentication required");
             }
 
-            Like like = likeRepository.findById(likeId)
-                    .orElseThrow(() -> new ResourceNotFound("Like not found with ID: " + likeId));
-
-            
-            if (!like.getUserId().equals(userContext.getUserId())) {
-                throw new AccessForbidden("You are not authorized to remove this like");
-            }
-
-            likeRepository.delete(like);
+            Long userId = userContext.getUserId();
+            if (likeRepository.deleteByIdAndBlogIdAndUser(likeId, blogId, userId) == 0) {
+                Like like = likeRepository.findById(likeId)
+                        .filter(existing -> existing.getBlog().getId().equals(blogId))
+                        .orElseThrow(() -> new ResourceNotFound("Like not found with ID: " + likeId));
+                if (!like.getUserId().equals(userId)) {
+                    throw new AccessForbidden("You are not authorized to remove this like");
+                }
+                throw new ResourceNotFound("Like not found with ID: " + likeId);
+            }
+
+            likeCounter.decrement(blogId);
+            blogLikers.remove(blogId, userId);
             log.info("Like removed successfully with ID: {}", likeId);
 
         } catch (DataAccessException ex) {
@@ -489,7 +628,8 @@ public class BlogServiceImpl implements BlogService {
 
     @Override
     @Transactional
-    public CommentDto addCommentToBlog(Long blogId, CommentDto commentDto) {
+    @CacheEvict(value = "blog", key = "#blogId")
+    public CommentResponseDto addCommentToBlog(Long blogId, CommentDto commentDto) {
         try {
             log.info("Adding comment to blog with ID: {}", blogId);
 
@@ -508,26 +648,45 @@ public class BlogServiceImpl implements BlogService {
             Blog blog = blogRepository.findById(blogId)
                     .orElseThrow(() -> new ResourceNotFound("Blog not found with ID: " + blogId));
 
-            Comment comment = modelMapper.map(commentDto, Comment.class);
+            Comment parent = null;
+            if (commentDto.getParentId() != null) {
+                parent = commentRepository.findByBlogIdAndId(blogId, commentDto.getParentId())
+                        .orElseThrow(() -> new ResourceNotFound("Parent comment not found with ID: " + commentDto.getParentId()));
+                if (parent.getPath() == null) {
+                    throw new IllegalState("Parent comment is not indexed yet");
+                }
+                if (parent.getDepth() + 1 >= MAX_COMMENT_DEPTH) {
+                    throw new BadRequestException("Replies cannot be nested more than " + MAX_COMMENT_DEPTH + " levels deep");
+                }
+            }
+
+            Comment comment = new Comment();
+            comment.setContent(commentDto.getContent());
             comment.setBlog(blog);
             comment.setUserId(userContext.getUserId());
+            comment.setParentId(parent == null ? null : parent.getId());
+            comment.setDepth(parent == null ? 0 : parent.getDepth() + 1);
 
             Comment savedComment = commentRepository.save(comment);
+            // The path embeds the generated ID, so it is filled in once the insert has assigned one.
+            savedComment.setPath((parent == null ? "" : parent.getPath()) + pathSegment(savedComment.getId()));
+            blogRepository.adjustCommentCount(blogId, 1);
             log.info("Comment added successfully with ID: {}", savedComment.getId());
 
+            if (parent == null) {
+                commentPageCache.invalidate(blogId, savedComment.getCreatedAt(), savedComment.getId());
+            }
+
             log.info("Sending blog commented event");
             BlogCommentedEvent blogCommentedEvent = new BlogCommentedEvent(blogId, userContext.getUserId(), savedComment.getId());
             kafkaBlogCommentedTemplate.send("blog-commented", savedComment.getId() ,blogCommentedEvent);
             log.info("Blog commented event sent");
 
-            return modelMapper.map(savedComment, CommentDto.class);
+            return toResponse(savedComment);
 
         } catch (DataAccessException ex) {
             log.error("Database error while adding comment to blog ID {}", blogId, ex);
             throw new DataIntegrityViolation("Failed to add comment due to database error");
-        } catch (MappingException ex) {
-            log.error("Mapping error while adding comment", ex);
-            throw new IllegalState("Failed to map comment data");
         } catch (KafkaException ex) {
             log.error("Kafka error while sending blog commented event", ex);
             throw new KafkaException("Failed to send blog commented event");
@@ -536,6 +695,7 @@ public class BlogServiceImpl implements BlogService {
 
     @Override
     @Transactional
+    @CacheEvict(value = "blog", key = "#blogId")
     public void updateComment(Long blogId, Long commentId, String content) {
         try {
             log.info("Updating comment content for ID: {} on blog ID: {}", commentId, blogId);
@@ -567,6 +727,10 @@ public class BlogServiceImpl implements BlogService {
             commentRepository.save(comment);
             log.info("Comment content updated successfully for ID: {}", commentId);
 
+            if (comment.getParentId() == null) {
+                commentPageCache.invalidate(blogId, comment.getCreatedAt(), comment.getId());
+            }
+
         } catch (DataAccessException ex) {
             log.error("Database error while updating comment ID {}", commentId, ex);
             throw new DataIntegrityViolation("Failed to update comment due to database error");
@@ -575,6 +739,7 @@ public class BlogServiceImpl implements BlogService {
 
     @Override
     @Transactional
+    @CacheEvict(value = "blog", key = "#blogId")
     public void deleteComment(Long blogId, Long commentId) {
         try {
             log.info("Deleting comment with ID: {} from blog with ID: {}", commentId, blogId);
@@ -599,8 +764,19 @@ public class BlogServiceImpl implements BlogService {
                 throw new AccessForbidden("You are not authorized to delete this comment");
             }
 
-            commentRepository.delete(comment);
-            log.info("Comment deleted successfully with ID: {}", commentId);
+            int removed;
+            if (comment.getPath() != null) {
+                removed = commentRepository.deleteSubtree(blogId, comment.getPath(), pathUpperBound(comment.getPath()));
+            } else {
+                commentRepository.delete(comment);
+                removed = 1;
+            }
+            blogRepository.adjustCommentCount(blogId, -removed);
+            log.info("Deleted comment ID: {} and {} replies", commentId, removed - 1);
+
+            if (comment.getParentId() == null) {
+                commentPageCache.invalidate(blogId, comment.getCreatedAt(), comment.getId());
+            }
 
         } catch (DataAccessException ex) {
             log.error("Database error while deleting comment ID {}", commentId, ex);
@@ -609,7 +785,6 @@ public class BlogServiceImpl implements BlogService {
     }
 
     @Override
-    @Cacheable(value = "likesForBlog", key = "#blogId")
     public Integer getLikesCountForBlog(Long blogId) {
         try {
             log.info("Fetching likes count for blog with ID: {}", blogId);
@@ -618,7 +793,10 @@ public class BlogServiceImpl implements BlogService {
                 throw new BadRequestException("Invalid blog ID");
             }
 
-            return likeRepository.countByBlogId(blogId);
+            long likeCount = blogRepository.findLikeCountById(blogId)
+                    .orElseThrow(() -> new ResourceNotFound("Blog not found with ID: " + blogId));
+
+            return (int) Math.max(0, likeCount + likeCounter.pendingDelta(blogId));
 
         } catch (DataAccessException ex) {
             log.error("Database error while fetching likes count for blog ID {}", blogId, ex);
@@ -627,8 +805,8 @@ public class BlogServiceImpl implements BlogService {
     }
 
     @Override
-    @Cacheable(value = "searchBlogs", key = "#query + '-' + #pageable.pageNumber + '-' + #pageable.pageSize")
-    public Page<BlogResponseDto> searchBlogs(String query, Pageable pageable) {
+    @Cacheable(value = "searchBlogSummaries", key = "#query + '-' + #pageable.pageNumber + '-' + #pageable.pageSize")
+    public Page<BlogSummaryDto> searchBlogs(String query, Pageable pageable) {
         try {
             log.info("Searching blogs with query: {}", query);
 
@@ -639,15 +817,7 @@ public class BlogServiceImpl implements BlogService {
                 throw new BadRequestException("Pageable cannot be null");
             }
 
-            return blogRepository.searchBlogs(query, pageable)
-                    .map(blog -> {
-                        try {
-                            return modelMapper.map(blog, BlogResponseDto.class);
-                        } catch (MappingException ex) {
-                            log.error("Mapping error for blog ID {}", blog.getId(), ex);
-                            throw new IllegalState("Failed to map blog data");
-                        }
-                    });
+            return blogRepository.searchSummaries(query, pageable);
 
         } catch (DataAccessException ex) {
             log.error("Database error while searching blogs with query {}", query, ex);
@@ -656,8 +826,8 @@ public class BlogServiceImpl implements BlogService {
     }
 
     @Override
-    @Cacheable(value = "filterBlogs", key = "#category + '-' + #tags + '-' + #pageable.pageNumber + '-' + #pageable.pageSize")
-    public Page<BlogResponseDto> filterBlogs(String category, String tags, Pageable pageable) {
+    @Cacheable(value = "filterBlogSummaries", key = "#category + '-' + #tags + '-' + #pageable.pageNumber + '-' + #pageable.pageSize")
+    public Page<BlogSummaryDto> filterBlogs(String category, String tags, Pageable pageable) {
         try {
             log.info("Filtering blogs with category: {} and tags: {}", category, tags);
 
@@ -665,15 +835,7 @@ public class BlogServiceImpl implements BlogService {
                 throw new BadRequestException("Pageable cannot be null");
             }
 
-            return blogRepository.filterBlogs(category, tags, pageable)
-                    .map(blog -> {
-                        try {
-                            return modelMapper.map(blog, BlogResponseDto.class);
-                        } catch (MappingException ex) {
-                            log.error("Mapping error for blog ID {}", blog.getId(), ex);
-                            throw new IllegalState("Failed to map blog data");
-                        }
-                    });
+            return blogRepository.filterSummaries(category, tags, pageable);
 
         } catch (DataAccessException ex) {
             log.error("Database error while filtering blogs", ex);
@@ -707,6 +869,7 @@ public class BlogServiceImpl implements BlogService {
 
             blog.setDeleted(true);
             blogRepository.save(blog);
+            trendingFeed.remove(blogId);
             log.info("Blog soft deleted successfully with ID: {}", blogId);
 
         } catch (DataAccessException ex) {
@@ -716,9 +879,9 @@ public class BlogServiceImpl implements BlogService {
     }
 
     @Override
-    @Cacheable(value = "advanceFilterBlogs",
+    @Cacheable(value = "advanceFilterBlogSummaries",
             key = "#authorId + '-' + #category + '-' + #tags + '-' + #pageable.pageNumber + '-' + #pageable.pageSize")
-    public Page<BlogResponseDto> advanceFilterBlogs(Long authorId, String category, String tags, Pageable pageable) {
+    public Page<BlogSummaryDto> advanceFilterBlogs(Long authorId, String category, String tags, Pageable pageable) {
         try {
             log.info("Filtering blogs with authorId: {}, category: {}, tags: {}", authorId, category, tags);
 
@@ -726,19 +889,26 @@ public class BlogServiceImpl implements BlogService {
                 throw new BadRequestException("Pageable cannot be null");
             }
 
-            return blogRepository.advanceFilterBlogs(authorId, category, tags, pageable)
-                    .map(blog -> {
-                        try {
-                            return modelMapper.map(blog, BlogResponseDto.class);
-                        } catch (MappingException ex) {
-                            log.error("Mapping error for blog ID {}", blog.getId(), ex);
-                            throw new IllegalState("Failed to map blog data");
-                        }
-                    });
+            return blogRepository.advanceFilterSummaries(authorId, category, tags, pageable);
 
         } catch (DataAccessException ex) {
             log.error("Database error while advance filtering blogs", ex);
             throw new ServiceUnavailable("Unable to filter blogs at this time");
         }
     }
+
+    private static String pathSegment(Long commentId) {
+        return String.format("%019d/", commentId);
+    }
+
+    // Smallest string above every path that starts with the given one: its final '/' becomes '0'.
+    private static String pathUpperBound(String path) {
+        char last = path.charAt(path.length() - 1);
+        return path.substring(0, path.length() - 1) + (char) (last + 1);
+    }
+
+    private static CommentResponseDto toResponse(Comment comment) {
+        return new CommentResponseDto(comment.getId(), comment.getParentId(), comment.getUserId(),
+                comment.getContent(), comment.getDepth(), comment.getCreatedAt(), comment.getUpdatedAt());
+    }
 }
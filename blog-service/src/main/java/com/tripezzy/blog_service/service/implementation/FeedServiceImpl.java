@@ -0,0 +1,168 @@
+package com.tripezzy.blog_service.service.implementation;
+
+import com.tripezzy.blog_service.auth.UserContext;
+import com.tripezzy.blog_service.auth.UserContextHolder;
+import com.tripezzy.blog_service.dto.BlogSummaryDto;
+import com.tripezzy.blog_service.dto.FeedPageDto;
+import com.tripezzy.blog_service.exceptions.AccessForbidden;
+import com.tripezzy.blog_service.exceptions.BadRequestException;
+import com.tripezzy.blog_service.exceptions.DataIntegrityViolation;
+import com.tripezzy.blog_service.exceptions.ServiceUnavailable;
+import com.tripezzy.blog_service.feed.FeedStore;
+import com.tripezzy.blog_service.repository.BlogRepository;
+import com.tripezzy.blog_service.repository.FollowRepository;
+import com.tripezzy.blog_service.service.FeedService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+@Service
+public class FeedServiceImpl implements FeedService {
+
+    private static final Logger log = LoggerFactory.getLogger(FeedServiceImpl.class);
+    private static final int MAX_FEED_PAGE_SIZE = 50;
+    private static final int FOLLOW_BACKFILL_SIZE = 20;
+
+    private final FollowRepository followRepository;
+    private final BlogRepository blogRepository;
+    private final FeedStore feedStore;
+
+    public FeedServiceImpl(FollowRepository followRepository, BlogRepository blogRepository, FeedStore feedStore) {
+        this.followRepository = followRepository;
+        this.blogRepository = blogRepository;
+        this.feedStore = feedStore;
+    }
+
+    @Override
+    @Transactional
+    public void followAuthor(Long authorId) {
+        try {
+            Long userId = currentUserId();
+            log.info("User ID: {} following author ID: {}", userId, authorId);
+
+            if (authorId == null || authorId <= 0) {
+                throw new BadRequestException("Invalid author ID");
+            }
+            if (authorId.equals(userId)) {
+                throw new BadRequestException("You cannot follow yourself");
+            }
+
+            if (followRepository.insertIgnoringDuplicate(userId, authorId) == 0) {
+                log.info("User ID: {} already follows author ID: {}", userId, authorId);
+                return;
+            }
+
+            try {
+                feedStore.backfill(userId, authorId, FOLLOW_BACKFILL_SIZE);
+            } catch (RuntimeException e) {
+                log.warn("Unable to backfill feed for user ID: {} from author ID: {}", userId, authorId, e);
+            }
+
+        } catch (DataAccessException ex) {
+            log.error("Database error while following author ID {}", authorId, ex);
+            throw new DataIntegrityViolation("Failed to follow author due to database error");
+        }
+    }
+
+    @Override
+    @Transactional
+    public void unfollowAuthor(Long authorId) {
+        try {
+            Long userId = currentUserId();
+            log.info("User ID: {} unfollowing author ID: {}", userId, authorId);
+
+            if (authorId == null || authorId <= 0) {
+                throw new BadRequestException("Invalid author ID");
+            }
+
+            if (followRepository.deleteByFollowerIdAndAuthorId(userId, authorId) == 0) {
+                return;
+            }
+
+            try {
+                feedStore.removeAuthorPosts(userId, authorId);
+            } catch (RuntimeException e) {
+                log.warn("Unable to prune feed for user ID: {} after unfollowing author ID: {}", userId, authorId, e);
+            }
+
+        } catch (DataAccessException ex) {
+            log.error("Database error while unfollowing author ID {}", authorId, ex);
+            throw new DataIntegrityViolation("Failed to unfollow author due to database error");
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public FeedPageDto getFeed(Long cursor, int size) {
+        try {
+            Long userId = currentUserId();
+            log.info("Fetching feed for user ID: {}", userId);
+
+            if (size < 1 || size > MAX_FEED_PAGE_SIZE) {
+                throw new BadRequestException("Page size must be between 1 and " + MAX_FEED_PAGE_SIZE);
+            }
+
+            // Blog IDs grow with creation time, so the pushed feed and the pulled author lists
+            // merge into one newest-first stream by ID. The set also drops duplicate pushes.
+            TreeSet<Long> candidates = new TreeSet<>(Comparator.reverseOrder());
+            candidates.addAll(feedStore.readFeed(userId));
+
+            List<Long> pullAuthors = feedStore.pullAuthors();
+            if (!pullAuthors.isEmpty()) {
+                List<Long> followed = followRepository.findFollowedAuthorIdsIn(userId, pullAuthors);
+                if (!followed.isEmpty()) {
+                    for (List<Long> posts : feedStore.readAuthorPosts(followed)) {
+                        candidates.addAll(posts);
+                    }
+                }
+            }
+
+            List<Long> pageIds = new ArrayList<>(size);
+            Long nextCursor = null;
+            for (Long blogId : cursor == null ? candidates : candidates.tailSet(cursor, false)) {
+                if (pageIds.size() == size) {
+                    nextCursor = pageIds.get(size - 1);
+                    break;
+                }
+                pageIds.add(blogId);
+            }
+            if (pageIds.isEmpty()) {
+                return new FeedPageDto(List.of(), null);
+            }
+
+            Map<Long, BlogSummaryDto> summaries = new HashMap<>();
+            for (BlogSummaryDto summary : blogRepository.findPublishedSummariesByIdIn(pageIds)) {
+                summaries.put(summary.getId(), summary);
+            }
+            List<BlogSummaryDto> blogs = new ArrayList<>(pageIds.size());
+            for (Long blogId : pageIds) {
+                BlogSummaryDto summary = summaries.get(blogId);
+                if (summary != null) {
+                    blogs.add(summary);
+                }
+            }
+            return new FeedPageDto(blogs, nextCursor);
+
+        } catch (DataAccessException ex) {
+            log.error("Data access error while fetching feed", ex);
+            throw new ServiceUnavailable("Unable to retrieve feed at this time");
+        }
+    }
+
+    private static Long currentUserId() {
+        UserContext userContext = UserContextHolder.getUserDetails();
+        if (userContext == null || userContext.getUserId() == null) {
+            throw new AccessForbidden("Authentication required");
+        }
+        return userContext.getUserId();
+    }
+}
@@ -0,0 +1,58 @@
+package com.tripezzy.blog_service.trending;
+
+import com.tripezzy.blog_service.events.BlogCommentedEvent;
+import com.tripezzy.blog_service.events.BlogLikedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Service;
+
+@Service
+public class TrendingEventConsumer {
+
+    private static final Logger log = LoggerFactory.getLogger(TrendingEventConsumer.class);
+    private static final String BLOG_LIKED_TOPIC = "blog-liked";
+    private static final String BLOG_COMMENTED_TOPIC = "blog-commented";
+    private static final String GROUP_ID = "blog-trending";
+
+    private final TrendingFeed trendingFeed;
+    private final double likeWeight;
+    private final double commentWeight;
+
+    public TrendingEventConsumer(TrendingFeed trendingFeed,
+                                 @Value("${blog.trending.like-weight:1.0}") double likeWeight,
+                                 @Value("${blog.trending.comment-weight:3.0}") double commentWeight) {
+        this.trendingFeed = trendingFeed;
+        this.likeWeight = likeWeight;
+        this.commentWeight = commentWeight;
+    }
+
+    @KafkaListener(topics = BLOG_LIKED_TOPIC, groupId = GROUP_ID)
+    public void handleBlogLiked(@Payload BlogLikedEvent event,
+                                @Header(KafkaHeaders.RECEIVED_TIMESTAMP) long timestamp) {
+        record(event.getBlog(), likeWeight, timestamp);
+    }
+
+    @KafkaListener(topics = BLOG_COMMENTED_TOPIC, groupId = GROUP_ID)
+    public void handleBlogCommented(@Payload BlogCommentedEvent event,
+                                    @Header(KafkaHeaders.RECEIVED_TIMESTAMP) long timestamp) {
+        record(event.getBlog(), commentWeight, timestamp);
+    }
+
+    // Trending is best effort: a failed update is logged and skipped rather than retried, since a
+    // retry after a partial failure could count the same event twice.
+    private void record(Long blogId, double weight, long timestamp) {
+        if (blogId == null) {
+            return;
+        }
+        try {
+            trendingFeed.record(blogId, weight, timestamp);
+        } catch (RuntimeException e) {
+            log.warn("Unable to update trending score for blog ID: {}", blogId, e);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.tripezzy.blog_service.trending;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+// Time-decayed trending scores kept in a Redis sorted set. Instead of decaying every member on a
+// timer, each event adds weight * 2^((t - epoch) / halfLife), so newer events count for more and
+// the ordering always matches the decayed scores. Reads are a plain ZREVRANGE. A periodic pass
+// drops blogs whose decayed score has faded and rebases the epoch before the raw scores grow large.
+@Component
+public class TrendingFeed {
+
+    private static final Logger log = LoggerFactory.getLogger(TrendingFeed.class);
+    private static final String SCORES_KEY = "blog:trending";
+    private static final String EPOCH_KEY = "blog:trending:epoch";
+    // Rebase once raw scores have grown by 2^16, far below double overflow.
+    private static final int REBASE_AFTER_HALF_LIVES = 16;
+
+    private static final DefaultRedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>(
+            "local epoch = redis.call('GET', KEYS[2]) " +
+            "if not epoch then epoch = ARGV[1]; redis.call('SET', KEYS[2], epoch) end " +
+            "local exponent = (tonumber(ARGV[1]) - tonumber(epoch)) / tonumber(ARGV[2]) " +
+            "redis.call('ZINCRBY', KEYS[1], tonumber(ARGV[3]) * math.pow(2, exponent), ARGV[4]) " +
+            "return 1",
+            Long.class);
+
+    private static final DefaultRedisScript<Long> MAINTAIN_SCRIPT = new DefaultRedisScript<>(
+            "local epoch = redis.call('GET', KEYS[2]) " +
+            "if not epoch then return 0 end " +
+            "local exponent = (tonumber(ARGV[1]) - tonumber(epoch)) / tonumber(ARGV[2]) " +
+            "local factor = math.pow(2, exponent) " +
+            "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', '(' .. tostring(tonumber(ARGV[3]) * factor)) " +
+            "if exponent >= tonumber(ARGV[4]) then " +
+            "  redis.call('ZUNIONSTORE', KEYS[1], 1, KEYS[1], 'WEIGHTS', tostring(1 / factor)) " +
+            "  redis.call('SET', KEYS[2], ARGV[1]) " +
+            "end " +
+            "return redis.call('ZCARD', KEYS[1])",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final long halfLifeMillis;
+    private final double minScore;
+
+    public TrendingFeed(StringRedisTemplate redisTemplate,
+                        @Value("${blog.trending.half-life-hours:24}") long halfLifeHours,
+                        @Value("${blog.trending.min-score:0.05}") double minScore) {
+        this.redisTemplate = redisTemplate;
+        this.halfLifeMillis = halfLifeHours * 3_600_000L;
+        this.minScore = minScore;
+    }
+
+    public void record(Long blogId, double weight, long eventTimeMillis) {
+        redisTemplate.execute(RECORD_SCRIPT, List.of(SCORES_KEY, EPOCH_KEY),
+                Long.toString(eventTimeMillis), Long.toString(halfLifeMillis),
+                Double.toString(weight), blogId.toString());
+    }
+
+    public List<Long> top(long offset, int limit) {
+        Set<String> members = redisTemplate.opsForZSet().reverseRange(SCORES_KEY, offset, offset + limit - 1);
+        List<Long> blogIds = new ArrayList<>();
+        if (members != null) {
+            for (String member : members) {
+                blogIds.add(Long.valueOf(member));
+            }
+        }
+        return blogIds;
+    }
+
+    public long size() {
+        Long size = redisTemplate.opsForZSet().zCard(SCORES_KEY);
+        return size == null ? 0L : size;
+    }
+
+    public void remove(Long blogId) {
+        try {
+            redisTemplate.opsForZSet().remove(SCORES_KEY, blogId.toString());
+        } catch (RuntimeException e) {
+            log.warn("Unable to remove blog ID: {} from trending feed", blogId, e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${blog.trending.maintenance-interval-ms:600000}")
+    public void maintain() {
+        try {
+            Long remaining = redisTemplate.execute(MAINTAIN_SCRIPT, List.of(SCORES_KEY, EPOCH_KEY),
+                    Long.toString(System.currentTimeMillis()), Long.toString(halfLifeMillis),
+                    Double.toString(minScore), Integer.toString(REBASE_AFTER_HALF_LIVES));
+            log.debug("Trending feed maintained, {} blogs tracked", remaining);
+        } catch (RuntimeException e) {
+            log.warn("Trending feed maintenance failed", e);
+        }
+    }
+}
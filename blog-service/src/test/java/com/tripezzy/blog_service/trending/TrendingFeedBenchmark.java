@@ -0,0 +1,144 @@
+package com.tripezzy.blog_service.trending;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Latency of TrendingFeed reads and maintenance with 1M tracked blogs while likes and comments
+// arrive at 100 events/sec through RECORD_SCRIPT. top() should stay flat at any depth (ZREVRANGE is
+// O(log n + limit)) and maintain() should only pay for the members that actually faded.
+//
+// Needs a Redis it may write to. The seed goes into database 15 unless told otherwise, and the
+// trending keys there are deleted afterwards:
+//   mvn test-compile exec:java -Dexec.classpathScope=test
+//       -Dexec.mainClass=com.tripezzy.blog_service.trending.TrendingFeedBenchmark
+//       -Dbench.redis.host=localhost -Dbench.redis.port=6379 -Dbench.redis.database=15
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class TrendingFeedBenchmark {
+
+    private static final String SCORES_KEY = "blog:trending";
+    private static final String EPOCH_KEY = "blog:trending:epoch";
+    private static final int BLOGS = 1_000_000;
+    private static final int SEED_BATCH = 10_000;
+    private static final long HALF_LIFE_HOURS = 24;
+    private static final long EVENT_INTERVAL_MICROS = 10_000;
+
+    private final AtomicLong recordedEvents = new AtomicLong();
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private TrendingFeed trendingFeed;
+    private ScheduledExecutorService eventDriver;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(
+                System.getProperty("bench.redis.host", "localhost"),
+                Integer.getInteger("bench.redis.port", 6379));
+        configuration.setDatabase(Integer.getInteger("bench.redis.database", 15));
+        connectionFactory = new LettuceConnectionFactory(configuration);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        trendingFeed = new TrendingFeed(redisTemplate, HALF_LIFE_HOURS, 0.05);
+
+        seed();
+
+        // One like or comment every 10 ms on a random blog, the way TrendingEventConsumer records them.
+        SplittableRandom random = new SplittableRandom(7);
+        eventDriver = Executors.newSingleThreadScheduledExecutor();
+        eventDriver.scheduleAtFixedRate(() -> {
+            long blogId = random.nextLong(1, BLOGS + 1);
+            double weight = random.nextInt(4) == 0 ? 3.0 : 1.0;
+            trendingFeed.record(blogId, weight, System.currentTimeMillis());
+            recordedEvents.incrementAndGet();
+        }, 0, EVENT_INTERVAL_MICROS, TimeUnit.MICROSECONDS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        eventDriver.shutdownNow();
+        eventDriver.awaitTermination(5, TimeUnit.SECONDS);
+        System.out.printf("%nRecorded %d events during the trial%n", recordedEvents.get());
+        redisTemplate.delete(List.of(SCORES_KEY, EPOCH_KEY));
+        connectionFactory.destroy();
+    }
+
+    @Benchmark
+    public List<Long> topFirstPage() {
+        return trendingFeed.top(0, 20);
+    }
+
+    @Benchmark
+    public List<Long> topDeepPage() {
+        return trendingFeed.top(500_000, 20);
+    }
+
+    @Benchmark
+    public void maintain() {
+        trendingFeed.maintain();
+    }
+
+    // Scores look like three days of activity against an epoch three days back, so the decayed
+    // ordering is mixed and nothing is old enough to trigger a rebase during the run.
+    private void seed() {
+        long now = System.currentTimeMillis();
+        long epoch = now - TimeUnit.HOURS.toMillis(3 * HALF_LIFE_HOURS);
+        redisTemplate.delete(List.of(SCORES_KEY, EPOCH_KEY));
+        redisTemplate.opsForValue().set(EPOCH_KEY, Long.toString(epoch));
+
+        SplittableRandom random = new SplittableRandom(42);
+        for (int start = 1; start <= BLOGS; start += SEED_BATCH) {
+            int first = start;
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection commands = (StringRedisConnection) connection;
+                for (int blogId = first; blogId < first + SEED_BATCH && blogId <= BLOGS; blogId++) {
+                    double weight = 1 + random.nextInt(50);
+                    double score = weight * Math.pow(2, random.nextDouble(3.0));
+                    commands.zAdd(SCORES_KEY, score, Integer.toString(blogId));
+                }
+                return null;
+            });
+        }
+        System.out.printf("%nSeeded %d blogs into %s%n", trendingFeed.size(), SCORES_KEY);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TrendingFeedBenchmark.class.getSimpleName())
+                .jvmArgsAppend(
+                        "-Dbench.redis.host=" + System.getProperty("bench.redis.host", "localhost"),
+                        "-Dbench.redis.port=" + Integer.getInteger("bench.redis.port", 6379),
+                        "-Dbench.redis.database=" + Integer.getInteger("bench.redis.database", 15))
+                .build()).run();
+    }
+}
@@ -0,0 +1,71 @@
+-- Blog list paging: OFFSET vs keyset at offsets 0, 10k and 1M.
+-- Runs against scratch temp tables, so any Postgres will do:
+--   psql -h localhost -U postgres -f blog_keyset_pagination.sql
+-- Compare "Execution Time" and "Buffers" between the OFFSET plans and the keyset plans. Keyset plans
+-- should show an Index Scan Backward on idx_bench_blog_created_at_id with an Index Cond on the row
+-- value, at roughly constant cost whatever the depth.
+
+\timing off
+SET client_min_messages = warning;
+
+CREATE TEMP TABLE bench_blogs (
+    id         bigserial PRIMARY KEY,
+    title      varchar(255) NOT NULL,
+    content    text         NOT NULL,
+    deleted    boolean      NOT NULL DEFAULT false,
+    created_at timestamp    NOT NULL
+);
+
+-- Many rows share a created_at so the id tie-breaker is exercised.
+INSERT INTO bench_blogs (title, content, created_at)
+SELECT 'title ' || g, repeat('x', 400), timestamp '2020-01-01' + (g / 4) * interval '1 second'
+FROM generate_series(1, 1100000) g;
+
+CREATE INDEX idx_bench_blog_created_at_id ON bench_blogs (created_at, id);
+ANALYZE bench_blogs;
+
+\echo '== offset 0 =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT id, title, created_at FROM bench_blogs WHERE deleted = false
+ORDER BY created_at DESC, id DESC OFFSET 0 LIMIT 21;
+
+\echo '== offset 10000 =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT id, title, created_at FROM bench_blogs WHERE deleted = false
+ORDER BY created_at DESC, id DESC OFFSET 10000 LIMIT 21;
+
+\echo '== offset 1000000 =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT id, title, created_at FROM bench_blogs WHERE deleted = false
+ORDER BY created_at DESC, id DESC OFFSET 1000000 LIMIT 21;
+
+-- Cursors for the last row before each offset, as the service would have handed out.
+SELECT created_at AS c10k, id AS i10k FROM bench_blogs
+ORDER BY created_at DESC, id DESC OFFSET 9999 LIMIT 1 \gset
+SELECT created_at AS c1m, id AS i1m FROM bench_blogs
+ORDER BY created_at DESC, id DESC OFFSET 999999 LIMIT 1 \gset
+
+\echo '== keyset first page =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT id, title, created_at FROM bench_blogs WHERE deleted = false
+ORDER BY created_at DESC, id DESC LIMIT 21;
+
+\echo '== keyset after 10000 (row value, as BlogRepository.findSummaryPageAfter) =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT id, title, created_at FROM bench_blogs WHERE deleted = false
+AND (created_at, id) < (:'c10k', :i10k)
+ORDER BY created_at DESC, id DESC LIMIT 21;
+
+\echo '== keyset after 1000000 (row value, as BlogRepository.findSummaryPageAfter) =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT id, title, created_at FROM bench_blogs WHERE deleted = false
+AND (created_at, id) < (:'c1m', :i1m)
+ORDER BY created_at DESC, id DESC LIMIT 21;
+
+\echo '== keyset after 1000000 (previous OR form, for comparison) =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT id, title, created_at FROM bench_blogs WHERE deleted = false
+AND (created_at < :'c1m' OR (created_at = :'c1m' AND id < :i1m))
+ORDER BY created_at DESC, id DESC LIMIT 21;
+
+DROP TABLE bench_blogs;
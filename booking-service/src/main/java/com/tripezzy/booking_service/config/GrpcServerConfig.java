@@ -0,0 +1,37 @@
+package com.tripezzy.booking_service.config;
+
+import jakarta.annotation.PreDestroy;
+import net.devh.boot.grpc.server.serverfactory.GrpcServerConfigurer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// gRPC handlers block on JPA, so each call runs on its own virtual thread instead of the shared
+// default pool. Per-method concurrency limits (GrpcCallPolicyInterceptor) keep the number of calls
+// contending for the connection pool bounded. Setting grpc.server.virtual-threads=false falls back
+// to a fixed pool of grpc.server.executor-threads platform threads.
+@Configuration
+public class GrpcServerConfig {
+
+    private final ExecutorService executor;
+
+    public GrpcServerConfig(@Value("${grpc.server.virtual-threads:true}") boolean virtualThreads,
+                            @Value("${grpc.server.executor-threads:32}") int executorThreads) {
+        this.executor = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("grpc-vt-", 0).factory())
+                : Executors.newFixedThreadPool(executorThreads, Thread.ofPlatform().name("grpc-", 0).daemon().factory());
+    }
+
+    @Bean
+    public GrpcServerConfigurer grpcExecutorConfigurer() {
+        return serverBuilder -> serverBuilder.executor(executor);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
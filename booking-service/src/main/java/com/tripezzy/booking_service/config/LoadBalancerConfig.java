@@ -0,0 +1,17 @@
+package com.tripezzy.booking_service.config;
+
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestClient;
+
+// Clients built from this builder resolve http://SERVICE-NAME/... through the Eureka registry.
+@Configuration
+public class LoadBalancerConfig {
+
+    @Bean
+    @LoadBalanced
+    public RestClient.Builder loadBalancedRestClientBuilder() {
+        return RestClient.builder();
+    }
+}
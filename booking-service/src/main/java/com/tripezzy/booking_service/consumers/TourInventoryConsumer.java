@@ -0,0 +1,29 @@
+package com.tripezzy.booking_service.consumers;
+
+import com.tripezzy.booking_service.events.TourInventoryEvent;
+import com.tripezzy.booking_service.service.TourInventoryService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+@Service
+public class TourInventoryConsumer {
+
+    private static final Logger log = LoggerFactory.getLogger(TourInventoryConsumer.class);
+    private static final String TOUR_INVENTORY_TOPIC = "tour-inventory";
+
+    private final TourInventoryService tourInventoryService;
+
+    public TourInventoryConsumer(TourInventoryService tourInventoryService) {
+        this.tourInventoryService = tourInventoryService;
+    }
+
+    // Events are keyed by tour ID, so updates for one tour arrive in order. Applying an event is
+    // idempotent, which lets a failed one be redelivered by the container's retry.
+    @KafkaListener(topics = TOUR_INVENTORY_TOPIC)
+    public void handleTourInventory(TourInventoryEvent event) {
+        log.info("Received tour inventory event for tour ID: {}", event.getTour());
+        tourInventoryService.applyTourEvent(event);
+    }
+}
@@ -2,34 +2,39 @@ package com.tripezzy.booking_service.controllers;
 
 import com.tripezzy.booking_service.advices.ApiError;
 import com.tripezzy.booking_service.advices.ApiResponse;
-import com.tripezzy.booking_service.annotations.RoleRequired;
 import com.tripezzy.booking_service.auth.UserContext;
 import com.tripezzy.booking_service.auth.UserContextHolder;
 import com.tripezzy.booking_service.dto.BookingDto;
+import com.tripezzy.booking_service.dto.BookingRequestStatusDto;
+import com.tripezzy.booking_service.dto.CursorPageDto;
+import com.tripezzy.booking_service.service.BookingIntakeService;
 import com.tripezzy.booking_service.service.BookingService;
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/core")
 public class BookingController {
 
     private final BookingService bookingService;
+    private final BookingIntakeService bookingIntakeService;
 
-    public BookingController(BookingService bookingService) {
+    public BookingController(BookingService bookingService, BookingIntakeService bookingIntakeService) {
         this.bookingService = bookingService;
+        this.bookingIntakeService = bookingIntakeService;
     }
 
     @PostMapping
     @RateLimiter(name = "createBookingRateLimiter", fallbackMethod = "createBookingRateLimitFallback")
-    @RoleRequired("USER")
     public ResponseEntity<BookingDto> createBooking(
             @RequestBody BookingDto bookingDto,
             @RequestParam Long destinationId) {
@@ -37,6 +42,21 @@ public class BookingController {
         return new ResponseEntity<>(savedBooking, HttpStatus.CREATED);
     }
 
+    @PostMapping("/requests")
+    @RateLimiter(name = "bookingIntakeRateLimiter", fallbackMethod = "submitBookingRateLimitFallback")
+    public ResponseEntity<BookingRequestStatusDto> submitBooking(
+            @RequestBody BookingDto bookingDto,
+            @RequestParam Long destinationId) {
+        BookingRequestStatusDto accepted = bookingIntakeService.submitBooking(bookingDto, destinationId);
+        return new ResponseEntity<>(accepted, HttpStatus.ACCEPTED);
+    }
+
+    @GetMapping("/requests/{trackingId}")
+    @RateLimiter(name = "bookingRequestStatusRateLimiter", fallbackMethod = "getBookingRequestStatusRateLimitFallback")
+    public ResponseEntity<BookingRequestStatusDto> getBookingRequestStatus(@PathVariable UUID trackingId) {
+        return ResponseEntity.ok(bookingIntakeService.getRequestStatus(trackingId));
+    }
+
     @GetMapping("/public/{bookingId}")
     @RateLimiter(name = "getBookingByIdRateLimiter", fallbackMethod = "getBookingByIdRateLimitFallback")
     public ResponseEntity<BookingDto> getBookingById(@PathVariable Long bookingId) {
@@ -58,9 +78,24 @@ public class BookingController {
         return ResponseEntity.ok(bookings);
     }
 
+    @GetMapping("/public/slice")
+    @RateLimiter(name = "paginatedRateLimiter", fallbackMethod = "getAllBookingsSliceRateLimitFallback")
+    public ResponseEntity<Slice<BookingDto>> getAllBookingsSlice(Pageable pageable) {
+        Slice<BookingDto> bookings = bookingService.getAllBookingsSlice(pageable);
+        return ResponseEntity.ok(bookings);
+    }
+
+    @GetMapping("/public/scroll")
+    @RateLimiter(name = "paginatedRateLimiter", fallbackMethod = "scrollBookingsRateLimitFallback")
+    public ResponseEntity<CursorPageDto<BookingDto>> scrollBookings(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageDto<BookingDto> bookings = bookingService.scrollBookings(cursor, size);
+        return ResponseEntity.ok(bookings);
+    }
+
     @GetMapping("/my-bookings")
     @RateLimiter(name = "userBookingsRateLimiter", fallbackMethod = "getMyBookingsRateLimitFallback")
-    @RoleRequired("USER")
     public ResponseEntity<Page<BookingDto>> getMyBookings(
             Pageable pageable) {
         UserContext userContext = UserContextHolder.getUserDetails();
@@ -70,7 +105,6 @@ public class BookingController {
     }
 
     @GetMapping("/user/{userId}")
-    @RoleRequired("ADMIN")
     @RateLimiter(name = "userBookingsRateLimiter", fallbackMethod = "getBookingsByUserIdRateLimitFallback")
     public ResponseEntity<Page<BookingDto>> getBookingsByUserId(@PathVariable Long userId,
             Pageable pageable) {
@@ -80,7 +114,6 @@ public class BookingController {
 
     @GetMapping("/public/destination/{destinationId}")
     @RateLimiter(name = "destinationBookingsRateLimiter", fallbackMethod = "getBookingsByDestinationIdRateLimitFallback")
-    @RoleRequired("ADMIN")
     public ResponseEntity<Page<BookingDto>> getBookingsByDestinationId(
             @PathVariable Long destinationId,
             Pageable pageable) {
@@ -90,7 +123,6 @@ public class BookingController {
 
     @GetMapping
     @RateLimiter(name = "statusBookingsRateLimiter", fallbackMethod = "getBookingsByStatusRateLimitFallback")
-    @RoleRequired("ADMIN")
     public ResponseEntity<Page<BookingDto>> getBookingsByStatus(
             @RequestParam String status,
             Pageable pageable) {
@@ -100,7 +132,6 @@ public class BookingController {
 
     @GetMapping("/payment-status-price-range")
     @RateLimiter(name = "paymentStatusPriceRangeRateLimiter", fallbackMethod = "getBookingsByPaymentStatusAndPriceRangeRateLimitFallback")
-    @RoleRequired("ADMIN")
     public ResponseEntity<List<BookingDto>> getBookingsByPaymentStatusAndPriceRange(
             @RequestParam String paymentStatus,
             @RequestParam BigDecimal minPrice,
@@ -111,7 +142,6 @@ public class BookingController {
 
     @GetMapping("/upcoming")
     @RateLimiter(name = "upcomingBookingsRateLimiter", fallbackMethod = "getUpcomingBookingsByStatusRateLimitFallback")
-    @RoleRequired("ADMIN")
     public ResponseEntity<List<BookingDto>> getUpcomingBookingsByStatus(
             @RequestParam String status) {
         List<BookingDto> bookings = bookingService.getUpcomingBookingsByStatus(status);
@@ -120,7 +150,6 @@ public class BookingController {
 
     @GetMapping("/count-by-status")
     @RateLimiter(name = "countByStatusRateLimiter", fallbackMethod = "countBookingsByStatusRateLimitFallback")
-    @RoleRequired("ADMIN")
     public ResponseEntity<ApiResponse<Long>> countBookingsByStatus(@RequestParam String status) {
         long count = bookingService.countBookingsByStatus(status);
         return ResponseEntity.ok(ApiResponse.success(count));
@@ -128,7 +157,6 @@ public class BookingController {
 
     @DeleteMapping("/soft-delete/{bookingId}")
     @RateLimiter(name = "softDeleteRateLimiter", fallbackMethod = "softDeleteBookingRateLimitFallback")
-    @RoleRequired("ADMIN")
     public ResponseEntity<ApiResponse<String>> softDeleteBooking(@PathVariable Long bookingId) {
         bookingService.softDeleteBooking(bookingId);
         return ResponseEntity.ok(ApiResponse.success("Booking deleted successfully"));
@@ -136,7 +164,6 @@ public class BookingController {
 
     @GetMapping("/payment-status")
     @RateLimiter(name = "paymentStatusRateLimiter", fallbackMethod = "getBookingsByPaymentStatusRateLimitFallback")
-    @RoleRequired("ADMIN")
     public ResponseEntity<List<BookingDto>> getBookingsByPaymentStatus(@RequestParam String paymentStatus) {
         List<BookingDto> bookings = bookingService.getBookingsByPaymentStatus(paymentStatus);
         return ResponseEntity.ok(bookings);
@@ -157,6 +184,22 @@ public class BookingController {
         return ResponseEntity.ok(filteredBookings);
     }
 
+    @GetMapping("/public/filter/scroll")
+    @RateLimiter(name = "advancedFilterRateLimiter", fallbackMethod = "scrollFilteredBookingsRateLimitFallback")
+    public ResponseEntity<CursorPageDto<BookingDto>> scrollFilteredBookings(
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) Long destinationId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String paymentStatus,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageDto<BookingDto> filteredBookings = bookingService.scrollFilteredBookings(
+                userId, destinationId, status, paymentStatus, minPrice, maxPrice, cursor, size);
+        return ResponseEntity.ok(filteredBookings);
+    }
+
     private ResponseEntity<ApiResponse<String>> rateLimitFallback(String serviceName, Throwable throwable) {
         ApiError apiError = new ApiError
                 .ApiErrorBuilder()
@@ -171,6 +214,14 @@ public class BookingController {
         return rateLimitFallback("createBooking", throwable);
     }
 
+    public ResponseEntity<ApiResponse<String>> submitBookingRateLimitFallback(BookingDto bookingDto, Long destinationId, Throwable throwable) {
+        return rateLimitFallback("submitBooking", throwable);
+    }
+
+    public ResponseEntity<ApiResponse<String>> getBookingRequestStatusRateLimitFallback(UUID trackingId, Throwable throwable) {
+        return rateLimitFallback("getBookingRequestStatus", throwable);
+    }
+
     public ResponseEntity<ApiResponse<String>> getBookingByIdRateLimitFallback(Long bookingId, Throwable throwable) {
         return rateLimitFallback("getBookingById", throwable);
     }
@@ -183,6 +234,14 @@ public class BookingController {
         return rateLimitFallback("getAllBookingsPaginated", throwable);
     }
 
+    public ResponseEntity<ApiResponse<String>> getAllBookingsSliceRateLimitFallback(Pageable pageable, Throwable throwable) {
+        return rateLimitFallback("getAllBookingsSlice", throwable);
+    }
+
+    public ResponseEntity<ApiResponse<String>> scrollBookingsRateLimitFallback(String cursor, int size, Throwable throwable) {
+        return rateLimitFallback("scrollBookings", throwable);
+    }
+
     public ResponseEntity<ApiResponse<String>> getMyBookingsRateLimitFallback(Pageable pageable, Throwable throwable) {
         return rateLimitFallback("getMyBookings", throwable);
     }
@@ -223,4 +282,8 @@ public class BookingController {
         return rateLimitFallback("filterBookings", throwable);
     }
 
+    public ResponseEntity<ApiResponse<String>> scrollFilteredBookingsRateLimitFallback(Long userId, Long destinationId, String status, String paymentStatus, BigDecimal minPrice, BigDecimal maxPrice, String cursor, int size, Throwable throwable) {
+        return rateLimitFallback("scrollFilteredBookings", throwable);
+    }
+
 }
\ No newline at end of file
@@ -35,6 +35,12 @@ public class BookingDto implements Serializable {
     @NotNull(message = "Destination ID cannot be null")
     private Long destination;
 
+    private Long tourId;
+
+    @Min(value = 1, message = "At least one seat must be booked")
+    @Max(value = 20, message = "At most 20 seats can be booked at once")
+    private Integer seats;
+
     @NotNull(message = "Travel date cannot be null")
     @FutureOrPresent(message = "Travel date must be in the present or future")
     private LocalDate travelDate;
@@ -133,4 +139,19 @@ public class BookingDto implements Serializable {
         this.totalPrice = totalPrice;
     }
 
-}
\ No newline at end of file
+    public Long getTourId() {
+        return tourId;
+    }
+
+    public void setTourId(Long tourId) {
+        this.tourId = tourId;
+    }
+
+    public Integer getSeats() {
+        return seats;
+    }
+
+    public void setSeats(Integer seats) {
+        this.seats = seats;
+    }
+}
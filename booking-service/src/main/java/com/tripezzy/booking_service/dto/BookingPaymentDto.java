@@ -22,6 +22,8 @@ public class BookingPaymentDto implements Serializable {
     @NotBlank(message = "Currency is required")
     private String currency;
 
+    private Long userId;
+
     public @NotNull(message = "Amount is required") @Min(value = 1, message = "Amount must be at least 1") BigDecimal getAmount() {
         return amount;
     }
@@ -53,4 +55,12 @@ public class BookingPaymentDto implements Serializable {
     public void setCurrency(@NotBlank(message = "Currency is required") String currency) {
         this.currency = currency;
     }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
 }
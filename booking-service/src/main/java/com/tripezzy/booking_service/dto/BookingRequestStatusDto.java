@@ -0,0 +1,78 @@
+package com.tripezzy.booking_service.dto;
+
+import com.tripezzy.booking_service.entity.enums.IntakeStatus;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public class BookingRequestStatusDto implements Serializable {
+
+    private UUID trackingId;
+    private IntakeStatus status;
+    private Long bookingId;
+    private String failureReason;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public BookingRequestStatusDto() {
+    }
+
+    public BookingRequestStatusDto(UUID trackingId, IntakeStatus status, Long bookingId, String failureReason,
+                                   LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.trackingId = trackingId;
+        this.status = status;
+        this.bookingId = bookingId;
+        this.failureReason = failureReason;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public UUID getTrackingId() {
+        return trackingId;
+    }
+
+    public void setTrackingId(UUID trackingId) {
+        this.trackingId = trackingId;
+    }
+
+    public IntakeStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(IntakeStatus status) {
+        this.status = status;
+    }
+
+    public Long getBookingId() {
+        return bookingId;
+    }
+
+    public void setBookingId(Long bookingId) {
+        this.bookingId = bookingId;
+    }
+
+    public String getFailureReason() {
+        return failureReason;
+    }
+
+    public void setFailureReason(String failureReason) {
+        this.failureReason = failureReason;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,54 @@
+package com.tripezzy.booking_service.dto;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+public class TourAvailabilityDto implements Serializable {
+
+    private Long tourId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private int remainingSeats;
+
+    public TourAvailabilityDto() {
+    }
+
+    public TourAvailabilityDto(Long tourId, LocalDate startDate, LocalDate endDate, int remainingSeats) {
+        this.tourId = tourId;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.remainingSeats = remainingSeats;
+    }
+
+    public Long getTourId() {
+        return tourId;
+    }
+
+    public void setTourId(Long tourId) {
+        this.tourId = tourId;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public int getRemainingSeats() {
+        return remainingSeats;
+    }
+
+    public void setRemainingSeats(int remainingSeats) {
+        this.remainingSeats = remainingSeats;
+    }
+}
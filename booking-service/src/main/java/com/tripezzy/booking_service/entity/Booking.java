@@ -14,10 +14,12 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "bookings", indexes = {
-        @Index(name = "idx_user_id", columnList = "user_id"),
-        @Index(name = "idx_destination_id", columnList = "destination_id"),
+        // booking_id second, so filtered scrolls seek to the cursor within one user, destination or status.
+        @Index(name = "idx_booking_user_id_id", columnList = "user_id, booking_id"),
+        @Index(name = "idx_booking_destination_id_id", columnList = "destination_id, booking_id"),
+        @Index(name = "idx_tour_id", columnList = "tour_id"),
         @Index(name = "idx_travel_date", columnList = "travel_date"),
-        @Index(name = "idx_status", columnList = "booking_status"),
+        @Index(name = "idx_booking_status_id", columnList = "booking_status, booking_id"),
         @Index(name = "idx_payment_status", columnList = "payment_status")
 })
 @EntityListeners(AuditingEntityListener.class)
@@ -59,6 +61,13 @@ public class Booking {
     @NotNull(message = "Destination ID cannot be null")
     private Long destination;
 
+    @Column(name = "tour_id")
+    private Long tourId;
+
+    @Column(name = "seats", columnDefinition = "INTEGER DEFAULT 1")
+    @Min(value = 1, message = "At least one seat must be booked")
+    private Integer seats = 1;
+
     @Column(name = "booking_date", columnDefinition = "TIMESTAMP DEFAULT CURRENT_TIMESTAMP")
     @NotNull(message = "Booking date cannot be null")
     private LocalDateTime bookingDate;
@@ -231,4 +240,20 @@ public class Booking {
     public void setDeleted(boolean deleted) {
         this.deleted = deleted;
     }
-}
\ No newline at end of file
+
+    public Long getTourId() {
+        return tourId;
+    }
+
+    public void setTourId(Long tourId) {
+        this.tourId = tourId;
+    }
+
+    public Integer getSeats() {
+        return seats;
+    }
+
+    public void setSeats(Integer seats) {
+        this.seats = seats;
+    }
+}
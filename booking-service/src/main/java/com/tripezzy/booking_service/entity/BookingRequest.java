@@ -0,0 +1,157 @@
+package com.tripezzy.booking_service.entity;
+
+import com.tripezzy.booking_service.entity.enums.IntakeStatus;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// A booking accepted for asynchronous processing. The row is both the durable queue entry and the
+// status record the client polls with its tracking ID.
+@Entity
+@Table(name = "booking_requests", indexes = {
+        @Index(name = "idx_booking_request_status_created", columnList = "status, created_at"),
+        @Index(name = "idx_booking_request_user", columnList = "user_id"),
+        @Index(name = "idx_booking_request_unpublished", columnList = "event_published, updated_at")
+})
+public class BookingRequest {
+
+    @Id
+    @Column(name = "request_id")
+    private UUID id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "destination_id", nullable = false)
+    private Long destinationId;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private IntakeStatus status = IntakeStatus.QUEUED;
+
+    @Column(name = "booking_id")
+    private Long bookingId;
+
+    @Column(name = "failure_reason")
+    private String failureReason;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    // Outbox flag for the BookingCreatedEvent of a completed request. The column defaults to true so
+    // requests that predate it are not replayed; completion resets it to false.
+    @Column(name = "event_published", nullable = false, columnDefinition = "BOOLEAN NOT NULL DEFAULT TRUE")
+    private boolean eventPublished;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public BookingRequest() {
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public Long getDestinationId() {
+        return destinationId;
+    }
+
+    public void setDestinationId(Long destinationId) {
+        this.destinationId = destinationId;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+
+    public IntakeStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(IntakeStatus status) {
+        this.status = status;
+    }
+
+    public Long getBookingId() {
+        return bookingId;
+    }
+
+    public void setBookingId(Long bookingId) {
+        this.bookingId = bookingId;
+    }
+
+    public String getFailureReason() {
+        return failureReason;
+    }
+
+    public void setFailureReason(String failureReason) {
+        this.failureReason = failureReason;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public LocalDateTime getClaimedAt() {
+        return claimedAt;
+    }
+
+    public void setClaimedAt(LocalDateTime claimedAt) {
+        this.claimedAt = claimedAt;
+    }
+
+    public boolean isEventPublished() {
+        return eventPublished;
+    }
+
+    public void setEventPublished(boolean eventPublished) {
+        this.eventPublished = eventPublished;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,99 @@
+package com.tripezzy.booking_service.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Check;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Remaining seats for a tour departure, mirrored from the tour events published by admin-service.
+// Seats are taken with a conditional UPDATE on this row in the same transaction that saves the
+// booking, so the row lock serializes concurrent bookings of the last seat.
+@Entity
+@Table(name = "tour_inventory", indexes = {
+        @Index(name = "idx_tour_inventory_start_date", columnList = "start_date, remaining")
+})
+@Check(constraints = "remaining >= 0 AND remaining <= capacity")
+public class TourInventory {
+
+    @Id
+    @Column(name = "tour_id")
+    private Long tourId;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "end_date", nullable = false)
+    private LocalDate endDate;
+
+    @Column(name = "capacity", nullable = false)
+    private int capacity;
+
+    @Column(name = "remaining", nullable = false)
+    private int remaining;
+
+    @Column(name = "active", nullable = false)
+    private boolean active = true;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public TourInventory() {
+    }
+
+    public Long getTourId() {
+        return tourId;
+    }
+
+    public void setTourId(Long tourId) {
+        this.tourId = tourId;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public int getRemaining() {
+        return remaining;
+    }
+
+    public void setRemaining(int remaining) {
+        this.remaining = remaining;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
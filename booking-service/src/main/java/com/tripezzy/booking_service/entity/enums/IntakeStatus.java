@@ -0,0 +1,8 @@
+package com.tripezzy.booking_service.entity.enums;
+
+public enum IntakeStatus {
+    QUEUED,
+    PROCESSING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,50 @@
+package com.tripezzy.booking_service.events;
+
+public class TourInventoryEvent {
+
+    Long tour;
+    Integer capacity;
+    String startDate;
+    String endDate;
+    boolean active;
+
+    public Long getTour() {
+        return tour;
+    }
+
+    public void setTour(Long tour) {
+        this.tour = tour;
+    }
+
+    public Integer getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(Integer capacity) {
+        this.capacity = capacity;
+    }
+
+    public String getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(String startDate) {
+        this.startDate = startDate;
+    }
+
+    public String getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(String endDate) {
+        this.endDate = endDate;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+}
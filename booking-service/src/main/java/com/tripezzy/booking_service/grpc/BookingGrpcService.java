@@ -2,9 +2,15 @@ package com.tripezzy.booking_service.grpc;
 
 import com.tripezzy.booking_service.dto.BookingDto;
 import com.tripezzy.booking_service.dto.BookingPaymentDto;
+import com.tripezzy.booking_service.dto.CursorPageDto;
+import com.tripezzy.booking_service.dto.TourAvailabilityDto;
+import com.tripezzy.booking_service.exceptions.BadRequestException;
 import com.tripezzy.booking_service.exceptions.IllegalState;
 import com.tripezzy.booking_service.exceptions.ResourceNotFound;
+import com.tripezzy.booking_service.exceptions.ServiceUnavailable;
+import com.tripezzy.booking_service.pagination.KeysetCursor;
 import com.tripezzy.booking_service.service.BookingService;
+import com.tripezzy.booking_service.service.TourInventoryService;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
 import io.grpc.stub.StreamObserver;
@@ -13,7 +19,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -23,25 +33,43 @@ public class BookingGrpcService extends BookingServiceGrpc.BookingServiceImplBas
 
     private static final Logger log = LoggerFactory.getLogger(BookingGrpcService.class);
     private final BookingService bookingService;
+    private final TourInventoryService tourInventoryService;
 
-    public BookingGrpcService(BookingService bookingService) {
+    public BookingGrpcService(BookingService bookingService, TourInventoryService tourInventoryService) {
         this.bookingService = bookingService;
+        this.tourInventoryService = tourInventoryService;
     }
 
     @Override
     public void getAllBookings(BookingRequest request, StreamObserver<BookingResponse> responseObserver) {
         try {
-            log.info("Processing gRPC request for getAllBookings - page: {}, size: {}",
-                    request.getPage(), request.getSize());
+            log.debug("Processing gRPC request for getAllBookings - page: {}, size: {}, cursor: {}",
+                    request.getPage(), request.getSize(), !request.getCursor().isEmpty());
 
             validatePagination(request.getPage(), request.getSize());
 
-            Page<BookingDto> bookingPage = bookingService.getAllBookings(
-                    PageRequest.of(request.getPage(), request.getSize()));
-
-            sendBookingResponse(bookingPage, responseObserver);
-            log.info("Successfully processed getAllBookings request");
+            // A cursor seeks past the last row already seen; without one, a count-free slice is enough
+            // since the response carries no totals.
+            if (!request.getCursor().isEmpty()) {
+                CursorPageDto<BookingDto> bookingPage = bookingService.scrollBookings(
+                        request.getCursor(), request.getSize());
+                sendBookingResponse(bookingPage.getItems(), bookingPage.getNextCursor(), responseObserver);
+            } else {
+                Slice<BookingDto> bookingSlice = bookingService.getAllBookingsSlice(
+                        PageRequest.of(request.getPage(), request.getSize(), Sort.by(Sort.Direction.DESC, "id")));
+                String nextCursor = null;
+                if (bookingSlice.hasNext()) {
+                    Long lastId = bookingSlice.getContent().get(bookingSlice.getNumberOfElements() - 1).getId();
+                    nextCursor = KeysetCursor.encode(lastId, lastId);
+                }
+                sendBookingResponse(bookingSlice.getContent(), nextCursor, responseObserver);
+            }
+            log.debug("Successfully processed getAllBookings request");
 
+        } catch (BadRequestException e) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription(e.getReason())
+                    .asRuntimeException());
         } catch (StatusRuntimeException e) {
             log.error("gRPC error in getAllBookings: {}", e.getStatus().getDescription(), e);
             responseObserver.onError(e);
@@ -57,7 +85,7 @@ public class BookingGrpcService extends BookingServiceGrpc.BookingServiceImplBas
     @Override
     public void getBookingsByUserId(UserBookingsRequest request, StreamObserver<BookingResponse> responseObserver) {
         try {
-            log.info("Processing gRPC request for getBookingsByUserId - userId: {}, page: {}, size: {}",
+            log.debug("Processing gRPC request for getBookingsByUserId - userId: {}, page: {}, size: {}",
                     request.getUserId(), request.getPage(), request.getSize());
 
             validatePagination(request.getPage(), request.getSize());
@@ -66,12 +94,13 @@ public class BookingGrpcService extends BookingServiceGrpc.BookingServiceImplBas
                         .withDescription("Invalid user ID")
                         .asRuntimeException();
             }
+            GrpcAuthInterceptor.requireOwnerOrAdmin(request.getUserId());
 
             Page<BookingDto> bookingPage = bookingService.getBookingsByUserId(
                     request.getUserId(), PageRequest.of(request.getPage(), request.getSize()));
 
             sendBookingResponse(bookingPage, responseObserver);
-            log.info("Successfully processed getBookingsByUserId request");
+            log.debug("Successfully processed getBookingsByUserId request");
 
         } catch (StatusRuntimeException e) {
             log.error("gRPC error in getBookingsByUserId: {}", e.getStatus().getDescription(), e);
@@ -88,7 +117,7 @@ public class BookingGrpcService extends BookingServiceGrpc.BookingServiceImplBas
     @Override
     public void getBookingsByDestinationId(DestinationBookingsRequest request, StreamObserver<BookingResponse> responseObserver) {
         try {
-            log.info("Processing gRPC request for getBookingsByDestinationId - destinationId: {}, page: {}, size: {}",
+            log.debug("Processing gRPC request for getBookingsByDestinationId - destinationId: {}, page: {}, size: {}",
                     request.getDestinationId(), request.getPage(), request.getSize());
 
             validatePagination(request.getPage(), request.getSize());
@@ -102,7 +131,7 @@ public class BookingGrpcService extends BookingServiceGrpc.BookingServiceImplBas
                     request.getDestinationId(), PageRequest.of(request.getPage(), request.getSize()));
 
             sendBookingResponse(bookingPage, responseObserver);
-            log.info("Successfully processed getBookingsByDestinationId request");
+            log.debug("Successfully processed getBookingsByDestinationId request");
 
         } catch (StatusRuntimeException e) {
             log.error("gRPC error in getBookingsByDestinationId: {}", e.getStatus().getDescription(), e);
@@ -119,7 +148,7 @@ public class BookingGrpcService extends BookingServiceGrpc.BookingServiceImplBas
     @Override
     public void updateBookingStatus(UpdateStatusRequest request, StreamObserver<BookingResponseSingle> responseObserver) {
         try {
-            log.info("Processing gRPC request for updateBookingStatus - bookingId: {}, status: {}",
+            log.debug("Processing gRPC request for updateBookingStatus - bookingId: {}, status: {}",
                     request.getBookingId(), request.getStatus());
 
             if (request.getBookingId() <= 0) {
@@ -141,7 +170,7 @@ public class BookingGrpcService extends BookingServiceGrpc.BookingServiceImplBas
 
             responseObserver.onNext(response);
             responseObserver.onCompleted();
-            log.info("Successfully updated booking status");
+            log.debug("Successfully updated booking status");
 
         } catch (ResourceNotFound e) {
             log.warn("Booking not found: {}", e.getMessage());
@@ -168,7 +197,7 @@ public class BookingGrpcService extends BookingServiceGrpc.BookingServiceImplBas
     @Override
     public void updateBookingPaymentStatus(UpdateStatusRequest request, StreamObserver<BookingResponseSingle> responseObserver) {
         try {
-            log.info("Processing gRPC request for updateBookingPaymentStatus - bookingId: {}, status: {}",
+            log.debug("Processing gRPC request for updateBookingPaymentStatus - bookingId: {}, status: {}",
                     request.getBookingId(), request.getStatus());
 
             if (request.getBookingId() <= 0) {
@@ -190,7 +219,7 @@ public class BookingGrpcService extends BookingServiceGrpc.BookingServiceImplBas
 
             responseObserver.onNext(response);
             responseObserver.onCompleted();
-            log.info("Successfully updated booking payment status");
+            log.debug("Successfully updated booking payment status");
 
         } catch (ResourceNotFound e) {
             responseObserver.onError(Status.NOT_FOUND
@@ -215,7 +244,7 @@ public class BookingGrpcService extends BookingServiceGrpc.BookingServiceImplBas
     @Override
     public void softDeleteBooking(DeleteBookingRequest request, StreamObserver<DeleteBookingResponse> responseObserver) {
         try {
-            log.info("Processing gRPC request for softDeleteBooking - bookingId: {}",
+            log.debug("Processing gRPC request for softDeleteBooking - bookingId: {}",
                     request.getBookingId());
 
             if (request.getBookingId() <= 0) {
@@ -232,7 +261,7 @@ public class BookingGrpcService extends BookingServiceGrpc.BookingServiceImplBas
 
             responseObserver.onNext(response);
             responseObserver.onCompleted();
-            log.info("Successfully soft deleted booking");
+            log.debug("Successfully soft deleted booking");
 
         } catch (ResourceNotFound e) {
             responseObserver.onError(Status.NOT_FOUND
@@ -253,7 +282,7 @@ public class BookingGrpcService extends BookingServiceGrpc.BookingServiceImplBas
     @Override
     public void getBookingsByPaymentStatus(PaymentStatusRequest request, StreamObserver<BookingResponse> responseObserver) {
         try {
-            log.info("Processing gRPC request for getBookingsByPaymentStatus - status: {}",
+            log.debug("Processing gRPC request for getBookingsByPaymentStatus - status: {}",
                     request.getPaymentStatus());
 
             if (request.getPaymentStatus().isBlank()) {
@@ -274,7 +303,7 @@ public class BookingGrpcService extends BookingServiceGrpc.BookingServiceImplBas
 
             responseObserver.onNext(response);
             responseObserver.onCompleted();
-            log.info("Successfully processed getBookingsByPaymentStatus request");
+            log.debug("Successfully processed getBookingsByPaymentStatus request");
 
         } catch (IllegalArgumentException e) {
             responseObserver.onError(Status.INVALID_ARGUMENT
@@ -295,7 +324,7 @@ public class BookingGrpcService extends BookingServiceGrpc.BookingServiceImplBas
     @Override
     public void getBookingsByStatus(StatusRequest request, StreamObserver<BookingResponse> responseObserver) {
         try {
-            log.info("Processing gRPC request for getBookingsByStatus - status: {}, page: {}, size: {}",
+            log.debug("Processing gRPC request for getBookingsByStatus - status: {}, page: {}, size: {}",
                     request.getStatus(), request.getPage(), request.getSize());
 
             validatePagination(request.getPage(), request.getSize());
@@ -309,7 +338,7 @@ public class BookingGrpcService extends BookingServiceGrpc.BookingServiceImplBas
                     request.getStatus(), PageRequest.of(request.getPage(), request.getSize()));
 
             sendBookingResponse(bookingPage, responseObserver);
-            log.info("Successfully processed getBookingsByStatus request");
+            log.debug("Successfully processed getBookingsByStatus request");
 
         } catch (IllegalArgumentException e) {
             responseObserver.onError(Status.INVALID_ARGUMENT
@@ -330,7 +359,7 @@ public class BookingGrpcService extends BookingServiceGrpc.BookingServiceImplBas
     @Override
     public void confirmBooking(ConfirmBookingRequest request, StreamObserver<BookingResponseSingle> responseObserver) {
         try {
-            log.info("Processing gRPC request for confirmBooking - bookingId: {}",
+            log.debug("Processing gRPC request for confirmBooking - bookingId: {}",
                     request.getBookingId());
 
             if (request.getBookingId() <= 0) {
@@ -347,7 +376,7 @@ public class BookingGrpcService extends BookingServiceGrpc.BookingServiceImplBas
 
             responseObserver.onNext(response);
             responseObserver.onCompleted();
-            log.info("Successfully confirmed booking");
+            log.debug("Successfully confirmed booking");
 
         } catch (ResourceNotFound e) {
             responseObserver.onError(Status.NOT_FOUND
@@ -372,7 +401,7 @@ public class BookingGrpcService extends BookingServiceGrpc.BookingServiceImplBas
     @Override
     public void getBookingPayment(BookingPaymentRequest request, StreamObserver<BookingPaymentResponse> responseObserver) {
         try {
-            log.info("Processing gRPC request for getBookingPayment - bookingId: {}",
+            log.debug("Processing gRPC request for getBookingPayment - bookingId: {}",
                     request.getBookingId());
 
             if (request.getBookingId() <= 0) {
@@ -382,6 +411,7 @@ public class BookingGrpcService extends BookingServiceGrpc.BookingServiceImplBas
             }
 
             BookingPaymentDto booking = bookingService.getBookingPayment(request.getBookingId());
+            GrpcAuthInterceptor.requireOwnerOrAdmin(booking.getUserId());
 
             BookingPaymentResponse response = BookingPaymentResponse.newBuilder()
                     .setAmount(booking.getAmount().doubleValue())
@@ -392,7 +422,7 @@ public class BookingGrpcService extends BookingServiceGrpc.BookingServiceImplBas
 
             responseObserver.onNext(response);
             responseObserver.onCompleted();
-            log.info("Successfully processed getBookingPayment request");
+            log.debug("Successfully processed getBookingPayment request");
 
         } catch (ResourceNotFound e) {
             responseObserver.onError(Status.NOT_FOUND
@@ -410,8 +440,68 @@ public class BookingGrpcService extends BookingServiceGrpc.BookingServiceImplBas
         }
     }
 
+    @Override
+    public void getAvailableTours(AvailableToursRequest request, StreamObserver<AvailableToursResponse> responseObserver) {
+        try {
+            log.debug("Processing gRPC request for getAvailableTours - from: {}, to: {}, seats: {}",
+                    request.getFromDate(), request.getToDate(), request.getSeats());
+
+            LocalDate from;
+            LocalDate to;
+            try {
+                from = LocalDate.parse(request.getFromDate());
+                to = LocalDate.parse(request.getToDate());
+            } catch (DateTimeParseException e) {
+                throw Status.INVALID_ARGUMENT
+                        .withDescription("Dates must be in yyyy-MM-dd format")
+                        .asRuntimeException();
+            }
+
+            List<TourAvailabilityDto> available = tourInventoryService.findAvailableTours(
+                    from, to, request.getSeats(), request.getLimit());
+
+            AvailableToursResponse response = AvailableToursResponse.newBuilder()
+                    .addAllTours(available.stream()
+                            .map(tour -> TourAvailability.newBuilder()
+                                    .setTourId(tour.getTourId())
+                                    .setStartDate(tour.getStartDate().toString())
+                                    .setEndDate(tour.getEndDate().toString())
+                                    .setRemainingSeats(tour.getRemainingSeats())
+                                    .build())
+                            .collect(Collectors.toList()))
+                    .build();
+
+            responseObserver.onNext(response);
+            responseObserver.onCompleted();
+            log.debug("Successfully processed getAvailableTours request");
+
+        } catch (BadRequestException e) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription(e.getReason())
+                    .asRuntimeException());
+        } catch (ServiceUnavailable e) {
+            responseObserver.onError(Status.UNAVAILABLE
+                    .withDescription(e.getReason())
+                    .asRuntimeException());
+        } catch (StatusRuntimeException e) {
+            log.error("gRPC error in getAvailableTours: {}", e.getStatus().getDescription(), e);
+            responseObserver.onError(e);
+        } catch (Exception e) {
+            log.error("Unexpected error in getAvailableTours", e);
+            responseObserver.onError(Status.INTERNAL
+                    .withDescription("Internal server error")
+                    .withCause(e)
+                    .asRuntimeException());
+        }
+    }
+
     private void sendBookingResponse(Page<BookingDto> bookingPage, StreamObserver<BookingResponse> responseObserver) {
-        List<Booking> grpcBookings = bookingPage.getContent().stream().map(bookingDto ->
+        sendBookingResponse(bookingPage.getContent(), null, responseObserver);
+    }
+
+    private void sendBookingResponse(List<BookingDto> bookings, String nextCursor,
+                                     StreamObserver<BookingResponse> responseObserver) {
+        List<Booking> grpcBookings = bookings.stream().map(bookingDto ->
                 Booking.newBuilder()
                         .setBookingId(bookingDto.getId())
                         .setFirstName(bookingDto.getFirstName())
@@ -425,11 +515,13 @@ public class BookingGrpcService extends BookingServiceGrpc.BookingServiceImplBas
                         .build()
         ).collect(Collectors.toList());
 
-        BookingResponse response = BookingResponse.newBuilder()
-                .addAllBookings(grpcBookings)
-                .build();
+        BookingResponse.Builder response = BookingResponse.newBuilder()
+                .addAllBookings(grpcBookings);
+        if (nextCursor != null) {
+            response.setNextCursor(nextCursor);
+        }
 
-        responseObserver.onNext(response);
+        responseObserver.onNext(response.build());
         responseObserver.onCompleted();
     }
 
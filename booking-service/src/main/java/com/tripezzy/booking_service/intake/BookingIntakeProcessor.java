@@ -0,0 +1,216 @@
+package com.tripezzy.booking_service.intake;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tripezzy.booking_service.dto.BookingDto;
+import com.tripezzy.booking_service.entity.BookingRequest;
+import com.tripezzy.booking_service.entity.enums.IntakeStatus;
+import com.tripezzy.booking_service.entity.enums.PaymentStatus;
+import com.tripezzy.booking_service.entity.enums.Status;
+import com.tripezzy.booking_service.events.BookingCreatedEvent;
+import com.tripezzy.booking_service.repository.BookingRequestRepository;
+import com.tripezzy.booking_service.service.TourInventoryService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+// Transactional steps of the intake worker. Kept in their own bean so each call gets its own
+// transaction through the Spring proxy.
+@Component
+public class BookingIntakeProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(BookingIntakeProcessor.class);
+
+    private static final String INSERT_BOOKING_SQL = "INSERT INTO bookings (first_name, last_name, email, phone_number, " +
+            "user_id, destination_id, tour_id, seats, booking_date, travel_date, booking_status, total_price, " +
+            "payment_status, created_at, updated_at, deleted) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, false)";
+    private static final String COMPLETE_SQL = "UPDATE booking_requests SET status = 'COMPLETED', booking_id = ?, " +
+            "failure_reason = NULL, event_published = FALSE, updated_at = ? WHERE request_id = ?";
+    private static final String FAIL_SQL = "UPDATE booking_requests SET status = 'FAILED', failure_reason = ?, " +
+            "updated_at = ? WHERE request_id = ?";
+
+    private final BookingRequestRepository bookingRequestRepository;
+    private final TourInventoryService tourInventoryService;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public BookingIntakeProcessor(BookingRequestRepository bookingRequestRepository,
+                                  TourInventoryService tourInventoryService,
+                                  JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.bookingRequestRepository = bookingRequestRepository;
+        this.tourInventoryService = tourInventoryService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional
+    public List<BookingRequest> claim(int limit) {
+        List<BookingRequest> batch = bookingRequestRepository.findQueuedForUpdate(limit);
+        if (!batch.isEmpty()) {
+            bookingRequestRepository.markClaimed(
+                    batch.stream().map(BookingRequest::getId).collect(Collectors.toList()),
+                    IntakeStatus.PROCESSING, LocalDateTime.now());
+        }
+        return batch;
+    }
+
+    // Reserves seats row by row, since each reservation can fail on its own, then writes all
+    // bookings and request outcomes in batched statements. Any database error rolls the whole
+    // batch back, seats included. The caller then retries the requests one at a time.
+    @Transactional
+    public List<BookingCreatedEvent> process(List<BookingRequest> batch) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<BookingRequest> accepted = new ArrayList<>();
+        List<BookingDto> bookings = new ArrayList<>();
+        List<Object[]> failures = new ArrayList<>();
+
+        for (BookingRequest request : batch) {
+            BookingDto booking;
+            try {
+                booking = objectMapper.readValue(request.getPayload(), BookingDto.class);
+            } catch (JsonProcessingException e) {
+                failures.add(new Object[]{"Booking request could not be read", now, request.getId()});
+                continue;
+            }
+            if (booking.getTourId() != null &&
+                    !tourInventoryService.tryReserveSeats(booking.getTourId(), booking.getTravelDate(), booking.getSeats())) {
+                failures.add(new Object[]{"Not enough seats left on the selected tour", now, request.getId()});
+                continue;
+            }
+            accepted.add(request);
+            bookings.add(booking);
+        }
+
+        List<Long> bookingIds = insertBookings(bookings, now);
+
+        List<Object[]> completions = new ArrayList<>(accepted.size());
+        List<BookingCreatedEvent> events = new ArrayList<>(accepted.size());
+        for (int i = 0; i < accepted.size(); i++) {
+            completions.add(new Object[]{bookingIds.get(i), now, accepted.get(i).getId()});
+            events.add(toEvent(bookingIds.get(i), bookings.get(i), now.toLocalDateTime()));
+        }
+
+        if (!completions.isEmpty()) {
+            jdbcTemplate.batchUpdate(COMPLETE_SQL, completions);
+        }
+        if (!failures.isEmpty()) {
+            jdbcTemplate.batchUpdate(FAIL_SQL, failures);
+        }
+        return events;
+    }
+
+    // Rebuilds the events of completed requests that were never confirmed as sent. Completion stamps
+    // updated_at with the booking date, and publishing leaves it untouched.
+    @Transactional(readOnly = true)
+    public List<BookingCreatedEvent> findUnpublished(LocalDateTime cutoff, int limit) {
+        List<BookingCreatedEvent> events = new ArrayList<>();
+        for (BookingRequest request : bookingRequestRepository.findUnpublished(
+                IntakeStatus.COMPLETED, cutoff, Limit.of(limit))) {
+            try {
+                BookingDto booking = objectMapper.readValue(request.getPayload(), BookingDto.class);
+                events.add(toEvent(request.getBookingId(), booking, request.getUpdatedAt()));
+            } catch (JsonProcessingException e) {
+                // Completed requests were readable once, so this only happens if the payload format changed.
+                log.error("Cannot rebuild booking created event for request {}", request.getId(), e);
+            }
+        }
+        return events;
+    }
+
+    @Transactional
+    public int markPublished(List<Long> bookingIds) {
+        return bookingIds.isEmpty() ? 0 : bookingRequestRepository.markPublished(bookingIds);
+    }
+
+    @Transactional
+    public void markFailed(UUID requestId, String reason) {
+        bookingRequestRepository.markFinished(requestId, IntakeStatus.FAILED, reason, LocalDateTime.now());
+    }
+
+    @Transactional
+    public int recoverStale(LocalDateTime claimCutoff, int maxAttempts) {
+        LocalDateTime now = LocalDateTime.now();
+        bookingRequestRepository.failStale(IntakeStatus.PROCESSING, IntakeStatus.FAILED,
+                "Booking request could not be processed", claimCutoff, maxAttempts, now);
+        return bookingRequestRepository.requeueStale(IntakeStatus.PROCESSING, IntakeStatus.QUEUED,
+                claimCutoff, maxAttempts, now);
+    }
+
+    @Transactional
+    public int purgeFinished(LocalDateTime cutoff) {
+        return bookingRequestRepository.deleteFinishedBefore(List.of(IntakeStatus.COMPLETED, IntakeStatus.FAILED), cutoff);
+    }
+
+    private List<Long> insertBookings(List<BookingDto> bookings, Timestamp now) {
+        if (bookings.isEmpty()) {
+            return List.of();
+        }
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_BOOKING_SQL, new String[]{"booking_id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        BookingDto booking = bookings.get(i);
+                        ps.setString(1, booking.getFirstName());
+                        ps.setString(2, booking.getLastName());
+                        ps.setString(3, booking.getEmail());
+                        ps.setString(4, booking.getPhoneNumber());
+                        ps.setLong(5, booking.getUser());
+                        ps.setLong(6, booking.getDestination());
+                        if (booking.getTourId() != null) {
+                            ps.setLong(7, booking.getTourId());
+                        } else {
+                            ps.setNull(7, Types.BIGINT);
+                        }
+                        ps.setInt(8, booking.getSeats());
+                        ps.setTimestamp(9, now);
+                        ps.setDate(10, Date.valueOf(booking.getTravelDate()));
+                        ps.setString(11, Status.PENDING.name());
+                        ps.setBigDecimal(12, booking.getTotalPrice());
+                        ps.setString(13, PaymentStatus.DUE.name());
+                        ps.setTimestamp(14, now);
+                        ps.setTimestamp(15, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return bookings.size();
+                    }
+                },
+                keyHolder);
+
+        return keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.get("booking_id")).longValue())
+                .collect(Collectors.toList());
+    }
+
+    private BookingCreatedEvent toEvent(Long bookingId, BookingDto booking, LocalDateTime bookingDate) {
+        BookingCreatedEvent event = new BookingCreatedEvent();
+        event.setUser(booking.getUser());
+        event.setDestination(booking.getDestination());
+        event.setBookingDate(bookingDate.toString());
+        event.setTravelDate(booking.getTravelDate().toString());
+        event.setTotalPrice(booking.getTotalPrice());
+        event.setBooking(bookingId);
+        return event;
+    }
+}
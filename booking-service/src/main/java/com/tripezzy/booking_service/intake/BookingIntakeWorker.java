@@ -0,0 +1,221 @@
+package com.tripezzy.booking_service.intake;
+
+import com.tripezzy.booking_service.entity.BookingRequest;
+import com.tripezzy.booking_service.events.BookingCreatedEvent;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Drains queued booking requests. The poller starts one worker; a worker that claims a full batch
+// starts another, so the pool only grows while there is a backlog.
+@Component
+public class BookingIntakeWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(BookingIntakeWorker.class);
+    private static final String NEW_BOOKING_TOPIC = "new-booking";
+
+    private final BookingIntakeProcessor processor;
+    private final KafkaTemplate<Long, BookingCreatedEvent> kafkaTemplate;
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long claimTimeoutMinutes;
+    private final long retentionHours;
+    private final long publishTimeoutMs;
+
+    public BookingIntakeWorker(BookingIntakeProcessor processor,
+                               KafkaTemplate<Long, BookingCreatedEvent> kafkaTemplate,
+                               @Value("${booking.intake.workers:4}") int workers,
+                               @Value("${booking.intake.batch-size:50}") int batchSize,
+                               @Value("${booking.intake.max-attempts:3}") int maxAttempts,
+                               @Value("${booking.intake.claim-timeout-minutes:5}") long claimTimeoutMinutes,
+                               @Value("${booking.intake.retention-hours:72}") long retentionHours,
+                               @Value("${booking.intake.publish-timeout-ms:10000}") long publishTimeoutMs) {
+        this.processor = processor;
+        this.kafkaTemplate = kafkaTemplate;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.claimTimeoutMinutes = claimTimeoutMinutes;
+        this.retentionHours = retentionHours;
+        this.publishTimeoutMs = publishTimeoutMs;
+        this.permits = new Semaphore(workers);
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "booking-intake-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${booking.intake.poll-interval-ms:250}")
+    public void poll() {
+        startWorker();
+    }
+
+    @Scheduled(fixedDelayString = "${booking.intake.recovery-interval-ms:60000}")
+    public void recover() {
+        try {
+            int requeued = processor.recoverStale(LocalDateTime.now().minusMinutes(claimTimeoutMinutes), maxAttempts);
+            if (requeued > 0) {
+                log.warn("Requeued {} booking requests abandoned mid-processing", requeued);
+            }
+            processor.purgeFinished(LocalDateTime.now().minusHours(retentionHours));
+        } catch (DataAccessException e) {
+            log.error("Failed to recover stale booking requests", e);
+        }
+    }
+
+    // Resends events of completed requests whose send was never acknowledged. The cutoff leaves room
+    // for sends still in flight; consumers may therefore see an event more than once.
+    @Scheduled(fixedDelayString = "${booking.intake.republish-interval-ms:60000}")
+    public void republishUnsent() {
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minus(publishTimeoutMs * 2, ChronoUnit.MILLIS);
+            List<BookingCreatedEvent> events;
+            do {
+                events = processor.findUnpublished(cutoff, batchSize);
+                if (events.isEmpty()) {
+                    return;
+                }
+                log.warn("Republishing {} unsent booking created events", events.size());
+            } while (publish(events) == events.size() && events.size() == batchSize);
+        } catch (DataAccessException e) {
+            log.error("Failed to republish booking created events", e);
+        }
+    }
+
+    private void startWorker() {
+        if (!permits.tryAcquire()) {
+            return;
+        }
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            permits.release();
+        }
+    }
+
+    private void drain() {
+        try {
+            List<BookingRequest> batch;
+            while (!(batch = processor.claim(batchSize)).isEmpty()) {
+                if (batch.size() == batchSize) {
+                    startWorker();
+                }
+                process(batch);
+            }
+        } catch (RuntimeException e) {
+            log.error("Booking intake worker stopped on unexpected error", e);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void process(List<BookingRequest> batch) {
+        try {
+            publish(processor.process(batch));
+            log.info("Processed batch of {} booking requests", batch.size());
+            return;
+        } catch (DataAccessException e) {
+            log.warn("Batch of {} booking requests failed, retrying individually", batch.size(), e);
+        }
+
+        // One bad row (e.g. a duplicate phone number) fails the whole batch insert, so fall back to
+        // one transaction per request. Requests hit by transient errors stay claimed and are
+        // requeued by recover() once the claim times out.
+        for (BookingRequest request : batch) {
+            try {
+                publish(processor.process(List.of(request)));
+            } catch (DataIntegrityViolationException e) {
+                log.warn("Booking request {} conflicts with existing data", request.getId());
+                markFailed(request, "Booking conflicts with an existing booking");
+            } catch (DataAccessException e) {
+                log.error("Failed to process booking request {}", request.getId(), e);
+            }
+        }
+    }
+
+    private void markFailed(BookingRequest request, String reason) {
+        try {
+            processor.markFailed(request.getId(), reason);
+        } catch (DataAccessException e) {
+            log.error("Failed to record failure for booking request {}", request.getId(), e);
+        }
+    }
+
+    // Bookings are committed before their events go out, so a Kafka outage cannot undo a booking.
+    // Only acknowledged sends are marked published; the rest are picked up by republishUnsent().
+    private int publish(List<BookingCreatedEvent> events) {
+        if (events.isEmpty()) {
+            return 0;
+        }
+        List<CompletableFuture<?>> sends = new ArrayList<>(events.size());
+        for (BookingCreatedEvent event : events) {
+            try {
+                sends.add(kafkaTemplate.send(NEW_BOOKING_TOPIC, event.getBooking(), event));
+            } catch (KafkaException e) {
+                log.error("Failed to send booking created event for booking ID: {}", event.getBooking(), e);
+                sends.add(CompletableFuture.failedFuture(e));
+            }
+        }
+
+        List<Long> published = new ArrayList<>(events.size());
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(publishTimeoutMs);
+        for (int i = 0; i < events.size(); i++) {
+            Long bookingId = events.get(i).getBooking();
+            try {
+                sends.get(i).get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                published.add(bookingId);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException | TimeoutException e) {
+                log.error("Booking created event for booking ID {} was not acknowledged, will retry", bookingId, e);
+            }
+        }
+
+        try {
+            processor.markPublished(published);
+        } catch (DataAccessException e) {
+            log.error("Failed to record {} published booking created events, they may be sent again",
+                    published.size(), e);
+        }
+        return published.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.tripezzy.booking_service.pagination;
+
+import com.tripezzy.booking_service.exceptions.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+// Opaque keyset cursor holding the sort key and ID of the last row returned. The next page seeks
+// strictly past that pair through an index instead of skipping rows with OFFSET, so deep pages cost
+// the same as the first. Lists ordered by ID alone use the ID as the sort key.
+public final class KeysetCursor {
+
+    public static final int MAX_PAGE_SIZE = 100;
+    private static final String PREFIX = "v1:";
+
+    private final long sortKey;
+    private final long id;
+
+    private KeysetCursor(long sortKey, long id) {
+        this.sortKey = sortKey;
+        this.id = id;
+    }
+
+    public static String encode(long sortKey, long id) {
+        String raw = PREFIX + sortKey + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String encode(LocalDateTime sortKey, long id) {
+        return encode(sortKey.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + sortKey.getNano() / 1_000, id);
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+        if (!raw.startsWith(PREFIX)) {
+            throw new BadRequestException("Invalid cursor");
+        }
+        int separator = raw.indexOf(':', PREFIX.length());
+        try {
+            return new KeysetCursor(Long.parseLong(raw.substring(PREFIX.length(), separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (NumberFormatException | IndexOutOfBoundsException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    public static void validatePageSize(int size) {
+        if (size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    public long getSortKey() {
+        return sortKey;
+    }
+
+    public LocalDateTime getSortKeyAsDateTime() {
+        long seconds = Math.floorDiv(sortKey, 1_000_000L);
+        int nanos = (int) Math.floorMod(sortKey, 1_000_000L) * 1_000;
+        return LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+    }
+
+    public long getId() {
+        return id;
+    }
+}
@@ -3,11 +3,14 @@ package com.tripezzy.booking_service.repository;
 import com.tripezzy.booking_service.entity.Booking;
 import com.tripezzy.booking_service.entity.enums.PaymentStatus;
 import com.tripezzy.booking_service.entity.enums.Status;
+import jakarta.persistence.LockModeType;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -15,10 +18,14 @@ import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> , JpaSpecificationExecutor<Booking> {
 
+    // Slice fetches one extra row to detect a next page instead of running a COUNT query.
+    Slice<Booking> findAllBy(Pageable pageable);
+
     @Cacheable("bookingsByUserId")
     Page<Booking> findByUser(Long userId, Pageable pageable);
 
@@ -44,6 +51,11 @@ public interface BookingRepository extends JpaRepository<Booking, Long> , JpaSpe
             @Param("maxPrice") BigDecimal maxPrice
     );
 
+    // Serializes status changes on one booking, so a cancel releases its seats exactly once.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Booking b WHERE b.id = :id")
+    Optional<Booking> findLockedById(@Param("id") Long id);
+
     @Modifying
     @Query("UPDATE Booking b SET b.deleted = true, b.status = :status WHERE b.id = :id")
     void softDeleteById(@Param("id") Long id, @Param("status") Status status);
@@ -0,0 +1,81 @@
+package com.tripezzy.booking_service.repository;
+
+import com.tripezzy.booking_service.entity.BookingRequest;
+import com.tripezzy.booking_service.entity.enums.IntakeStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface BookingRequestRepository extends JpaRepository<BookingRequest, UUID> {
+
+    Optional<BookingRequest> findByIdAndUserId(UUID id, Long userId);
+
+    // SKIP LOCKED lets several workers, on this or other instances, claim disjoint batches.
+    @Query(value = "SELECT * FROM booking_requests WHERE status = 'QUEUED' " +
+            "ORDER BY created_at LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<BookingRequest> findQueuedForUpdate(@Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE BookingRequest r SET r.status = :status, r.claimedAt = :now, " +
+            "r.attempts = r.attempts + 1, r.updatedAt = :now WHERE r.id IN :ids")
+    int markClaimed(@Param("ids") Collection<UUID> ids,
+                    @Param("status") IntakeStatus status,
+                    @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE BookingRequest r SET r.status = :status, r.failureReason = :reason, r.updatedAt = :now " +
+            "WHERE r.id = :id")
+    int markFinished(@Param("id") UUID id,
+                     @Param("status") IntakeStatus status,
+                     @Param("reason") String reason,
+                     @Param("now") LocalDateTime now);
+
+    // A claim older than the cutoff belongs to a worker that died mid-batch. Its transaction rolled
+    // back, so the request can be handed out again until it runs out of attempts.
+    @Modifying
+    @Query("UPDATE BookingRequest r SET r.status = :status, r.updatedAt = :now " +
+            "WHERE r.status = :claimed AND r.claimedAt < :cutoff AND r.attempts < :maxAttempts")
+    int requeueStale(@Param("claimed") IntakeStatus claimed,
+                     @Param("status") IntakeStatus status,
+                     @Param("cutoff") LocalDateTime cutoff,
+                     @Param("maxAttempts") int maxAttempts,
+                     @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE BookingRequest r SET r.status = :status, r.failureReason = :reason, r.updatedAt = :now " +
+            "WHERE r.status = :claimed AND r.claimedAt < :cutoff AND r.attempts >= :maxAttempts")
+    int failStale(@Param("claimed") IntakeStatus claimed,
+                  @Param("status") IntakeStatus status,
+                  @Param("reason") String reason,
+                  @Param("cutoff") LocalDateTime cutoff,
+                  @Param("maxAttempts") int maxAttempts,
+                  @Param("now") LocalDateTime now);
+
+    @Query("SELECT r FROM BookingRequest r WHERE r.eventPublished = false AND r.status = :status " +
+            "AND r.updatedAt < :cutoff ORDER BY r.updatedAt")
+    List<BookingRequest> findUnpublished(@Param("status") IntakeStatus status,
+                                         @Param("cutoff") LocalDateTime cutoff,
+                                         Limit limit);
+
+    @Modifying
+    @Query("UPDATE BookingRequest r SET r.eventPublished = true WHERE r.bookingId IN :bookingIds")
+    int markPublished(@Param("bookingIds") Collection<Long> bookingIds);
+
+    // Completed requests whose event has not gone out yet are kept until it has.
+    @Modifying
+    @Query("DELETE FROM BookingRequest r WHERE r.status IN :statuses AND r.updatedAt < :cutoff " +
+            "AND r.eventPublished = true")
+    int deleteFinishedBefore(@Param("statuses") Collection<IntakeStatus> statuses,
+                             @Param("cutoff") LocalDateTime cutoff);
+}
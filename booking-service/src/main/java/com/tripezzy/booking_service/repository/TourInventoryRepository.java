@@ -0,0 +1,50 @@
+package com.tripezzy.booking_service.repository;
+
+import com.tripezzy.booking_service.entity.TourInventory;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface TourInventoryRepository extends JpaRepository<TourInventory, Long> {
+
+    // A capacity change shifts the remaining seats by the same delta, so seats already held by
+    // bookings stay held and replaying the same event is a no-op.
+    @Modifying
+    @Query(value = "INSERT INTO tour_inventory (tour_id, start_date, end_date, capacity, remaining, active, updated_at) " +
+            "VALUES (:tourId, :startDate, :endDate, :capacity, :capacity, :active, NOW()) " +
+            "ON CONFLICT (tour_id) DO UPDATE SET " +
+            "start_date = EXCLUDED.start_date, end_date = EXCLUDED.end_date, " +
+            "remaining = LEAST(GREATEST(tour_inventory.remaining + EXCLUDED.capacity - tour_inventory.capacity, 0), EXCLUDED.capacity), " +
+            "capacity = EXCLUDED.capacity, active = EXCLUDED.active, updated_at = NOW()",
+            nativeQuery = true)
+    int upsert(@Param("tourId") Long tourId,
+               @Param("startDate") LocalDate startDate,
+               @Param("endDate") LocalDate endDate,
+               @Param("capacity") int capacity,
+               @Param("active") boolean active);
+
+    @Modifying
+    @Query("UPDATE TourInventory t SET t.remaining = t.remaining - :seats " +
+            "WHERE t.tourId = :tourId AND t.active = true AND t.remaining >= :seats " +
+            "AND :travelDate BETWEEN t.startDate AND t.endDate")
+    int reserve(@Param("tourId") Long tourId, @Param("travelDate") LocalDate travelDate, @Param("seats") int seats);
+
+    @Modifying
+    @Query(value = "UPDATE tour_inventory SET remaining = LEAST(remaining + :seats, capacity) WHERE tour_id = :tourId",
+            nativeQuery = true)
+    int release(@Param("tourId") Long tourId, @Param("seats") int seats);
+
+    @Query("SELECT t FROM TourInventory t WHERE t.active = true AND t.remaining >= :seats " +
+            "AND t.startDate BETWEEN :from AND :to ORDER BY t.startDate, t.tourId")
+    List<TourInventory> findAvailable(@Param("from") LocalDate from,
+                                      @Param("to") LocalDate to,
+                                      @Param("seats") int seats,
+                                      Limit limit);
+}
@@ -0,0 +1,13 @@
+package com.tripezzy.booking_service.service;
+
+import com.tripezzy.booking_service.dto.BookingDto;
+import com.tripezzy.booking_service.dto.BookingRequestStatusDto;
+
+import java.util.UUID;
+
+public interface BookingIntakeService {
+
+    BookingRequestStatusDto submitBooking(BookingDto bookingDto, Long destinationId);
+
+    BookingRequestStatusDto getRequestStatus(UUID trackingId);
+}
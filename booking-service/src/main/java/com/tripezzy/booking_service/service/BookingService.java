@@ -2,8 +2,10 @@ package com.tripezzy.booking_service.service;
 
 import com.tripezzy.booking_service.dto.BookingDto;
 import com.tripezzy.booking_service.dto.BookingPaymentDto;
+import com.tripezzy.booking_service.dto.CursorPageDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -18,6 +20,10 @@ public interface BookingService {
 
     Page<BookingDto> getAllBookings(Pageable pageable);
 
+    Slice<BookingDto> getAllBookingsSlice(Pageable pageable);
+
+    CursorPageDto<BookingDto> scrollBookings(String cursor, int size);
+
     Page<BookingDto> getBookingsByUserId(Long userId, Pageable pageable);
 
     Page<BookingDto> getBookingsByDestinationId(Long destinationId, Pageable pageable);
@@ -36,6 +42,8 @@ public interface BookingService {
 
     Page<BookingDto> filterBookings(Long userId, Long destinationId, String status, String paymentStatus, BigDecimal minPrice, BigDecimal maxPrice, Pageable pageable);
 
+    CursorPageDto<BookingDto> scrollFilteredBookings(Long userId, Long destinationId, String status, String paymentStatus, BigDecimal minPrice, BigDecimal maxPrice, String cursor, int size);
+
     BookingDto confirmBooking(Long bookingId);
 
     BookingPaymentDto getBookingPayment(Long bookingId);
@@ -0,0 +1,20 @@
+package com.tripezzy.booking_service.service;
+
+import com.tripezzy.booking_service.dto.TourAvailabilityDto;
+import com.tripezzy.booking_service.events.TourInventoryEvent;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface TourInventoryService {
+
+    void reserveSeats(Long tourId, LocalDate travelDate, int seats);
+
+    boolean tryReserveSeats(Long tourId, LocalDate travelDate, int seats);
+
+    void releaseSeats(Long tourId, int seats);
+
+    void applyTourEvent(TourInventoryEvent event);
+
+    List<TourAvailabilityDto> findAvailableTours(LocalDate from, LocalDate to, int seats, int limit);
+}
@@ -0,0 +1,128 @@
+package com.tripezzy.booking_service.service.implementation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tripezzy.booking_service.auth.UserContext;
+import com.tripezzy.booking_service.auth.UserContextHolder;
+import com.tripezzy.booking_service.dto.BookingDto;
+import com.tripezzy.booking_service.dto.BookingRequestStatusDto;
+import com.tripezzy.booking_service.entity.BookingRequest;
+import com.tripezzy.booking_service.entity.enums.IntakeStatus;
+import com.tripezzy.booking_service.exceptions.*;
+import com.tripezzy.booking_service.repository.BookingRequestRepository;
+import com.tripezzy.booking_service.service.BookingIntakeService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.UUID;
+
+@Service
+public class BookingIntakeServiceImpl implements BookingIntakeService {
+
+    private static final Logger log = LoggerFactory.getLogger(BookingIntakeServiceImpl.class);
+    private final BookingRequestRepository bookingRequestRepository;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    public BookingIntakeServiceImpl(BookingRequestRepository bookingRequestRepository,
+                                    ObjectMapper objectMapper, Validator validator) {
+        this.bookingRequestRepository = bookingRequestRepository;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+    }
+
+    // Everything that can be checked without touching bookings or seats is checked here, so a
+    // request only fails after acceptance when it loses a race for seats or a unique value.
+    @Override
+    public BookingRequestStatusDto submitBooking(BookingDto bookingDto, Long destinationId) {
+        if (bookingDto == null) {
+            throw new BadRequestException("Booking data cannot be null");
+        }
+        if (destinationId == null || destinationId <= 0) {
+            throw new BadRequestException("Invalid destination ID");
+        }
+        if (bookingDto.getTotalPrice() == null || bookingDto.getTotalPrice().compareTo(BigDecimal.ZERO) <= 0) {
+            throw new BadRequestException("Price must be greater than zero");
+        }
+        if (bookingDto.getTourId() != null && bookingDto.getTravelDate() == null) {
+            throw new BadRequestException("Travel date is required for tour bookings");
+        }
+
+        UserContext userContext = UserContextHolder.getUserDetails();
+        if (userContext == null || userContext.getUserId() == null) {
+            throw new AccessForbidden("Authentication required");
+        }
+
+        bookingDto.setId(null);
+        bookingDto.setUser(userContext.getUserId());
+        bookingDto.setDestination(destinationId);
+        if (bookingDto.getSeats() == null) {
+            bookingDto.setSeats(1);
+        }
+
+        Set<ConstraintViolation<BookingDto>> violations = validator.validate(bookingDto);
+        if (!violations.isEmpty()) {
+            ConstraintViolation<BookingDto> first = violations.stream()
+                    .min(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                    .get();
+            throw new BadRequestException(first.getMessage());
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            BookingRequest request = new BookingRequest();
+            request.setId(UUID.randomUUID());
+            request.setUserId(userContext.getUserId());
+            request.setDestinationId(destinationId);
+            request.setPayload(objectMapper.writeValueAsString(bookingDto));
+            request.setStatus(IntakeStatus.QUEUED);
+            request.setCreatedAt(now);
+            request.setUpdatedAt(now);
+
+            BookingRequest saved = bookingRequestRepository.save(request);
+            log.info("Queued booking request {} for destination ID: {}", saved.getId(), destinationId);
+            return toStatusDto(saved);
+
+        } catch (JsonProcessingException ex) {
+            log.error("Failed to serialize booking request", ex);
+            throw new IllegalState("Failed to queue booking request");
+        } catch (DataAccessException ex) {
+            log.error("Database error while queueing booking request", ex);
+            throw new ServiceUnavailable("Unable to accept bookings at this time");
+        }
+    }
+
+    @Override
+    public BookingRequestStatusDto getRequestStatus(UUID trackingId) {
+        if (trackingId == null) {
+            throw new BadRequestException("Tracking ID is required");
+        }
+
+        UserContext userContext = UserContextHolder.getUserDetails();
+        if (userContext == null || userContext.getUserId() == null) {
+            throw new AccessForbidden("Authentication required");
+        }
+
+        try {
+            return bookingRequestRepository.findByIdAndUserId(trackingId, userContext.getUserId())
+                    .map(this::toStatusDto)
+                    .orElseThrow(() -> new ResourceNotFound("Booking request not found with ID: " + trackingId));
+        } catch (DataAccessException ex) {
+            log.error("Database error while fetching booking request {}", trackingId, ex);
+            throw new ServiceUnavailable("Unable to retrieve booking request at this time");
+        }
+    }
+
+    private BookingRequestStatusDto toStatusDto(BookingRequest request) {
+        return new BookingRequestStatusDto(request.getId(), request.getStatus(), request.getBookingId(),
+                request.getFailureReason(), request.getCreatedAt(), request.getUpdatedAt());
+    }
+}
@@ -4,6 +4,7 @@ import com.tripezzy.booking_service.auth.UserContext;
 import com.tripezzy.booking_service.auth.UserContextHolder;
 import com.tripezzy.booking_service.dto.BookingDto;
 import com.tripezzy.booking_service.dto.BookingPaymentDto;
+import com.tripezzy.booking_service.dto.CursorPageDto;
 import com.tripezzy.booking_service.entity.Booking;
 import com.tripezzy.booking_service.entity.enums.PaymentStatus;
 import com.tripezzy.booking_service.entity.enums.Status;
@@ -11,8 +12,10 @@ import com.tripezzy.booking_service.events.BookingConfirmedEvent;
 import com.tripezzy.booking_service.events.BookingCreatedEvent;
 import com.tripezzy.booking_service.events.BookingStatusUpdatedEvent;
 import com.tripezzy.booking_service.exceptions.*;
+import com.tripezzy.booking_service.pagination.KeysetCursor;
 import com.tripezzy.booking_service.repository.BookingRepository;
 import com.tripezzy.booking_service.service.BookingService;
+import com.tripezzy.booking_service.service.TourInventoryService;
 import org.modelmapper.MappingException;
 import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
@@ -22,6 +25,8 @@ import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.kafka.KafkaException;
 import org.springframework.kafka.core.KafkaTemplate;
@@ -42,16 +47,19 @@ public class BookingServiceImpl implements BookingService {
     private final KafkaTemplate<Long, BookingCreatedEvent> kafkaBookingCreatedTemplate;
     private final KafkaTemplate<Long, BookingStatusUpdatedEvent> bookingStatusUpdatedKafkaTemplate;
     private final KafkaTemplate<Long, BookingConfirmedEvent> bookingConfirmedKafkaTemplate;
+    private final TourInventoryService tourInventoryService;
 
     public BookingServiceImpl(ModelMapper modelMapper,
                               BookingRepository bookingRepository, KafkaTemplate<Long, BookingCreatedEvent> kafkaTemplate,
                               KafkaTemplate<Long, BookingStatusUpdatedEvent> bookingStatusUpdatedEventKafkaTemplate,
-                              KafkaTemplate<Long, BookingConfirmedEvent> bookingConfirmedKafkaTemplate) {
+                              KafkaTemplate<Long, BookingConfirmedEvent> bookingConfirmedKafkaTemplate,
+                              TourInventoryService tourInventoryService) {
         this.modelMapper = modelMapper;
         this.bookingRepository = bookingRepository;
         this.kafkaBookingCreatedTemplate = kafkaTemplate;
         this.bookingStatusUpdatedKafkaTemplate = bookingStatusUpdatedEventKafkaTemplate;
         this.bookingConfirmedKafkaTemplate = bookingConfirmedKafkaTemplate;
+        this.tourInventoryService = tourInventoryService;
     }
 
     @Override
@@ -80,6 +88,15 @@ public class BookingServiceImpl implements BookingService {
             booking.setUser(userContext.getUserId());
             booking.setDestination(destinationId);
             booking.setStatus(Status.PENDING);
+            booking.setSeats(bookingDto.getSeats() == null ? 1 : bookingDto.getSeats());
+
+            // Seats are held from creation so a pending booking cannot be oversold before payment.
+            if (booking.getTourId() != null) {
+                if (booking.getTravelDate() == null) {
+                    throw new BadRequestException("Travel date is required for tour bookings");
+                }
+                tourInventoryService.reserveSeats(booking.getTourId(), booking.getTravelDate(), booking.getSeats());
+            }
 
             Booking savedBooking = bookingRepository.save(booking);
 
@@ -187,6 +204,24 @@ public class BookingServiceImpl implements BookingService {
         }
     }
 
+    @Override
+    public Slice<BookingDto> getAllBookingsSlice(Pageable pageable) {
+        try {
+            log.info("Fetching slice of bookings - page: {}, size: {}", pageable.getPageNumber(), pageable.getPageSize());
+            return bookingRepository.findAllBy(pageable).map(this::toDto);
+
+        } catch (DataAccessException ex) {
+            log.error("Database error while fetching bookings slice", ex);
+            throw new ServiceUnavailable("Unable to retrieve bookings at this time");
+        }
+    }
+
+    @Override
+    public CursorPageDto<BookingDto> scrollBookings(String cursor, int size) {
+        log.info("Scrolling bookings with page size: {}", size);
+        return scroll(Specification.where(null), cursor, size);
+    }
+
     @Override
     @Cacheable(value = "bookingsByUser", key = "#userId")
     public Page<BookingDto> getBookingsByUserId(Long userId, Pageable pageable) {
@@ -232,7 +267,7 @@ public class BookingServiceImpl implements BookingService {
                 throw new AccessForbidden("Authentication required");
             }
 
-            Booking booking = bookingRepository.findById(bookingId)
+            Booking booking = bookingRepository.findLockedById(bookingId)
                     .orElseThrow(() -> new ResourceNotFound("Booking not found with ID: " + bookingId));
 
             // Authorization check
@@ -240,6 +275,9 @@ public class BookingServiceImpl implements BookingService {
                 throw new AccessForbidden("You are not authorized to delete this booking");
             }
 
+            if (booking.getTourId() != null && booking.getStatus() != Status.CANCELLED) {
+                tourInventoryService.releaseSeats(booking.getTourId(), booking.getSeats());
+            }
             bookingRepository.softDeleteById(bookingId, Status.CANCELLED);
             log.info("Booking soft deleted successfully with ID: {}", bookingId);
 
@@ -303,6 +341,7 @@ public class BookingServiceImpl implements BookingService {
             bookingPaymentDto.setAmount(booking.getTotalPrice());
             bookingPaymentDto.setName(booking.getFirstName() + " " + booking.getLastName());
             bookingPaymentDto.setCurrency("USD");
+            bookingPaymentDto.setUserId(booking.getUser());
 
             return bookingPaymentDto;
 
@@ -388,47 +427,8 @@ public class BookingServiceImpl implements BookingService {
             if (pageable == null) {
                 throw new BadRequestException("Pageable cannot be null");
             }
-            if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0) {
-                throw new BadRequestException("Minimum price cannot be greater than maximum price");
-            }
-
-            Specification<Booking> spec = Specification.where((root, query, cb) -> cb.equal(root.get("deleted"), false));
-
-            if (userId != null) {
-                if (userId <= 0) throw new BadRequestException("Invalid user ID");
-                spec = spec.and((root, query, cb) -> cb.equal(root.get("user"), userId));
-            }
-
-            if (destinationId != null) {
-                if (destinationId <= 0) throw new BadRequestException("Invalid destination ID");
-                spec = spec.and((root, query, cb) -> cb.equal(root.get("destination"), destinationId));
-            }
-
-            if (status != null) {
-                try {
-                    Status statusEnum = Status.valueOf(status);
-                    spec = spec.and((root, query, cb) -> cb.equal(root.get("status"), statusEnum));
-                } catch (IllegalArgumentException e) {
-                    throw new BadRequestException("Invalid status value: " + status);
-                }
-            }
-
-            if (paymentStatus != null) {
-                try {
-                    PaymentStatus paymentStatusEnum = PaymentStatus.valueOf(paymentStatus);
-                    spec = spec.and((root, query, cb) -> cb.equal(root.get("paymentStatus"), paymentStatusEnum));
-                } catch (IllegalArgumentException e) {
-                    throw new BadRequestException("Invalid payment status value: " + paymentStatus);
-                }
-            }
-
-            if (minPrice != null) {
-                spec = spec.and((root, query, cb) -> cb.greaterThanOrEqualTo(root.get("totalPrice"), minPrice));
-            }
 
-            if (maxPrice != null) {
-                spec = spec.and((root, query, cb) -> cb.lessThanOrEqualTo(root.get("totalPrice"), maxPrice));
-            }
+            Specification<Booking> spec = filterSpecification(userId, destinationId, status, paymentStatus, minPrice, maxPrice);
 
             return bookingRepository.findAll(spec, pageable)
                     .map(booking -> {
@@ -446,6 +446,101 @@ public class BookingServiceImpl implements BookingService {
         }
     }
 
+    @Override
+    public CursorPageDto<BookingDto> scrollFilteredBookings(Long userId, Long destinationId, String status,
+                                                            String paymentStatus, BigDecimal minPrice,
+                                                            BigDecimal maxPrice, String cursor, int size) {
+        log.info("Scrolling filtered bookings with parameters - userId: {}, destinationId: {}, status: {}, paymentStatus: {}, minPrice: {}, maxPrice: {}",
+                userId, destinationId, status, paymentStatus, minPrice, maxPrice);
+        return scroll(filterSpecification(userId, destinationId, status, paymentStatus, minPrice, maxPrice), cursor, size);
+    }
+
+    private Specification<Booking> filterSpecification(Long userId, Long destinationId, String status,
+                                                       String paymentStatus, BigDecimal minPrice, BigDecimal maxPrice) {
+        if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0) {
+            throw new BadRequestException("Minimum price cannot be greater than maximum price");
+        }
+
+        Specification<Booking> spec = Specification.where((root, query, cb) -> cb.equal(root.get("deleted"), false));
+
+        if (userId != null) {
+            if (userId <= 0) throw new BadRequestException("Invalid user ID");
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("user"), userId));
+        }
+
+        if (destinationId != null) {
+            if (destinationId <= 0) throw new BadRequestException("Invalid destination ID");
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("destination"), destinationId));
+        }
+
+        if (status != null) {
+            try {
+                Status statusEnum = Status.valueOf(status);
+                spec = spec.and((root, query, cb) -> cb.equal(root.get("status"), statusEnum));
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("Invalid status value: " + status);
+            }
+        }
+
+        if (paymentStatus != null) {
+            try {
+                PaymentStatus paymentStatusEnum = PaymentStatus.valueOf(paymentStatus);
+                spec = spec.and((root, query, cb) -> cb.equal(root.get("paymentStatus"), paymentStatusEnum));
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("Invalid payment status value: " + paymentStatus);
+            }
+        }
+
+        if (minPrice != null) {
+            spec = spec.and((root, query, cb) -> cb.greaterThanOrEqualTo(root.get("totalPrice"), minPrice));
+        }
+
+        if (maxPrice != null) {
+            spec = spec.and((root, query, cb) -> cb.lessThanOrEqualTo(root.get("totalPrice"), maxPrice));
+        }
+
+        return spec;
+    }
+
+    // Newest first by ID, seeking past the cursor's ID through the primary key index.
+    private CursorPageDto<BookingDto> scroll(Specification<Booking> spec, String cursor, int size) {
+        KeysetCursor.validatePageSize(size);
+        if (cursor != null && !cursor.isBlank()) {
+            long afterId = KeysetCursor.decode(cursor).getId();
+            spec = spec.and((root, query, cb) -> cb.lessThan(root.get("id"), afterId));
+        }
+
+        try {
+            List<Booking> rows = bookingRepository.findBy(spec, query -> query
+                    .sortBy(Sort.by(Sort.Direction.DESC, "id"))
+                    .limit(size + 1)
+                    .all());
+
+            boolean hasNext = rows.size() > size;
+            List<Booking> page = hasNext ? rows.subList(0, size) : rows;
+            String nextCursor = null;
+            if (hasNext) {
+                Long lastId = page.get(page.size() - 1).getId();
+                nextCursor = KeysetCursor.encode(lastId, lastId);
+            }
+
+            return new CursorPageDto<>(page.stream().map(this::toDto).collect(Collectors.toList()), nextCursor);
+
+        } catch (DataAccessException ex) {
+            log.error("Database error while scrolling bookings", ex);
+            throw new ServiceUnavailable("Unable to retrieve bookings at this time");
+        }
+    }
+
+    private BookingDto toDto(Booking booking) {
+        try {
+            return modelMapper.map(booking, BookingDto.class);
+        } catch (MappingException ex) {
+            log.error("Mapping error for booking ID {}", booking.getId(), ex);
+            throw new IllegalState("Failed to map booking data");
+        }
+    }
+
     @Override
     @Cacheable(value = "bookingsByPaymentStatusAndPriceRange",
             key = "#paymentStatus + '-' + #minPrice + '-' + #maxPrice")
@@ -611,12 +706,15 @@ public class BookingServiceImpl implements BookingService {
                 throw new BadRequestException("Invalid status: " + status);
             }
 
-            Booking booking = bookingRepository.findById(bookingId)
+            Booking booking = bookingRepository.findLockedById(bookingId)
                     .orElseThrow(() -> new ResourceNotFound("Booking not found with ID: " + bookingId));
 
             if (booking.getStatus() == Status.CANCELLED) {
                 throw new IllegalState("Cannot update status of a cancelled booking");
             }
+            if (booking.getTourId() != null && statusEnum == Status.CANCELLED) {
+                tourInventoryService.releaseSeats(booking.getTourId(), booking.getSeats());
+            }
 
             booking.setStatus(statusEnum);
             Booking updatedBooking = bookingRepository.save(booking);
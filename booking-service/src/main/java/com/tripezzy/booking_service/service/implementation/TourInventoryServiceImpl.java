@@ -0,0 +1,149 @@
+package com.tripezzy.booking_service.service.implementation;
+
+import com.tripezzy.booking_service.dto.TourAvailabilityDto;
+import com.tripezzy.booking_service.entity.TourInventory;
+import com.tripezzy.booking_service.events.TourInventoryEvent;
+import com.tripezzy.booking_service.exceptions.BadRequestException;
+import com.tripezzy.booking_service.exceptions.ResourceNotFound;
+import com.tripezzy.booking_service.exceptions.RuntimeConflict;
+import com.tripezzy.booking_service.exceptions.ServiceUnavailable;
+import com.tripezzy.booking_service.repository.TourInventoryRepository;
+import com.tripezzy.booking_service.service.TourInventoryService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+public class TourInventoryServiceImpl implements TourInventoryService {
+
+    private static final Logger log = LoggerFactory.getLogger(TourInventoryServiceImpl.class);
+    public static final int MAX_AVAILABILITY_RESULTS = 100;
+    private static final long MAX_AVAILABILITY_RANGE_DAYS = 366;
+
+    private final TourInventoryRepository tourInventoryRepository;
+
+    public TourInventoryServiceImpl(TourInventoryRepository tourInventoryRepository) {
+        this.tourInventoryRepository = tourInventoryRepository;
+    }
+
+    // Joins the caller's transaction, so a booking that fails to save also gives its seats back.
+    @Override
+    @Transactional
+    public void reserveSeats(Long tourId, LocalDate travelDate, int seats) {
+        if (seats <= 0) {
+            throw new BadRequestException("At least one seat must be booked");
+        }
+
+        if (tryReserveSeats(tourId, travelDate, seats)) {
+            return;
+        }
+
+        // The conditional update matched nothing; read the row only to report why.
+        TourInventory inventory = tourInventoryRepository.findById(tourId)
+                .filter(TourInventory::isActive)
+                .orElseThrow(() -> new ResourceNotFound("Tour not available for booking with ID: " + tourId));
+        if (travelDate.isBefore(inventory.getStartDate()) || travelDate.isAfter(inventory.getEndDate())) {
+            throw new BadRequestException("Travel date must be between " + inventory.getStartDate() +
+                    " and " + inventory.getEndDate());
+        }
+        throw new RuntimeConflict("Only " + inventory.getRemaining() + " seats left on tour ID: " + tourId);
+    }
+
+    // Reports a failed reservation instead of throwing, so batch callers can reject one request
+    // without marking the shared transaction rollback-only.
+    @Override
+    @Transactional
+    public boolean tryReserveSeats(Long tourId, LocalDate travelDate, int seats) {
+        if (tourId == null || travelDate == null || seats <= 0) {
+            return false;
+        }
+        if (tourInventoryRepository.reserve(tourId, travelDate, seats) == 1) {
+            log.info("Reserved {} seats on tour ID: {}", seats, tourId);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    @Transactional
+    public void releaseSeats(Long tourId, int seats) {
+        if (tourId == null || seats <= 0) {
+            return;
+        }
+        if (tourInventoryRepository.release(tourId, seats) == 0) {
+            log.warn("No inventory found to release {} seats on tour ID: {}", seats, tourId);
+            return;
+        }
+        log.info("Released {} seats on tour ID: {}", seats, tourId);
+    }
+
+    @Override
+    @Transactional
+    public void applyTourEvent(TourInventoryEvent event) {
+        if (event == null || event.getTour() == null || event.getCapacity() == null
+                || event.getStartDate() == null || event.getEndDate() == null) {
+            log.warn("Ignoring incomplete tour inventory event: {}", event);
+            return;
+        }
+
+        LocalDate startDate;
+        LocalDate endDate;
+        try {
+            startDate = LocalDate.parse(event.getStartDate());
+            endDate = LocalDate.parse(event.getEndDate());
+        } catch (DateTimeParseException e) {
+            log.warn("Ignoring tour inventory event with invalid dates for tour ID: {}", event.getTour());
+            return;
+        }
+
+        tourInventoryRepository.upsert(event.getTour(), startDate, endDate,
+                Math.max(event.getCapacity(), 0), event.isActive());
+        log.info("Applied inventory for tour ID: {} (capacity {}, active {})",
+                event.getTour(), event.getCapacity(), event.isActive());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TourAvailabilityDto> findAvailableTours(LocalDate from, LocalDate to, int seats, int limit) {
+        if (from == null || to == null) {
+            throw new BadRequestException("Both from and to dates are required");
+        }
+        if (from.isAfter(to)) {
+            throw new BadRequestException("From date cannot be after to date");
+        }
+        if (from.plusDays(MAX_AVAILABILITY_RANGE_DAYS).isBefore(to)) {
+            throw new BadRequestException("Date range cannot exceed " + MAX_AVAILABILITY_RANGE_DAYS + " days");
+        }
+        if (seats <= 0) {
+            throw new BadRequestException("Seats must be at least 1");
+        }
+        if (limit <= 0 || limit > MAX_AVAILABILITY_RESULTS) {
+            throw new BadRequestException("Limit must be between 1 and " + MAX_AVAILABILITY_RESULTS);
+        }
+
+        LocalDate today = LocalDate.now();
+        LocalDate start = from.isBefore(today) ? today : from;
+        if (start.isAfter(to)) {
+            return List.of();
+        }
+
+        try {
+            return tourInventoryRepository.findAvailable(start, to, seats, Limit.of(limit))
+                    .stream()
+                    .map(inventory -> new TourAvailabilityDto(inventory.getTourId(), inventory.getStartDate(),
+                            inventory.getEndDate(), inventory.getRemaining()))
+                    .collect(Collectors.toList());
+        } catch (DataAccessException ex) {
+            log.error("Database error while finding available tours", ex);
+            throw new ServiceUnavailable("Unable to retrieve tour availability at this time");
+        }
+    }
+}
@@ -0,0 +1,110 @@
+-- Booking list paging: OFFSET vs keyset at offsets 0, 10k and 1M.
+-- Runs against scratch temp tables, so any Postgres will do:
+--   psql -h localhost -U postgres -f booking_keyset_pagination.sql
+-- getAllBookings / filterBookings page with OFFSET; scrollBookings / scrollFilteredBookings order by
+-- booking_id DESC and seek with booking_id < :cursor. booking_id is unique, so it is both the sort key
+-- and the tie-breaker and the row value (sort_key, id) < (?, ?) reduces to that single comparison.
+-- Keyset plans should show an Index Scan Backward with an Index Cond on booking_id: on the primary
+-- key when unfiltered, and on idx_bench_booking_status_id / idx_bench_booking_user_id_id when filtered,
+-- at roughly constant cost whatever the depth.
+
+\timing off
+SET client_min_messages = warning;
+
+CREATE TEMP TABLE bench_bookings (
+    booking_id     bigserial PRIMARY KEY,
+    first_name     varchar(50)   NOT NULL,
+    last_name      varchar(50)   NOT NULL,
+    email          varchar(100)  NOT NULL,
+    user_id        bigint        NOT NULL,
+    destination_id bigint        NOT NULL,
+    booking_status varchar(20)   NOT NULL,
+    payment_status varchar(20)   NOT NULL,
+    total_price    numeric(10,2) NOT NULL,
+    deleted        boolean       NOT NULL DEFAULT false,
+    created_at     timestamp     NOT NULL
+);
+
+-- 10k users with about 110 bookings each; 95% CONFIRMED so the status filter still spans 1M rows.
+INSERT INTO bench_bookings (first_name, last_name, email, user_id, destination_id, booking_status,
+                            payment_status, total_price, created_at)
+SELECT 'first' || g, 'last' || g, 'user' || g || '@example.com',
+       1 + g % 10000, 1 + g % 500,
+       CASE WHEN g % 20 = 0 THEN 'CANCELLED' ELSE 'CONFIRMED' END,
+       CASE WHEN g % 20 = 0 THEN 'DUE' ELSE 'PAID' END,
+       100 + (g % 5000), timestamp '2020-01-01' + g * interval '1 minute'
+FROM generate_series(1, 1100000) g;
+
+-- Same definitions as Booking's @Table indexes.
+CREATE INDEX idx_bench_booking_user_id_id ON bench_bookings (user_id, booking_id);
+CREATE INDEX idx_bench_booking_destination_id_id ON bench_bookings (destination_id, booking_id);
+CREATE INDEX idx_bench_booking_status_id ON bench_bookings (booking_status, booking_id);
+CREATE INDEX idx_bench_booking_payment_status ON bench_bookings (payment_status);
+ANALYZE bench_bookings;
+
+\echo '== getAllBookings, offset 0 =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT * FROM bench_bookings ORDER BY booking_id DESC OFFSET 0 LIMIT 20;
+
+\echo '== getAllBookings, offset 10000 =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT * FROM bench_bookings ORDER BY booking_id DESC OFFSET 10000 LIMIT 20;
+
+\echo '== getAllBookings, offset 1000000 =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT * FROM bench_bookings ORDER BY booking_id DESC OFFSET 1000000 LIMIT 20;
+
+-- Cursors for the last row before each offset, as the service would have handed out.
+SELECT booking_id AS a10k FROM bench_bookings ORDER BY booking_id DESC OFFSET 9999 LIMIT 1 \gset
+SELECT booking_id AS a1m FROM bench_bookings ORDER BY booking_id DESC OFFSET 999999 LIMIT 1 \gset
+
+\echo '== scrollBookings, first page =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT * FROM bench_bookings WHERE deleted = false ORDER BY booking_id DESC LIMIT 21;
+
+\echo '== scrollBookings after 10000 =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT * FROM bench_bookings WHERE deleted = false AND booking_id < :a10k
+ORDER BY booking_id DESC LIMIT 21;
+
+\echo '== scrollBookings after 1000000 =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT * FROM bench_bookings WHERE deleted = false AND booking_id < :a1m
+ORDER BY booking_id DESC LIMIT 21;
+
+-- Status filter: still about 1M matching rows.
+\echo '== filterBookings?status=CONFIRMED, offset 1000000 =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT * FROM bench_bookings WHERE deleted = false AND booking_status = 'CONFIRMED'
+ORDER BY booking_id DESC OFFSET 1000000 LIMIT 20;
+
+SELECT booking_id AS s10k FROM bench_bookings WHERE booking_status = 'CONFIRMED'
+ORDER BY booking_id DESC OFFSET 9999 LIMIT 1 \gset
+SELECT booking_id AS s1m FROM bench_bookings WHERE booking_status = 'CONFIRMED'
+ORDER BY booking_id DESC OFFSET 999999 LIMIT 1 \gset
+
+\echo '== scrollFilteredBookings?status=CONFIRMED after 10000 =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT * FROM bench_bookings WHERE deleted = false AND booking_status = 'CONFIRMED' AND booking_id < :s10k
+ORDER BY booking_id DESC LIMIT 21;
+
+\echo '== scrollFilteredBookings?status=CONFIRMED after 1000000 =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT * FROM bench_bookings WHERE deleted = false AND booking_status = 'CONFIRMED' AND booking_id < :s1m
+ORDER BY booking_id DESC LIMIT 21;
+
+-- User filter: one user's bookings, deepest page of their history.
+SELECT booking_id AS u100 FROM bench_bookings WHERE user_id = 42
+ORDER BY booking_id DESC OFFSET 99 LIMIT 1 \gset
+
+\echo '== filterBookings?userId=42, offset 100 =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT * FROM bench_bookings WHERE deleted = false AND user_id = 42
+ORDER BY booking_id DESC OFFSET 100 LIMIT 20;
+
+\echo '== scrollFilteredBookings?userId=42 after 100 =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT * FROM bench_bookings WHERE deleted = false AND user_id = 42 AND booking_id < :u100
+ORDER BY booking_id DESC LIMIT 21;
+
+DROP TABLE bench_bookings;
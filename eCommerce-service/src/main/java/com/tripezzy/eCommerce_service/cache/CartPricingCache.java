@@ -0,0 +1,51 @@
+package com.tripezzy.eCommerce_service.cache;
+
+import com.tripezzy.eCommerce_service.dto.CartPricingDto;
+import com.tripezzy.eCommerce_service.strategy.DiscountRuleSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CartPricingCache {
+
+    public static final String CACHE_NAME = "cartPricing";
+
+    private static final Logger log = LoggerFactory.getLogger(CartPricingCache.class);
+    private final CacheManager cacheManager;
+
+    public CartPricingCache(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    public CartPricingDto get(Long cartId, long cartVersion, DiscountRuleSet rules, long nowMillis) {
+        try {
+            return cache().get(key(cartId, cartVersion, rules, nowMillis), CartPricingDto.class);
+        } catch (RuntimeException e) {
+            log.warn("Unable to read cart pricing cache for cart ID: {}", cartId, e);
+            return null;
+        }
+    }
+
+    public void put(CartPricingDto pricing, DiscountRuleSet rules, long nowMillis) {
+        try {
+            cache().put(key(pricing.getCartId(), pricing.getCartVersion(), rules, nowMillis), pricing);
+        } catch (RuntimeException e) {
+            log.warn("Unable to write cart pricing cache for cart ID: {}", pricing.getCartId(), e);
+        }
+    }
+
+    private Cache cache() {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            throw new IllegalStateException("Cache not configured: " + CACHE_NAME);
+        }
+        return cache;
+    }
+
+    private static String key(Long cartId, long cartVersion, DiscountRuleSet rules, long nowMillis) {
+        return cartId + ":" + cartVersion + ":" + rules.getVersion() + ":" + rules.windowStart(nowMillis);
+    }
+}
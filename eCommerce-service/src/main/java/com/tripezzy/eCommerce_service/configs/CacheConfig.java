@@ -1,9 +1,23 @@
 package com.tripezzy.eCommerce_service.configs;
 
+import com.tripezzy.eCommerce_service.cache.CartPricingCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.RedisCacheManagerBuilderCustomizer;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+
+import java.time.Duration;
 
 @Configuration
 @EnableCaching
 public class CacheConfig {
+
+    @Bean
+    public RedisCacheManagerBuilderCustomizer cartPricingCacheCustomizer(
+            @Value("${cart.pricing.cache-ttl-minutes:30}") long ttlMinutes) {
+        return builder -> builder.withCacheConfiguration(CartPricingCache.CACHE_NAME,
+                RedisCacheConfiguration.defaultCacheConfig().entryTtl(Duration.ofMinutes(ttlMinutes)));
+    }
 }
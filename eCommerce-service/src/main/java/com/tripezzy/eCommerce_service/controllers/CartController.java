@@ -53,13 +53,10 @@ public class CartController {
 
     @PutMapping("/total-cost/update")
     @RateLimiter(name = "cartRateLimiter", fallbackMethod = "calculateTotalCostRateLimitFallback")
-    public ResponseEntity<ApiResponse<Double>> calculateTotalCost(
-            @RequestParam(required = false) String discountType,
-            @RequestParam(required = false) Double discountPercentage,
-            @RequestParam(required = false) Integer minQuantity) {
+    public ResponseEntity<ApiResponse<Double>> calculateTotalCost() {
         UserContext userContext = UserContextHolder.getUserDetails();
         Long userId = userContext.getUserId();
-        double totalCost = cartService.calculateTotalCost(userId, discountType, discountPercentage, minQuantity);
+        double totalCost = cartService.calculateTotalCost(userId);
         return ResponseEntity.ok(ApiResponse.success(totalCost));
     }
 
@@ -75,8 +72,7 @@ public class CartController {
         return rateLimitFallback("removeItemFromCart", throwable);
     }
 
-    public ResponseEntity<ApiResponse<String>> calculateTotalCostRateLimitFallback(
-            String discountType, Double discountPercentage, Integer minQuantity, Throwable throwable) {
+    public ResponseEntity<ApiResponse<String>> calculateTotalCostRateLimitFallback(Throwable throwable) {
         return rateLimitFallback("calculateTotalCost", throwable);
     }
 
@@ -0,0 +1,77 @@
+package com.tripezzy.eCommerce_service.controllers;
+
+import com.tripezzy.eCommerce_service.advices.ApiError;
+import com.tripezzy.eCommerce_service.advices.ApiResponse;
+import com.tripezzy.eCommerce_service.dto.DiscountRuleDto;
+import com.tripezzy.eCommerce_service.services.DiscountRuleService;
+import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/discounts/rules")
+public class DiscountRuleController {
+
+    private final DiscountRuleService discountRuleService;
+
+    public DiscountRuleController(DiscountRuleService discountRuleService) {
+        this.discountRuleService = discountRuleService;
+    }
+
+    @PostMapping
+    @RateLimiter(name = "discountRateLimiter", fallbackMethod = "createRuleRateLimitFallback")
+    public ResponseEntity<DiscountRuleDto> createRule(@RequestBody DiscountRuleDto discountRuleDto) {
+        DiscountRuleDto createdRule = discountRuleService.createRule(discountRuleDto);
+        return new ResponseEntity<>(createdRule, HttpStatus.CREATED);
+    }
+
+    @GetMapping
+    @RateLimiter(name = "discountRateLimiter", fallbackMethod = "getAllRulesRateLimitFallback")
+    public ResponseEntity<List<DiscountRuleDto>> getAllRules() {
+        return ResponseEntity.ok(discountRuleService.getAllRules());
+    }
+
+    @PutMapping("/{ruleId}")
+    @RateLimiter(name = "discountRateLimiter", fallbackMethod = "updateRuleRateLimitFallback")
+    public ResponseEntity<DiscountRuleDto> updateRule(
+            @PathVariable Long ruleId,
+            @RequestBody DiscountRuleDto discountRuleDto) {
+        return ResponseEntity.ok(discountRuleService.updateRule(ruleId, discountRuleDto));
+    }
+
+    @DeleteMapping("/{ruleId}")
+    @RateLimiter(name = "discountRateLimiter", fallbackMethod = "deactivateRuleRateLimitFallback")
+    public ResponseEntity<ApiResponse<String>> deactivateRule(@PathVariable Long ruleId) {
+        discountRuleService.deactivateRule(ruleId);
+        return ResponseEntity.ok(ApiResponse.success("Discount rule deactivated"));
+    }
+
+    public ResponseEntity<ApiResponse<String>> createRuleRateLimitFallback(DiscountRuleDto discountRuleDto, Throwable throwable) {
+        return rateLimitFallback("createRule", throwable);
+    }
+
+    public ResponseEntity<ApiResponse<String>> getAllRulesRateLimitFallback(Throwable throwable) {
+        return rateLimitFallback("getAllRules", throwable);
+    }
+
+    public ResponseEntity<ApiResponse<String>> updateRuleRateLimitFallback(Long ruleId, DiscountRuleDto discountRuleDto, Throwable throwable) {
+        return rateLimitFallback("updateRule", throwable);
+    }
+
+    public ResponseEntity<ApiResponse<String>> deactivateRuleRateLimitFallback(Long ruleId, Throwable throwable) {
+        return rateLimitFallback("deactivateRule", throwable);
+    }
+
+    private ResponseEntity<ApiResponse<String>> rateLimitFallback(String serviceName, Throwable throwable) {
+        ApiError apiError = new ApiError
+                .ApiErrorBuilder()
+                .setMessage("Too many requests to " + serviceName + ". Please try again later.")
+                .setStatus(HttpStatus.TOO_MANY_REQUESTS).build();
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .body(ApiResponse.error(apiError));
+    }
+
+}
@@ -2,12 +2,13 @@ package com.tripezzy.eCommerce_service.controllers;
 
 import com.tripezzy.eCommerce_service.advices.ApiError;
 import com.tripezzy.eCommerce_service.advices.ApiResponse;
-import com.tripezzy.eCommerce_service.annotations.RoleRequired;
+import com.tripezzy.eCommerce_service.dto.CursorPageDto;
 import com.tripezzy.eCommerce_service.dto.ProductDto;
 import com.tripezzy.eCommerce_service.services.ProductService;
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -23,7 +24,6 @@ public class ProductController {
     }
 
     @PostMapping
-    @RoleRequired("SELLER")
     @RateLimiter(name = "productRateLimiter", fallbackMethod = "createProductRateLimitFallback")
     public ResponseEntity<ProductDto> createProduct(@RequestBody ProductDto productDto) {
         ProductDto createdProduct = productService.createProduct(productDto);
@@ -42,8 +42,21 @@ public class ProductController {
         return ResponseEntity.ok(productService.getAllProducts(pageable));
     }
 
+    @GetMapping("/public/slice")
+    @RateLimiter(name = "productRateLimiter", fallbackMethod = "getAllProductsSliceRateLimitFallback")
+    public ResponseEntity<Slice<ProductDto>> getAllProductsSlice(Pageable pageable) {
+        return ResponseEntity.ok(productService.getAllProductsSlice(pageable));
+    }
+
+    @GetMapping("/public/scroll")
+    @RateLimiter(name = "productRateLimiter", fallbackMethod = "scrollProductsRateLimitFallback")
+    public ResponseEntity<CursorPageDto<ProductDto>> scrollProducts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(productService.scrollProducts(cursor, size));
+    }
+
     @PutMapping("/{productId}")
-    @RoleRequired("SELLER")
     @RateLimiter(name = "productRateLimiter", fallbackMethod = "updateProductRateLimitFallback")
     public ResponseEntity<ProductDto> updateProduct(
             @PathVariable Long productId,
@@ -63,7 +76,6 @@ public class ProductController {
     }
 
     @DeleteMapping("/soft-delete/{productId}")
-    @RoleRequired("SELLER")
     @RateLimiter(name = "productRateLimiter", fallbackMethod = "softDeleteProductRateLimitFallback")
     public ResponseEntity<ApiResponse<String>> softDeleteProduct(@PathVariable Long productId) {
         productService.softDeleteProduct(productId);
@@ -97,6 +109,14 @@ public class ProductController {
         return rateLimitFallback("getAllProducts", throwable);
     }
 
+    public ResponseEntity<ApiResponse<String>> getAllProductsSliceRateLimitFallback(Pageable pageable, Throwable throwable) {
+        return rateLimitFallback("getAllProductsSlice", throwable);
+    }
+
+    public ResponseEntity<ApiResponse<String>> scrollProductsRateLimitFallback(String cursor, int size, Throwable throwable) {
+        return rateLimitFallback("scrollProducts", throwable);
+    }
+
     public ResponseEntity<ApiResponse<String>> updateProductRateLimitFallback(Long productId, ProductDto productDto, Throwable throwable) {
         return rateLimitFallback("updateProduct", throwable);
     }
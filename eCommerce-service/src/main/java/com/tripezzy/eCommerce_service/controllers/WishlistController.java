@@ -2,15 +2,21 @@ package com.tripezzy.eCommerce_service.controllers;
 
 import com.tripezzy.eCommerce_service.advices.ApiError;
 import com.tripezzy.eCommerce_service.advices.ApiResponse;
-import com.tripezzy.eCommerce_service.dto.WishlistDto;
+import com.tripezzy.eCommerce_service.dto.CursorPageDto;
+import com.tripezzy.eCommerce_service.dto.WishlistBulkRequestDto;
+import com.tripezzy.eCommerce_service.dto.WishlistItemDto;
 import com.tripezzy.eCommerce_service.services.WishlistService;
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Set;
+
 @RestController
 @RequestMapping("/wishlist")
 public class WishlistController {
@@ -23,25 +29,61 @@ public class WishlistController {
 
     @PostMapping("/{productId}")
     @RateLimiter(name = "wishlistRateLimiter", fallbackMethod = "addToWishlistRateLimitFallback")
-    public ResponseEntity<WishlistDto> addToWishlist(@PathVariable Long productId) {
-        WishlistDto savedWishlist = wishlistService.addToWishlist(productId);
-        return new ResponseEntity<>(savedWishlist, HttpStatus.CREATED);
+    public ResponseEntity<ApiResponse<String>> addToWishlist(@PathVariable Long productId) {
+        wishlistService.addToWishlist(productId);
+        return new ResponseEntity<>(ApiResponse.success("Product added to wishlist"), HttpStatus.CREATED);
     }
 
     @GetMapping
     @RateLimiter(name = "wishlistRateLimiter", fallbackMethod = "getMyWishlistRateLimitFallback")
-    public ResponseEntity<Page<WishlistDto>> getMyWishlist(Pageable pageable) {
-        Page<WishlistDto> wishlist = wishlistService.getWishlistByUserId(pageable);
+    public ResponseEntity<Page<WishlistItemDto>> getMyWishlist(Pageable pageable) {
+        Page<WishlistItemDto> wishlist = wishlistService.getWishlistByUserId(pageable);
+        return ResponseEntity.ok(wishlist);
+    }
+
+    @GetMapping("/slice")
+    @RateLimiter(name = "wishlistRateLimiter", fallbackMethod = "getMyWishlistSliceRateLimitFallback")
+    public ResponseEntity<Slice<WishlistItemDto>> getMyWishlistSlice(Pageable pageable) {
+        Slice<WishlistItemDto> wishlist = wishlistService.getWishlistSliceByUserId(pageable);
+        return ResponseEntity.ok(wishlist);
+    }
+
+    @GetMapping("/scroll")
+    @RateLimiter(name = "wishlistRateLimiter", fallbackMethod = "scrollMyWishlistRateLimitFallback")
+    public ResponseEntity<CursorPageDto<WishlistItemDto>> scrollMyWishlist(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageDto<WishlistItemDto> wishlist = wishlistService.scrollWishlist(cursor, size);
         return ResponseEntity.ok(wishlist);
     }
 
-    @DeleteMapping("/{wishlistId}")
+    @DeleteMapping("/{productId}")
     @RateLimiter(name = "wishlistRateLimiter", fallbackMethod = "removeFromWishlistRateLimitFallback")
-    public ResponseEntity<ApiResponse<String>> removeFromWishlist(@PathVariable Long wishlistId, @RequestParam Long productId) {
-        wishlistService.removeFromWishlist(wishlistId, productId);
+    public ResponseEntity<ApiResponse<String>> removeFromWishlist(@PathVariable Long productId) {
+        wishlistService.removeFromWishlist(productId);
         return ResponseEntity.ok(ApiResponse.success("Product removed from wishlist"));
     }
 
+    @PostMapping("/bulk")
+    @RateLimiter(name = "wishlistRateLimiter", fallbackMethod = "addAllToWishlistRateLimitFallback")
+    public ResponseEntity<ApiResponse<Integer>> addAllToWishlist(@RequestBody WishlistBulkRequestDto request) {
+        int added = wishlistService.addAllToWishlist(request.getProductIds());
+        return new ResponseEntity<>(ApiResponse.success(added), HttpStatus.CREATED);
+    }
+
+    @PostMapping("/bulk/remove")
+    @RateLimiter(name = "wishlistRateLimiter", fallbackMethod = "removeAllFromWishlistRateLimitFallback")
+    public ResponseEntity<ApiResponse<Integer>> removeAllFromWishlist(@RequestBody WishlistBulkRequestDto request) {
+        int removed = wishlistService.removeAllFromWishlist(request.getProductIds());
+        return ResponseEntity.ok(ApiResponse.success(removed));
+    }
+
+    @GetMapping("/contains")
+    @RateLimiter(name = "wishlistRateLimiter", fallbackMethod = "getWishlistedProductIdsRateLimitFallback")
+    public ResponseEntity<Set<Long>> getWishlistedProductIds(@RequestParam List<Long> productIds) {
+        return ResponseEntity.ok(wishlistService.getWishlistedProductIds(productIds));
+    }
+
     public ResponseEntity<ApiResponse<String>> addToWishlistRateLimitFallback(Long productId, Throwable throwable) {
         return rateLimitFallback("addToWishlist", throwable);
     }
@@ -50,10 +92,30 @@ public class WishlistController {
         return rateLimitFallback("getMyWishlist", throwable);
     }
 
-    public ResponseEntity<ApiResponse<String>> removeFromWishlistRateLimitFallback(Long wishlistId, Long productId, Throwable throwable) {
+    public ResponseEntity<ApiResponse<String>> getMyWishlistSliceRateLimitFallback(Pageable pageable, Throwable throwable) {
+        return rateLimitFallback("getMyWishlistSlice", throwable);
+    }
+
+    public ResponseEntity<ApiResponse<String>> scrollMyWishlistRateLimitFallback(String cursor, int size, Throwable throwable) {
+        return rateLimitFallback("scrollMyWishlist", throwable);
+    }
+
+    public ResponseEntity<ApiResponse<String>> removeFromWishlistRateLimitFallback(Long productId, Throwable throwable) {
         return rateLimitFallback("removeFromWishlist", throwable);
     }
 
+    public ResponseEntity<ApiResponse<String>> addAllToWishlistRateLimitFallback(WishlistBulkRequestDto request, Throwable throwable) {
+        return rateLimitFallback("addAllToWishlist", throwable);
+    }
+
+    public ResponseEntity<ApiResponse<String>> removeAllFromWishlistRateLimitFallback(WishlistBulkRequestDto request, Throwable throwable) {
+        return rateLimitFallback("removeAllFromWishlist", throwable);
+    }
+
+    public ResponseEntity<ApiResponse<String>> getWishlistedProductIdsRateLimitFallback(List<Long> productIds, Throwable throwable) {
+        return rateLimitFallback("getWishlistedProductIds", throwable);
+    }
+
     private ResponseEntity<ApiResponse<String>> rateLimitFallback(String serviceName, Throwable throwable) {
         ApiError apiError = new ApiError.ApiErrorBuilder()
                 .setMessage("Too many requests to " + serviceName + ". Please try again later.")
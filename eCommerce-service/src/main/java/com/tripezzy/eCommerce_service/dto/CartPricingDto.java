@@ -0,0 +1,100 @@
+package com.tripezzy.eCommerce_service.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+public class CartPricingDto implements Serializable {
+    private Long cartId;
+    private Long userId;
+    private long cartVersion;
+    private long ruleSetVersion;
+    private List<CheckoutLineItemDto> items;
+    private long quantity;
+    private long subtotalCents;
+    private long discountCents;
+    private long totalCents;
+    private String name;
+
+    public CartPricingDto() {
+    }
+
+    public Long getCartId() {
+        return cartId;
+    }
+
+    public void setCartId(Long cartId) {
+        this.cartId = cartId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public long getCartVersion() {
+        return cartVersion;
+    }
+
+    public void setCartVersion(long cartVersion) {
+        this.cartVersion = cartVersion;
+    }
+
+    public long getRuleSetVersion() {
+        return ruleSetVersion;
+    }
+
+    public void setRuleSetVersion(long ruleSetVersion) {
+        this.ruleSetVersion = ruleSetVersion;
+    }
+
+    public List<CheckoutLineItemDto> getItems() {
+        return items;
+    }
+
+    public void setItems(List<CheckoutLineItemDto> items) {
+        this.items = items;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(long quantity) {
+        this.quantity = quantity;
+    }
+
+    public long getSubtotalCents() {
+        return subtotalCents;
+    }
+
+    public void setSubtotalCents(long subtotalCents) {
+        this.subtotalCents = subtotalCents;
+    }
+
+    public long getDiscountCents() {
+        return discountCents;
+    }
+
+    public void setDiscountCents(long discountCents) {
+        this.discountCents = discountCents;
+    }
+
+    public long getTotalCents() {
+        return totalCents;
+    }
+
+    public void setTotalCents(long totalCents) {
+        this.totalCents = totalCents;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+}
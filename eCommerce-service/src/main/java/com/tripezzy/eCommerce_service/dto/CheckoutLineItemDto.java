@@ -0,0 +1,73 @@
+package com.tripezzy.eCommerce_service.dto;
+
+import java.io.Serializable;
+
+public class CheckoutLineItemDto implements Serializable {
+    private Long productId;
+    private String name;
+    private int quantity;
+    private long unitPriceCents;
+    private long discountCents;
+    private long lineTotalCents;
+
+    public CheckoutLineItemDto() {
+    }
+
+    public CheckoutLineItemDto(Long productId, String name, int quantity, long unitPriceCents,
+                               long discountCents, long lineTotalCents) {
+        this.productId = productId;
+        this.name = name;
+        this.quantity = quantity;
+        this.unitPriceCents = unitPriceCents;
+        this.discountCents = discountCents;
+        this.lineTotalCents = lineTotalCents;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(int quantity) {
+        this.quantity = quantity;
+    }
+
+    public long getUnitPriceCents() {
+        return unitPriceCents;
+    }
+
+    public void setUnitPriceCents(long unitPriceCents) {
+        this.unitPriceCents = unitPriceCents;
+    }
+
+    public long getDiscountCents() {
+        return discountCents;
+    }
+
+    public void setDiscountCents(long discountCents) {
+        this.discountCents = discountCents;
+    }
+
+    public long getLineTotalCents() {
+        return lineTotalCents;
+    }
+
+    public void setLineTotalCents(long lineTotalCents) {
+        this.lineTotalCents = lineTotalCents;
+    }
+}
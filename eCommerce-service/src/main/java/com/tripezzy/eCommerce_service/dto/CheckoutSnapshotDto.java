@@ -0,0 +1,118 @@
+package com.tripezzy.eCommerce_service.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+public class CheckoutSnapshotDto implements Serializable {
+    private Long cartId;
+    private Long userId;
+    private List<CheckoutLineItemDto> items;
+    private long quantity;
+    private long subtotalCents;
+    private long discountCents;
+    private long totalCents;
+    private String currency;
+    private String name;
+    private long issuedAt;
+    private long expiresAt;
+    private String signature;
+
+    public CheckoutSnapshotDto() {
+    }
+
+    public Long getCartId() {
+        return cartId;
+    }
+
+    public void setCartId(Long cartId) {
+        this.cartId = cartId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public List<CheckoutLineItemDto> getItems() {
+        return items;
+    }
+
+    public void setItems(List<CheckoutLineItemDto> items) {
+        this.items = items;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(long quantity) {
+        this.quantity = quantity;
+    }
+
+    public long getSubtotalCents() {
+        return subtotalCents;
+    }
+
+    public void setSubtotalCents(long subtotalCents) {
+        this.subtotalCents = subtotalCents;
+    }
+
+    public long getDiscountCents() {
+        return discountCents;
+    }
+
+    public void setDiscountCents(long discountCents) {
+        this.discountCents = discountCents;
+    }
+
+    public long getTotalCents() {
+        return totalCents;
+    }
+
+    public void setTotalCents(long totalCents) {
+        this.totalCents = totalCents;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public long getIssuedAt() {
+        return issuedAt;
+    }
+
+    public void setIssuedAt(long issuedAt) {
+        this.issuedAt = issuedAt;
+    }
+
+    public long getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(long expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public String getSignature() {
+        return signature;
+    }
+
+    public void setSignature(String signature) {
+        this.signature = signature;
+    }
+}
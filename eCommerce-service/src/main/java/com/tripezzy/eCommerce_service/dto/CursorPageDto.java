@@ -0,0 +1,34 @@
+package com.tripezzy.eCommerce_service.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+public class CursorPageDto<T> implements Serializable {
+
+    private List<T> items;
+    private String nextCursor;
+
+    public CursorPageDto() {
+    }
+
+    public CursorPageDto(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
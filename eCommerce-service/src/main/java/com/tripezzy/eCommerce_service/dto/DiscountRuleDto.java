@@ -0,0 +1,123 @@
+package com.tripezzy.eCommerce_service.dto;
+
+import com.tripezzy.eCommerce_service.entity.enums.DiscountRuleType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class DiscountRuleDto implements Serializable {
+
+    private Long id;
+
+    @NotBlank(message = "Name cannot be blank")
+    @Size(max = 100, message = "Name must be less than 100 characters")
+    private String name;
+
+    @NotNull(message = "Type cannot be null")
+    private DiscountRuleType type;
+
+    private BigDecimal percentage;
+    private BigDecimal minUnitPrice;
+    private Integer minQuantity;
+    private String category;
+    private List<DiscountTierDto> tiers;
+    private LocalDateTime startsAt;
+    private LocalDateTime endsAt;
+    private Boolean active;
+
+    public DiscountRuleDto() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public DiscountRuleType getType() {
+        return type;
+    }
+
+    public void setType(DiscountRuleType type) {
+        this.type = type;
+    }
+
+    public BigDecimal getPercentage() {
+        return percentage;
+    }
+
+    public void setPercentage(BigDecimal percentage) {
+        this.percentage = percentage;
+    }
+
+    public BigDecimal getMinUnitPrice() {
+        return minUnitPrice;
+    }
+
+    public void setMinUnitPrice(BigDecimal minUnitPrice) {
+        this.minUnitPrice = minUnitPrice;
+    }
+
+    public Integer getMinQuantity() {
+        return minQuantity;
+    }
+
+    public void setMinQuantity(Integer minQuantity) {
+        this.minQuantity = minQuantity;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public List<DiscountTierDto> getTiers() {
+        return tiers;
+    }
+
+    public void setTiers(List<DiscountTierDto> tiers) {
+        this.tiers = tiers;
+    }
+
+    public LocalDateTime getStartsAt() {
+        return startsAt;
+    }
+
+    public void setStartsAt(LocalDateTime startsAt) {
+        this.startsAt = startsAt;
+    }
+
+    public LocalDateTime getEndsAt() {
+        return endsAt;
+    }
+
+    public void setEndsAt(LocalDateTime endsAt) {
+        this.endsAt = endsAt;
+    }
+
+    public Boolean getActive() {
+        return active;
+    }
+
+    public void setActive(Boolean active) {
+        this.active = active;
+    }
+}
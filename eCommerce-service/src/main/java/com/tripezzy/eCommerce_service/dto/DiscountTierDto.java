@@ -0,0 +1,45 @@
+package com.tripezzy.eCommerce_service.dto;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+public class DiscountTierDto implements Serializable {
+
+    @NotNull(message = "Minimum quantity cannot be null")
+    @Positive(message = "Minimum quantity must be positive")
+    private Integer minQuantity;
+
+    @NotNull(message = "Percentage cannot be null")
+    @DecimalMin(value = "0.00", message = "Percentage cannot be negative")
+    @DecimalMax(value = "100.00", message = "Percentage cannot exceed 100")
+    private BigDecimal percentage;
+
+    public DiscountTierDto() {
+    }
+
+    public DiscountTierDto(Integer minQuantity, BigDecimal percentage) {
+        this.minQuantity = minQuantity;
+        this.percentage = percentage;
+    }
+
+    public Integer getMinQuantity() {
+        return minQuantity;
+    }
+
+    public void setMinQuantity(Integer minQuantity) {
+        this.minQuantity = minQuantity;
+    }
+
+    public BigDecimal getPercentage() {
+        return percentage;
+    }
+
+    public void setPercentage(BigDecimal percentage) {
+        this.percentage = percentage;
+    }
+}
@@ -0,0 +1,29 @@
+package com.tripezzy.eCommerce_service.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.io.Serializable;
+import java.util.List;
+
+public class WishlistBulkRequestDto implements Serializable {
+
+    @NotEmpty(message = "Product IDs cannot be empty")
+    @Size(max = 100, message = "At most 100 products can be processed at once")
+    private List<Long> productIds;
+
+    public WishlistBulkRequestDto() {
+    }
+
+    public WishlistBulkRequestDto(List<Long> productIds) {
+        this.productIds = productIds;
+    }
+
+    public List<Long> getProductIds() {
+        return productIds;
+    }
+
+    public void setProductIds(List<Long> productIds) {
+        this.productIds = productIds;
+    }
+}
@@ -0,0 +1,64 @@
+package com.tripezzy.eCommerce_service.dto;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+public class WishlistItemDto implements Serializable {
+
+    private Long productId;
+    private String name;
+    private Double price;
+    private String imageUrl;
+    private LocalDateTime addedAt;
+
+    public WishlistItemDto() {
+    }
+
+    public WishlistItemDto(Long productId, String name, Double price, String imageUrl, LocalDateTime addedAt) {
+        this.productId = productId;
+        this.name = name;
+        this.price = price;
+        this.imageUrl = imageUrl;
+        this.addedAt = addedAt;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Double getPrice() {
+        return price;
+    }
+
+    public void setPrice(Double price) {
+        this.price = price;
+    }
+
+    public String getImageUrl() {
+        return imageUrl;
+    }
+
+    public void setImageUrl(String imageUrl) {
+        this.imageUrl = imageUrl;
+    }
+
+    public LocalDateTime getAddedAt() {
+        return addedAt;
+    }
+
+    public void setAddedAt(LocalDateTime addedAt) {
+        this.addedAt = addedAt;
+    }
+}
@@ -27,6 +27,10 @@ public class Cart {
     @Column(name = "amount")
     private Double totalAmount = 0.0;
 
+    @Version
+    @Column(name = "version", columnDefinition = "bigint default 0")
+    private Long version = 0L;
+
     @OneToMany(mappedBy = "cart", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<CartItem> items;
 
@@ -57,6 +61,14 @@ public class Cart {
         this.userId = userId;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public List<CartItem> getItems() {
         return items;
     }
@@ -0,0 +1,176 @@
+package com.tripezzy.eCommerce_service.entity;
+
+import com.tripezzy.eCommerce_service.entity.enums.DiscountRuleType;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Entity
+@Table(name = "discount_rules", indexes = {
+        @Index(name = "idx_discount_rule_active", columnList = "active"),
+        @Index(name = "idx_discount_rule_updated_at", columnList = "updated_at")
+})
+@EntityListeners(AuditingEntityListener.class)
+public class DiscountRule {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotBlank(message = "Name cannot be blank")
+    @Size(max = 100, message = "Name must be less than 100 characters")
+    private String name;
+
+    @NotNull(message = "Type cannot be null")
+    @Enumerated(EnumType.STRING)
+    private DiscountRuleType type;
+
+    @Column(precision = 5, scale = 2)
+    private BigDecimal percentage;
+
+    @Column(name = "min_unit_price", precision = 12, scale = 2)
+    private BigDecimal minUnitPrice;
+
+    @Column(name = "min_quantity")
+    private Integer minQuantity;
+
+    private String category;
+
+    @ElementCollection
+    @CollectionTable(name = "discount_rule_tiers", joinColumns = @JoinColumn(name = "rule_id"))
+    @OrderBy("minQuantity ASC")
+    private List<DiscountTier> tiers = new ArrayList<>();
+
+    @Column(name = "starts_at")
+    private LocalDateTime startsAt;
+
+    @Column(name = "ends_at")
+    private LocalDateTime endsAt;
+
+    @Column(name = "active", columnDefinition = "BOOLEAN DEFAULT TRUE")
+    private boolean active = true;
+
+    @CreatedDate
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public DiscountRule() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public DiscountRuleType getType() {
+        return type;
+    }
+
+    public void setType(DiscountRuleType type) {
+        this.type = type;
+    }
+
+    public BigDecimal getPercentage() {
+        return percentage;
+    }
+
+    public void setPercentage(BigDecimal percentage) {
+        this.percentage = percentage;
+    }
+
+    public BigDecimal getMinUnitPrice() {
+        return minUnitPrice;
+    }
+
+    public void setMinUnitPrice(BigDecimal minUnitPrice) {
+        this.minUnitPrice = minUnitPrice;
+    }
+
+    public Integer getMinQuantity() {
+        return minQuantity;
+    }
+
+    public void setMinQuantity(Integer minQuantity) {
+        this.minQuantity = minQuantity;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public List<DiscountTier> getTiers() {
+        return tiers;
+    }
+
+    public void setTiers(List<DiscountTier> tiers) {
+        this.tiers = tiers;
+    }
+
+    public LocalDateTime getStartsAt() {
+        return startsAt;
+    }
+
+    public void setStartsAt(LocalDateTime startsAt) {
+        this.startsAt = startsAt;
+    }
+
+    public LocalDateTime getEndsAt() {
+        return endsAt;
+    }
+
+    public void setEndsAt(LocalDateTime endsAt) {
+        this.endsAt = endsAt;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
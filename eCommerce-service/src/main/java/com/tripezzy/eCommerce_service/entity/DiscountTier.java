@@ -0,0 +1,40 @@
+package com.tripezzy.eCommerce_service.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.math.BigDecimal;
+
+@Embeddable
+public class DiscountTier {
+
+    @Column(name = "min_quantity", nullable = false)
+    private Integer minQuantity;
+
+    @Column(name = "percentage", nullable = false, precision = 5, scale = 2)
+    private BigDecimal percentage;
+
+    public DiscountTier() {
+    }
+
+    public DiscountTier(Integer minQuantity, BigDecimal percentage) {
+        this.minQuantity = minQuantity;
+        this.percentage = percentage;
+    }
+
+    public Integer getMinQuantity() {
+        return minQuantity;
+    }
+
+    public void setMinQuantity(Integer minQuantity) {
+        this.minQuantity = minQuantity;
+    }
+
+    public BigDecimal getPercentage() {
+        return percentage;
+    }
+
+    public void setPercentage(BigDecimal percentage) {
+        this.percentage = percentage;
+    }
+}
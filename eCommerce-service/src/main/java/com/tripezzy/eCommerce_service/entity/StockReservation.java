@@ -0,0 +1,96 @@
+package com.tripezzy.eCommerce_service.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+// Stock taken from a product for one cart line while its checkout is open. Rows are deleted when the
+// payment completes (the stock stays sold) or released back to the product on failure or expiry.
+@Entity
+@Table(name = "stock_reservations",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_reservation_cart_product", columnNames = {"cart_id", "product_id"})
+        },
+        indexes = {
+                @Index(name = "idx_reservation_expires_at", columnList = "expires_at")
+        })
+public class StockReservation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "cart_id", nullable = false)
+    private Long cartId;
+
+    @Column(name = "cart_version", nullable = false)
+    private Long cartVersion;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "quantity", nullable = false)
+    private Integer quantity;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public StockReservation() {
+    }
+
+    public StockReservation(Long cartId, Long cartVersion, Long productId, Integer quantity, LocalDateTime expiresAt) {
+        this.cartId = cartId;
+        this.cartVersion = cartVersion;
+        this.productId = productId;
+        this.quantity = quantity;
+        this.expiresAt = expiresAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getCartId() {
+        return cartId;
+    }
+
+    public void setCartId(Long cartId) {
+        this.cartId = cartId;
+    }
+
+    public Long getCartVersion() {
+        return cartVersion;
+    }
+
+    public void setCartVersion(Long cartVersion) {
+        this.cartVersion = cartVersion;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
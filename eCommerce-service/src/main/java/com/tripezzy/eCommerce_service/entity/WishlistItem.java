@@ -6,44 +6,36 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
 
 @Entity
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "wishlists", indexes = {
-        @Index(name = "idx_wishlist_user_id", columnList = "user_id")
-})
-public class Wishlist {
+@Table(name = "wishlist_items",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_wishlist_user_product", columnNames = {"user_id", "product_id"})
+        },
+        indexes = {
+                @Index(name = "idx_wishlist_user_created", columnList = "user_id, created_at, product_id")
+        })
+public class WishlistItem {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @NotNull(message = "User ID cannot be null")
-    @Column(name = "user_id", unique = true)
+    @Column(name = "user_id", nullable = false)
     private Long userId;
 
-    @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true)
-    @JoinTable(
-            name = "wishlist_products",
-            joinColumns = @JoinColumn(name = "wishlist_id"),
-            inverseJoinColumns = @JoinColumn(name = "product_id")
-    )
-    private List<Product> products = new ArrayList<>();
+    @NotNull(message = "Product cannot be null")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "product_id", nullable = false)
+    private Product product;
 
     @CreatedDate
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
 
-    public Wishlist() {
-    }
-
-    public Wishlist(Long id, Long userId, List<Product> products, LocalDateTime createdAt) {
-        this.id = id;
-        this.userId = userId;
-        this.products = products;
-        this.createdAt = createdAt;
+    public WishlistItem() {
     }
 
     public Long getId() {
@@ -62,16 +54,12 @@ public class Wishlist {
         this.userId = userId;
     }
 
-    public List<Product> getProducts() {
-        return products;
-    }
-
-    public void setProducts(List<Product> products) {
-        this.products = products;
+    public Product getProduct() {
+        return product;
     }
 
-    public void addProduct(Product product) {
-        this.products.add(product);
+    public void setProduct(Product product) {
+        this.product = product;
     }
 
     public LocalDateTime getCreatedAt() {
@@ -82,4 +70,3 @@ public class Wishlist {
         this.createdAt = createdAt;
     }
 }
-
@@ -0,0 +1,8 @@
+package com.tripezzy.eCommerce_service.entity.enums;
+
+public enum DiscountRuleType {
+    PRICE,
+    QUANTITY,
+    CATEGORY,
+    TIERED
+}
@@ -1,31 +1,36 @@
 package com.tripezzy.eCommerce_service.grpc;
 
 import com.tripezzy.eCommerce_service.dto.CartPaymentDto;
-import com.tripezzy.eCommerce_service.exceptions.AccessForbidden;
-import com.tripezzy.eCommerce_service.exceptions.ResourceNotFound;
-import com.tripezzy.eCommerce_service.exceptions.ServiceUnavailable;
+import com.tripezzy.eCommerce_service.dto.CheckoutLineItemDto;
+import com.tripezzy.eCommerce_service.dto.CheckoutSnapshotDto;
+import com.tripezzy.eCommerce_service.exceptions.*;
 import com.tripezzy.eCommerce_service.services.CartService;
+import com.tripezzy.eCommerce_service.services.StockReservationService;
 import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
 import io.grpc.stub.StreamObserver;
 import net.devh.boot.grpc.server.service.GrpcService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
 
 @GrpcService
 public class CartGrpcService extends CartServiceGrpc.CartServiceImplBase {
 
     private static final Logger log = LoggerFactory.getLogger(CartGrpcService.class);
     private final CartService cartService;
+    private final StockReservationService stockReservationService;
 
 
-    public CartGrpcService(CartService cartService) {
+    public CartGrpcService(CartService cartService, StockReservationService stockReservationService) {
         this.cartService = cartService;
+        this.stockReservationService = stockReservationService;
     }
 
     @Override
     public void getPaymentDetails(CartRequest request, StreamObserver<CartPaymentResponse> responseObserver) {
         try {
-            log.info("Processing gRPC request for getPaymentDetails, cartId: {}", request.getCartId());
+            log.debug("Processing gRPC request for getPaymentDetails, cartId: {}", request.getCartId());
 
             if (request.getCartId() <= 0) {
                 throw new IllegalArgumentException("Invalid cart ID");
@@ -42,7 +47,7 @@ public class CartGrpcService extends CartServiceGrpc.CartServiceImplBase {
 
             responseObserver.onNext(response);
             responseObserver.onCompleted();
-            log.info("Successfully processed getPaymentDetails request");
+            log.debug("Successfully processed getPaymentDetails request");
 
         } catch (IllegalArgumentException e) {
             log.warn("Invalid request parameters: {}", e.getMessage());
@@ -72,4 +77,157 @@ public class CartGrpcService extends CartServiceGrpc.CartServiceImplBase {
                     .asRuntimeException());
         }
     }
+
+    @Override
+    public void prepareCheckout(PrepareCheckoutRequest request, StreamObserver<CheckoutSnapshot> responseObserver) {
+        try {
+            log.debug("Processing gRPC request for prepareCheckout, cartId: {}", request.getCartId());
+
+            if (request.getCartId() <= 0) {
+                throw new IllegalArgumentException("Invalid cart ID");
+            }
+            if (request.getUserId() <= 0) {
+                throw new IllegalArgumentException("Invalid user ID");
+            }
+            GrpcAuthInterceptor.requireOwnerOrAdmin(request.getUserId());
+
+            CheckoutSnapshotDto snapshot = cartService.prepareCheckout(request.getCartId(), request.getUserId());
+
+            CheckoutSnapshot.Builder response = CheckoutSnapshot.newBuilder()
+                    .setCartId(snapshot.getCartId())
+                    .setUserId(snapshot.getUserId())
+                    .setQuantity(snapshot.getQuantity())
+                    .setSubtotalCents(snapshot.getSubtotalCents())
+                    .setDiscountCents(snapshot.getDiscountCents())
+                    .setTotalCents(snapshot.getTotalCents())
+                    .setCurrency(snapshot.getCurrency())
+                    .setName(snapshot.getName())
+                    .setIssuedAt(snapshot.getIssuedAt())
+                    .setExpiresAt(snapshot.getExpiresAt())
+                    .setSignature(snapshot.getSignature());
+
+            for (CheckoutLineItemDto item : snapshot.getItems()) {
+                response.addItems(CheckoutLineItem.newBuilder()
+                        .setProductId(item.getProductId())
+                        .setName(item.getName())
+                        .setQuantity(item.getQuantity())
+                        .setUnitPriceCents(item.getUnitPriceCents())
+                        .setDiscountCents(item.getDiscountCents())
+                        .setLineTotalCents(item.getLineTotalCents())
+                        .build());
+            }
+
+            responseObserver.onNext(response.build());
+            responseObserver.onCompleted();
+            log.debug("Successfully processed prepareCheckout request");
+
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid request parameters: {}", e.getMessage());
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription(e.getMessage())
+                    .asRuntimeException());
+        } catch (BadRequestException e) {
+            log.warn("Invalid checkout request: {}", e.getReason());
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription(e.getReason())
+                    .asRuntimeException());
+        } catch (ResourceNotFound e) {
+            log.warn("Cart not found: {}", e.getMessage());
+            responseObserver.onError(Status.NOT_FOUND
+                    .withDescription(e.getMessage())
+                    .asRuntimeException());
+        } catch (AccessForbidden e) {
+            log.warn("Unauthorized access: {}", e.getReason());
+            responseObserver.onError(Status.PERMISSION_DENIED
+                    .withDescription(e.getReason())
+                    .asRuntimeException());
+        } catch (RuntimeConflict | IllegalState e) {
+            log.warn("Checkout cannot proceed: {}", e.getMessage());
+            responseObserver.onError(Status.FAILED_PRECONDITION
+                    .withDescription(e.getMessage())
+                    .asRuntimeException());
+        } catch (ServiceUnavailable e) {
+            log.error("Service unavailable: {}", e.getReason());
+            responseObserver.onError(Status.UNAVAILABLE
+                    .withDescription(e.getReason())
+                    .asRuntimeException());
+        } catch (StatusRuntimeException e) {
+            log.warn("Rejected prepareCheckout for cart {}: {}", request.getCartId(), e.getStatus().getDescription());
+            responseObserver.onError(e);
+        } catch (Exception e) {
+            log.error("Unexpected error in prepareCheckout", e);
+            responseObserver.onError(Status.INTERNAL
+                    .withDescription("Internal server error")
+                    .withCause(e)
+                    .asRuntimeException());
+        }
+    }
+
+    // Gives back the stock held by prepareCheckout when the payment could not be started.
+    @Override
+    public void releaseCheckout(CheckoutReservationRequest request,
+                                StreamObserver<CheckoutReservationResponse> responseObserver) {
+        handleReservation(request, responseObserver, "releaseCheckout",
+                () -> stockReservationService.release(request.getCartId(), request.getUserId()));
+    }
+
+    // Makes the held stock permanent once the payment has completed.
+    @Override
+    public void confirmCheckout(CheckoutReservationRequest request,
+                                StreamObserver<CheckoutReservationResponse> responseObserver) {
+        handleReservation(request, responseObserver, "confirmCheckout",
+                () -> stockReservationService.confirm(request.getCartId(), request.getUserId()));
+    }
+
+    private void handleReservation(CheckoutReservationRequest request,
+                                   StreamObserver<CheckoutReservationResponse> responseObserver,
+                                   String operation, Runnable action) {
+        try {
+            log.debug("Processing gRPC request for {}, cartId: {}", operation, request.getCartId());
+
+            if (request.getCartId() <= 0) {
+                throw new IllegalArgumentException("Invalid cart ID");
+            }
+            if (request.getUserId() <= 0) {
+                throw new IllegalArgumentException("Invalid user ID");
+            }
+            GrpcAuthInterceptor.requireOwnerOrAdmin(request.getUserId());
+
+            action.run();
+
+            responseObserver.onNext(CheckoutReservationResponse.newBuilder().setSuccess(true).build());
+            responseObserver.onCompleted();
+            log.debug("Successfully processed {} request", operation);
+
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid request parameters: {}", e.getMessage());
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription(e.getMessage())
+                    .asRuntimeException());
+        } catch (ResourceNotFound e) {
+            log.warn("Cart not found: {}", e.getMessage());
+            responseObserver.onError(Status.NOT_FOUND
+                    .withDescription(e.getMessage())
+                    .asRuntimeException());
+        } catch (AccessForbidden e) {
+            log.warn("Unauthorized access: {}", e.getReason());
+            responseObserver.onError(Status.PERMISSION_DENIED
+                    .withDescription(e.getReason())
+                    .asRuntimeException());
+        } catch (StatusRuntimeException e) {
+            log.warn("Rejected {} for cart {}: {}", operation, request.getCartId(), e.getStatus().getDescription());
+            responseObserver.onError(e);
+        } catch (DataAccessException e) {
+            log.error("Database error in {} for cart {}", operation, request.getCartId(), e);
+            responseObserver.onError(Status.UNAVAILABLE
+                    .withDescription("Unable to update stock hold at this time")
+                    .asRuntimeException());
+        } catch (Exception e) {
+            log.error("Unexpected error in {}", operation, e);
+            responseObserver.onError(Status.INTERNAL
+                    .withDescription("Internal server error")
+                    .withCause(e)
+                    .asRuntimeException());
+        }
+    }
 }
@@ -0,0 +1,117 @@
+package com.tripezzy.eCommerce_service.grpc;
+
+import com.google.protobuf.MessageLite;
+import io.grpc.ForwardingServerCall;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.devh.boot.grpc.server.interceptor.GrpcGlobalServerInterceptor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+// Per-method call latency (by status), calls in flight and message sizes in both directions. Runs
+// outermost so rejected and unauthenticated calls are measured too.
+@GrpcGlobalServerInterceptor
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class GrpcMetricsInterceptor implements ServerInterceptor {
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<String, MethodMeters> meters = new ConcurrentHashMap<>();
+
+    public GrpcMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+                                                                 ServerCallHandler<ReqT, RespT> next) {
+        String method = call.getMethodDescriptor().getFullMethodName();
+        MethodMeters methodMeters = meters.computeIfAbsent(method, this::register);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        methodMeters.inFlight.incrementAndGet();
+
+        AtomicBoolean finished = new AtomicBoolean();
+        Consumer<Status.Code> finish = code -> {
+            if (finished.compareAndSet(false, true)) {
+                methodMeters.inFlight.decrementAndGet();
+                sample.stop(Timer.builder("grpc.server.call.latency")
+                        .tag("method", method)
+                        .tag("status", code.name())
+                        .register(meterRegistry));
+            }
+        };
+
+        ServerCall<ReqT, RespT> measuredCall = new ForwardingServerCall.SimpleForwardingServerCall<>(call) {
+            @Override
+            public void sendMessage(RespT message) {
+                recordSize(methodMeters.responseBytes, message);
+                super.sendMessage(message);
+            }
+
+            @Override
+            public void close(Status status, Metadata trailers) {
+                finish.accept(status.getCode());
+                super.close(status, trailers);
+            }
+        };
+
+        ServerCall.Listener<ReqT> listener;
+        try {
+            listener = next.startCall(measuredCall, headers);
+        } catch (RuntimeException e) {
+            finish.accept(Status.Code.UNKNOWN);
+            throw e;
+        }
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<>(listener) {
+            @Override
+            public void onMessage(ReqT message) {
+                recordSize(methodMeters.requestBytes, message);
+                super.onMessage(message);
+            }
+
+            @Override
+            public void onCancel() {
+                finish.accept(Status.Code.CANCELLED);
+                super.onCancel();
+            }
+        };
+    }
+
+    private MethodMeters register(String method) {
+        AtomicInteger inFlight = new AtomicInteger();
+        Gauge.builder("grpc.server.calls.in.flight", inFlight, AtomicInteger::get)
+                .tag("method", method)
+                .register(meterRegistry);
+        return new MethodMeters(inFlight, messageSize(method, "request"), messageSize(method, "response"));
+    }
+
+    private DistributionSummary messageSize(String method, String direction) {
+        return DistributionSummary.builder("grpc.server.message.size")
+                .baseUnit("bytes")
+                .tag("method", method)
+                .tag("direction", direction)
+                .register(meterRegistry);
+    }
+
+    private static void recordSize(DistributionSummary summary, Object message) {
+        if (message instanceof MessageLite lite) {
+            summary.record(lite.getSerializedSize());
+        }
+    }
+
+    private record MethodMeters(AtomicInteger inFlight, DistributionSummary requestBytes,
+                                DistributionSummary responseBytes) {
+    }
+}
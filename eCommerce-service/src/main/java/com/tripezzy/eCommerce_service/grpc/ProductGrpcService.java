@@ -1,6 +1,8 @@
 package com.tripezzy.eCommerce_service.grpc;
 
+import com.tripezzy.eCommerce_service.dto.CursorPageDto;
 import com.tripezzy.eCommerce_service.dto.ProductDto;
+import com.tripezzy.eCommerce_service.exceptions.BadRequestException;
 import com.tripezzy.eCommerce_service.exceptions.ResourceNotFound;
 import com.tripezzy.eCommerce_service.exceptions.ServiceUnavailable;
 import com.tripezzy.eCommerce_service.services.ProductService;
@@ -13,8 +15,8 @@ import io.grpc.stub.StreamObserver;
 import net.devh.boot.grpc.server.service.GrpcService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -33,7 +35,7 @@ public class ProductGrpcService extends ProductServiceGrpc.ProductServiceImplBas
     @Override
     public void getAllProducts(ProductRequest request, StreamObserver<ProductResponse> responseObserver) {
         try {
-            log.info("Processing gRPC request for getAllProducts, page: {}, size: {}", request.getPage(), request.getSize());
+            log.debug("Processing gRPC request for getAllProducts, page: {}, size: {}", request.getPage(), request.getSize());
 
             if (request.getPage() < 0) {
                 throw new IllegalArgumentException("Page number cannot be negative");
@@ -42,11 +44,22 @@ public class ProductGrpcService extends ProductServiceGrpc.ProductServiceImplBas
                 throw new IllegalArgumentException("Page size must be between 1 and 100");
             }
 
-            Page<ProductDto> productPage = productService.getAllProducts(
-                    PageRequest.of(request.getPage(), request.getSize())
-            );
+            // The first page and cursor requests seek by ID so the response can hand back a cursor; other
+            // page numbers use a count-free slice since the response carries no totals.
+            List<ProductDto> products;
+            String nextCursor = null;
+            if (!request.getCursor().isEmpty() || request.getPage() == 0) {
+                CursorPageDto<ProductDto> productPage = productService.scrollProducts(
+                        request.getCursor(), request.getSize());
+                products = productPage.getItems();
+                nextCursor = productPage.getNextCursor();
+            } else {
+                products = productService.getAllProductsSlice(
+                        PageRequest.of(request.getPage(), request.getSize(), Sort.by(Sort.Direction.DESC, "id"))
+                ).getContent();
+            }
 
-            List<Product> grpcProducts = productPage.getContent().stream()
+            List<Product> grpcProducts = products.stream()
                     .map(productDto -> Product.newBuilder()
                             .setName(productDto.getName())
                             .setDescription(productDto.getDescription())
@@ -58,19 +71,26 @@ public class ProductGrpcService extends ProductServiceGrpc.ProductServiceImplBas
                     )
                     .collect(Collectors.toList());
 
-            ProductResponse response = ProductResponse.newBuilder()
-                    .addAllProducts(grpcProducts)
-                    .build();
+            ProductResponse.Builder response = ProductResponse.newBuilder()
+                    .addAllProducts(grpcProducts);
+            if (nextCursor != null) {
+                response.setNextCursor(nextCursor);
+            }
 
-            responseObserver.onNext(response);
+            responseObserver.onNext(response.build());
             responseObserver.onCompleted();
-            log.info("Successfully processed getAllProducts request");
+            log.debug("Successfully processed getAllProducts request");
 
         } catch (IllegalArgumentException e) {
             log.warn("Invalid request parameters: {}", e.getMessage());
             responseObserver.onError(Status.INVALID_ARGUMENT
                     .withDescription(e.getMessage())
                     .asRuntimeException());
+        } catch (BadRequestException e) {
+            log.warn("Invalid request parameters: {}", e.getReason());
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription(e.getReason())
+                    .asRuntimeException());
         } catch (ResourceNotFound e) {
             log.warn("Resource not found: {}", e.getMessage());
             responseObserver.onError(Status.NOT_FOUND
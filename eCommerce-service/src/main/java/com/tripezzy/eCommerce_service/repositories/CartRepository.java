@@ -1,7 +1,9 @@
 package com.tripezzy.eCommerce_service.repositories;
 
 import com.tripezzy.eCommerce_service.entity.Cart;
-import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -9,4 +11,42 @@ import java.util.Optional;
 @Repository
 public interface CartRepository extends JpaRepository<Cart, Long> {
     Optional<Cart> findByUserId(Long userId);
+
+    @EntityGraph(attributePaths = {"items", "items.product"})
+    Optional<Cart> findWithItemsByUserId(Long userId);
+
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @EntityGraph(attributePaths = {"items", "items.product"})
+    @Query("SELECT c FROM Cart c WHERE c.userId = :userId")
+    Optional<Cart> findForUpdateByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT DISTINCT c FROM Cart c " +
+            "LEFT JOIN FETCH c.items i " +
+            "LEFT JOIN FETCH i.product " +
+            "WHERE c.id = :cartId")
+    Optional<Cart> findWithItemsById(@Param("cartId") Long cartId);
+
+    // Serializes checkout work (reserve, release, confirm) on one cart.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Cart c WHERE c.id = :cartId")
+    Optional<Cart> findLockedById(@Param("cartId") Long cartId);
+
+    Optional<CartVersion> findVersionByUserId(Long userId);
+
+    Optional<CartVersion> findVersionById(Long cartId);
+
+    @Modifying
+    @Query("UPDATE Cart c SET c.totalAmount = :totalAmount WHERE c.id = :cartId")
+    int updateTotalAmount(@Param("cartId") Long cartId, @Param("totalAmount") Double totalAmount);
+
+    @Modifying
+    @Query("UPDATE Cart c SET c.version = c.version + 1 " +
+            "WHERE c.id IN (SELECT i.cart.id FROM CartItem i WHERE i.product.id = :productId)")
+    int incrementVersionForProduct(@Param("productId") Long productId);
+
+    interface CartVersion {
+        Long getId();
+        Long getUserId();
+        Long getVersion();
+    }
 }
@@ -0,0 +1,27 @@
+package com.tripezzy.eCommerce_service.repositories;
+
+import com.tripezzy.eCommerce_service.entity.DiscountRule;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DiscountRuleRepository extends JpaRepository<DiscountRule, Long> {
+
+    @EntityGraph(attributePaths = "tiers")
+    List<DiscountRule> findByActiveTrue();
+
+    @EntityGraph(attributePaths = "tiers")
+    List<DiscountRule> findAllByOrderByIdAsc();
+
+    @EntityGraph(attributePaths = "tiers")
+    Optional<DiscountRule> findWithTiersById(Long id);
+
+    @Query("SELECT MAX(r.updatedAt) FROM DiscountRule r")
+    LocalDateTime findLatestUpdate();
+}
@@ -1,13 +1,18 @@
 package com.tripezzy.eCommerce_service.repositories;
 
 import com.tripezzy.eCommerce_service.entity.Product;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
     @Query("SELECT p FROM Product p WHERE " +
@@ -28,4 +33,19 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     Page<Product> searchProducts(@Param("query") String query, Pageable pageable);
 
     Page<Product> findAllByDeletedFalse(Pageable pageable);
+
+    Slice<Product> findSliceByDeletedFalse(Pageable pageable);
+
+    List<Product> findByDeletedFalseOrderByIdDesc(Limit limit);
+
+    List<Product> findByDeletedFalseAndIdLessThanOrderByIdDesc(Long id, Limit limit);
+
+    @Modifying
+    @Query("UPDATE Product p SET p.stock = p.stock - :quantity " +
+            "WHERE p.id = :productId AND p.stock >= :quantity AND p.deleted = false")
+    int reserveStock(@Param("productId") Long productId, @Param("quantity") Integer quantity);
+
+    @Modifying
+    @Query("UPDATE Product p SET p.stock = p.stock + :quantity WHERE p.id = :productId")
+    int releaseStock(@Param("productId") Long productId, @Param("quantity") Integer quantity);
 }
@@ -0,0 +1,29 @@
+package com.tripezzy.eCommerce_service.repositories;
+
+import com.tripezzy.eCommerce_service.entity.StockReservation;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface StockReservationRepository extends JpaRepository<StockReservation, Long> {
+
+    List<StockReservation> findByCartId(Long cartId);
+
+    @Query("SELECT DISTINCT r.cartId FROM StockReservation r WHERE r.expiresAt < :now")
+    List<Long> findExpiredCartIds(@Param("now") LocalDateTime now, Limit limit);
+
+    @Modifying
+    @Query("UPDATE StockReservation r SET r.expiresAt = :expiresAt WHERE r.cartId = :cartId")
+    int extendHold(@Param("cartId") Long cartId, @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Query("DELETE FROM StockReservation r WHERE r.cartId = :cartId")
+    int deleteByCartId(@Param("cartId") Long cartId);
+}
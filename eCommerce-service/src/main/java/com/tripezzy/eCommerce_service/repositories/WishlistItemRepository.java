@@ -0,0 +1,64 @@
+package com.tripezzy.eCommerce_service.repositories;
+
+import com.tripezzy.eCommerce_service.dto.WishlistItemDto;
+import com.tripezzy.eCommerce_service.entity.WishlistItem;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface WishlistItemRepository extends JpaRepository<WishlistItem, Long> {
+
+    String ITEM_SELECT = "SELECT new com.tripezzy.eCommerce_service.dto.WishlistItemDto(" +
+            "p.id, p.name, p.price, p.imageUrl, w.createdAt) " +
+            "FROM WishlistItem w JOIN w.product p ";
+
+    @Modifying
+    @Query(value = "INSERT INTO wishlist_items (user_id, product_id, created_at) " +
+            "SELECT :userId, p.id, CURRENT_TIMESTAMP FROM products p " +
+            "WHERE p.id IN (:productIds) AND p.deleted = false " +
+            "ON CONFLICT (user_id, product_id) DO NOTHING", nativeQuery = true)
+    int insertIgnoringDuplicates(@Param("userId") Long userId, @Param("productIds") Collection<Long> productIds);
+
+    @Modifying
+    @Query("DELETE FROM WishlistItem w WHERE w.userId = :userId AND w.product.id IN :productIds")
+    int deleteByUserIdAndProductIds(@Param("userId") Long userId, @Param("productIds") Collection<Long> productIds);
+
+    @Query("SELECT w.product.id FROM WishlistItem w WHERE w.userId = :userId AND w.product.id IN :productIds")
+    List<Long> findProductIdsInWishlist(@Param("userId") Long userId, @Param("productIds") Collection<Long> productIds);
+
+    boolean existsByUserIdAndProductId(Long userId, Long productId);
+
+    @Query(value = ITEM_SELECT + "WHERE w.userId = :userId AND p.deleted = false",
+            countQuery = "SELECT COUNT(w) FROM WishlistItem w JOIN w.product p " +
+                    "WHERE w.userId = :userId AND p.deleted = false")
+    Page<WishlistItemDto> findItemsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query(ITEM_SELECT + "WHERE w.userId = :userId AND p.deleted = false")
+    Slice<WishlistItemDto> findItemSliceByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // Product ID breaks createdAt ties; it is unique per user through uk_wishlist_user_product.
+    @Query(ITEM_SELECT + "WHERE w.userId = :userId AND p.deleted = false " +
+            "ORDER BY w.createdAt DESC, p.id DESC")
+    List<WishlistItemDto> findItemPageByUserId(@Param("userId") Long userId, Limit limit);
+
+    // Row-value comparison on wishlist columns so the idx_wishlist_user_created scan starts at the cursor.
+    @Query(ITEM_SELECT + "WHERE w.userId = :userId AND p.deleted = false AND " +
+            "(w.createdAt, w.product.id) < (:createdAt, :productId) " +
+            "ORDER BY w.createdAt DESC, p.id DESC")
+    List<WishlistItemDto> findItemPageByUserIdAfter(
+            @Param("userId") Long userId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("productId") Long productId,
+            Limit limit);
+}
@@ -0,0 +1,73 @@
+package com.tripezzy.eCommerce_service.security;
+
+import com.tripezzy.eCommerce_service.dto.CheckoutLineItemDto;
+import com.tripezzy.eCommerce_service.dto.CheckoutSnapshotDto;
+import com.tripezzy.eCommerce_service.exceptions.IllegalState;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+
+@Component
+public class CheckoutSnapshotSigner {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    @Value("${checkout.signing.secret}")
+    private String signingSecret;
+
+    @Value("${checkout.snapshot.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    private SecretKeySpec signingKey;
+
+    @PostConstruct
+    public void init() {
+        if (signingSecret == null || signingSecret.length() < 32) {
+            throw new IllegalState("Checkout signing secret must be at least 32 characters long");
+        }
+        this.signingKey = new SecretKeySpec(signingSecret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    public long getTtlSeconds() {
+        return ttlSeconds;
+    }
+
+    public String sign(CheckoutSnapshotDto snapshot) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(signingKey);
+            byte[] digest = mac.doFinal(canonicalPayload(snapshot).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalState("Failed to sign checkout snapshot");
+        }
+    }
+
+    static String canonicalPayload(CheckoutSnapshotDto snapshot) {
+        StringBuilder payload = new StringBuilder(64 + snapshot.getItems().size() * 32)
+                .append(snapshot.getCartId()).append('|')
+                .append(snapshot.getUserId()).append('|')
+                .append(snapshot.getCurrency()).append('|')
+                .append(snapshot.getQuantity()).append('|')
+                .append(snapshot.getSubtotalCents()).append('|')
+                .append(snapshot.getDiscountCents()).append('|')
+                .append(snapshot.getTotalCents()).append('|')
+                .append(snapshot.getIssuedAt()).append('|')
+                .append(snapshot.getExpiresAt());
+        for (CheckoutLineItemDto item : snapshot.getItems()) {
+            payload.append('|')
+                    .append(item.getProductId()).append(':')
+                    .append(item.getQuantity()).append(':')
+                    .append(item.getUnitPriceCents()).append(':')
+                    .append(item.getDiscountCents()).append(':')
+                    .append(item.getLineTotalCents());
+        }
+        return payload.toString();
+    }
+}
@@ -3,11 +3,13 @@ package com.tripezzy.eCommerce_service.services;
 import com.tripezzy.eCommerce_service.dto.CartDto;
 import com.tripezzy.eCommerce_service.dto.CartItemDto;
 import com.tripezzy.eCommerce_service.dto.CartPaymentDto;
+import com.tripezzy.eCommerce_service.dto.CheckoutSnapshotDto;
 
 public interface CartService {
     CartDto addItemToCart(Long userId, CartItemDto cartItemDto);
     CartDto getCartByUserId(Long userId);
     void removeItemFromCart(Long userId, Long productId);
-    double calculateTotalCost(Long userId, String discountType, Double discountPercentage, Integer minQuantity);
+    double calculateTotalCost(Long userId);
     CartPaymentDto getPaymentDetails(Long cartId);
+    CheckoutSnapshotDto prepareCheckout(Long cartId, Long userId);
 }
@@ -0,0 +1,12 @@
+package com.tripezzy.eCommerce_service.services;
+
+import com.tripezzy.eCommerce_service.dto.DiscountRuleDto;
+
+import java.util.List;
+
+public interface DiscountRuleService {
+    DiscountRuleDto createRule(DiscountRuleDto discountRuleDto);
+    List<DiscountRuleDto> getAllRules();
+    DiscountRuleDto updateRule(Long ruleId, DiscountRuleDto discountRuleDto);
+    void deactivateRule(Long ruleId);
+}
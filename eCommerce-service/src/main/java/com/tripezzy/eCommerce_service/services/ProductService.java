@@ -1,13 +1,17 @@
 package com.tripezzy.eCommerce_service.services;
 
+import com.tripezzy.eCommerce_service.dto.CursorPageDto;
 import com.tripezzy.eCommerce_service.dto.ProductDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface ProductService {
     ProductDto createProduct(ProductDto productDto);
     ProductDto getProductById(Long productId);
     Page<ProductDto> getAllProducts(Pageable pageable);
+    Slice<ProductDto> getAllProductsSlice(Pageable pageable);
+    CursorPageDto<ProductDto> scrollProducts(String cursor, int size);
     Page<ProductDto> filterProducts(String category, Double minPrice, Double maxPrice, Pageable pageable);
     Page<ProductDto> searchProducts(String query, Pageable pageable);
     ProductDto updateProduct(Long productId, ProductDto productDto);
@@ -0,0 +1,13 @@
+package com.tripezzy.eCommerce_service.services;
+
+import com.tripezzy.eCommerce_service.dto.CheckoutLineItemDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface StockReservationService {
+    LocalDateTime hold(Long cartId, long cartVersion, List<CheckoutLineItemDto> items);
+    void release(Long cartId, Long userId);
+    void confirm(Long cartId, Long userId);
+    boolean releaseIfExpired(Long cartId);
+}
@@ -1,11 +1,21 @@
 package com.tripezzy.eCommerce_service.services;
 
-import com.tripezzy.eCommerce_service.dto.WishlistDto;
+import com.tripezzy.eCommerce_service.dto.CursorPageDto;
+import com.tripezzy.eCommerce_service.dto.WishlistItemDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.Set;
 
 public interface WishlistService {
-    WishlistDto addToWishlist(Long productId);
-    Page<WishlistDto> getWishlistByUserId(Pageable pageable);
-    void removeFromWishlist(Long wishlistId, Long productId);
+    void addToWishlist(Long productId);
+    Page<WishlistItemDto> getWishlistByUserId(Pageable pageable);
+    Slice<WishlistItemDto> getWishlistSliceByUserId(Pageable pageable);
+    CursorPageDto<WishlistItemDto> scrollWishlist(String cursor, int size);
+    void removeFromWishlist(Long productId);
+    int addAllToWishlist(List<Long> productIds);
+    int removeAllFromWishlist(List<Long> productIds);
+    Set<Long> getWishlistedProductIds(List<Long> productIds);
 }
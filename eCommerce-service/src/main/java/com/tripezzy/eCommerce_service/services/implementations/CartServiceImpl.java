@@ -1,5 +1,6 @@
 package com.tripezzy.eCommerce_service.services.implementations;
 
+import com.tripezzy.eCommerce_service.cache.CartPricingCache;
 import com.tripezzy.eCommerce_service.dto.*;
 import com.tripezzy.eCommerce_service.entity.Cart;
 import com.tripezzy.eCommerce_service.entity.CartItem;
@@ -7,9 +8,11 @@ import com.tripezzy.eCommerce_service.entity.Product;
 import com.tripezzy.eCommerce_service.exceptions.*;
 import com.tripezzy.eCommerce_service.repositories.CartRepository;
 import com.tripezzy.eCommerce_service.repositories.ProductRepository;
+import com.tripezzy.eCommerce_service.security.CheckoutSnapshotSigner;
 import com.tripezzy.eCommerce_service.services.CartService;
-import com.tripezzy.eCommerce_service.strategy.DiscountStrategy;
-import com.tripezzy.eCommerce_service.strategy.manager.DiscountStrategyManager;
+import com.tripezzy.eCommerce_service.services.StockReservationService;
+import com.tripezzy.eCommerce_service.strategy.DiscountRuleSet;
+import com.tripezzy.eCommerce_service.strategy.manager.DiscountRuleEngine;
 import org.modelmapper.MappingException;
 import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
@@ -17,6 +20,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,14 +36,22 @@ public class CartServiceImpl implements CartService {
     private final CartRepository cartRepository;
     private final ProductRepository productRepository;
     private final ModelMapper modelMapper;
-    private final DiscountStrategyManager discountStrategyManager;
+    private final DiscountRuleEngine discountRuleEngine;
+    private final CheckoutSnapshotSigner checkoutSnapshotSigner;
+    private final CartPricingCache cartPricingCache;
+    private final StockReservationService stockReservationService;
 
     public CartServiceImpl(CartRepository cartRepository, ProductRepository productRepository,
-                           ModelMapper modelMapper, DiscountStrategyManager discountStrategyManager) {
+                           ModelMapper modelMapper, DiscountRuleEngine discountRuleEngine,
+                           CheckoutSnapshotSigner checkoutSnapshotSigner, CartPricingCache cartPricingCache,
+                           StockReservationService stockReservationService) {
         this.cartRepository = cartRepository;
         this.productRepository = productRepository;
         this.modelMapper = modelMapper;
-        this.discountStrategyManager = discountStrategyManager;
+        this.discountRuleEngine = discountRuleEngine;
+        this.checkoutSnapshotSigner = checkoutSnapshotSigner;
+        this.cartPricingCache = cartPricingCache;
+        this.stockReservationService = stockReservationService;
     }
 
     @Override
@@ -57,7 +69,7 @@ public class CartServiceImpl implements CartService {
                 throw new BadRequestException("Invalid cart item data");
             }
 
-            Cart cart = cartRepository.findByUserId(userId)
+            Cart cart = cartRepository.findForUpdateByUserId(userId)
                     .orElseGet(() -> {
                         Cart newCart = new Cart();
                         newCart.setUserId(userId);
@@ -83,10 +95,13 @@ public class CartServiceImpl implements CartService {
                 cart.getItems().add(newItem);
             }
 
-            Cart updatedCart = cartRepository.save(cart);
+            Cart updatedCart = cartRepository.saveAndFlush(cart);
             log.info("Item added to cart successfully for user ID: {}", userId);
             return modelMapper.map(updatedCart, CartDto.class);
 
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("Concurrent cart update while adding item for user ID: {}", userId);
+            throw new RuntimeConflict("Cart was modified concurrently, please retry");
         } catch (DataAccessException e) {
             log.error("Database error while adding item to cart for user ID: {}", userId, e);
             throw new DataIntegrityViolation("Failed to update cart due to database error");
@@ -106,7 +121,7 @@ public class CartServiceImpl implements CartService {
                 throw new BadRequestException("Invalid user ID");
             }
 
-            Cart cart = cartRepository.findByUserId(userId)
+            Cart cart = cartRepository.findWithItemsByUserId(userId)
                     .orElseThrow(() -> new ResourceNotFound("Cart not found for user ID: " + userId));
 
             List<CartItemResponseDto> itemDtos = cart.getItems().stream()
@@ -145,7 +160,7 @@ public class CartServiceImpl implements CartService {
                 throw new BadRequestException("Invalid product ID");
             }
 
-            Cart cart = cartRepository.findByUserId(userId)
+            Cart cart = cartRepository.findForUpdateByUserId(userId)
                     .orElseThrow(() -> new ResourceNotFound("Cart not found for user ID: " + userId));
 
             boolean removed = cart.getItems().removeIf(item -> item.getProduct().getId().equals(productId));
@@ -154,9 +169,12 @@ public class CartServiceImpl implements CartService {
                 throw new ResourceNotFound("Product not found in cart");
             }
 
-            cartRepository.save(cart);
+            cartRepository.saveAndFlush(cart);
             log.info("Item removed from cart successfully for user ID: {}", userId);
 
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("Concurrent cart update while removing item for user ID: {}", userId);
+            throw new RuntimeConflict("Cart was modified concurrently, please retry");
         } catch (DataAccessException e) {
             log.error("Database error while removing item from cart for user ID: {}", userId, e);
             throw new DataIntegrityViolation("Failed to update cart due to database error");
@@ -164,46 +182,31 @@ public class CartServiceImpl implements CartService {
     }
 
     @Override
-    @Transactional
-    @CacheEvict(value = "cart", key = "#userId")
-    public double calculateTotalCost(Long userId, String discountType, Double discountPercentage, Integer minQuantity) {
+    @Transactional(readOnly = true)
+    public double calculateTotalCost(Long userId) {
         try {
             log.info("Calculating total cost for user ID: {}", userId);
 
             if (userId == null || userId <= 0) {
                 throw new BadRequestException("Invalid user ID");
             }
-            if (discountType == null || discountType.isBlank()) {
-                throw new BadRequestException("Discount type is required");
-            }
 
-            Cart cart = cartRepository.findByUserId(userId)
+            CartRepository.CartVersion cartVersion = cartRepository.findVersionByUserId(userId)
                     .orElseThrow(() -> new ResourceNotFound("Cart not found for user ID: " + userId));
 
-            DiscountStrategy discountStrategy = discountStrategyManager
-                    .getDiscountStrategy(discountType, discountPercentage, minQuantity);
-
-            double totalCost = cart.getItems().stream()
-                    .mapToDouble(item -> discountStrategy.applyDiscount(item) * item.getQuantity())
-                    .sum();
-
-            cart.setTotalAmount(totalCost);
-            cartRepository.save(cart);
+            CartPricingDto pricing = priceCart(cartVersion);
 
             log.info("Total cost calculated successfully for user ID: {}", userId);
-            return totalCost;
+            return pricing.getTotalCents() / 100.0;
 
         } catch (DataAccessException e) {
             log.error("Database error while calculating total cost for user ID: {}", userId, e);
-            throw new DataIntegrityViolation("Failed to update cart due to database error");
-        } catch (IllegalArgumentException e) {
-            log.warn("Invalid discount parameters: {}", e.getMessage());
-            throw new BadRequestException(e.getMessage());
+            throw new ServiceUnavailable("Unable to calculate total cost at this time");
         }
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public CartPaymentDto getPaymentDetails(Long cartId) {
         try {
             log.info("Fetching cart for payment for cart ID: {}", cartId);
@@ -212,21 +215,19 @@ public class CartServiceImpl implements CartService {
                 throw new BadRequestException("Invalid cart ID");
             }
 
-            Cart cart = cartRepository.findById(cartId)
+            CartRepository.CartVersion cartVersion = cartRepository.findVersionById(cartId)
                     .orElseThrow(() -> new ResourceNotFound("Cart not found with ID: " + cartId));
 
-            if (cart.getItems() == null || cart.getItems().isEmpty()) {
+            CartPricingDto pricing = priceCart(cartVersion);
+
+            if (pricing.getItems().isEmpty()) {
                 throw new IllegalState("Cannot process payment for empty cart");
             }
 
             CartPaymentDto cartPaymentDto = new CartPaymentDto();
-            cartPaymentDto.setQuantity(cart.getItems().stream()
-                    .mapToLong(CartItem::getQuantity)
-                    .sum());
-            cartPaymentDto.setAmount(cart.getTotalAmount());
-            cartPaymentDto.setName(cart.getItems().stream()
-                    .map(cartItem -> cartItem.getProduct().getName())
-                    .collect(Collectors.joining(" + ")));
+            cartPaymentDto.setQuantity(pricing.getQuantity());
+            cartPaymentDto.setAmount(pricing.getTotalCents() / 100.0);
+            cartPaymentDto.setName(pricing.getName());
             cartPaymentDto.setCurrency("USD");
 
             return cartPaymentDto;
@@ -236,4 +237,125 @@ public class CartServiceImpl implements CartService {
             throw new ServiceUnavailable("Unable to retrieve payment details at this time");
         }
     }
+
+    @Override
+    @Transactional
+    @CacheEvict(value = "cart", key = "#userId")
+    public CheckoutSnapshotDto prepareCheckout(Long cartId, Long userId) {
+        try {
+            log.info("Preparing checkout for cart ID: {} and user ID: {}", cartId, userId);
+
+            if (cartId == null || cartId <= 0) {
+                throw new BadRequestException("Invalid cart ID");
+            }
+            if (userId == null || userId <= 0) {
+                throw new BadRequestException("Invalid user ID");
+            }
+
+            // Lock first so the version priced below is the one the stock hold is recorded against.
+            Cart lockedCart = cartRepository.findLockedById(cartId)
+                    .orElseThrow(() -> new ResourceNotFound("Cart not found with ID: " + cartId));
+
+            if (!lockedCart.getUserId().equals(userId)) {
+                throw new AccessForbidden("Cart does not belong to user ID: " + userId);
+            }
+
+            CartRepository.CartVersion cartVersion = cartRepository.findVersionById(cartId)
+                    .orElseThrow(() -> new ResourceNotFound("Cart not found with ID: " + cartId));
+
+            CartPricingDto pricing = priceCart(cartVersion);
+
+            if (pricing.getItems().isEmpty()) {
+                throw new IllegalState("Cannot process payment for empty cart");
+            }
+
+            long version = cartVersion.getVersion() == null ? 0L : cartVersion.getVersion();
+            stockReservationService.hold(cartId, version, pricing.getItems());
+
+            cartRepository.updateTotalAmount(cartId, pricing.getTotalCents() / 100.0);
+
+            long now = System.currentTimeMillis();
+            CheckoutSnapshotDto snapshot = new CheckoutSnapshotDto();
+            snapshot.setCartId(pricing.getCartId());
+            snapshot.setUserId(pricing.getUserId());
+            snapshot.setItems(pricing.getItems());
+            snapshot.setQuantity(pricing.getQuantity());
+            snapshot.setSubtotalCents(pricing.getSubtotalCents());
+            snapshot.setDiscountCents(pricing.getDiscountCents());
+            snapshot.setTotalCents(pricing.getTotalCents());
+            snapshot.setCurrency("USD");
+            snapshot.setName(pricing.getName());
+            snapshot.setIssuedAt(now);
+            snapshot.setExpiresAt(now + checkoutSnapshotSigner.getTtlSeconds() * 1000);
+            snapshot.setSignature(checkoutSnapshotSigner.sign(snapshot));
+
+            log.info("Checkout prepared for cart ID: {} with total {} cents", cartId, pricing.getTotalCents());
+            return snapshot;
+
+        } catch (DataAccessException e) {
+            log.error("Database error while preparing checkout for cart ID: {}", cartId, e);
+            throw new ServiceUnavailable("Unable to prepare checkout at this time");
+        }
+    }
+
+    // Pricing depends only on the cart contents (guarded by its version, which product updates also bump)
+    // and on the rules in effect, so a cached result stays valid until one of those changes.
+    private CartPricingDto priceCart(CartRepository.CartVersion cartVersion) {
+        DiscountRuleSet rules = discountRuleEngine.current();
+        long now = discountRuleEngine.currentTimeMillis();
+        long version = cartVersion.getVersion() == null ? 0L : cartVersion.getVersion();
+
+        CartPricingDto cached = cartPricingCache.get(cartVersion.getId(), version, rules, now);
+        if (cached != null) {
+            return cached;
+        }
+
+        Cart cart = cartRepository.findWithItemsById(cartVersion.getId())
+                .orElseThrow(() -> new ResourceNotFound("Cart not found with ID: " + cartVersion.getId()));
+
+        List<CartItem> items = cart.getItems() == null ? List.of() : cart.getItems();
+        List<CheckoutLineItemDto> lineItems = new ArrayList<>(items.size());
+        StringBuilder name = new StringBuilder();
+        long quantity = 0;
+        long subtotalCents = 0;
+        long discountCents = 0;
+
+        for (CartItem item : items) {
+            Product product = item.getProduct();
+            int itemQuantity = item.getQuantity();
+            long unitPriceCents = toCents(product.getPrice());
+            long lineDiscountCents = rules.lineDiscountCents(unitPriceCents, itemQuantity, product.getCategory(), now);
+            long lineTotalCents = unitPriceCents * itemQuantity - lineDiscountCents;
+
+            lineItems.add(new CheckoutLineItemDto(product.getId(), product.getName(), itemQuantity,
+                    unitPriceCents, lineDiscountCents, lineTotalCents));
+
+            if (!name.isEmpty()) {
+                name.append(" + ");
+            }
+            name.append(product.getName());
+            quantity += itemQuantity;
+            subtotalCents += unitPriceCents * itemQuantity;
+            discountCents += lineDiscountCents;
+        }
+
+        CartPricingDto pricing = new CartPricingDto();
+        pricing.setCartId(cart.getId());
+        pricing.setUserId(cart.getUserId());
+        pricing.setCartVersion(cart.getVersion() == null ? 0L : cart.getVersion());
+        pricing.setRuleSetVersion(rules.getVersion());
+        pricing.setItems(lineItems);
+        pricing.setQuantity(quantity);
+        pricing.setSubtotalCents(subtotalCents);
+        pricing.setDiscountCents(discountCents);
+        pricing.setTotalCents(subtotalCents - discountCents);
+        pricing.setName(name.toString());
+
+        cartPricingCache.put(pricing, rules, now);
+        return pricing;
+    }
+
+    private static long toCents(double amount) {
+        return Math.round(amount * 100);
+    }
 }
@@ -0,0 +1,178 @@
+package com.tripezzy.eCommerce_service.services.implementations;
+
+import com.tripezzy.eCommerce_service.dto.DiscountRuleDto;
+import com.tripezzy.eCommerce_service.dto.DiscountTierDto;
+import com.tripezzy.eCommerce_service.entity.DiscountRule;
+import com.tripezzy.eCommerce_service.entity.DiscountTier;
+import com.tripezzy.eCommerce_service.exceptions.*;
+import com.tripezzy.eCommerce_service.repositories.DiscountRuleRepository;
+import com.tripezzy.eCommerce_service.services.DiscountRuleService;
+import com.tripezzy.eCommerce_service.strategy.manager.DiscountRuleEngine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class DiscountRuleServiceImpl implements DiscountRuleService {
+
+    private static final Logger log = LoggerFactory.getLogger(DiscountRuleServiceImpl.class);
+    private final DiscountRuleRepository discountRuleRepository;
+    private final DiscountRuleEngine discountRuleEngine;
+
+    public DiscountRuleServiceImpl(DiscountRuleRepository discountRuleRepository,
+                                   DiscountRuleEngine discountRuleEngine) {
+        this.discountRuleRepository = discountRuleRepository;
+        this.discountRuleEngine = discountRuleEngine;
+    }
+
+    @Override
+    public DiscountRuleDto createRule(DiscountRuleDto discountRuleDto) {
+        if (discountRuleDto == null) {
+            throw new BadRequestException("Discount rule data cannot be null");
+        }
+        log.info("Creating discount rule: {}", discountRuleDto.getName());
+
+        DiscountRule rule = new DiscountRule();
+        applyChanges(rule, discountRuleDto);
+
+        try {
+            DiscountRule savedRule = discountRuleRepository.save(rule);
+            refreshRules();
+            log.info("Discount rule created successfully with ID: {}", savedRule.getId());
+            return toDto(savedRule);
+        } catch (DataAccessException e) {
+            log.error("Database error while creating discount rule: {}", discountRuleDto.getName(), e);
+            throw new ServiceUnavailable("Unable to create discount rule. Please try again later.");
+        }
+    }
+
+    @Override
+    public List<DiscountRuleDto> getAllRules() {
+        try {
+            log.info("Fetching all discount rules");
+            return discountRuleRepository.findAllByOrderByIdAsc().stream()
+                    .map(this::toDto)
+                    .toList();
+        } catch (DataAccessException e) {
+            log.error("Database error while fetching discount rules", e);
+            throw new ServiceUnavailable("Unable to retrieve discount rules. Please try again later.");
+        }
+    }
+
+    @Override
+    public DiscountRuleDto updateRule(Long ruleId, DiscountRuleDto discountRuleDto) {
+        if (ruleId == null || ruleId <= 0) {
+            throw new BadRequestException("Invalid discount rule ID: " + ruleId);
+        }
+        if (discountRuleDto == null) {
+            throw new BadRequestException("Discount rule data cannot be null");
+        }
+        log.info("Updating discount rule with ID: {}", ruleId);
+
+        try {
+            DiscountRule rule = discountRuleRepository.findWithTiersById(ruleId)
+                    .orElseThrow(() -> new ResourceNotFound("Discount rule not found with ID: " + ruleId));
+
+            applyChanges(rule, discountRuleDto);
+
+            DiscountRule savedRule = discountRuleRepository.save(rule);
+            refreshRules();
+            log.info("Discount rule updated successfully with ID: {}", ruleId);
+            return toDto(savedRule);
+        } catch (DataAccessException e) {
+            log.error("Database error while updating discount rule ID: {}", ruleId, e);
+            throw new ServiceUnavailable("Unable to update discount rule. Please try again later.");
+        }
+    }
+
+    @Override
+    public void deactivateRule(Long ruleId) {
+        if (ruleId == null || ruleId <= 0) {
+            throw new BadRequestException("Invalid discount rule ID: " + ruleId);
+        }
+        log.info("Deactivating discount rule with ID: {}", ruleId);
+
+        try {
+            DiscountRule rule = discountRuleRepository.findById(ruleId)
+                    .orElseThrow(() -> new ResourceNotFound("Discount rule not found with ID: " + ruleId));
+
+            if (!rule.isActive()) {
+                throw new RuntimeConflict("Discount rule is already inactive");
+            }
+
+            rule.setActive(false);
+            discountRuleRepository.save(rule);
+            refreshRules();
+            log.info("Discount rule deactivated successfully with ID: {}", ruleId);
+        } catch (DataAccessException e) {
+            log.error("Database error while deactivating discount rule ID: {}", ruleId, e);
+            throw new ServiceUnavailable("Unable to deactivate discount rule. Please try again later.");
+        }
+    }
+
+    // The change is already committed at this point, so a failed reload must not fail the request;
+    // the engine's scheduled poll sees the newer updated_at and loads it on its next run.
+    private void refreshRules() {
+        try {
+            discountRuleEngine.reload();
+        } catch (RuntimeException e) {
+            log.warn("Discount rule saved but the rule set was not reloaded, leaving it to the next refresh", e);
+        }
+    }
+
+    private void applyChanges(DiscountRule rule, DiscountRuleDto dto) {
+        if (dto.getName() == null || dto.getName().isBlank()) {
+            throw new BadRequestException("Discount rule name is required");
+        }
+
+        rule.setName(dto.getName());
+        rule.setType(dto.getType());
+        rule.setPercentage(dto.getPercentage());
+        rule.setMinUnitPrice(dto.getMinUnitPrice());
+        rule.setMinQuantity(dto.getMinQuantity());
+        rule.setCategory(dto.getCategory());
+        rule.setStartsAt(dto.getStartsAt());
+        rule.setEndsAt(dto.getEndsAt());
+        if (dto.getActive() != null) {
+            rule.setActive(dto.getActive());
+        }
+
+        List<DiscountTier> tiers = new ArrayList<>();
+        if (dto.getTiers() != null) {
+            for (DiscountTierDto tier : dto.getTiers()) {
+                tiers.add(new DiscountTier(tier.getMinQuantity(), tier.getPercentage()));
+            }
+        }
+        rule.getTiers().clear();
+        rule.getTiers().addAll(tiers);
+
+        try {
+            DiscountRuleEngine.compile(rule);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid discount rule: {}", e.getMessage());
+            throw new BadRequestException(e.getMessage());
+        }
+    }
+
+    private DiscountRuleDto toDto(DiscountRule rule) {
+        DiscountRuleDto dto = new DiscountRuleDto();
+        dto.setId(rule.getId());
+        dto.setName(rule.getName());
+        dto.setType(rule.getType());
+        dto.setPercentage(rule.getPercentage());
+        dto.setMinUnitPrice(rule.getMinUnitPrice());
+        dto.setMinQuantity(rule.getMinQuantity());
+        dto.setCategory(rule.getCategory());
+        dto.setTiers(rule.getTiers().stream()
+                .map(tier -> new DiscountTierDto(tier.getMinQuantity(), tier.getPercentage()))
+                .toList());
+        dto.setStartsAt(rule.getStartsAt());
+        dto.setEndsAt(rule.getEndsAt());
+        dto.setActive(rule.isActive());
+        return dto;
+    }
+}
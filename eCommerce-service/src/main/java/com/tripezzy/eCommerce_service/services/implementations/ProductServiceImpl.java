@@ -1,8 +1,11 @@
 package com.tripezzy.eCommerce_service.services.implementations;
 
+import com.tripezzy.eCommerce_service.dto.CursorPageDto;
 import com.tripezzy.eCommerce_service.dto.ProductDto;
 import com.tripezzy.eCommerce_service.entity.Product;
 import com.tripezzy.eCommerce_service.exceptions.*;
+import com.tripezzy.eCommerce_service.pagination.KeysetCursor;
+import com.tripezzy.eCommerce_service.repositories.CartRepository;
 import com.tripezzy.eCommerce_service.repositories.ProductRepository;
 import com.tripezzy.eCommerce_service.services.ProductService;
 import org.modelmapper.ModelMapper;
@@ -12,21 +15,28 @@ import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 @Service
 public class ProductServiceImpl implements ProductService {
 
     private static final Logger log = LoggerFactory.getLogger(ProductServiceImpl.class);
     private final ProductRepository productRepository;
+    private final CartRepository cartRepository;
     private final ModelMapper modelMapper;
 
-    public ProductServiceImpl(ProductRepository productRepository, ModelMapper modelMapper) {
+    public ProductServiceImpl(ProductRepository productRepository, CartRepository cartRepository, ModelMapper modelMapper) {
         this.productRepository = productRepository;
+        this.cartRepository = cartRepository;
         this.modelMapper = modelMapper;
     }
 
@@ -137,6 +147,47 @@ public class ProductServiceImpl implements ProductService {
         }
     }
 
+    @Override
+    public Slice<ProductDto> getAllProductsSlice(Pageable pageable) {
+        try {
+            log.info("Fetching slice of products - page: {}, size: {}", pageable.getPageNumber(), pageable.getPageSize());
+            return productRepository.findSliceByDeletedFalse(pageable)
+                    .map(product -> modelMapper.map(product, ProductDto.class));
+        } catch (DataAccessException e) {
+            log.error("Database error while fetching products slice", e);
+            throw new ServiceUnavailable("Unable to retrieve products. Please try again later.");
+        }
+    }
+
+    @Override
+    public CursorPageDto<ProductDto> scrollProducts(String cursor, int size) {
+        log.info("Scrolling products with page size: {}", size);
+        KeysetCursor.validatePageSize(size);
+
+        List<Product> products;
+        try {
+            if (cursor == null || cursor.isBlank()) {
+                products = productRepository.findByDeletedFalseOrderByIdDesc(Limit.of(size + 1));
+            } else {
+                products = productRepository.findByDeletedFalseAndIdLessThanOrderByIdDesc(
+                        KeysetCursor.decode(cursor).getId(), Limit.of(size + 1));
+            }
+        } catch (DataAccessException e) {
+            log.error("Database error while scrolling products", e);
+            throw new ServiceUnavailable("Unable to retrieve products. Please try again later.");
+        }
+
+        String nextCursor = null;
+        if (products.size() > size) {
+            products = products.subList(0, size);
+            Long lastId = products.get(size - 1).getId();
+            nextCursor = KeysetCursor.encode(lastId, lastId);
+        }
+        return new CursorPageDto<>(products.stream()
+                .map(product -> modelMapper.map(product, ProductDto.class))
+                .collect(Collectors.toList()), nextCursor);
+    }
+
     @Override
     @Cacheable(value = "filteredProducts", key = "#category + '-' + #minPrice + '-' + #maxPrice + '-' + #pageable.pageNumber + '-' + #pageable.pageSize")
     public Page<ProductDto> filterProducts(String category, Double minPrice, Double maxPrice, Pageable pageable) {
@@ -253,6 +304,7 @@ public class ProductServiceImpl implements ProductService {
             Product updatedProduct;
             try {
                 updatedProduct = productRepository.save(product);
+                cartRepository.incrementVersionForProduct(productId);
             } catch (DataIntegrityViolationException e) {
                 log.error("Data integrity violation while updating product ID: {}", productId, e);
                 throw new DataIntegrityViolation("Product update failed due to data constraints");
@@ -301,6 +353,7 @@ public class ProductServiceImpl implements ProductService {
 
             try {
                 productRepository.save(product);
+                cartRepository.incrementVersionForProduct(productId);
             } catch (DataAccessException e) {
                 log.error("Database error while soft deleting product ID: {}", productId, e);
                 throw new ServiceUnavailable("Unable to delete product. Please try again later.");
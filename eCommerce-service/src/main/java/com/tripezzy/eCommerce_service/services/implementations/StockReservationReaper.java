@@ -0,0 +1,51 @@
+package com.tripezzy.eCommerce_service.services.implementations;
+
+import com.tripezzy.eCommerce_service.repositories.StockReservationRepository;
+import com.tripezzy.eCommerce_service.services.StockReservationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Gives back stock for checkouts that were abandoned or whose payment never completed.
+@Component
+public class StockReservationReaper {
+
+    private static final Logger log = LoggerFactory.getLogger(StockReservationReaper.class);
+
+    private final StockReservationRepository reservationRepository;
+    private final StockReservationService reservationService;
+    private final int batchSize;
+
+    public StockReservationReaper(StockReservationRepository reservationRepository,
+                                  StockReservationService reservationService,
+                                  @Value("${checkout.reservation.reap-batch-size:100}") int batchSize) {
+        this.reservationRepository = reservationRepository;
+        this.reservationService = reservationService;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${checkout.reservation.reap-interval-ms:60000}")
+    public void releaseExpired() {
+        try {
+            List<Long> cartIds = reservationRepository.findExpiredCartIds(LocalDateTime.now(), Limit.of(batchSize));
+            int released = 0;
+            for (Long cartId : cartIds) {
+                if (reservationService.releaseIfExpired(cartId)) {
+                    released++;
+                }
+            }
+            if (released > 0) {
+                log.info("Released {} expired stock holds", released);
+            }
+        } catch (DataAccessException e) {
+            log.error("Failed to release expired stock holds, will retry", e);
+        }
+    }
+}
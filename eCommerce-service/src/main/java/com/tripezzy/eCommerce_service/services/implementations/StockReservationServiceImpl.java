@@ -0,0 +1,130 @@
+package com.tripezzy.eCommerce_service.services.implementations;
+
+import com.tripezzy.eCommerce_service.dto.CheckoutLineItemDto;
+import com.tripezzy.eCommerce_service.entity.Cart;
+import com.tripezzy.eCommerce_service.entity.StockReservation;
+import com.tripezzy.eCommerce_service.exceptions.AccessForbidden;
+import com.tripezzy.eCommerce_service.exceptions.ResourceNotFound;
+import com.tripezzy.eCommerce_service.exceptions.RuntimeConflict;
+import com.tripezzy.eCommerce_service.repositories.CartRepository;
+import com.tripezzy.eCommerce_service.repositories.ProductRepository;
+import com.tripezzy.eCommerce_service.repositories.StockReservationRepository;
+import com.tripezzy.eCommerce_service.services.StockReservationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// One reservation per cart version. Preparing the same cart again (double clicks, client retries)
+// only extends the hold; a changed cart gives back the old hold before taking a new one. Holds
+// outlive the snapshot and the Stripe session it pays for, so an unpaid hold can be released as
+// soon as it expires.
+@Service
+public class StockReservationServiceImpl implements StockReservationService {
+
+    private static final Logger log = LoggerFactory.getLogger(StockReservationServiceImpl.class);
+
+    private final StockReservationRepository reservationRepository;
+    private final ProductRepository productRepository;
+    private final CartRepository cartRepository;
+    private final long holdMinutes;
+
+    public StockReservationServiceImpl(StockReservationRepository reservationRepository,
+                                       ProductRepository productRepository,
+                                       CartRepository cartRepository,
+                                       @Value("${checkout.reservation.hold-minutes:45}") long holdMinutes) {
+        this.reservationRepository = reservationRepository;
+        this.productRepository = productRepository;
+        this.cartRepository = cartRepository;
+        this.holdMinutes = holdMinutes;
+    }
+
+    // Runs inside the caller's transaction, which must already hold the cart lock.
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public LocalDateTime hold(Long cartId, long cartVersion, List<CheckoutLineItemDto> items) {
+        LocalDateTime holdUntil = LocalDateTime.now().plusMinutes(holdMinutes);
+        List<StockReservation> existing = reservationRepository.findByCartId(cartId);
+
+        if (!existing.isEmpty() && existing.stream().allMatch(r -> r.getCartVersion() == cartVersion)) {
+            reservationRepository.extendHold(cartId, holdUntil);
+            log.debug("Extended stock hold for cart ID: {} version {}", cartId, cartVersion);
+            return holdUntil;
+        }
+        giveBack(existing);
+
+        List<StockReservation> reservations = new ArrayList<>(items.size());
+        for (CheckoutLineItemDto item : items) {
+            if (productRepository.reserveStock(item.getProductId(), item.getQuantity()) == 0) {
+                throw new RuntimeConflict("Insufficient stock for product: " + item.getName());
+            }
+            reservations.add(new StockReservation(cartId, cartVersion, item.getProductId(), item.getQuantity(), holdUntil));
+        }
+        reservationRepository.saveAll(reservations);
+        log.info("Reserved stock for cart ID: {} version {} until {}", cartId, cartVersion, holdUntil);
+        return holdUntil;
+    }
+
+    @Override
+    @Transactional
+    public void release(Long cartId, Long userId) {
+        lockOwnedCart(cartId, userId);
+        List<StockReservation> reservations = reservationRepository.findByCartId(cartId);
+        giveBack(reservations);
+        log.info("Released stock hold for cart ID: {} ({} lines)", cartId, reservations.size());
+    }
+
+    @Override
+    @Transactional
+    public void confirm(Long cartId, Long userId) {
+        lockOwnedCart(cartId, userId);
+        int confirmed = reservationRepository.deleteByCartId(cartId);
+        if (confirmed == 0) {
+            log.warn("Payment completed for cart ID: {} without an active stock hold", cartId);
+        } else {
+            log.info("Confirmed stock hold for cart ID: {} ({} lines)", cartId, confirmed);
+        }
+    }
+
+    @Override
+    @Transactional
+    public boolean releaseIfExpired(Long cartId) {
+        if (cartRepository.findLockedById(cartId).isEmpty()) {
+            reservationRepository.deleteByCartId(cartId);
+            return false;
+        }
+        // Re-read under the lock: the cart may have been prepared again since it was listed.
+        List<StockReservation> reservations = reservationRepository.findByCartId(cartId);
+        LocalDateTime now = LocalDateTime.now();
+        if (reservations.isEmpty() || reservations.stream().anyMatch(r -> !r.getExpiresAt().isBefore(now))) {
+            return false;
+        }
+        giveBack(reservations);
+        log.info("Released expired stock hold for cart ID: {}", cartId);
+        return true;
+    }
+
+    private void giveBack(List<StockReservation> reservations) {
+        if (reservations.isEmpty()) {
+            return;
+        }
+        for (StockReservation reservation : reservations) {
+            productRepository.releaseStock(reservation.getProductId(), reservation.getQuantity());
+        }
+        reservationRepository.deleteByCartId(reservations.get(0).getCartId());
+    }
+
+    private void lockOwnedCart(Long cartId, Long userId) {
+        Cart cart = cartRepository.findLockedById(cartId)
+                .orElseThrow(() -> new ResourceNotFound("Cart not found with ID: " + cartId));
+        if (!cart.getUserId().equals(userId)) {
+            throw new AccessForbidden("Cart does not belong to user ID: " + userId);
+        }
+    }
+}
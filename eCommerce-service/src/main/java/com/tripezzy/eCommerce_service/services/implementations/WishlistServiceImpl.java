@@ -2,49 +2,44 @@ package com.tripezzy.eCommerce_service.services.implementations;
 
 import com.tripezzy.eCommerce_service.auth.UserContext;
 import com.tripezzy.eCommerce_service.auth.UserContextHolder;
-import com.tripezzy.eCommerce_service.dto.ProductDto;
-import com.tripezzy.eCommerce_service.dto.WishlistDto;
-import com.tripezzy.eCommerce_service.entity.Product;
-import com.tripezzy.eCommerce_service.entity.Wishlist;
+import com.tripezzy.eCommerce_service.dto.CursorPageDto;
+import com.tripezzy.eCommerce_service.dto.WishlistItemDto;
 import com.tripezzy.eCommerce_service.exceptions.*;
-import com.tripezzy.eCommerce_service.repositories.ProductRepository;
-import com.tripezzy.eCommerce_service.repositories.WishlistRepository;
+import com.tripezzy.eCommerce_service.pagination.KeysetCursor;
+import com.tripezzy.eCommerce_service.repositories.WishlistItemRepository;
 import com.tripezzy.eCommerce_service.services.WishlistService;
-import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.DataAccessException;
-import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Service
 public class WishlistServiceImpl implements WishlistService {
 
     private static final Logger log = LoggerFactory.getLogger(WishlistServiceImpl.class);
-    private final WishlistRepository wishlistRepository;
-    private final ProductRepository productRepository;
-    private final ModelMapper modelMapper;
-
-    public WishlistServiceImpl(WishlistRepository wishlistRepository,
-                               ModelMapper modelMapper,
-                               ProductRepository productRepository) {
-        this.wishlistRepository = wishlistRepository;
-        this.modelMapper = modelMapper;
-        this.productRepository = productRepository;
+    private static final int MAX_BULK_SIZE = 100;
+    private final WishlistItemRepository wishlistItemRepository;
+
+    public WishlistServiceImpl(WishlistItemRepository wishlistItemRepository) {
+        this.wishlistItemRepository = wishlistItemRepository;
     }
 
     @Override
     @Transactional
-    public WishlistDto addToWishlist(Long productId) {
+    public void addToWishlist(Long productId) {
         try {
             log.info("Adding product to wishlist for ID: {}", productId);
 
@@ -52,65 +47,28 @@ public class WishlistServiceImpl implements WishlistService {
                 throw new BadRequestException("Invalid product ID: " + productId);
             }
 
-            UserContext userContext = UserContextHolder.getUserDetails();
-            if (userContext == null) {
-                throw new AccessForbidden("User authentication required");
-            }
-
-            Long userId = userContext.getUserId();
-            if (userId == null || userId <= 0) {
-                throw new BadRequestException("Invalid user ID in context");
-            }
-
-            Product product = productRepository.findById(productId)
-                    .orElseThrow(() -> new ResourceNotFound("Product not found with ID: " + productId));
-
-            Wishlist wishlist;
-            try {
-                wishlist = wishlistRepository.findByUserId(userId)
-                        .orElseGet(() -> {
-                            Wishlist newWishlist = new Wishlist();
-                            newWishlist.setUserId(userId);
-                            return newWishlist;
-                        });
-            } catch (DataAccessException e) {
-                log.error("Database error while fetching wishlist for user ID: {}", userId, e);
-                throw new ServiceUnavailable("Unable to access wishlist data. Please try again later.");
-            }
-
-            if (wishlist.getProducts().contains(product)) {
-                throw new RuntimeConflict("Product is already in the wishlist");
-            }
-
-            wishlist.addProduct(product);
+            Long userId = currentUserId();
 
-            Wishlist savedWishlist;
+            int inserted;
             try {
-                savedWishlist = wishlistRepository.save(wishlist);
-            } catch (DataIntegrityViolationException e) {
-                log.error("Data integrity violation while saving wishlist for user ID: {}", userId, e);
-                throw new DataIntegrityViolation("Failed to update wishlist due to data constraints");
+                inserted = wishlistItemRepository.insertIgnoringDuplicates(userId, List.of(productId));
             } catch (DataAccessException e) {
                 log.error("Database error while saving wishlist for user ID: {}", userId, e);
                 throw new ServiceUnavailable("Unable to save wishlist data. Please try again later.");
             }
 
-            log.info("Product added to wishlist successfully with ID: {}", savedWishlist.getId());
-
-            // Map to DTO
-            WishlistDto wishlistDto = new WishlistDto();
-            wishlistDto.setUserId(savedWishlist.getUserId());
-
-            List<ProductDto> productDtos = savedWishlist.getProducts().stream()
-                    .map(prod -> modelMapper.map(prod, ProductDto.class))
-                    .toList();
-            wishlistDto.setProductDtos(productDtos);
+            if (inserted == 0) {
+                if (wishlistItemRepository.existsByUserIdAndProductId(userId, productId)) {
+                    throw new RuntimeConflict("Product is already in the wishlist");
+                }
+                throw new ResourceNotFound("Product not found with ID: " + productId);
+            }
 
-            return wishlistDto;
+            log.info("Product {} added to wishlist for user ID: {}", productId, userId);
 
         } catch (RuntimeException e) {
             log.error("Unexpected error while adding to wishlist for product ID: {}", productId, e);
-            if (e instanceof ResponseStatusException || e instanceof DataIntegrityViolationException) {
+            if (e instanceof ResponseStatusException || e instanceof ResourceNotFound || e instanceof RuntimeConflict) {
                 throw e;
             }
             throw new IllegalState("An unexpected error occurred while processing your request");
@@ -118,117 +76,220 @@ public class WishlistServiceImpl implements WishlistService {
     }
 
     @Override
-    @Cacheable(value = "wishlist", key = "#userId + '-' + #pageable.pageNumber + '-' + #pageable.pageSize")
-    public Page<WishlistDto> getWishlistByUserId(Pageable pageable) {
+    @Transactional(readOnly = true)
+    public Page<WishlistItemDto> getWishlistByUserId(Pageable pageable) {
         try {
             if (pageable == null) {
                 throw new BadRequestException("Pagination parameters are required");
             }
 
-            UserContext userContext = UserContextHolder.getUserDetails();
-            if (userContext == null) {
-                throw new AccessForbidden("User authentication required");
-            }
-
-            Long userId = userContext.getUserId();
-            if (userId == null || userId <= 0) {
-                throw new BadRequestException("Invalid user ID in context");
-            }
-
+            Long userId = currentUserId();
             log.info("Fetching wishlist for user ID: {}", userId);
 
-            Page<Wishlist> wishlistPage;
+            Pageable page = pageable.getSort().isSorted()
+                    ? pageable
+                    : PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(Sort.Direction.DESC, "createdAt"));
+
             try {
-                wishlistPage = wishlistRepository.findByUserId(userId, pageable);
+                return wishlistItemRepository.findItemsByUserId(userId, page);
             } catch (DataAccessException e) {
                 log.error("Database error while fetching wishlist for user ID: {}", userId, e);
                 throw new ServiceUnavailable("Unable to retrieve wishlist data. Please try again later.");
             }
 
-            return wishlistPage.map(wishlist -> {
-                WishlistDto wishlistDto = modelMapper.map(wishlist, WishlistDto.class);
+        } catch (RuntimeException e) {
+            log.error("Unexpected error while fetching wishlist", e);
+            if (e instanceof ResponseStatusException) {
+                throw e;
+            }
+            throw new IllegalState("An unexpected error occurred while processing your request");
+        }
+    }
 
-                List<ProductDto> productDtos = wishlist.getProducts().stream()
-                        .map(product -> modelMapper.map(product, ProductDto.class))
-                        .collect(Collectors.toList());
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<WishlistItemDto> getWishlistSliceByUserId(Pageable pageable) {
+        Long userId = currentUserId();
+        log.info("Fetching wishlist slice for user ID: {}", userId);
 
-                wishlistDto.setProductDtos(productDtos);
+        Pageable page = pageable.getSort().isSorted()
+                ? pageable
+                : PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(Sort.Direction.DESC, "createdAt"));
 
-                return wishlistDto;
-            });
+        try {
+            return wishlistItemRepository.findItemSliceByUserId(userId, page);
+        } catch (DataAccessException e) {
+            log.error("Database error while fetching wishlist slice for user ID: {}", userId, e);
+            throw new ServiceUnavailable("Unable to retrieve wishlist data. Please try again later.");
+        }
+    }
 
-        } catch (RuntimeException e) {
-            log.error("Unexpected error while fetching wishlist", e);
-            if (e instanceof ResponseStatusException || e instanceof DataAccessException) {
-                throw e; // Re-throw already handled exceptions
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<WishlistItemDto> scrollWishlist(String cursor, int size) {
+        KeysetCursor.validatePageSize(size);
+        Long userId = currentUserId();
+        log.info("Scrolling wishlist for user ID: {}", userId);
+
+        List<WishlistItemDto> items;
+        try {
+            if (cursor == null || cursor.isBlank()) {
+                items = wishlistItemRepository.findItemPageByUserId(userId, Limit.of(size + 1));
+            } else {
+                KeysetCursor after = KeysetCursor.decode(cursor);
+                items = wishlistItemRepository.findItemPageByUserIdAfter(
+                        userId, after.getSortKeyAsDateTime(), after.getId(), Limit.of(size + 1));
             }
-            throw new IllegalState("An unexpected error occurred while processing your request");
+        } catch (DataAccessException e) {
+            log.error("Database error while scrolling wishlist for user ID: {}", userId, e);
+            throw new ServiceUnavailable("Unable to retrieve wishlist data. Please try again later.");
         }
+
+        String nextCursor = null;
+        if (items.size() > size) {
+            items = items.subList(0, size);
+            WishlistItemDto last = items.get(size - 1);
+            nextCursor = KeysetCursor.encode(last.getAddedAt(), last.getProductId());
+        }
+        return new CursorPageDto<>(items, nextCursor);
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = "wishlist", key = "#wishlistId")
-    public void removeFromWishlist(Long wishlistId, Long productId) {
+    public void removeFromWishlist(Long productId) {
         try {
-            log.info("Removing product with ID: {} from wishlist ID: {}", productId, wishlistId);
+            log.info("Removing product with ID: {} from wishlist", productId);
 
-            // Validate inputs
-            if (wishlistId == null || wishlistId <= 0) {
-                throw new BadRequestException("Invalid wishlist ID: " + wishlistId);
-            }
             if (productId == null || productId <= 0) {
                 throw new BadRequestException("Invalid product ID: " + productId);
             }
 
-            UserContext userContext = UserContextHolder.getUserDetails();
-            if (userContext == null) {
-                throw new AccessForbidden("User authentication required");
+            Long userId = currentUserId();
+
+            int removed;
+            try {
+                removed = wishlistItemRepository.deleteByUserIdAndProductIds(userId, List.of(productId));
+            } catch (DataAccessException e) {
+                log.error("Database error while updating wishlist for user ID: {}", userId, e);
+                throw new ServiceUnavailable("Unable to update wishlist. Please try again later.");
+            }
+
+            if (removed == 0) {
+                throw new ResourceNotFound("Product not found in wishlist with ID: " + productId);
             }
 
-            Long userId = userContext.getUserId();
-            if (userId == null || userId <= 0) {
-                throw new BadRequestException("Invalid user ID in context");
+            log.info("Product {} removed from wishlist for user ID: {}", productId, userId);
+
+        } catch (RuntimeException e) {
+            log.error("Unexpected error while removing product ID: {} from wishlist", productId, e);
+            if (e instanceof ResponseStatusException || e instanceof ResourceNotFound) {
+                throw e;
             }
+            throw new IllegalState("An unexpected error occurred while processing your request");
+        }
+    }
+
+    @Override
+    @Transactional
+    public int addAllToWishlist(List<Long> productIds) {
+        try {
+            Set<Long> ids = validateProductIds(productIds);
+            Long userId = currentUserId();
+
+            log.info("Adding {} products to wishlist for user ID: {}", ids.size(), userId);
 
-            Wishlist wishlist;
             try {
-                wishlist = wishlistRepository.findById(wishlistId)
-                        .orElseThrow(() -> new ResourceNotFound("Wishlist not found with ID: " + wishlistId));
+                return wishlistItemRepository.insertIgnoringDuplicates(userId, ids);
             } catch (DataAccessException e) {
-                log.error("Database error while fetching wishlist ID: {}", wishlistId, e);
-                throw new ServiceUnavailable("Unable to access wishlist data. Please try again later.");
+                log.error("Database error while saving wishlist for user ID: {}", userId, e);
+                throw new ServiceUnavailable("Unable to save wishlist data. Please try again later.");
             }
 
-            if (!wishlist.getUserId().equals(userId)) {
-                throw new AccessForbidden("You are not authorized to modify this wishlist");
+        } catch (RuntimeException e) {
+            log.error("Unexpected error while adding products to wishlist", e);
+            if (e instanceof ResponseStatusException) {
+                throw e;
             }
+            throw new IllegalState("An unexpected error occurred while processing your request");
+        }
+    }
 
-            boolean removed = wishlist.getProducts().removeIf(product -> product.getId().equals(productId));
+    @Override
+    @Transactional
+    public int removeAllFromWishlist(List<Long> productIds) {
+        try {
+            Set<Long> ids = validateProductIds(productIds);
+            Long userId = currentUserId();
 
-            if (!removed) {
-                throw new ResourceNotFound("Product not found in wishlist with ID: " + productId);
-            }
+            log.info("Removing {} products from wishlist for user ID: {}", ids.size(), userId);
 
             try {
-                if (wishlist.getProducts().isEmpty()) {
-                    wishlistRepository.delete(wishlist);
-                    log.info("Wishlist deleted as it was empty, ID: {}", wishlistId);
-                } else {
-                    wishlistRepository.save(wishlist);
-                    log.info("Product removed successfully from wishlist, ID: {}", wishlistId);
-                }
+                return wishlistItemRepository.deleteByUserIdAndProductIds(userId, ids);
             } catch (DataAccessException e) {
-                log.error("Database error while updating wishlist ID: {}", wishlistId, e);
+                log.error("Database error while updating wishlist for user ID: {}", userId, e);
                 throw new ServiceUnavailable("Unable to update wishlist. Please try again later.");
             }
 
         } catch (RuntimeException e) {
-            log.error("Unexpected error while removing from wishlist ID: {}, product ID: {}", wishlistId, productId, e);
-            if (e instanceof ResponseStatusException || e instanceof DataAccessException) {
+            log.error("Unexpected error while removing products from wishlist", e);
+            if (e instanceof ResponseStatusException) {
                 throw e;
             }
             throw new IllegalState("An unexpected error occurred while processing your request");
         }
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Set<Long> getWishlistedProductIds(List<Long> productIds) {
+        try {
+            Set<Long> ids = validateProductIds(productIds);
+            Long userId = currentUserId();
+
+            try {
+                return new HashSet<>(wishlistItemRepository.findProductIdsInWishlist(userId, ids));
+            } catch (DataAccessException e) {
+                log.error("Database error while checking wishlist for user ID: {}", userId, e);
+                throw new ServiceUnavailable("Unable to retrieve wishlist data. Please try again later.");
+            }
+
+        } catch (RuntimeException e) {
+            log.error("Unexpected error while checking wishlist membership", e);
+            if (e instanceof ResponseStatusException) {
+                throw e;
+            }
+            throw new IllegalState("An unexpected error occurred while processing your request");
+        }
+    }
+
+    private Long currentUserId() {
+        UserContext userContext = UserContextHolder.getUserDetails();
+        if (userContext == null) {
+            throw new AccessForbidden("User authentication required");
+        }
+
+        Long userId = userContext.getUserId();
+        if (userId == null || userId <= 0) {
+            throw new BadRequestException("Invalid user ID in context");
+        }
+        return userId;
+    }
+
+    private Set<Long> validateProductIds(List<Long> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            throw new BadRequestException("Product IDs cannot be empty");
+        }
+        if (productIds.size() > MAX_BULK_SIZE) {
+            throw new BadRequestException("At most " + MAX_BULK_SIZE + " products can be processed at once");
+        }
+
+        Set<Long> ids = new LinkedHashSet<>(productIds.size());
+        for (Long productId : productIds) {
+            if (productId == null || productId <= 0) {
+                throw new BadRequestException("Invalid product ID: " + productId);
+            }
+            ids.add(productId);
+        }
+        return ids;
+    }
 }
@@ -0,0 +1,63 @@
+package com.tripezzy.eCommerce_service.strategy;
+
+import java.util.Arrays;
+import java.util.stream.LongStream;
+
+public final class DiscountRuleSet {
+
+    public static final DiscountRuleSet EMPTY = new DiscountRuleSet(0L, new DiscountStrategy[0], new long[0], new long[0]);
+
+    private final long version;
+    private final DiscountStrategy[] strategies;
+    private final long[] startsAt;
+    private final long[] endsAt;
+    private final long[] boundaries;
+
+    public DiscountRuleSet(long version, DiscountStrategy[] strategies, long[] startsAt, long[] endsAt) {
+        if (strategies.length != startsAt.length || strategies.length != endsAt.length) {
+            throw new IllegalArgumentException("Rule windows must match the number of rules");
+        }
+        this.version = version;
+        this.strategies = strategies.clone();
+        this.startsAt = startsAt.clone();
+        this.endsAt = endsAt.clone();
+        this.boundaries = LongStream.concat(Arrays.stream(startsAt), Arrays.stream(endsAt))
+                .filter(boundary -> boundary != Long.MIN_VALUE && boundary != Long.MAX_VALUE)
+                .sorted()
+                .distinct()
+                .toArray();
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int size() {
+        return strategies.length;
+    }
+
+    // The set of rules in effect only changes at a start or end boundary, so two instants with the
+    // same latest boundary behind them always price a cart identically.
+    public long windowStart(long nowMillis) {
+        int index = Arrays.binarySearch(boundaries, nowMillis);
+        if (index >= 0) {
+            return boundaries[index];
+        }
+        int insertionPoint = -index - 1;
+        return insertionPoint == 0 ? Long.MIN_VALUE : boundaries[insertionPoint - 1];
+    }
+
+    public long lineDiscountCents(long unitPriceCents, int quantity, String category, long nowMillis) {
+        long best = 0;
+        for (int i = 0; i < strategies.length; i++) {
+            if (nowMillis < startsAt[i] || nowMillis >= endsAt[i]) {
+                continue;
+            }
+            long discount = strategies[i].discountCents(unitPriceCents, quantity, category);
+            if (discount > best) {
+                best = discount;
+            }
+        }
+        return Math.min(best, unitPriceCents * quantity);
+    }
+}
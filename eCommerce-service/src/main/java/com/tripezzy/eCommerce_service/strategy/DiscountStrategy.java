@@ -1,7 +1,10 @@
 package com.tripezzy.eCommerce_service.strategy;
 
-import com.tripezzy.eCommerce_service.entity.CartItem;
-
 public interface DiscountStrategy {
-    double applyDiscount(CartItem cartItem);
+
+    long discountCents(long unitPriceCents, int quantity, String category);
+
+    static long percentOf(long amountCents, int basisPoints) {
+        return (amountCents * basisPoints + 5_000) / 10_000;
+    }
 }
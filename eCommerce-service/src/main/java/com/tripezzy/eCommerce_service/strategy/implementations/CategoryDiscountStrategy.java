@@ -0,0 +1,26 @@
+package com.tripezzy.eCommerce_service.strategy.implementations;
+
+import com.tripezzy.eCommerce_service.strategy.DiscountStrategy;
+
+public final class CategoryDiscountStrategy implements DiscountStrategy {
+
+    private final int basisPoints;
+    private final String category;
+
+    public CategoryDiscountStrategy(int basisPoints, String category) {
+        this.basisPoints = basisPoints;
+        this.category = category;
+    }
+
+    @Override
+    public long discountCents(long unitPriceCents, int quantity, String category) {
+        if (!inScope(this.category, category)) {
+            return 0;
+        }
+        return DiscountStrategy.percentOf(unitPriceCents * quantity, basisPoints);
+    }
+
+    static boolean inScope(String ruleCategory, String itemCategory) {
+        return ruleCategory == null || ruleCategory.equalsIgnoreCase(itemCategory);
+    }
+}
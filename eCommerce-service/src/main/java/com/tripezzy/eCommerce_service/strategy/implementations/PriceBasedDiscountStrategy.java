@@ -1,21 +1,24 @@
 package com.tripezzy.eCommerce_service.strategy.implementations;
 
-import com.tripezzy.eCommerce_service.entity.CartItem;
 import com.tripezzy.eCommerce_service.strategy.DiscountStrategy;
 
-public class PriceBasedDiscountStrategy implements DiscountStrategy {
+public final class PriceBasedDiscountStrategy implements DiscountStrategy {
 
-    private final double discountPercentage;
+    private final int basisPoints;
+    private final long minUnitPriceCents;
+    private final String category;
 
-    public PriceBasedDiscountStrategy(double discountPercentage) {
-        this.discountPercentage = discountPercentage;
+    public PriceBasedDiscountStrategy(int basisPoints, long minUnitPriceCents, String category) {
+        this.basisPoints = basisPoints;
+        this.minUnitPriceCents = minUnitPriceCents;
+        this.category = category;
     }
 
     @Override
-    public double applyDiscount(CartItem cartItem) {
-        double price = cartItem
-                .getProduct()
-                .getPrice();
-        return price * (1 - discountPercentage / 100);
+    public long discountCents(long unitPriceCents, int quantity, String category) {
+        if (unitPriceCents < minUnitPriceCents || !CategoryDiscountStrategy.inScope(this.category, category)) {
+            return 0;
+        }
+        return DiscountStrategy.percentOf(unitPriceCents * quantity, basisPoints);
     }
 }
@@ -1,31 +1,24 @@
 package com.tripezzy.eCommerce_service.strategy.implementations;
 
-import com.tripezzy.eCommerce_service.entity.CartItem;
 import com.tripezzy.eCommerce_service.strategy.DiscountStrategy;
 
-public class QuantityBasedDiscountStrategy implements DiscountStrategy {
+public final class QuantityBasedDiscountStrategy implements DiscountStrategy {
 
-    private final double discountPercentage;
+    private final int basisPoints;
     private final int quantityThreshold;
+    private final String category;
 
-    public QuantityBasedDiscountStrategy(double discountPercentage, int quantityThreshold) {
-        this.discountPercentage = discountPercentage;
+    public QuantityBasedDiscountStrategy(int basisPoints, int quantityThreshold, String category) {
+        this.basisPoints = basisPoints;
         this.quantityThreshold = quantityThreshold;
+        this.category = category;
     }
 
     @Override
-    public double applyDiscount(CartItem cartItem) {
-
-        int quantity = cartItem
-                .getQuantity();
-        double price = cartItem
-                .getProduct()
-                .getPrice();
-
-        if(quantity >= quantityThreshold){
-            return price * (1 - discountPercentage / 100);
+    public long discountCents(long unitPriceCents, int quantity, String category) {
+        if (quantity < quantityThreshold || !CategoryDiscountStrategy.inScope(this.category, category)) {
+            return 0;
         }
-
-        return price;
+        return DiscountStrategy.percentOf(unitPriceCents * quantity, basisPoints);
     }
 }
@@ -0,0 +1,28 @@
+package com.tripezzy.eCommerce_service.strategy.implementations;
+
+import com.tripezzy.eCommerce_service.strategy.DiscountStrategy;
+
+public final class TieredDiscountStrategy implements DiscountStrategy {
+
+    private final int[] minQuantities;
+    private final int[] basisPoints;
+    private final String category;
+
+    public TieredDiscountStrategy(int[] minQuantities, int[] basisPoints, String category) {
+        this.minQuantities = minQuantities;
+        this.basisPoints = basisPoints;
+        this.category = category;
+    }
+
+    @Override
+    public long discountCents(long unitPriceCents, int quantity, String category) {
+        if (!CategoryDiscountStrategy.inScope(this.category, category)) {
+            return 0;
+        }
+        int tier = -1;
+        for (int i = 0; i < minQuantities.length && quantity >= minQuantities[i]; i++) {
+            tier = i;
+        }
+        return tier < 0 ? 0 : DiscountStrategy.percentOf(unitPriceCents * quantity, basisPoints[tier]);
+    }
+}
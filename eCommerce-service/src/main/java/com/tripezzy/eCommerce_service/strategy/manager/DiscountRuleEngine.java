@@ -0,0 +1,163 @@
+package com.tripezzy.eCommerce_service.strategy.manager;
+
+import com.tripezzy.eCommerce_service.entity.DiscountRule;
+import com.tripezzy.eCommerce_service.entity.DiscountTier;
+import com.tripezzy.eCommerce_service.repositories.DiscountRuleRepository;
+import com.tripezzy.eCommerce_service.strategy.DiscountRuleSet;
+import com.tripezzy.eCommerce_service.strategy.DiscountStrategy;
+import com.tripezzy.eCommerce_service.strategy.implementations.CategoryDiscountStrategy;
+import com.tripezzy.eCommerce_service.strategy.implementations.PriceBasedDiscountStrategy;
+import com.tripezzy.eCommerce_service.strategy.implementations.QuantityBasedDiscountStrategy;
+import com.tripezzy.eCommerce_service.strategy.implementations.TieredDiscountStrategy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Component
+public class DiscountRuleEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(DiscountRuleEngine.class);
+    private final DiscountRuleRepository discountRuleRepository;
+    // Rule windows and updated_at are LocalDateTime values written in the JVM's zone (auditing uses
+    // LocalDateTime.now()), so they are read back in that zone and checked against the same clock.
+    private final Clock clock = Clock.systemDefaultZone();
+    private final AtomicReference<DiscountRuleSet> ruleSet = new AtomicReference<>(DiscountRuleSet.EMPTY);
+
+    public DiscountRuleEngine(DiscountRuleRepository discountRuleRepository) {
+        this.discountRuleRepository = discountRuleRepository;
+    }
+
+    public DiscountRuleSet current() {
+        return ruleSet.get();
+    }
+
+    public long currentTimeMillis() {
+        return clock.millis();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${discount.rules.refresh-interval-ms:30000}")
+    public void refreshIfChanged() {
+        try {
+            if (latestVersion() != ruleSet.get().getVersion()) {
+                reload();
+            }
+        } catch (DataAccessException e) {
+            log.warn("Unable to check discount rules for changes, keeping version {}", ruleSet.get().getVersion(), e);
+        }
+    }
+
+    public synchronized void reload() {
+        long version = latestVersion();
+        List<DiscountRule> rules = discountRuleRepository.findByActiveTrue();
+
+        int size = rules.size();
+        DiscountStrategy[] strategies = new DiscountStrategy[size];
+        long[] startsAt = new long[size];
+        long[] endsAt = new long[size];
+
+        for (int i = 0; i < size; i++) {
+            DiscountRule rule = rules.get(i);
+            strategies[i] = compile(rule);
+            startsAt[i] = rule.getStartsAt() == null ? Long.MIN_VALUE : toEpochMillis(rule.getStartsAt());
+            endsAt[i] = rule.getEndsAt() == null ? Long.MAX_VALUE : toEpochMillis(rule.getEndsAt());
+        }
+
+        ruleSet.set(new DiscountRuleSet(version, strategies, startsAt, endsAt));
+        log.info("Loaded {} discount rules, version {}", size, version);
+    }
+
+    public static DiscountStrategy compile(DiscountRule rule) {
+        if (rule.getType() == null) {
+            throw new IllegalArgumentException("Discount rule type is required");
+        }
+        if (rule.getStartsAt() != null && rule.getEndsAt() != null && !rule.getEndsAt().isAfter(rule.getStartsAt())) {
+            throw new IllegalArgumentException("Discount rule must end after it starts");
+        }
+
+        String category = rule.getCategory() == null || rule.getCategory().isBlank() ? null : rule.getCategory();
+
+        return switch (rule.getType()) {
+            case PRICE -> new PriceBasedDiscountStrategy(
+                    toBasisPoints(rule.getPercentage()),
+                    rule.getMinUnitPrice() == null ? 0 : toCents(rule.getMinUnitPrice()),
+                    category);
+            case QUANTITY -> {
+                if (rule.getMinQuantity() == null || rule.getMinQuantity() <= 0) {
+                    throw new IllegalArgumentException("Quantity discounts need a positive minimum quantity");
+                }
+                yield new QuantityBasedDiscountStrategy(toBasisPoints(rule.getPercentage()), rule.getMinQuantity(), category);
+            }
+            case CATEGORY -> {
+                if (category == null) {
+                    throw new IllegalArgumentException("Category discounts need a category");
+                }
+                yield new CategoryDiscountStrategy(toBasisPoints(rule.getPercentage()), category);
+            }
+            case TIERED -> compileTiers(rule.getTiers(), category);
+        };
+    }
+
+    private static DiscountStrategy compileTiers(List<DiscountTier> tiers, String category) {
+        if (tiers == null || tiers.isEmpty()) {
+            throw new IllegalArgumentException("Tiered discounts need at least one tier");
+        }
+        for (DiscountTier tier : tiers) {
+            if (tier.getMinQuantity() == null || tier.getMinQuantity() <= 0) {
+                throw new IllegalArgumentException("Tier minimum quantity must be positive");
+            }
+        }
+
+        List<DiscountTier> sorted = tiers.stream()
+                .sorted(Comparator.comparing(DiscountTier::getMinQuantity))
+                .toList();
+
+        int[] minQuantities = new int[sorted.size()];
+        int[] basisPoints = new int[sorted.size()];
+        for (int i = 0; i < sorted.size(); i++) {
+            DiscountTier tier = sorted.get(i);
+            if (i > 0 && tier.getMinQuantity() == minQuantities[i - 1]) {
+                throw new IllegalArgumentException("Tier minimum quantities must be distinct");
+            }
+            minQuantities[i] = tier.getMinQuantity();
+            basisPoints[i] = toBasisPoints(tier.getPercentage());
+        }
+        return new TieredDiscountStrategy(minQuantities, basisPoints, category);
+    }
+
+    private static int toBasisPoints(BigDecimal percentage) {
+        if (percentage == null || percentage.signum() < 0 || percentage.compareTo(BigDecimal.valueOf(100)) > 0) {
+            throw new IllegalArgumentException("Discount percentage must be between 0 and 100");
+        }
+        return percentage.movePointRight(2).setScale(0, RoundingMode.HALF_UP).intValueExact();
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    private long latestVersion() {
+        LocalDateTime latest = discountRuleRepository.findLatestUpdate();
+        return latest == null ? 0L : toEpochMillis(latest);
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(clock.getZone()).toInstant().toEpochMilli();
+    }
+}
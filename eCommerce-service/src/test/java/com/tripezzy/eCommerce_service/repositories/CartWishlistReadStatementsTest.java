@@ -0,0 +1,162 @@
+package com.tripezzy.eCommerce_service.repositories;
+
+import com.tripezzy.eCommerce_service.dto.WishlistItemDto;
+import com.tripezzy.eCommerce_service.entity.Cart;
+import com.tripezzy.eCommerce_service.entity.CartItem;
+import com.tripezzy.eCommerce_service.entity.Product;
+import com.tripezzy.eCommerce_service.entity.WishlistItem;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Guards the entity-graph and projection reads against N+1 regressions: each read must cost a
+// fixed number of prepared statements however many items the cart or wishlist holds.
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class CartWishlistReadStatementsTest {
+
+    private static final long USER_ID = 7L;
+    private static final int ITEM_COUNT = 5;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private WishlistItemRepository wishlistItemRepository;
+
+    private final List<Product> products = new ArrayList<>();
+    private Long cartId;
+
+    @BeforeEach
+    void setUp() {
+        Cart cart = new Cart();
+        cart.setUserId(USER_ID);
+        cart.setItems(new ArrayList<>());
+
+        LocalDateTime addedAt = LocalDateTime.now().minusDays(1);
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            Product product = entityManager.persist(new Product(null, "Product " + i, "Description " + i,
+                    10.0 + i, 100, "gear", "https://img.example/" + i, null, null, false));
+            products.add(product);
+
+            CartItem item = new CartItem();
+            item.setCart(cart);
+            item.setProduct(product);
+            item.setQuantity(i + 1);
+            cart.getItems().add(item);
+
+            WishlistItem wishlistItem = new WishlistItem();
+            wishlistItem.setUserId(USER_ID);
+            wishlistItem.setProduct(product);
+            wishlistItem.setCreatedAt(addedAt.plusMinutes(i));
+            entityManager.persist(wishlistItem);
+        }
+        cartId = entityManager.persist(cart).getId();
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void cartWithItemsByUserIdLoadsItemsAndProductsInOneStatement() {
+        long statements = countStatements(() -> {
+            Cart cart = cartRepository.findWithItemsByUserId(USER_ID).orElseThrow();
+            cart.getItems().forEach(item -> item.getProduct().getName());
+            return cart;
+        });
+
+        assertThat(statements).isEqualTo(1);
+    }
+
+    @Test
+    void cartWithItemsByIdLoadsItemsAndProductsInOneStatement() {
+        long statements = countStatements(() -> {
+            Cart cart = cartRepository.findWithItemsById(cartId).orElseThrow();
+            cart.getItems().forEach(item -> item.getProduct().getName());
+            return cart;
+        });
+
+        assertThat(statements).isEqualTo(1);
+    }
+
+    @Test
+    void cartVersionIsOneStatement() {
+        assertThat(countStatements(() -> cartRepository.findVersionByUserId(USER_ID).orElseThrow())).isEqualTo(1);
+    }
+
+    @Test
+    void wishlistKeysetPagesAreOneStatementEach() {
+        List<WishlistItemDto> first = new ArrayList<>();
+        long firstStatements = countStatements(() -> first.addAll(
+                wishlistItemRepository.findItemPageByUserId(USER_ID, Limit.of(3))));
+
+        WishlistItemDto last = first.get(first.size() - 1);
+        List<WishlistItemDto> next = new ArrayList<>();
+        long nextStatements = countStatements(() -> next.addAll(wishlistItemRepository.findItemPageByUserIdAfter(
+                USER_ID, last.getAddedAt(), last.getProductId(), Limit.of(3))));
+
+        assertThat(firstStatements).isEqualTo(1);
+        assertThat(nextStatements).isEqualTo(1);
+        assertThat(first).hasSize(3);
+        assertThat(next).hasSize(ITEM_COUNT - 3);
+    }
+
+    @Test
+    void wishlistSliceIsOneStatementAndPageAddsOnlyTheCount() {
+        PageRequest pageRequest = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        long sliceStatements = countStatements(() -> {
+            Slice<WishlistItemDto> slice = wishlistItemRepository.findItemSliceByUserId(USER_ID, pageRequest);
+            return slice.getContent();
+        });
+        long pageStatements = countStatements(() -> {
+            Page<WishlistItemDto> page = wishlistItemRepository.findItemsByUserId(USER_ID, pageRequest);
+            return page.getTotalElements();
+        });
+
+        assertThat(sliceStatements).isEqualTo(1);
+        assertThat(pageStatements).isEqualTo(2);
+    }
+
+    @Test
+    void wishlistMembershipChecksAreOneStatement() {
+        List<Long> productIds = products.stream().map(Product::getId).toList();
+
+        assertThat(countStatements(() -> wishlistItemRepository.findProductIdsInWishlist(USER_ID, productIds)))
+                .isEqualTo(1);
+        assertThat(countStatements(() -> wishlistItemRepository.existsByUserIdAndProductId(USER_ID, productIds.get(0))))
+                .isEqualTo(1);
+    }
+
+    private long countStatements(Supplier<?> read) {
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        read.get();
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,137 @@
+package com.tripezzy.eCommerce_service.strategy;
+
+import com.tripezzy.eCommerce_service.entity.DiscountRule;
+import com.tripezzy.eCommerce_service.entity.DiscountTier;
+import com.tripezzy.eCommerce_service.entity.enums.DiscountRuleType;
+import com.tripezzy.eCommerce_service.strategy.manager.DiscountRuleEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Evaluation cost of a compiled DiscountRuleSet over one cart, the loop CartServiceImpl.priceCart runs.
+// Rules cycle through every rule type, half of them time-windowed, and are built through
+// DiscountRuleEngine.compile so they match what the engine loads. main() also prints the cost per
+// cart line, which is what the rule set is meant to keep flat as carts grow.
+// Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+//           -Dexec.mainClass=com.tripezzy.eCommerce_service.strategy.DiscountRuleSetBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DiscountRuleSetBenchmark {
+
+    private static final String[] CATEGORIES = {"apparel", "gear", "books", "souvenirs", "food"};
+
+    @Param({"10", "100", "1000"})
+    private int rules;
+
+    @Param({"1", "10", "100"})
+    private int cartLines;
+
+    private DiscountRuleSet ruleSet;
+    private long[] unitPriceCents;
+    private int[] quantities;
+    private String[] categories;
+    private long nowMillis;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        nowMillis = System.currentTimeMillis();
+
+        DiscountStrategy[] strategies = new DiscountStrategy[rules];
+        long[] startsAt = new long[rules];
+        long[] endsAt = new long[rules];
+        for (int i = 0; i < rules; i++) {
+            strategies[i] = DiscountRuleEngine.compile(rule(i, random));
+            boolean windowed = i % 2 == 1;
+            startsAt[i] = windowed ? nowMillis - random.nextLong(1, 86_400_000L) : Long.MIN_VALUE;
+            endsAt[i] = windowed ? nowMillis + random.nextLong(-3_600_000L, 86_400_000L) : Long.MAX_VALUE;
+        }
+        ruleSet = new DiscountRuleSet(1L, strategies, startsAt, endsAt);
+
+        unitPriceCents = new long[cartLines];
+        quantities = new int[cartLines];
+        categories = new String[cartLines];
+        for (int i = 0; i < cartLines; i++) {
+            unitPriceCents[i] = random.nextLong(100, 50_000);
+            quantities[i] = random.nextInt(1, 20);
+            categories[i] = CATEGORIES[random.nextInt(CATEGORIES.length)];
+        }
+    }
+
+    @Benchmark
+    public long priceCart() {
+        long discountCents = 0;
+        for (int i = 0; i < cartLines; i++) {
+            discountCents += ruleSet.lineDiscountCents(unitPriceCents[i], quantities[i], categories[i], nowMillis);
+        }
+        return discountCents;
+    }
+
+    private static DiscountRule rule(int index, SplittableRandom random) {
+        DiscountRule rule = new DiscountRule();
+        rule.setName("rule-" + index);
+        rule.setPercentage(BigDecimal.valueOf(random.nextInt(1, 40)));
+        String category = index % 3 == 0 ? null : CATEGORIES[random.nextInt(CATEGORIES.length)];
+        rule.setCategory(category);
+
+        switch (index % 4) {
+            case 0 -> {
+                rule.setType(DiscountRuleType.PRICE);
+                rule.setMinUnitPrice(BigDecimal.valueOf(random.nextInt(1, 200)));
+            }
+            case 1 -> {
+                rule.setType(DiscountRuleType.QUANTITY);
+                rule.setMinQuantity(random.nextInt(2, 10));
+            }
+            case 2 -> {
+                rule.setType(DiscountRuleType.CATEGORY);
+                rule.setCategory(CATEGORIES[random.nextInt(CATEGORIES.length)]);
+            }
+            default -> {
+                rule.setType(DiscountRuleType.TIERED);
+                rule.setPercentage(null);
+                rule.setTiers(List.of(
+                        new DiscountTier(2, BigDecimal.valueOf(5)),
+                        new DiscountTier(5, BigDecimal.valueOf(10)),
+                        new DiscountTier(10, BigDecimal.valueOf(15))));
+            }
+        }
+        return rule;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Collection<RunResult> results = new Runner(new OptionsBuilder()
+                .include(DiscountRuleSetBenchmark.class.getSimpleName())
+                .build()).run();
+
+        for (RunResult result : results) {
+            int lines = Integer.parseInt(result.getParams().getParam("cartLines"));
+            double nanosPerCart = result.getPrimaryResult().getScore();
+            System.out.printf("rules=%s cartLines=%d: %.1f ns per cart, %.1f ns per line%n",
+                    result.getParams().getParam("rules"), lines, nanosPerCart, nanosPerCart / lines);
+        }
+    }
+}
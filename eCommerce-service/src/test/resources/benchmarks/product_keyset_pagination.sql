@@ -0,0 +1,70 @@
+-- Product catalogue paging: OFFSET vs keyset at offsets 0, 10k and 1M.
+-- Runs against scratch temp tables, so any Postgres will do:
+--   psql -h localhost -U postgres -f product_keyset_pagination.sql
+-- getAllProducts pages with OFFSET; scrollProducts orders by id DESC and seeks with id < :cursor
+-- (findByDeletedFalseAndIdLessThanOrderByIdDesc). id is unique, so it is both the sort key and the
+-- tie-breaker and the row value (sort_key, id) < (?, ?) reduces to that single comparison.
+-- Keyset plans should show an Index Scan Backward on the primary key with id in its Index Cond,
+-- at roughly constant cost whatever the depth.
+
+\timing off
+SET client_min_messages = warning;
+
+CREATE TEMP TABLE bench_products (
+    id          bigserial PRIMARY KEY,
+    name        varchar(200)     NOT NULL,
+    description text             NOT NULL,
+    price       double precision NOT NULL,
+    stock       integer          NOT NULL,
+    category    varchar(255)     NOT NULL,
+    image_url   varchar(255),
+    created_at  timestamp        NOT NULL,
+    updated_at  timestamp        NOT NULL,
+    deleted     boolean          NOT NULL DEFAULT false
+);
+
+-- 1% soft-deleted so the deleted = false filter has something to skip.
+INSERT INTO bench_products (name, description, price, stock, category, created_at, updated_at, deleted)
+SELECT 'product ' || g, repeat('p', 200), (g % 500) + 0.99, g % 100, 'category ' || (g % 40),
+       timestamp '2020-01-01' + g * interval '1 minute',
+       timestamp '2020-01-01' + g * interval '1 minute',
+       g % 100 = 0
+FROM generate_series(1, 1100000) g;
+
+-- Same definitions as Product's @Table indexes.
+CREATE INDEX idx_bench_product_category ON bench_products (category);
+CREATE INDEX idx_bench_product_price ON bench_products (price);
+CREATE INDEX idx_bench_product_name ON bench_products (name);
+ANALYZE bench_products;
+
+\echo '== getAllProducts, offset 0 =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT * FROM bench_products WHERE deleted = false ORDER BY id DESC OFFSET 0 LIMIT 20;
+
+\echo '== getAllProducts, offset 10000 =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT * FROM bench_products WHERE deleted = false ORDER BY id DESC OFFSET 10000 LIMIT 20;
+
+\echo '== getAllProducts, offset 1000000 =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT * FROM bench_products WHERE deleted = false ORDER BY id DESC OFFSET 1000000 LIMIT 20;
+
+-- Cursors for the last row before each offset, as scrollProducts would have handed out.
+SELECT id AS a10k FROM bench_products WHERE deleted = false ORDER BY id DESC OFFSET 9999 LIMIT 1 \gset
+SELECT id AS a1m FROM bench_products WHERE deleted = false ORDER BY id DESC OFFSET 999999 LIMIT 1 \gset
+
+\echo '== scrollProducts, first page =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT * FROM bench_products WHERE deleted = false ORDER BY id DESC LIMIT 21;
+
+\echo '== scrollProducts after 10000 =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT * FROM bench_products WHERE deleted = false AND id < :a10k
+ORDER BY id DESC LIMIT 21;
+
+\echo '== scrollProducts after 1000000 =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT * FROM bench_products WHERE deleted = false AND id < :a1m
+ORDER BY id DESC LIMIT 21;
+
+DROP TABLE bench_products;
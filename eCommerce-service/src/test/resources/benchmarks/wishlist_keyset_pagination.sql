@@ -0,0 +1,98 @@
+-- Wishlist paging: OFFSET vs keyset at offsets 0, 10k and 1M for one user.
+-- Runs against scratch temp tables, so any Postgres will do:
+--   psql -h localhost -U postgres -f wishlist_keyset_pagination.sql
+-- Compare "Execution Time" and "Buffers" between the OFFSET plans and the keyset plans. Keyset plans
+-- should show an Index Scan Backward on idx_bench_wishlist_user_created with the row value in its
+-- Index Cond, at roughly constant cost whatever the depth.
+
+\timing off
+SET client_min_messages = warning;
+
+CREATE TEMP TABLE bench_products (
+    id        bigserial PRIMARY KEY,
+    name      varchar(255)   NOT NULL,
+    price     numeric(10, 2) NOT NULL,
+    image_url varchar(512),
+    deleted   boolean        NOT NULL DEFAULT false
+);
+
+CREATE TEMP TABLE bench_wishlist_items (
+    id         bigserial PRIMARY KEY,
+    user_id    bigint    NOT NULL,
+    product_id bigint    NOT NULL REFERENCES bench_products (id),
+    created_at timestamp NOT NULL,
+    UNIQUE (user_id, product_id)
+);
+
+INSERT INTO bench_products (name, price)
+SELECT 'product ' || g, (g % 500) + 0.99 FROM generate_series(1, 1100000) g;
+
+-- User 1 owns the deep list; a few other users keep the index realistic.
+INSERT INTO bench_wishlist_items (user_id, product_id, created_at)
+SELECT 1, g, timestamp '2020-01-01' + (g / 4) * interval '1 second'
+FROM generate_series(1, 1100000) g;
+INSERT INTO bench_wishlist_items (user_id, product_id, created_at)
+SELECT u, g, timestamp '2020-01-01' + g * interval '1 second'
+FROM generate_series(2, 50) u, generate_series(1, 2000) g;
+
+CREATE INDEX idx_bench_wishlist_user_created ON bench_wishlist_items (user_id, created_at, product_id);
+ANALYZE bench_products;
+ANALYZE bench_wishlist_items;
+
+\echo '== offset 0 =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT p.id, p.name, p.price, p.image_url, w.created_at
+FROM bench_wishlist_items w JOIN bench_products p ON p.id = w.product_id
+WHERE w.user_id = 1 AND p.deleted = false
+ORDER BY w.created_at DESC, w.product_id DESC OFFSET 0 LIMIT 21;
+
+\echo '== offset 10000 =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT p.id, p.name, p.price, p.image_url, w.created_at
+FROM bench_wishlist_items w JOIN bench_products p ON p.id = w.product_id
+WHERE w.user_id = 1 AND p.deleted = false
+ORDER BY w.created_at DESC, w.product_id DESC OFFSET 10000 LIMIT 21;
+
+\echo '== offset 1000000 =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT p.id, p.name, p.price, p.image_url, w.created_at
+FROM bench_wishlist_items w JOIN bench_products p ON p.id = w.product_id
+WHERE w.user_id = 1 AND p.deleted = false
+ORDER BY w.created_at DESC, w.product_id DESC OFFSET 1000000 LIMIT 21;
+
+SELECT created_at AS c10k, product_id AS p10k FROM bench_wishlist_items WHERE user_id = 1
+ORDER BY created_at DESC, product_id DESC OFFSET 9999 LIMIT 1 \gset
+SELECT created_at AS c1m, product_id AS p1m FROM bench_wishlist_items WHERE user_id = 1
+ORDER BY created_at DESC, product_id DESC OFFSET 999999 LIMIT 1 \gset
+
+\echo '== keyset first page =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT p.id, p.name, p.price, p.image_url, w.created_at
+FROM bench_wishlist_items w JOIN bench_products p ON p.id = w.product_id
+WHERE w.user_id = 1 AND p.deleted = false
+ORDER BY w.created_at DESC, w.product_id DESC LIMIT 21;
+
+\echo '== keyset after 10000 (row value, as WishlistItemRepository.findItemPageByUserIdAfter) =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT p.id, p.name, p.price, p.image_url, w.created_at
+FROM bench_wishlist_items w JOIN bench_products p ON p.id = w.product_id
+WHERE w.user_id = 1 AND p.deleted = false AND (w.created_at, w.product_id) < (:'c10k', :p10k)
+ORDER BY w.created_at DESC, w.product_id DESC LIMIT 21;
+
+\echo '== keyset after 1000000 (row value, as WishlistItemRepository.findItemPageByUserIdAfter) =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT p.id, p.name, p.price, p.image_url, w.created_at
+FROM bench_wishlist_items w JOIN bench_products p ON p.id = w.product_id
+WHERE w.user_id = 1 AND p.deleted = false AND (w.created_at, w.product_id) < (:'c1m', :p1m)
+ORDER BY w.created_at DESC, w.product_id DESC LIMIT 21;
+
+\echo '== keyset after 1000000 (previous OR form, for comparison) =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT p.id, p.name, p.price, p.image_url, w.created_at
+FROM bench_wishlist_items w JOIN bench_products p ON p.id = w.product_id
+WHERE w.user_id = 1 AND p.deleted = false
+AND (w.created_at < :'c1m' OR (w.created_at = :'c1m' AND p.id < :p1m))
+ORDER BY w.created_at DESC, w.product_id DESC LIMIT 21;
+
+DROP TABLE bench_wishlist_items;
+DROP TABLE bench_products;
@@ -0,0 +1,56 @@
+package com.tripezzy.blog_service.events;
+
+import java.util.List;
+
+public class BlogFollowersEvent {
+
+    private Long blog;
+
+    private String title;
+
+    private Long author;
+
+    private List<Long> followers;
+
+    public BlogFollowersEvent() {
+    }
+
+    public BlogFollowersEvent(Long blog, String title, Long author, List<Long> followers) {
+        this.blog = blog;
+        this.title = title;
+        this.author = author;
+        this.followers = followers;
+    }
+
+    public Long getBlog() {
+        return blog;
+    }
+
+    public void setBlog(Long blog) {
+        this.blog = blog;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public Long getAuthor() {
+        return author;
+    }
+
+    public void setAuthor(Long author) {
+        this.author = author;
+    }
+
+    public List<Long> getFollowers() {
+        return followers;
+    }
+
+    public void setFollowers(List<Long> followers) {
+        this.followers = followers;
+    }
+}
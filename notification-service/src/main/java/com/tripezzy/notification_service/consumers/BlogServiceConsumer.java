@@ -1,7 +1,7 @@
 package com.tripezzy.notification_service.consumers;
 
 import com.tripezzy.blog_service.events.BlogCommentedEvent;
-import com.tripezzy.blog_service.events.BlogCreatedEvent;
+import com.tripezzy.blog_service.events.BlogFollowersEvent;
 import com.tripezzy.blog_service.events.BlogLikedEvent;
 import com.tripezzy.notification_service.dto.UserDto;
 import com.tripezzy.notification_service.entity.Notification;
@@ -17,14 +17,12 @@ import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.TransactionSystemException;
 
-import java.util.List;
-
 @Service
 public class BlogServiceConsumer {
 
 
     private static final Logger log = LoggerFactory.getLogger(BlogServiceConsumer.class);
-    private static final String NEW_BLOG_TOPIC = "new-blog";
+    private static final String BLOG_FOLLOWERS_TOPIC = "blog-followers";
     private static final String BLOG_LIKED_TOPIC = "blog-liked";
     private static final String BLOG_COMMENTED_TOPIC = "blog-commented";
 
@@ -38,24 +36,21 @@ public class BlogServiceConsumer {
         this.notificationUtil = notificationUtil;
     }
 
-    @KafkaListener(topics = NEW_BLOG_TOPIC)
-    public void handleNewBlog(BlogCreatedEvent blog) throws ServiceException {
-        log.info("Received new blog event with Blog ID: {}", blog.getBlog());
+    // blog-service fans new blogs out to the author's followers in batches, so only followers are
+    // notified rather than every user on the platform.
+    @KafkaListener(topics = BLOG_FOLLOWERS_TOPIC)
+    public void handleNewBlogForFollowers(BlogFollowersEvent blog) throws ServiceException {
+        log.info("Received new blog event with Blog ID: {} for {} followers", blog.getBlog(), blog.getFollowers().size());
         try {
-            List<UserDto> users = usersClients.getAllUsers();
-            for (UserDto user : users) {
-                log.info("Sending notification to user: {}", user.getFirstName());
-                String message = String.format("New blog created by %s with ID: %s", blog.getAuthor(), blog.getBlog());
-                notificationUtil.sendNotification(user.getId(), message);
-                log.info("Notification sent to user: {}", user.getFirstName());
-            }
-            log.info("Notification sent to all users");
+            String message = String.format("New blog created by %s with ID: %s", blog.getAuthor(), blog.getBlog());
+            notificationUtil.sendNotifications(blog.getFollowers(), message);
+            log.info("Notification sent to {} followers", blog.getFollowers().size());
         } catch (DataAccessException | TransactionSystemException ex) {
             log.error("Database error while saving notification: {}", ex.getMessage(), ex);
             throw new ServiceException("Notification saving failed", ex);
 
         } catch (Exception ex) {
-            log.error("Unexpected error in booking event processing", ex);
+            log.error("Unexpected error in blog event processing", ex);
             throw new ServiceException("Unexpected error", ex);
         }
     }
@@ -45,13 +45,12 @@ public class BookingServiceConsumer {
         try {
             List<UserDto> admins = usersClients
                     .getAllAdminUsers();
+            String message = String.format("New booking received with ID: %s", event.getBooking());
             for (UserDto admin : admins) {
-                log.info("Sending notification to admin: {}", admin.getFirstName());
-                String message = String.format("New booking received with ID: %s", event.getBooking());
                 notificationUtil.sendNotification(admin.getId(), message);
-                log.info("Notification sent to admin: {}", admin.getFirstName());
+                log.debug("Notification sent to admin ID: {}", admin.getId());
             }
-            log.info("Notification sent to all admins");
+            log.info("Booking {} notification sent to {} admins", event.getBooking(), admins.size());
         } catch (DataAccessException | TransactionSystemException ex) {
             log.error("Database error while saving notification: {}", ex.getMessage(), ex);
             throw new ServiceException("Notification saving failed", ex);
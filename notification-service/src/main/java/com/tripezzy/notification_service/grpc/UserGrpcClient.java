@@ -7,37 +7,31 @@ import com.tripezzy.grpc.user.UserServiceGrpc;
 import com.tripezzy.notification_service.dto.UserDto;
 import com.tripezzy.notification_service.exceptions.ResourceNotFound;
 import com.tripezzy.notification_service.exceptions.ServiceUnavailable;
-import io.grpc.ManagedChannel;
-import io.grpc.ManagedChannelBuilder;
+import io.grpc.Channel;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
 import io.grpc.health.v1.HealthCheckRequest;
 import io.grpc.health.v1.HealthCheckResponse;
 import io.grpc.health.v1.HealthGrpc;
-import jakarta.annotation.PreDestroy;
+import net.devh.boot.grpc.client.channelfactory.GrpcChannelFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
 public class UserGrpcClient {
 
-
     private static final Logger log = LoggerFactory.getLogger(UserGrpcClient.class);
     private final UserServiceGrpc.UserServiceBlockingStub userStub;
-    private final ManagedChannel channel;
+    private final Channel channel;
 
-    public UserGrpcClient() {
-        this.channel = ManagedChannelBuilder
-                .forAddress("user-service", 6001)
-                .usePlaintext()
-                .build();
+    public UserGrpcClient(GrpcChannelFactory channelFactory) {
+        this.channel = channelFactory.createChannel("user-service");
         this.userStub = UserServiceGrpc.newBlockingStub(channel);
     }
 
@@ -56,18 +50,6 @@ public class UserGrpcClient {
         }
     }
 
-    @PreDestroy
-    public void shutdown() {
-        try {
-            if (channel != null && !channel.isShutdown()) {
-                channel.shutdown().awaitTermination(5, TimeUnit.SECONDS);
-            }
-        } catch (InterruptedException e) {
-            log.warn("Failed to shutdown gRPC channel properly", e);
-            Thread.currentThread().interrupt();
-        }
-    }
-
     private void handleGrpcException(StatusRuntimeException e, String context) {
         Status.Code code = e.getStatus().getCode();
         String description = e.getStatus().getDescription();
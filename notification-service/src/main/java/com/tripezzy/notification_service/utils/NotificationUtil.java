@@ -10,6 +10,9 @@ import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.TransactionSystemException;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Component
 public class NotificationUtil {
 
@@ -47,6 +50,37 @@ public class NotificationUtil {
 
     }
 
+    public void sendNotifications(List<Long> userIds, String message) {
+
+        try{
+            if (userIds == null || userIds.isEmpty() || message == null || message.isBlank()) {
+                log.warn("Invalid bulk notification request: message={}", message);
+                return;
+            }
+
+            List<Notification> notifications = new ArrayList<>(userIds.size());
+            for (Long userId : userIds) {
+                if (userId == null) {
+                    continue;
+                }
+                Notification notification = new Notification();
+                notification.setUserId(userId);
+                notification.setMessage(message);
+                notifications.add(notification);
+            }
+            notificationRepository.saveAll(notifications);
+
+            log.info("Saved {} notifications: {}", notifications.size(), message);
+        } catch (DataAccessException ex) {
+            log.error("Database access error while saving notifications", ex.getMessage());
+        } catch (TransactionSystemException ex) {
+            log.error("Transaction error while saving notifications", ex.getMessage());
+        } catch (Exception ex) {
+            log.error("Unexpected error while saving notifications", ex.getMessage());
+        }
+
+    }
+
     public static String buildSellerNotification(CheckoutProductEvent payment) {
         return String.format(
                 "🛒 New Order created!\n\n" +
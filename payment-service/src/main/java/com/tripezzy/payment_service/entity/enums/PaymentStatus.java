@@ -4,5 +4,6 @@ public enum PaymentStatus {
     PENDING,
     CONFIRMED,
     CANCELLED,
-    FAILED
+    FAILED,
+    PAID
 }
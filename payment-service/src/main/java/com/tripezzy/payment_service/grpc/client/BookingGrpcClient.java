@@ -4,34 +4,31 @@ import com.tripezzy.booking_service.grpc.BookingPaymentRequest;
 import com.tripezzy.booking_service.grpc.BookingPaymentResponse;
 import com.tripezzy.booking_service.grpc.BookingServiceGrpc;
 import com.tripezzy.payment_service.dto.BookingPaymentRequestDto;
+import com.tripezzy.payment_service.exceptions.AccessForbidden;
 import com.tripezzy.payment_service.exceptions.ResourceNotFound;
 import com.tripezzy.payment_service.exceptions.ServiceUnavailable;
-import io.grpc.ManagedChannel;
-import io.grpc.ManagedChannelBuilder;
+import io.grpc.Channel;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
 import io.grpc.health.v1.HealthCheckRequest;
 import io.grpc.health.v1.HealthCheckResponse;
 import io.grpc.health.v1.HealthGrpc;
-import jakarta.annotation.PreDestroy;
+import net.devh.boot.grpc.client.channelfactory.GrpcChannelFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.TimeUnit;
+import java.util.List;
 
 @Service
 public class BookingGrpcClient {
 
     private static final Logger log = LoggerFactory.getLogger(BookingGrpcClient.class);
     private final BookingServiceGrpc.BookingServiceBlockingStub bookingStub;
-    private final ManagedChannel channel;
+    private final Channel channel;
 
-    public BookingGrpcClient() {
-        this.channel = ManagedChannelBuilder
-                .forAddress("booking-service", 9011)
-                .usePlaintext()
-                .build();
+    public BookingGrpcClient(GrpcChannelFactory channelFactory) {
+        this.channel = channelFactory.createChannel("booking-service", List.of(new ForwardUserTokenInterceptor()));
         this.bookingStub = BookingServiceGrpc.newBlockingStub(channel);
     }
 
@@ -50,18 +47,6 @@ public class BookingGrpcClient {
         }
     }
 
-    @PreDestroy
-    public void shutdown() {
-        try {
-            if (channel != null && !channel.isShutdown()) {
-                channel.shutdown().awaitTermination(5, TimeUnit.SECONDS);
-            }
-        } catch (InterruptedException e) {
-            log.warn("Failed to shutdown gRPC channel properly", e);
-            Thread.currentThread().interrupt();
-        }
-    }
-
     public BookingPaymentRequestDto getBookingPayment(Long bookingId) {
         checkServiceHealth();
         try {
@@ -100,6 +85,8 @@ public class BookingGrpcClient {
                 throw new ResourceNotFound(description != null ? description : "Booking not found");
             case INVALID_ARGUMENT:
                 throw new IllegalArgumentException(description != null ? description : "Invalid request parameters");
+            case PERMISSION_DENIED:
+                throw new AccessForbidden(description != null ? description : "Booking does not belong to user");
             case UNAVAILABLE:
                 throw new ServiceUnavailable("Booking service is currently unavailable");
             default:
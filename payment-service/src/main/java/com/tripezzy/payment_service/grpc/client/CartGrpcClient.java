@@ -1,37 +1,35 @@
 package com.tripezzy.payment_service.grpc.client;
 
-import com.tripezzy.eCommerce_service.grpc.CartPaymentResponse;
-import com.tripezzy.eCommerce_service.grpc.CartRequest;
-import com.tripezzy.eCommerce_service.grpc.CartServiceGrpc;
+import com.tripezzy.eCommerce_service.grpc.*;
 import com.tripezzy.payment_service.dto.CartPaymentResponseDto;
+import com.tripezzy.payment_service.dto.CheckoutLineItemDto;
+import com.tripezzy.payment_service.dto.CheckoutSnapshotDto;
+import com.tripezzy.payment_service.exceptions.AccessForbidden;
 import com.tripezzy.payment_service.exceptions.ResourceNotFound;
+import com.tripezzy.payment_service.exceptions.RuntimeConflict;
 import com.tripezzy.payment_service.exceptions.ServiceUnavailable;
-import io.grpc.ManagedChannel;
-import io.grpc.ManagedChannelBuilder;
+import io.grpc.Channel;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
 import io.grpc.health.v1.HealthCheckRequest;
 import io.grpc.health.v1.HealthCheckResponse;
 import io.grpc.health.v1.HealthGrpc;
-import jakarta.annotation.PreDestroy;
+import net.devh.boot.grpc.client.channelfactory.GrpcChannelFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.TimeUnit;
+import java.util.List;
 
 @Service
 public class CartGrpcClient {
 
     private static final Logger log = LoggerFactory.getLogger(CartGrpcClient.class);
     private final CartServiceGrpc.CartServiceBlockingStub cartStub;
-    private final ManagedChannel channel;
+    private final Channel channel;
 
-    public CartGrpcClient() {
-        this.channel = ManagedChannelBuilder
-                .forAddress("eCommerce-service", 8001)
-                .usePlaintext()
-                .build();
+    public CartGrpcClient(GrpcChannelFactory channelFactory) {
+        this.channel = channelFactory.createChannel("eCommerce-service", List.of(new ForwardUserTokenInterceptor()));
         this.cartStub = CartServiceGrpc.newBlockingStub(channel);
     }
 
@@ -50,18 +48,6 @@ public class CartGrpcClient {
         }
     }
 
-    @PreDestroy
-    public void shutdown() {
-        try {
-            if (channel != null && !channel.isShutdown()) {
-                channel.shutdown().awaitTermination(5, TimeUnit.SECONDS);
-            }
-        } catch (InterruptedException e) {
-            log.warn("Failed to shutdown gRPC channel properly", e);
-            Thread.currentThread().interrupt();
-        }
-    }
-
     public CartPaymentResponseDto getPaymentDetails(Long cartId) {
         checkServiceHealth();
         try {
@@ -89,6 +75,85 @@ public class CartGrpcClient {
         }
     }
 
+    public CheckoutSnapshotDto prepareCheckout(Long cartId, Long userId) {
+        try {
+            log.info("Preparing checkout for cart ID: {} and user ID: {}", cartId, userId);
+
+            if (cartId == null || cartId <= 0) {
+                throw new IllegalArgumentException("Invalid cart ID");
+            }
+            if (userId == null || userId <= 0) {
+                throw new IllegalArgumentException("Invalid user ID");
+            }
+
+            PrepareCheckoutRequest request = PrepareCheckoutRequest.newBuilder()
+                    .setCartId(cartId)
+                    .setUserId(userId)
+                    .build();
+
+            CheckoutSnapshot response = cartStub.prepareCheckout(request);
+
+            List<CheckoutLineItemDto> items = response.getItemsList().stream()
+                    .map(item -> new CheckoutLineItemDto(
+                            item.getProductId(),
+                            item.getName(),
+                            item.getQuantity(),
+                            item.getUnitPriceCents(),
+                            item.getDiscountCents(),
+                            item.getLineTotalCents()))
+                    .toList();
+
+            CheckoutSnapshotDto snapshot = new CheckoutSnapshotDto();
+            snapshot.setCartId(response.getCartId());
+            snapshot.setUserId(response.getUserId());
+            snapshot.setItems(items);
+            snapshot.setQuantity(response.getQuantity());
+            snapshot.setSubtotalCents(response.getSubtotalCents());
+            snapshot.setDiscountCents(response.getDiscountCents());
+            snapshot.setTotalCents(response.getTotalCents());
+            snapshot.setCurrency(response.getCurrency());
+            snapshot.setName(response.getName());
+            snapshot.setIssuedAt(response.getIssuedAt());
+            snapshot.setExpiresAt(response.getExpiresAt());
+            snapshot.setSignature(response.getSignature());
+            return snapshot;
+        } catch (StatusRuntimeException e) {
+            handleGrpcException(e, "Failed to prepare cart checkout");
+            throw new ServiceUnavailable("Unable to prepare cart checkout at this time");
+        }
+    }
+
+    public void releaseCheckout(Long cartId, Long userId) {
+        try {
+            log.info("Releasing checkout stock hold for cart ID: {}", cartId);
+            cartStub.releaseCheckout(reservationRequest(cartId, userId));
+        } catch (StatusRuntimeException e) {
+            handleGrpcException(e, "Failed to release cart checkout");
+        }
+    }
+
+    public void confirmCheckout(Long cartId, Long userId) {
+        try {
+            log.info("Confirming checkout stock hold for cart ID: {}", cartId);
+            cartStub.confirmCheckout(reservationRequest(cartId, userId));
+        } catch (StatusRuntimeException e) {
+            handleGrpcException(e, "Failed to confirm cart checkout");
+        }
+    }
+
+    private CheckoutReservationRequest reservationRequest(Long cartId, Long userId) {
+        if (cartId == null || cartId <= 0) {
+            throw new IllegalArgumentException("Invalid cart ID");
+        }
+        if (userId == null || userId <= 0) {
+            throw new IllegalArgumentException("Invalid user ID");
+        }
+        return CheckoutReservationRequest.newBuilder()
+                .setCartId(cartId)
+                .setUserId(userId)
+                .build();
+    }
+
     private void handleGrpcException(StatusRuntimeException e, String context) {
         Status.Code code = e.getStatus().getCode();
         String description = e.getStatus().getDescription();
@@ -100,6 +165,10 @@ public class CartGrpcClient {
                 throw new ResourceNotFound(description != null ? description : "Cart not found");
             case INVALID_ARGUMENT:
                 throw new IllegalArgumentException(description != null ? description : "Invalid request parameters");
+            case PERMISSION_DENIED:
+                throw new AccessForbidden(description != null ? description : "Cart does not belong to user");
+            case FAILED_PRECONDITION:
+                throw new RuntimeConflict(description != null ? description : "Cart cannot be checked out");
             case UNAVAILABLE:
                 throw new ServiceUnavailable("Cart service is currently unavailable");
             default:
@@ -0,0 +1,158 @@
+package com.tripezzy.payment_service.grpc.server;
+
+import com.google.protobuf.MessageLite;
+import io.grpc.ForwardingServerCall;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import net.devh.boot.grpc.server.interceptor.GrpcGlobalServerInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Caps concurrent calls per method so one slow RPC cannot take every connection from the pool;
+// calls over the limit fail fast with RESOURCE_EXHAUSTED instead of queueing for a connection.
+// Responses at or above grpc.server.compression.min-bytes (typically the list RPCs) are
+// gzip-compressed when the caller accepts it; small responses are sent uncompressed.
+@GrpcGlobalServerInterceptor
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class GrpcCallPolicyInterceptor implements ServerInterceptor {
+
+    private final ConcurrentHashMap<String, Semaphore> permits = new ConcurrentHashMap<>();
+    private final int maxConcurrentCalls;
+    private final int compressionMinBytes;
+
+    public GrpcCallPolicyInterceptor(@Value("${grpc.server.max-concurrent-calls-per-method:32}") int maxConcurrentCalls,
+                                     @Value("${grpc.server.compression.min-bytes:8192}") int compressionMinBytes) {
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.compressionMinBytes = compressionMinBytes;
+    }
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+                                                                 ServerCallHandler<ReqT, RespT> next) {
+        String method = call.getMethodDescriptor().getFullMethodName();
+        Semaphore semaphore = permits.computeIfAbsent(method, name -> new Semaphore(maxConcurrentCalls));
+        if (!semaphore.tryAcquire()) {
+            call.close(Status.RESOURCE_EXHAUSTED.withDescription("Too many concurrent calls to " + method),
+                    new Metadata());
+            return new ServerCall.Listener<>() {
+            };
+        }
+
+        CallPermit permit = new CallPermit(semaphore);
+
+        ServerCall<ReqT, RespT> policyCall = new ForwardingServerCall.SimpleForwardingServerCall<>(call) {
+            @Override
+            public void sendHeaders(Metadata responseHeaders) {
+                setCompression("gzip");
+                super.sendHeaders(responseHeaders);
+            }
+
+            @Override
+            public void sendMessage(RespT message) {
+                setMessageCompression(message instanceof MessageLite lite
+                        && lite.getSerializedSize() >= compressionMinBytes);
+                super.sendMessage(message);
+            }
+
+            @Override
+            public void close(Status status, Metadata trailers) {
+                permit.end();
+                super.close(status, trailers);
+            }
+        };
+
+        ServerCall.Listener<ReqT> listener;
+        permit.enter();
+        try {
+            listener = next.startCall(policyCall, headers);
+        } catch (RuntimeException e) {
+            permit.end();
+            throw e;
+        } finally {
+            permit.exit();
+        }
+        // Unary handlers run inside onHalfClose (streaming ones in onMessage), so those callbacks
+        // hold the permit for as long as the handler runs, even after the call was cancelled.
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<>(listener) {
+            @Override
+            public void onMessage(ReqT message) {
+                permit.enter();
+                try {
+                    super.onMessage(message);
+                } finally {
+                    permit.exit();
+                }
+            }
+
+            @Override
+            public void onHalfClose() {
+                permit.enter();
+                try {
+                    super.onHalfClose();
+                } finally {
+                    permit.exit();
+                }
+            }
+
+            @Override
+            public void onCancel() {
+                permit.enter();
+                try {
+                    super.onCancel();
+                } finally {
+                    permit.end();
+                    permit.exit();
+                }
+            }
+
+            @Override
+            public void onComplete() {
+                try {
+                    super.onComplete();
+                } finally {
+                    permit.end();
+                }
+            }
+        };
+    }
+
+    // Returned once the call has ended (closed, completed or cancelled) and no handler code is
+    // still running for it, so a cancelled call keeps its slot until its handler returns.
+    private static final class CallPermit {
+
+        private final Semaphore semaphore;
+        private final AtomicInteger holds = new AtomicInteger(1);
+        private final AtomicBoolean ended = new AtomicBoolean();
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private CallPermit(Semaphore semaphore) {
+            this.semaphore = semaphore;
+        }
+
+        void enter() {
+            holds.incrementAndGet();
+        }
+
+        void exit() {
+            if (holds.decrementAndGet() == 0 && released.compareAndSet(false, true)) {
+                semaphore.release();
+            }
+        }
+
+        void end() {
+            if (ended.compareAndSet(false, true)) {
+                exit();
+            }
+        }
+    }
+}
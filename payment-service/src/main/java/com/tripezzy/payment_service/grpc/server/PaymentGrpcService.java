@@ -17,8 +17,6 @@ import org.slf4j.LoggerFactory;
 import java.util.List;
 import java.util.stream.Collectors;
 
-
-
 @GrpcService
 public class PaymentGrpcService extends PaymentServiceGrpc.PaymentServiceImplBase {
 
@@ -32,7 +30,8 @@ public class PaymentGrpcService extends PaymentServiceGrpc.PaymentServiceImplBas
     @Override
     public void getAllPayments(EmptyRequest request, StreamObserver<PaymentsResponseList> responseObserver) {
         try {
-            log.info("Processing gRPC request for getAllPayments");
+            log.debug("Processing gRPC request for getAllPayments");
+            GrpcAuthInterceptor.requireAdmin();
 
             List<PaymentsResponse> payments = paymentService.getAllPayments();
 
@@ -44,7 +43,7 @@ public class PaymentGrpcService extends PaymentServiceGrpc.PaymentServiceImplBas
 
             responseObserver.onNext(response);
             responseObserver.onCompleted();
-            log.info("Successfully processed getAllPayments request");
+            log.debug("Successfully processed getAllPayments request");
 
         } catch (StatusRuntimeException e) {
             log.error("gRPC error in getAllPayments: {}", e.getStatus().getDescription(), e);
@@ -61,13 +60,14 @@ public class PaymentGrpcService extends PaymentServiceGrpc.PaymentServiceImplBas
     @Override
     public void getAllPaymentsByUserId(UserPaymentsRequest request, StreamObserver<PaymentsResponseList> responseObserver) {
         try {
-            log.info("Processing gRPC request for getAllPaymentsByUserId - userId: {}", request.getUserId());
+            log.debug("Processing gRPC request for getAllPaymentsByUserId - userId: {}", request.getUserId());
 
             if (request.getUserId() <= 0) {
                 throw Status.INVALID_ARGUMENT
                         .withDescription("Invalid user ID")
                         .asRuntimeException();
             }
+            GrpcAuthInterceptor.requireOwnerOrAdmin(request.getUserId());
 
             List<PaymentsResponse> payments = paymentService.getAllPaymentsByUserId(request.getUserId());
 
@@ -79,7 +79,7 @@ public class PaymentGrpcService extends PaymentServiceGrpc.PaymentServiceImplBas
 
             responseObserver.onNext(response);
             responseObserver.onCompleted();
-            log.info("Successfully processed getAllPaymentsByUserId request");
+            log.debug("Successfully processed getAllPaymentsByUserId request");
 
         } catch (ResourceNotFound e) {
             log.warn("No payments found for user ID: {}", request.getUserId());
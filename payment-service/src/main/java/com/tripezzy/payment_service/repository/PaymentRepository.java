@@ -1,7 +1,11 @@
 package com.tripezzy.payment_service.repository;
 
 import com.tripezzy.payment_service.entity.Payment;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,5 +15,10 @@ import java.util.Optional;
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
     Optional<Payment> findBySession(String sessionId);
 
+    // Serializes completion of one session between the success redirect and the Stripe webhook.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Payment p WHERE p.session = :sessionId")
+    Optional<Payment> findLockedBySession(@Param("sessionId") String sessionId);
+
     List<Payment> findByUser(Long userId);
 }
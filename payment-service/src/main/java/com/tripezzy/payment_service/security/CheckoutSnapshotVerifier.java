@@ -0,0 +1,91 @@
+package com.tripezzy.payment_service.security;
+
+import com.tripezzy.payment_service.dto.CheckoutLineItemDto;
+import com.tripezzy.payment_service.dto.CheckoutSnapshotDto;
+import com.tripezzy.payment_service.exceptions.AccessForbidden;
+import com.tripezzy.payment_service.exceptions.BadRequestException;
+import com.tripezzy.payment_service.exceptions.IllegalState;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+@Component
+public class CheckoutSnapshotVerifier {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    @Value("${checkout.signing.secret}")
+    private String signingSecret;
+
+    private SecretKeySpec signingKey;
+
+    @PostConstruct
+    public void init() {
+        if (signingSecret == null || signingSecret.length() < 32) {
+            throw new IllegalState("Checkout signing secret must be at least 32 characters long");
+        }
+        this.signingKey = new SecretKeySpec(signingSecret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    public void verify(CheckoutSnapshotDto snapshot, Long userId) {
+        if (snapshot == null || snapshot.getSignature() == null || snapshot.getItems() == null) {
+            throw new BadRequestException("Checkout snapshot is incomplete");
+        }
+        if (!snapshot.getUserId().equals(userId)) {
+            throw new AccessForbidden("Checkout snapshot does not belong to user ID: " + userId);
+        }
+        if (snapshot.getExpiresAt() < System.currentTimeMillis()) {
+            throw new BadRequestException("Checkout snapshot has expired, please retry checkout");
+        }
+
+        byte[] expected = sign(canonicalPayload(snapshot));
+        byte[] actual;
+        try {
+            actual = Base64.getUrlDecoder().decode(snapshot.getSignature());
+        } catch (IllegalArgumentException e) {
+            throw new AccessForbidden("Checkout snapshot signature is malformed");
+        }
+        if (!MessageDigest.isEqual(expected, actual)) {
+            throw new AccessForbidden("Checkout snapshot signature is invalid");
+        }
+    }
+
+    private byte[] sign(String payload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(signingKey);
+            return mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalState("Failed to verify checkout snapshot");
+        }
+    }
+
+    static String canonicalPayload(CheckoutSnapshotDto snapshot) {
+        StringBuilder payload = new StringBuilder(64 + snapshot.getItems().size() * 32)
+                .append(snapshot.getCartId()).append('|')
+                .append(snapshot.getUserId()).append('|')
+                .append(snapshot.getCurrency()).append('|')
+                .append(snapshot.getQuantity()).append('|')
+                .append(snapshot.getSubtotalCents()).append('|')
+                .append(snapshot.getDiscountCents()).append('|')
+                .append(snapshot.getTotalCents()).append('|')
+                .append(snapshot.getIssuedAt()).append('|')
+                .append(snapshot.getExpiresAt());
+        for (CheckoutLineItemDto item : snapshot.getItems()) {
+            payload.append('|')
+                    .append(item.getProductId()).append(':')
+                    .append(item.getQuantity()).append(':')
+                    .append(item.getUnitPriceCents()).append(':')
+                    .append(item.getDiscountCents()).append(':')
+                    .append(item.getLineTotalCents());
+        }
+        return payload.toString();
+    }
+}
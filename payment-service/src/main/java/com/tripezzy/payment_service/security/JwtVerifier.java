@@ -0,0 +1,145 @@
+package com.tripezzy.payment_service.security;
+
+import com.tripezzy.payment_service.auth.UserContext;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Verifies user-service access tokens in-process against its JWKS, so calls that carry the user's
+// token can be authorized here without going back through the gateway. Keys are refreshed on a
+// background thread and never fetched on the request thread: a token with an unknown kid fails and
+// schedules a refresh, throttled so a flood of bad tokens cannot hammer the endpoint.
+// Revocation is enforced only at the edge. The tokens checked here were forwarded from a request the
+// gateway already admitted, after checking its revocation list, so they are not re-checked.
+@Component
+public class JwtVerifier {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtVerifier.class);
+    private static final ParameterizedTypeReference<Map<String, Object>> JWKS_TYPE = new ParameterizedTypeReference<>() {
+    };
+
+    private final RestClient restClient;
+    private final String jwksUri;
+    private final long refreshIntervalMillis;
+    private final long minRefreshGapMillis;
+    private final JwtParser parser;
+    private final AtomicLong lastRefreshRequest = new AtomicLong();
+    private final ScheduledExecutorService refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "jwks-refresher");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile Map<String, PublicKey> keys = Map.of();
+
+    public JwtVerifier(@LoadBalanced RestClient.Builder restClientBuilder,
+                       @Value("${jwt.jwks.uri:http://USER-SERVICE/users/auth/.well-known/jwks.json}") String jwksUri,
+                       @Value("${jwt.jwks.refresh-interval-ms:300000}") long refreshIntervalMillis,
+                       @Value("${jwt.jwks.min-refresh-gap-ms:10000}") long minRefreshGapMillis) {
+        this.restClient = restClientBuilder.build();
+        this.jwksUri = jwksUri;
+        this.refreshIntervalMillis = refreshIntervalMillis;
+        this.minRefreshGapMillis = minRefreshGapMillis;
+        this.parser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        return keyFor(header.getKeyId());
+                    }
+                })
+                .build();
+    }
+
+    @PostConstruct
+    public void start() {
+        refresher.scheduleWithFixedDelay(this::refresh, 0, refreshIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        refresher.shutdownNow();
+    }
+
+    public UserContext verify(String token) {
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        try {
+            return new UserContext(Long.valueOf(claims.getSubject()), claims.get("role", String.class));
+        } catch (NumberFormatException e) {
+            throw new JwtException("Token subject is not a user ID");
+        }
+    }
+
+    private Key keyFor(String keyId) {
+        if (keyId == null) {
+            throw new JwtException("Token has no key ID");
+        }
+        PublicKey key = keys.get(keyId);
+        if (key == null) {
+            long now = System.currentTimeMillis();
+            long last = lastRefreshRequest.get();
+            if (now - last >= minRefreshGapMillis && lastRefreshRequest.compareAndSet(last, now)) {
+                refresher.execute(this::refresh);
+            }
+            throw new JwtException("Unknown signing key");
+        }
+        return key;
+    }
+
+    // Only ever runs on the refresher thread
+    private void refresh() {
+        try {
+            Map<String, Object> jwks = restClient.get().uri(jwksUri).retrieve().body(JWKS_TYPE);
+            Map<String, PublicKey> parsed = jwks == null ? Map.of() : parseKeys(jwks);
+            if (!parsed.isEmpty()) {
+                keys = parsed;
+            }
+        } catch (RuntimeException e) {
+            log.warn("Unable to refresh JWKS from {}: {}", jwksUri, e.toString());
+        }
+    }
+
+    private static Map<String, PublicKey> parseKeys(Map<String, Object> jwks) {
+        Map<String, PublicKey> parsed = new HashMap<>();
+        if (!(jwks.get("keys") instanceof List<?> entries)) {
+            return parsed;
+        }
+        for (Object entry : entries) {
+            if (entry instanceof Map<?, ?> jwk && "RSA".equals(jwk.get("kty")) && jwk.get("kid") instanceof String kid) {
+                try {
+                    BigInteger modulus = new BigInteger(1, Base64.getUrlDecoder().decode((String) jwk.get("n")));
+                    BigInteger exponent = new BigInteger(1, Base64.getUrlDecoder().decode((String) jwk.get("e")));
+                    parsed.put(kid, KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(modulus, exponent)));
+                } catch (GeneralSecurityException | RuntimeException e) {
+                    log.warn("Skipping invalid JWK {}: {}", kid, e.toString());
+                }
+            }
+        }
+        return Map.copyOf(parsed);
+    }
+}
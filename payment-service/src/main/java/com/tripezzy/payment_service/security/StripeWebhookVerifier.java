@@ -0,0 +1,61 @@
+package com.tripezzy.payment_service.security;
+
+import com.stripe.exception.EventDataObjectDeserializationException;
+import com.stripe.exception.SignatureVerificationException;
+import com.stripe.model.Event;
+import com.stripe.model.StripeObject;
+import com.stripe.model.checkout.Session;
+import com.stripe.net.Webhook;
+import com.tripezzy.payment_service.exceptions.BadRequestException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// Checks the Stripe-Signature of webhook deliveries and picks out checkout sessions that have been
+// paid. Card payments are paid when checkout.session.completed arrives; delayed methods report
+// completed as unpaid and are picked up from checkout.session.async_payment_succeeded instead.
+@Component
+public class StripeWebhookVerifier {
+
+    private static final Logger log = LoggerFactory.getLogger(StripeWebhookVerifier.class);
+    private static final String SESSION_COMPLETED = "checkout.session.completed";
+    private static final String ASYNC_PAYMENT_SUCCEEDED = "checkout.session.async_payment_succeeded";
+
+    private final String webhookSecret;
+
+    public StripeWebhookVerifier(@Value("${stripe.webhook.secret}") String webhookSecret) {
+        this.webhookSecret = webhookSecret;
+    }
+
+    // Returns the ID of a paid checkout session, or null for events this service does not act on.
+    public String paidSessionId(String payload, String signature) {
+        if (payload == null || signature == null || signature.isBlank()) {
+            throw new BadRequestException("Missing Stripe webhook payload or signature");
+        }
+
+        Event event;
+        try {
+            event = Webhook.constructEvent(payload, signature, webhookSecret);
+        } catch (SignatureVerificationException e) {
+            log.warn("Rejected Stripe webhook with an invalid signature");
+            throw new BadRequestException("Invalid Stripe webhook signature");
+        }
+
+        if (!SESSION_COMPLETED.equals(event.getType()) && !ASYNC_PAYMENT_SUCCEEDED.equals(event.getType())) {
+            return null;
+        }
+
+        StripeObject object;
+        try {
+            object = event.getDataObjectDeserializer().deserializeUnsafe();
+        } catch (EventDataObjectDeserializationException e) {
+            log.error("Unable to read Stripe event: {}", event.getId(), e);
+            throw new BadRequestException("Unreadable Stripe webhook event");
+        }
+        if (!(object instanceof Session session) || !"paid".equals(session.getPaymentStatus())) {
+            return null;
+        }
+        return session.getId();
+    }
+}
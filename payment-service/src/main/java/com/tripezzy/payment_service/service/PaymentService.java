@@ -6,10 +6,12 @@ import java.util.List;
 
 public interface PaymentService {
 
-    ResponseEcomPayment checkoutProducts(CartPaymentResponseDto productRequest, Long cartId, Long userId);
+    ResponseEcomPayment checkoutProducts(CheckoutSnapshotDto snapshot, Long userId);
 
     ResponseBookingPayment checkoutBooking(BookingPaymentRequestDto paymentDetails, Long bookingId, Long userId);
 
+    PaymentsResponse completeCheckout(String sessionId);
+
     List<PaymentsResponse> getAllPayments();
 
     List<PaymentsResponse> getAllPaymentsByUserId(Long userId);
@@ -9,19 +9,25 @@ import com.tripezzy.payment_service.entity.enums.PaymentCategory;
 import com.tripezzy.payment_service.entity.enums.PaymentStatus;
 import com.tripezzy.payment_service.event.CheckoutProductEvent;
 import com.tripezzy.payment_service.exceptions.*;
+import com.tripezzy.payment_service.grpc.client.CartGrpcClient;
 import com.tripezzy.payment_service.repository.PaymentRepository;
+import com.tripezzy.payment_service.security.CheckoutSnapshotVerifier;
 import com.tripezzy.payment_service.service.PaymentService;
 import org.modelmapper.MappingException;
 import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.dao.DataAccessException;
 import org.springframework.kafka.KafkaException;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -29,53 +35,116 @@ import java.util.stream.Collectors;
 public class PaymentServiceImpl implements PaymentService {
 
     private static final Logger log = LoggerFactory.getLogger(PaymentServiceImpl.class);
+    // Stripe's minimum session lifetime is 30 minutes; the cart's stock hold is sized to outlast it.
+    private static final Duration SESSION_TTL = Duration.ofMinutes(31);
     private final PaymentRepository paymentRepository;
     private final ModelMapper modelMapper;
     private final KafkaTemplate<Long, CheckoutProductEvent> kafkaTemplate;
+    private final CheckoutSnapshotVerifier checkoutSnapshotVerifier;
+    private final CartGrpcClient cartGrpcClient;
 
     public PaymentServiceImpl(PaymentRepository paymentRepository,
                               ModelMapper modelMapper,
-                              KafkaTemplate<Long, CheckoutProductEvent> kafkaTemplate) {
+                              KafkaTemplate<Long, CheckoutProductEvent> kafkaTemplate,
+                              CheckoutSnapshotVerifier checkoutSnapshotVerifier,
+                              CartGrpcClient cartGrpcClient) {
         this.paymentRepository = paymentRepository;
         this.modelMapper = modelMapper;
         this.kafkaTemplate = kafkaTemplate;
+        this.checkoutSnapshotVerifier = checkoutSnapshotVerifier;
+        this.cartGrpcClient = cartGrpcClient;
     }
 
     @Override
     @Transactional
-    public ResponseEcomPayment checkoutProducts(CartPaymentResponseDto paymentRequest, Long cartId, Long userId) {
-        try {
-            log.info("Processing product checkout for cart ID: {} and user ID: {}", cartId, userId);
+    public ResponseEcomPayment checkoutProducts(CheckoutSnapshotDto snapshot, Long userId) {
+        if (userId == null || userId <= 0) {
+            throw new BadRequestException("Invalid user ID");
+        }
+        checkoutSnapshotVerifier.verify(snapshot, userId);
+        if (snapshot.getTotalCents() <= 0) {
+            releaseCartHold(snapshot.getCartId(), userId);
+            throw new BadRequestException("Amount must be greater than zero");
+        }
 
-            // Validate input
-            if (paymentRequest == null) {
-                throw new BadRequestException("Payment request cannot be null");
-            }
-            if (cartId == null || cartId <= 0) {
-                throw new BadRequestException("Invalid cart ID");
-            }
-            if (userId == null || userId <= 0) {
-                throw new BadRequestException("Invalid user ID");
-            }
-            if (paymentRequest.getAmount() <= 0) {
-                throw new BadRequestException("Amount must be greater than zero");
-            }
+        try {
+            log.info("Processing product checkout for cart ID: {} and user ID: {}", snapshot.getCartId(), userId);
 
-            return processCheckout(paymentRequest.getName(), paymentRequest.getAmount(), paymentRequest.getQuantity(),
-                    cartId, userId, PaymentCategory.ECOM);
+            return processCheckout(snapshot.getName(), snapshot.getTotalCents(), snapshot.getQuantity(),
+                    snapshot.getCartId(), userId, PaymentCategory.ECOM);
 
         } catch (StripeException e) {
             log.error("Stripe error during product checkout: {}", e.getMessage(), e);
+            releaseCartHold(snapshot.getCartId(), userId);
             throw new PaymentProcessingException("Failed to process payment with Stripe");
         } catch (DataAccessException e) {
             log.error("Database error during product checkout", e);
+            releaseCartHold(snapshot.getCartId(), userId);
             throw new DataIntegrityViolation("Failed to save payment record");
         } catch (Exception e) {
             log.error("Unexpected error during product checkout", e);
+            releaseCartHold(snapshot.getCartId(), userId);
             throw new ServiceUnavailable("Payment service is currently unavailable");
         }
     }
 
+    // The hold also expires on its own, so a failed release is only logged.
+    private void releaseCartHold(Long cartId, Long userId) {
+        try {
+            cartGrpcClient.releaseCheckout(cartId, userId);
+        } catch (RuntimeException e) {
+            log.warn("Could not release stock hold for cart ID: {}, it will expire instead", cartId, e);
+        }
+    }
+
+    // Reached from both the success redirect and the Stripe webhook, in either order and possibly more
+    // than once. The payment row is locked and marked PAID in the same transaction, so the stock hold
+    // is confirmed by whichever arrives first and later calls return without touching the cart.
+    @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(value = "payments", key = "'allPayments'"),
+            @CacheEvict(value = "userPayments", allEntries = true)
+    })
+    public PaymentsResponse completeCheckout(String sessionId) {
+        if (sessionId == null || sessionId.isBlank()) {
+            throw new BadRequestException("Invalid session ID");
+        }
+        try {
+            Payment payment = paymentRepository.findLockedBySession(sessionId)
+                    .orElseThrow(() -> new ResourceNotFound("Payment not found for session: " + sessionId));
+
+            if (payment.getStatus() == PaymentStatus.PAID) {
+                log.debug("Checkout already completed for session: {}", sessionId);
+                return modelMapper.map(payment, PaymentsResponse.class);
+            }
+
+            Session session = Session.retrieve(sessionId);
+            if (!"paid".equals(session.getPaymentStatus())) {
+                throw new RuntimeConflict("Payment has not been completed for session: " + sessionId);
+            }
+
+            if (payment.getCategory() == PaymentCategory.ECOM) {
+                cartGrpcClient.confirmCheckout(payment.getReference(), payment.getUser());
+            }
+            payment.setStatus(PaymentStatus.PAID);
+            Payment savedPayment = paymentRepository.save(payment);
+
+            log.info("Checkout completed for session: {}", sessionId);
+            return modelMapper.map(savedPayment, PaymentsResponse.class);
+
+        } catch (StripeException e) {
+            log.error("Stripe error while completing session: {}", sessionId, e);
+            throw new PaymentProcessingException("Failed to verify payment with Stripe");
+        } catch (DataAccessException e) {
+            log.error("Database error while completing session: {}", sessionId, e);
+            throw new ServiceUnavailable("Unable to complete checkout at this time");
+        } catch (MappingException e) {
+            log.error("Failed to map payment for session: {}", sessionId, e);
+            throw new IllegalState("Failed to process payment data");
+        }
+    }
+
     @Override
     @Transactional
     public ResponseBookingPayment checkoutBooking(BookingPaymentRequestDto paymentDetails, Long bookingId, Long userId) {
@@ -96,7 +165,8 @@ public class PaymentServiceImpl implements PaymentService {
                 throw new BadRequestException("Amount must be greater than zero");
             }
 
-            ResponseEcomPayment response = processCheckout(paymentDetails.getName(), paymentDetails.getAmount(), 1L,
+            ResponseEcomPayment response = processCheckout(paymentDetails.getName(),
+                    Math.round(paymentDetails.getAmount() * 100), 1L,
                     bookingId, userId, PaymentCategory.BOOKING);
 
             return new ResponseBookingPayment.PaymentResponseBuilder()
@@ -120,14 +190,14 @@ public class PaymentServiceImpl implements PaymentService {
         }
     }
 
-    private ResponseEcomPayment processCheckout(String name, double amount, Long quantity, Long referenceId,
+    private ResponseEcomPayment processCheckout(String name, long amountInCents, Long quantity, Long referenceId,
                                                 Long userId, PaymentCategory category) throws StripeException {
         log.info("Processing checkout for reference ID: {}", referenceId);
 
         String currency = "USD";
-        long amountInCents = Math.round(amount * 100);
+        double amount = amountInCents / 100.0;
 
-        Session session = createStripeSession(name, currency, amountInCents, quantity);
+        Session session = createStripeSession(name, currency, amountInCents, 1L);
         log.info("Stripe session created successfully: {}", session.getId());
 
         ResponseEcomPayment paymentResponse = new ResponseEcomPayment.PaymentResponseBuilder()
@@ -141,9 +211,21 @@ public class PaymentServiceImpl implements PaymentService {
                 .quantity(quantity)
                 .build();
 
-        savePayment(paymentResponse, referenceId, userId, category);
-        log.info("Payment record saved successfully for reference ID: {}", referenceId);
+        try {
+            savePayment(paymentResponse, referenceId, userId, category);
+            log.info("Payment record saved successfully for reference ID: {}", referenceId);
+            sendCheckoutEvent(name, amount, quantity, referenceId, userId, session);
+        } catch (RuntimeException e) {
+            // Nobody can be asked to pay for a checkout that was not recorded.
+            expireSession(session);
+            throw e;
+        }
+
+        return paymentResponse;
+    }
 
+    private void sendCheckoutEvent(String name, double amount, Long quantity, Long referenceId, Long userId,
+                                   Session session) {
         try{
             log.info("Sending checkout event for reference ID: {}", referenceId);
             CheckoutProductEvent event = new CheckoutProductEvent();
@@ -162,9 +244,15 @@ public class PaymentServiceImpl implements PaymentService {
             log.error("Error sending checkout event for reference ID: {}", referenceId, e.getLocalizedMessage());
             throw new PaymentProcessingException("Failed to send checkout event");
         }
+    }
 
-
-        return paymentResponse;
+    private void expireSession(Session session) {
+        try {
+            session.expire();
+            log.info("Expired Stripe session: {}", session.getId());
+        } catch (StripeException e) {
+            log.error("Failed to expire Stripe session: {}", session.getId(), e);
+        }
     }
 
     private Session createStripeSession(String name, String currency, long amountInCents, Long quantity)
@@ -190,8 +278,9 @@ public class PaymentServiceImpl implements PaymentService {
 
             return Session.create(SessionCreateParams.builder()
                     .setMode(SessionCreateParams.Mode.PAYMENT)
-                    .setSuccessUrl("http://localhost:8080/api/v1/payments/core/success?session_id={CHECKOUT_SESSION_ID}")
+                    .setSuccessUrl("http://localhost:8080/api/v1/payments/core/public/success?session_id={CHECKOUT_SESSION_ID}")
                     .setCancelUrl("http://localhost:8080/api/v1/payments/core/cancel")
+                    .setExpiresAt(Instant.now().plus(SESSION_TTL).getEpochSecond())
                     .addLineItem(lineItem)
                     .addAllPaymentMethodType(List.of(
                             SessionCreateParams.PaymentMethodType.CARD,
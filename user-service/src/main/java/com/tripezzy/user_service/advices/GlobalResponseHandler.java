@@ -13,7 +13,7 @@ import java.util.List;
 @RestControllerAdvice
 public class GlobalResponseHandler implements ResponseBodyAdvice<Object> {
 
-    private static final List<String> EXCLUDED_PATHS = List.of("/v3/api-docs", "/actuator");
+    private static final List<String> EXCLUDED_PATHS = List.of("/v3/api-docs", "/actuator", "/.well-known/");
     @Override
     public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
         return true;
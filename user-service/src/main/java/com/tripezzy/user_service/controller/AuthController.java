@@ -1,24 +1,42 @@
 package com.tripezzy.user_service.controller;
 
-import com.tripezzy.user_service.annotations.RoleRequired;
+import com.tripezzy.user_service.auth.UserContext;
+import com.tripezzy.user_service.auth.UserContextHolder;
 import com.tripezzy.user_service.dto.*;
+import com.tripezzy.user_service.exceptions.AccessForbidden;
+import com.tripezzy.user_service.security.SigningKeys;
 import com.tripezzy.user_service.service.AuthService;
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Duration;
+import java.util.Map;
+
 @RestController
 @RequestMapping("/auth")
 public class AuthController {
 
     private final AuthService authService;
+    private final SigningKeys signingKeys;
 
-    public AuthController(AuthService authService) {
+    public AuthController(AuthService authService, SigningKeys signingKeys) {
         this.authService = authService;
+        this.signingKeys = signingKeys;
+    }
+
+    @GetMapping(path = "/.well-known/jwks.json")
+    @RateLimiter(name = "jwksLimiter", fallbackMethod = "rateLimitFallbackJwks")
+    public ResponseEntity<Map<String, Object>> jwks(){
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+                .body(signingKeys.getJwks());
     }
 
     @PostMapping(path = "/register")
@@ -35,8 +53,25 @@ public class AuthController {
         return ResponseEntity.ok(loginResponse);
     }
 
+    @PostMapping(path = "/refresh")
+    @RateLimiter(name = "refreshLimiter", fallbackMethod = "rateLimitFallbackRefresh")
+    public ResponseEntity<UserLoginResponseDto> refresh(@RequestBody RefreshTokenRequestDto refreshTokenRequestDto){
+        UserLoginResponseDto loginResponse = authService.refresh(refreshTokenRequestDto);
+        return ResponseEntity.ok(loginResponse);
+    }
+
+    @PostMapping(path = "/logout")
+    @RateLimiter(name = "logoutLimiter", fallbackMethod = "rateLimitFallbackLogout")
+    public ResponseEntity<Void> logout(){
+        UserContext userContext = UserContextHolder.getUserDetails();
+        if (userContext == null || userContext.getUserId() == null) {
+            throw new AccessForbidden("Access Denied: Missing user context");
+        }
+        authService.logout(userContext.getUserId());
+        return ResponseEntity.noContent().build();
+    }
+
     @PostMapping(path = "/onboard/seller")
-    @RoleRequired("ADMIN")
     @RateLimiter(name = "sellerOnboardLimiter", fallbackMethod = "rateLimitFallbackSeller")
     public ResponseEntity<UserDto> onboardSeller(@RequestBody OnboardSellerDto onboardSellerDto){
         UserDto seller = authService.onboardSeller(onboardSellerDto);
@@ -44,13 +79,16 @@ public class AuthController {
     }
 
     @PostMapping(path = "/onboard/guide")
-    @RoleRequired("ADMIN")
     @RateLimiter(name = "guideOnboardLimiter", fallbackMethod = "rateLimitFallbackGuide")
     public ResponseEntity<UserDto> onboardGuide(@RequestBody OnboardGuideDto onboardGuideDto){
         UserDto guide = authService.onboardGuide(onboardGuideDto);
         return new ResponseEntity<>(guide, HttpStatus.CREATED);
     }
 
+    public ResponseEntity<Map<String, Object>> rateLimitFallbackJwks(Throwable throwable) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+    }
+
     public ResponseEntity<String> rateLimitFallbackSignup(UserRegisterDto signupDto, Throwable throwable) {
         return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
                 .body("Too many signup attempts. Please try again later.");
@@ -61,6 +99,16 @@ public class AuthController {
                 .body("Too many login attempts. Please try again later.");
     }
 
+    public ResponseEntity<String> rateLimitFallbackRefresh(RefreshTokenRequestDto refreshTokenRequestDto, Throwable throwable) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .body("Too many refresh attempts. Please try again later.");
+    }
+
+    public ResponseEntity<String> rateLimitFallbackLogout(Throwable throwable) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .body("Too many logout attempts. Please try again later.");
+    }
+
     public ResponseEntity<String> rateLimitFallbackSeller(OnboardSellerDto onboardSellerDto, Throwable throwable) {
         return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
                 .body("Too many seller onboard requests. Please try again later.");
@@ -0,0 +1,16 @@
+package com.tripezzy.user_service.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public class RefreshTokenRequestDto {
+    @NotBlank(message = "Refresh token is required")
+    private String refreshToken;
+
+    public @NotBlank(message = "Refresh token is required") String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(@NotBlank(message = "Refresh token is required") String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+}
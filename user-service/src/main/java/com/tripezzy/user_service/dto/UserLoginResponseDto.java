@@ -2,6 +2,7 @@ package com.tripezzy.user_service.dto;
 
 public class UserLoginResponseDto {
     private String accessToken;
+    private String refreshToken;
     private Long userId;
 
     public String getAccessToken() {
@@ -12,6 +13,14 @@ public class UserLoginResponseDto {
         this.accessToken = accessToken;
     }
 
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
     public Long getUserId() {
         return userId;
     }
@@ -51,9 +51,9 @@ public class UserGrpcService extends UserServiceGrpc.UserServiceImplBase {
     @Override
     public void getUserById(UserIdRequest request, StreamObserver<com.tripezzy.grpc.user.UserDto> responseObserver) {
         try {
-            log.info("Processing gRPC request for getUserById with ID: {}", request.getId());
+            log.debug("Processing gRPC request for getUserById with ID: {}", request.getId());
             UserDto user = authService.getUserById(request.getId());
-            log.info("Sending response: {}", user);
+            log.debug("Sending response: {}", user);
             responseObserver.onNext(mapToGrpcUser(user));
             responseObserver.onCompleted();
         } catch (Exception e) {
@@ -65,7 +65,7 @@ public class UserGrpcService extends UserServiceGrpc.UserServiceImplBase {
                                        Supplier<List<UserDto>> serviceMethod,
                                        String methodName) {
         try {
-            log.info("Processing gRPC request for {}", methodName);
+            log.debug("Processing gRPC request for {}", methodName);
             List<UserDto> users = serviceMethod.get();
             List<com.tripezzy.grpc.user.UserDto> grpcUsers = users
                     .stream()
@@ -1,38 +1,44 @@
 package com.tripezzy.user_service.security;
 
 import com.tripezzy.user_service.entity.User;
-import com.tripezzy.user_service.exceptions.IllegalState;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Date;
+import java.util.UUID;
 
+// Access tokens are short-lived; clients renew them with a refresh token rather than logging in again.
+// They are signed with RS256 so any service can verify them against the published JWKS.
 @Service
 public class JwtService {
 
-    @Value("${jwt.secretKey}")
-    private String secretKey;
+    private final SigningKeys signingKeys;
+    private final Duration accessTokenTtl;
 
-    private SecretKey getSecretKey() {
-        if (secretKey == null || secretKey.length() < 32) {
-            throw new IllegalState("Secret key must be at least 32 characters long for HS256:"+secretKey.length()+secretKey);
-        }
-        return Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+    public JwtService(SigningKeys signingKeys,
+                      @Value("${jwt.access-token-ttl-minutes:15}") long accessTokenTtlMinutes) {
+        this.signingKeys = signingKeys;
+        this.accessTokenTtl = Duration.ofMinutes(accessTokenTtlMinutes);
     }
 
     public String getAccessJwtToken(User user){
+        long now = System.currentTimeMillis();
         return Jwts
                 .builder()
+                .header().keyId(signingKeys.getKeyId()).and()
+                .id(UUID.randomUUID().toString())
                 .subject(String.valueOf(user.getId()))
                 .claim("email",user.getEmail())
                 .claim("role",user.getRole().toString())
-                .issuedAt(new Date())
-                .expiration(new Date(System.currentTimeMillis() + 1000L * 60 * 60 * 24 * 1))
-                .signWith(getSecretKey())
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + accessTokenTtl.toMillis()))
+                .signWith(signingKeys.getPrivateKey(), Jwts.SIG.RS256)
                 .compact();
     }
+
+    public Duration getAccessTokenTtl() {
+        return accessTokenTtl;
+    }
 }
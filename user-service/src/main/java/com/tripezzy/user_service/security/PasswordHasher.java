@@ -0,0 +1,108 @@
+package com.tripezzy.user_service.security;
+
+import com.tripezzy.user_service.exceptions.ServiceUnavailable;
+import com.tripezzy.user_service.utils.PasswordUtil;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+// BCrypt runs on its own fixed pool instead of the request threads, so a login storm is capped at
+// one hash per core and cannot starve the rest of the service. When the queue is full the request
+// is shed with 503 right away rather than waiting behind work that would time out anyway.
+@Component
+public class PasswordHasher {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordHasher.class);
+
+    private final ThreadPoolExecutor executor;
+    private final int cost;
+    private final long maxWaitMillis;
+
+    public PasswordHasher(@Value("${user.password.bcrypt-cost:10}") int cost,
+                          @Value("${user.password.hash-threads:0}") int threads,
+                          @Value("${user.password.queue-capacity:64}") int queueCapacity,
+                          @Value("${user.password.max-wait-ms:2000}") long maxWaitMillis) {
+        this.cost = cost;
+        this.maxWaitMillis = maxWaitMillis;
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hasher-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public String hash(String password) {
+        return await(() -> PasswordUtil.hashPassword(password, cost));
+    }
+
+    public boolean matches(String password, String hashedPassword) {
+        return await(() -> PasswordUtil.checkPassword(password, hashedPassword));
+    }
+
+    public boolean needsRehash(String hashedPassword) {
+        return PasswordUtil.costOf(hashedPassword) != cost;
+    }
+
+    // Best effort: a rehash is skipped when the pool is busy and simply retried on a later login
+    public boolean rehashInBackground(String password, Consumer<String> onHashed) {
+        try {
+            executor.execute(() -> {
+                try {
+                    onHashed.accept(PasswordUtil.hashPassword(password, cost));
+                } catch (RuntimeException e) {
+                    log.warn("Failed to store rehashed password", e);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T await(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            log.warn("Password hashing queue is full, shedding request");
+            throw new ServiceUnavailable("Too many authentication requests. Please try again shortly.");
+        }
+
+        try {
+            return future.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ServiceUnavailable("Too many authentication requests. Please try again shortly.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new ServiceUnavailable("Authentication was interrupted");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.tripezzy.user_service.security;
+
+import com.tripezzy.user_service.entity.RefreshToken;
+import com.tripezzy.user_service.exceptions.ResourceConflictException;
+import com.tripezzy.user_service.exceptions.RuntimeConflict;
+import com.tripezzy.user_service.repository.RefreshTokenRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+
+// Opaque, single-use refresh tokens. Refreshing rotates the token; presenting one that was already
+// rotated means it was copied, so every refresh token and access token of that user is revoked.
+@Service
+public class RefreshTokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenService.class);
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenRevocationPublisher revocationPublisher;
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final Duration ttl;
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               TokenRevocationPublisher revocationPublisher,
+                               @Value("${user.refresh-token.ttl-days:30}") long ttlDays) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.revocationPublisher = revocationPublisher;
+        this.ttl = Duration.ofDays(ttlDays);
+    }
+
+    public record Rotation(Long userId, String refreshToken) {
+    }
+
+    @Transactional
+    public String issue(Long userId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        refreshTokenRepository.save(new RefreshToken(userId, hash(token), LocalDateTime.now().plus(ttl)));
+        return token;
+    }
+
+    @Transactional(noRollbackFor = RuntimeConflict.class)
+    public Rotation rotate(String token) {
+        RefreshToken stored = refreshTokenRepository.findByTokenHash(hash(token))
+                .orElseThrow(() -> new ResourceConflictException("Invalid refresh token"));
+
+        if (stored.isRevoked() || refreshTokenRepository.revoke(stored.getId()) == 0) {
+            int revoked = refreshTokenRepository.revokeAllForUser(stored.getUserId());
+            revocationPublisher.revokeAccessTokens(stored.getUserId());
+            log.warn("Reuse of a rotated refresh token for user ID: {}, revoked {} tokens", stored.getUserId(), revoked);
+            throw new ResourceConflictException("Invalid refresh token");
+        }
+        if (stored.getExpiresAt().isBefore(LocalDateTime.now())) {
+            throw new ResourceConflictException("Refresh token has expired");
+        }
+        return new Rotation(stored.getUserId(), issue(stored.getUserId()));
+    }
+
+    // Ends every session of the user: refresh tokens stop working and issued access tokens are rejected
+    @Transactional
+    public int revokeAll(Long userId) {
+        int revoked = refreshTokenRepository.revokeAllForUser(userId);
+        revocationPublisher.revokeAccessTokens(userId);
+        return revoked;
+    }
+
+    @Scheduled(fixedDelayString = "${user.refresh-token.purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeExpired() {
+        try {
+            int purged = refreshTokenRepository.deleteExpiredBefore(LocalDateTime.now());
+            if (purged > 0) {
+                log.debug("Purged {} expired refresh tokens", purged);
+            }
+        } catch (DataAccessException e) {
+            log.error("Failed to purge expired refresh tokens", e);
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.tripezzy.user_service.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// RS256 signing key plus the public keys published as a JWKS. Key IDs are RFC 7638 thumbprints, so
+// they never need configuring. To rotate, publish the next public key under additional-public-keys,
+// wait for verifiers to refresh, switch private-key to it and keep the old public key listed until
+// the last token it signed has expired.
+@Component
+public class SigningKeys {
+
+    private static final Logger log = LoggerFactory.getLogger(SigningKeys.class);
+
+    private final PrivateKey privateKey;
+    private final String keyId;
+    private final List<Map<String, String>> publishedKeys;
+
+    public SigningKeys(@Value("${jwt.signing.private-key:}") String privateKeyPem,
+                       @Value("${jwt.signing.additional-public-keys:}") List<String> additionalPublicKeys) {
+        try {
+            RSAPublicKey publicKey;
+            if (privateKeyPem == null || privateKeyPem.isBlank()) {
+                // Each instance would sign with a different key, so this only suits a single local instance
+                log.warn("No jwt.signing.private-key configured, generating an ephemeral signing key");
+                KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+                generator.initialize(2048);
+                KeyPair keyPair = generator.generateKeyPair();
+                this.privateKey = keyPair.getPrivate();
+                publicKey = (RSAPublicKey) keyPair.getPublic();
+            } else {
+                KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+                RSAPrivateCrtKey rsaPrivateKey = (RSAPrivateCrtKey) keyFactory
+                        .generatePrivate(new PKCS8EncodedKeySpec(decodePem(privateKeyPem)));
+                this.privateKey = rsaPrivateKey;
+                publicKey = (RSAPublicKey) keyFactory.generatePublic(
+                        new RSAPublicKeySpec(rsaPrivateKey.getModulus(), rsaPrivateKey.getPublicExponent()));
+            }
+
+            List<Map<String, String>> keys = new ArrayList<>();
+            Map<String, String> current = toJwk(publicKey);
+            this.keyId = current.get("kid");
+            keys.add(current);
+            for (String pem : additionalPublicKeys) {
+                if (!pem.isBlank()) {
+                    keys.add(toJwk((RSAPublicKey) KeyFactory.getInstance("RSA")
+                            .generatePublic(new X509EncodedKeySpec(decodePem(pem)))));
+                }
+            }
+            this.publishedKeys = List.copyOf(keys);
+        } catch (GeneralSecurityException | ClassCastException | IllegalArgumentException e) {
+            throw new IllegalStateException("Invalid JWT signing key configuration", e);
+        }
+    }
+
+    public PrivateKey getPrivateKey() {
+        return privateKey;
+    }
+
+    public String getKeyId() {
+        return keyId;
+    }
+
+    public Map<String, Object> getJwks() {
+        return Map.of("keys", publishedKeys);
+    }
+
+    private static Map<String, String> toJwk(RSAPublicKey publicKey) throws GeneralSecurityException {
+        String n = base64Url(publicKey.getModulus());
+        String e = base64Url(publicKey.getPublicExponent());
+        // Thumbprint input is the required members in lexicographic order with no whitespace
+        String thumbprintInput = "{\"e\":\"" + e + "\",\"kty\":\"RSA\",\"n\":\"" + n + "\"}";
+        byte[] thumbprint = MessageDigest.getInstance("SHA-256")
+                .digest(thumbprintInput.getBytes(StandardCharsets.UTF_8));
+
+        Map<String, String> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "RSA");
+        jwk.put("kid", Base64.getUrlEncoder().withoutPadding().encodeToString(thumbprint));
+        jwk.put("use", "sig");
+        jwk.put("alg", "RS256");
+        jwk.put("n", n);
+        jwk.put("e", e);
+        return jwk;
+    }
+
+    private static String base64Url(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static byte[] decodePem(String pem) {
+        String base64 = pem.replaceAll("-----(BEGIN|END) [A-Z ]+-----", "").replaceAll("\\s", "");
+        return Base64.getDecoder().decode(base64);
+    }
+}
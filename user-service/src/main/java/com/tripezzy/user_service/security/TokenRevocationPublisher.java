@@ -0,0 +1,65 @@
+package com.tripezzy.user_service.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// User-level revocation: every access token of a user issued before the recorded second is rejected
+// by the gateway. The Redis hash is the snapshot gateways load at startup and resync from; the
+// channel pushes each change so gateways apply it without a lookup per request. A field can be
+// dropped once every token it covers has expired.
+@Component
+public class TokenRevocationPublisher {
+
+    public static final String REVOCATIONS_KEY = "auth:revoked-before";
+    public static final String REVOCATIONS_CHANNEL = "auth:revocations";
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationPublisher.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final JwtService jwtService;
+
+    public TokenRevocationPublisher(StringRedisTemplate redisTemplate, JwtService jwtService) {
+        this.redisTemplate = redisTemplate;
+        this.jwtService = jwtService;
+    }
+
+    public boolean revokeAccessTokens(Long userId) {
+        String userKey = userId.toString();
+        String revokedBefore = Long.toString(Instant.now().getEpochSecond());
+        try {
+            redisTemplate.opsForHash().put(REVOCATIONS_KEY, userKey, revokedBefore);
+            redisTemplate.convertAndSend(REVOCATIONS_CHANNEL, userKey + ":" + revokedBefore);
+            return true;
+        } catch (RuntimeException e) {
+            log.error("Unable to publish access token revocation for user ID: {}", userId, e);
+            return false;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${user.refresh-token.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        long cutoff = Instant.now().minus(jwtService.getAccessTokenTtl()).getEpochSecond();
+        try {
+            Map<Object, Object> entries = redisTemplate.opsForHash().entries(REVOCATIONS_KEY);
+            List<Object> stale = new ArrayList<>();
+            entries.forEach((userId, revokedBefore) -> {
+                if (Long.parseLong(revokedBefore.toString()) < cutoff) {
+                    stale.add(userId);
+                }
+            });
+            if (!stale.isEmpty()) {
+                redisTemplate.opsForHash().delete(REVOCATIONS_KEY, stale.toArray());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Unable to purge expired token revocations", e);
+        }
+    }
+}
@@ -9,6 +9,10 @@ public interface AuthService {
 
     UserLoginResponseDto login(UserLoginDto loginDto);
 
+    UserLoginResponseDto refresh(RefreshTokenRequestDto refreshTokenRequestDto);
+
+    void logout(Long userId);
+
     UserDto onboardSeller(OnboardSellerDto onboardSellerDto);
 
     UserDto onboardGuide(OnboardGuideDto onboardGuideDto);
@@ -8,8 +8,9 @@ import com.tripezzy.user_service.entity.enums.UserRole;
 import com.tripezzy.user_service.exceptions.*;
 import com.tripezzy.user_service.repository.UserRepository;
 import com.tripezzy.user_service.security.JwtService;
+import com.tripezzy.user_service.security.PasswordHasher;
+import com.tripezzy.user_service.security.RefreshTokenService;
 import com.tripezzy.user_service.service.AuthService;
-import com.tripezzy.user_service.utils.PasswordUtil;
 import org.modelmapper.MappingException;
 import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
@@ -29,11 +30,16 @@ public class AuthServiceImpl implements AuthService {
     private final UserRepository userRepository;
     private final ModelMapper modelMapper;
     private final JwtService jwtService;
+    private final PasswordHasher passwordHasher;
+    private final RefreshTokenService refreshTokenService;
 
-    public AuthServiceImpl(UserRepository userRepository, ModelMapper modelMapper, JwtService jwtService) {
+    public AuthServiceImpl(UserRepository userRepository, ModelMapper modelMapper, JwtService jwtService,
+                           PasswordHasher passwordHasher, RefreshTokenService refreshTokenService) {
         this.userRepository = userRepository;
         this.modelMapper = modelMapper;
         this.jwtService = jwtService;
+        this.passwordHasher = passwordHasher;
+        this.refreshTokenService = refreshTokenService;
     }
 
     @Override
@@ -56,7 +62,7 @@ public class AuthServiceImpl implements AuthService {
             }
 
             User user = modelMapper.map(signupDto, User.class);
-            user.setPassword(PasswordUtil.hashPassword(signupDto.getPassword()));
+            user.setPassword(passwordHasher.hash(signupDto.getPassword()));
             user.setRole(UserRole.USER);
 
             User savedUser = userRepository.save(user);
@@ -92,19 +98,20 @@ public class AuthServiceImpl implements AuthService {
                         return new ResourceNotFound("User not found with email: " + loginDto.getEmail());
                     });
 
-            if (!PasswordUtil.checkPassword(loginDto.getPassword(), user.getPassword())) {
+            if (!passwordHasher.matches(loginDto.getPassword(), user.getPassword())) {
                 log.warn("Login failed: Invalid password for email - {}", loginDto.getEmail());
                 throw new ResourceConflictException("Invalid credentials");
             }
 
-            String token = jwtService.getAccessJwtToken(user);
-            log.info("User successfully logged in with ID: {}", user.getId());
-
-            UserLoginResponseDto response = new UserLoginResponseDto();
-            response.setAccessToken(token);
-            response.setUserId(user.getId());
+            // The plaintext is only available at login, so hashes made with an older cost are upgraded here
+            if (passwordHasher.needsRehash(user.getPassword())) {
+                Long userId = user.getId();
+                passwordHasher.rehashInBackground(loginDto.getPassword(),
+                        hashed -> userRepository.updatePassword(userId, hashed));
+            }
 
-            return response;
+            log.info("User successfully logged in with ID: {}", user.getId());
+            return buildLoginResponse(user, refreshTokenService.issue(user.getId()));
 
         } catch (DataAccessException ex) {
             log.error("Database error during login for email: {}", loginDto.getEmail(), ex);
@@ -112,6 +119,26 @@ public class AuthServiceImpl implements AuthService {
         }
     }
 
+    @Override
+    public UserLoginResponseDto refresh(RefreshTokenRequestDto refreshTokenRequestDto) {
+        try {
+            if (refreshTokenRequestDto.getRefreshToken() == null || refreshTokenRequestDto.getRefreshToken().isBlank()) {
+                throw new BadRequestException("Refresh token is required");
+            }
+
+            RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshTokenRequestDto.getRefreshToken());
+            User user = userRepository.findById(rotation.userId())
+                    .orElseThrow(() -> new ResourceNotFound("User not found with ID: " + rotation.userId()));
+
+            log.info("Access token refreshed for user ID: {}", user.getId());
+            return buildLoginResponse(user, rotation.refreshToken());
+
+        } catch (DataAccessException ex) {
+            log.error("Database error during token refresh", ex);
+            throw new ServiceUnavailable("Unable to refresh token at this time");
+        }
+    }
+
     @Override
     @Transactional
     public UserDto onboardSeller(OnboardSellerDto onboardSellerDto) {
@@ -253,6 +280,25 @@ public class AuthServiceImpl implements AuthService {
     }
 
 
+    @Override
+    public void logout(Long userId) {
+        try {
+            int revoked = refreshTokenService.revokeAll(userId);
+            log.info("User ID: {} logged out, revoked {} refresh tokens", userId, revoked);
+        } catch (DataAccessException ex) {
+            log.error("Database error during logout for user ID: {}", userId, ex);
+            throw new ServiceUnavailable("Unable to log out at this time");
+        }
+    }
+
+    private UserLoginResponseDto buildLoginResponse(User user, String refreshToken) {
+        UserLoginResponseDto response = new UserLoginResponseDto();
+        response.setAccessToken(jwtService.getAccessJwtToken(user));
+        response.setRefreshToken(refreshToken);
+        response.setUserId(user.getId());
+        return response;
+    }
+
     private <T> User createUserWithProfile(T profileDto, UserRole role) {
         try {
             User user = modelMapper.map(profileDto, User.class);
@@ -260,16 +306,18 @@ public class AuthServiceImpl implements AuthService {
 
             if (profileDto instanceof OnboardSellerDto) {
                 OnboardSellerDto sellerDto = (OnboardSellerDto) profileDto;
-                user.setPassword(PasswordUtil.hashPassword(sellerDto.getPassword()));
+                user.setPassword(passwordHasher.hash(sellerDto.getPassword()));
                 user.setPhoneNumber(sellerDto.getPhoneNumber());
             } else if (profileDto instanceof OnboardGuideDto) {
                 OnboardGuideDto guideDto = (OnboardGuideDto) profileDto;
-                user.setPassword(PasswordUtil.hashPassword(guideDto.getPassword()));
+                user.setPassword(passwordHasher.hash(guideDto.getPassword()));
                 user.setPhoneNumber(guideDto.getPhoneNumber());
             } else {
                 throw new IllegalArgumentException("Invalid profile type: " + profileDto.getClass().getSimpleName());
             }
             return user;
+        } catch (ServiceUnavailable ex) {
+            throw ex;
         } catch (Exception ex) {
             log.error("Error creating user with profile", ex);
             throw new IllegalState("Failed to create user profile");
@@ -4,11 +4,27 @@ import org.mindrot.jbcrypt.BCrypt;
 
 public class PasswordUtil {
 
-    public static String hashPassword(String password) {
-        return BCrypt.hashpw(password, BCrypt.gensalt());
+    public static String hashPassword(String password, int cost) {
+        return BCrypt.hashpw(password, BCrypt.gensalt(cost));
     }
 
     public static boolean checkPassword(String password, String hashedPassword) {
         return BCrypt.checkpw(password, hashedPassword);
     }
+
+    // Reads the cost from a "$2a$10$..." hash, or -1 when the hash is not in that form
+    public static int costOf(String hashedPassword) {
+        if (hashedPassword == null || hashedPassword.length() < 7 || hashedPassword.charAt(0) != '$') {
+            return -1;
+        }
+        int costStart = hashedPassword.indexOf('$', 1) + 1;
+        if (costStart <= 0 || costStart + 2 > hashedPassword.length()) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(hashedPassword.substring(costStart, costStart + 2));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
 }
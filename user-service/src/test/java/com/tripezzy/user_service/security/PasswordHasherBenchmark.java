@@ -0,0 +1,87 @@
+package com.tripezzy.user_service.security;
+
+import com.tripezzy.user_service.utils.PasswordUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+// Logins per second per core for the password check. checkOnCallerThread is the single-core ceiling
+// of BCrypt at a given cost; loginThroughHasher drives PasswordHasher from more request threads than
+// there are cores, which is what a login storm looks like, so its score divided by the core count
+// should stay close to that ceiling.
+// Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+//           -Dexec.mainClass=com.tripezzy.user_service.security.PasswordHasherBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PasswordHasherBenchmark {
+
+    private static final String PASSWORD = "correct-horse-battery-staple";
+
+    @Param({"10", "12"})
+    private int cost;
+
+    private PasswordHasher passwordHasher;
+    private String hashedPassword;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Queue and wait are sized so nothing is shed; this measures capacity, not load shedding.
+        passwordHasher = new PasswordHasher(cost, 0, 1024, 60_000);
+        hashedPassword = PasswordUtil.hashPassword(PASSWORD, cost);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        passwordHasher.shutdown();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean checkOnCallerThread() {
+        return PasswordUtil.checkPassword(PASSWORD, hashedPassword);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public boolean loginThroughHasher() {
+        return passwordHasher.matches(PASSWORD, hashedPassword);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Collection<RunResult> results = new Runner(new OptionsBuilder()
+                .include(PasswordHasherBenchmark.class.getSimpleName())
+                .build()).run();
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (RunResult result : results) {
+            String benchmark = result.getParams().getBenchmark();
+            double loginsPerSecond = result.getPrimaryResult().getScore();
+            double perCore = benchmark.endsWith("checkOnCallerThread") ? loginsPerSecond : loginsPerSecond / cores;
+            System.out.printf("%s cost=%s: %.1f logins/sec, %.1f logins/sec per core (%d cores)%n",
+                    benchmark.substring(benchmark.lastIndexOf('.') + 1), result.getParams().getParam("cost"),
+                    loginsPerSecond, perCore, cores);
+        }
+    }
+}